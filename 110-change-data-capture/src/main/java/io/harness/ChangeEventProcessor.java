@@ -9,6 +9,7 @@ package io.harness;
 
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.changehandlers.TimeScaleDBChangeBuffer;
 import io.harness.changestreamsframework.ChangeEvent;
 import io.harness.entities.CDCEntity;
 
@@ -27,6 +28,7 @@ import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.LockSupport;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -35,6 +37,7 @@ import lombok.extern.slf4j.Slf4j;
 class ChangeEventProcessor {
   @Inject private Set<CDCEntity<?>> subscribedClasses;
   @Inject private WingsPersistence wingsPersistence;
+  @Inject private TimeScaleDBChangeBuffer timeScaleDBChangeBuffer;
   private final BlockingQueue<ChangeEvent<?>> changeEventQueue = new LinkedBlockingQueue<>();
   private final ExecutorService changeEventExecutorService =
       Executors.newSingleThreadExecutor(new ThreadFactoryBuilder().setNameFormat("primary-change-processor").build());
@@ -46,7 +49,8 @@ class ChangeEventProcessor {
 
   void startProcessingChangeEvents() {
     if (changeEventProcessorTask == null) {
-      changeEventProcessorTask = new ChangeEventProcessorTask(subscribedClasses, changeEventQueue, wingsPersistence);
+      changeEventProcessorTask = new ChangeEventProcessorTask(
+          subscribedClasses, changeEventQueue, wingsPersistence, timeScaleDBChangeBuffer);
       changeEventProcessorTaskFuture = changeEventExecutorService.submit(changeEventProcessorTask);
       changeEventProcessorWatcher.submit(this::watchChangeEventQueue);
     }
@@ -69,13 +73,13 @@ class ChangeEventProcessor {
   private void watchChangeEventQueue() {
     while (!changeEventProcessorWatcher.isShutdown()) {
       LockSupport.parkNanos(Duration.ofSeconds(30).toNanos());
-      int waiting = changeEventQueue.size();
+      int waiting = changeEventQueue.size() + changeEventProcessorTask.getPendingCount();
       int processing = changeEventProcessorTask.getActiveCount();
       long completed = changeEventProcessorTask.getCompletedTaskCount();
       log.info("ChangeEventProcessor stats, processing={}, waiting={}, completed={}, total={}", processing, waiting,
           completed, total.get());
       if ((processing + waiting) > 10) {
-        changeEventQueue.stream()
+        Stream.concat(changeEventQueue.stream(), changeEventProcessorTask.getQueuedChangeEvents())
             .collect(Collectors.groupingBy(ChangeEvent::getEntityType, Collectors.counting()))
             .forEach(
                 (entity,
@@ -85,7 +89,7 @@ class ChangeEventProcessor {
   }
 
   boolean isWorking() {
-    int waiting = changeEventQueue.size();
+    int waiting = changeEventQueue.size() + changeEventProcessorTask.getPendingCount();
     int processing = changeEventProcessorTask.getActiveCount();
     return (waiting + processing) > 0;
   }
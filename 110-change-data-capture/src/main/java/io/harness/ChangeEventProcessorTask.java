@@ -13,51 +13,104 @@ import io.harness.CDCStateEntity.cdcStateEntityKeys;
 import io.harness.annotations.ChangeDataCapture;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.changehandlers.TimeScaleDBChangeBuffer;
 import io.harness.changestreamsframework.ChangeEvent;
 import io.harness.entities.CDCEntity;
 import io.harness.persistence.PersistentEntity;
 
 import software.wings.dl.WingsPersistence;
 
+import com.google.common.annotations.VisibleForTesting;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.stream.Collectors;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
 import jodd.util.concurrent.ThreadFactoryBuilder;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import org.bouncycastle.util.Strings;
 import org.mongodb.morphia.query.Query;
 import org.mongodb.morphia.query.UpdateOperations;
 
+/**
+ * Change events are partitioned by document, every partition being processed by its own thread, so the changes to a
+ * document are applied in the order they were made. The rows written by the handlers are buffered and the resume
+ * tokens are checkpointed every {@link #CHECKPOINT_EVENTS} events or {@link #CHECKPOINT_INTERVAL_MILLIS} ms, once
+ * everything up to them has been processed and flushed.
+ */
 @Slf4j
 @OwnedBy(HarnessTeam.CE)
 public class ChangeEventProcessorTask implements Runnable {
+  private static final int CHECKPOINT_EVENTS = 1000;
+  private static final long CHECKPOINT_INTERVAL_MILLIS = 1000;
+
   private ExecutorService executorService;
   private final Set<CDCEntity<?>> cdcEntities;
   private final BlockingQueue<ChangeEvent<?>> changeEventQueue;
   private final WingsPersistence wingsPersistence;
+  private final TimeScaleDBChangeBuffer timeScaleDBChangeBuffer;
+  private final List<Partition> partitions = new ArrayList<>();
   private final AtomicInteger processing = new AtomicInteger(0);
   private final AtomicLong completed = new AtomicLong(0);
 
+  // sequence number of the last event handed out to a partition
+  private final AtomicLong dispatched = new AtomicLong(0);
+  private final Map<Class<? extends PersistentEntity>, NavigableMap<Long, String>> tokens = new ConcurrentHashMap<>();
+  private final AtomicInteger eventsSinceCheckpoint = new AtomicInteger(0);
+  private final Lock checkpointLock = new ReentrantLock();
+  private volatile long lastCheckpointAt = System.currentTimeMillis();
+
+  @Value
+  private static class SequencedChangeEvent {
+    long sequence;
+    ChangeEvent<?> changeEvent;
+  }
+
+  private static class Partition {
+    private final BlockingQueue<SequencedChangeEvent> queue = new LinkedBlockingQueue<>();
+    // written by the dispatching thread only
+    private volatile long lastDispatched;
+    // written by the thread of the partition only
+    private volatile long lastProcessed;
+  }
+
   ChangeEventProcessorTask(Set<CDCEntity<?>> cdcEntities, BlockingQueue<ChangeEvent<?>> changeEventQueue,
-      WingsPersistence wingsPersistence) {
+      WingsPersistence wingsPersistence, TimeScaleDBChangeBuffer timeScaleDBChangeBuffer) {
     this.cdcEntities = cdcEntities;
     this.changeEventQueue = changeEventQueue;
     this.wingsPersistence = wingsPersistence;
+    this.timeScaleDBChangeBuffer = timeScaleDBChangeBuffer;
+    for (int i = 0; i < cdcEntities.size(); i++) {
+      partitions.add(new Partition());
+    }
   }
 
   @Override
   public void run() {
     executorService = Executors.newFixedThreadPool(
-        cdcEntities.size(), ThreadFactoryBuilder.create().setNameFormat("change-processor-%d").get());
-    Set<Future<?>> futures =
-        cdcEntities.stream().map(cdcEntity -> executorService.submit(this::listenToQueue)).collect(Collectors.toSet());
+        partitions.size() + 1, ThreadFactoryBuilder.create().setNameFormat("change-processor-%d").get());
+    Set<Future<?>> futures = new HashSet<>();
+    futures.add(executorService.submit(this::listenToQueue));
+    for (int i = 0; i < partitions.size(); i++) {
+      int partitionIndex = i;
+      futures.add(executorService.submit(() -> listenToPartition(partitionIndex)));
+    }
     waitForTasks(futures);
   }
 
@@ -76,10 +129,7 @@ public class ChangeEventProcessorTask implements Runnable {
       while (!executorService.isShutdown()) {
         ChangeEvent<?> changeEvent = changeEventQueue.poll(Integer.MAX_VALUE, TimeUnit.MINUTES);
         if (changeEvent != null) {
-          processing.incrementAndGet();
-          processChangeSafely(changeEvent);
-          processing.decrementAndGet();
-          completed.incrementAndGet();
+          dispatch(changeEvent);
         }
       }
     } catch (InterruptedException e) {
@@ -91,6 +141,51 @@ public class ChangeEventProcessorTask implements Runnable {
     }
   }
 
+  @VisibleForTesting
+  void dispatch(ChangeEvent<?> changeEvent) throws InterruptedException {
+    long sequence = dispatched.get() + 1;
+    if (changeEvent.getToken() != null) {
+      tokens.computeIfAbsent(changeEvent.getEntityType(), entityType -> new ConcurrentSkipListMap<>())
+          .put(sequence, changeEvent.getToken());
+    }
+    Partition partition = partitions.get(Math.floorMod(changeEvent.getUuid().hashCode(), partitions.size()));
+    partition.lastDispatched = sequence;
+    dispatched.set(sequence);
+    partition.queue.put(new SequencedChangeEvent(sequence, changeEvent));
+  }
+
+  private void listenToPartition(int partitionIndex) {
+    try {
+      while (!executorService.isShutdown()) {
+        processNextEvent(partitionIndex);
+        checkpointIfDue();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.error("ChangeEvent processor interrupted");
+    } finally {
+      executorService.shutdownNow();
+    }
+  }
+
+  /**
+   * Processes the next event of the partition, waiting up to {@link #CHECKPOINT_INTERVAL_MILLIS} ms for one.
+   */
+  @VisibleForTesting
+  void processNextEvent(int partitionIndex) throws InterruptedException {
+    Partition partition = partitions.get(partitionIndex);
+    SequencedChangeEvent sequencedChangeEvent =
+        partition.queue.poll(CHECKPOINT_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    if (sequencedChangeEvent != null) {
+      processing.incrementAndGet();
+      processChangeSafely(sequencedChangeEvent.getChangeEvent());
+      partition.lastProcessed = sequencedChangeEvent.getSequence();
+      processing.decrementAndGet();
+      completed.incrementAndGet();
+      eventsSinceCheckpoint.incrementAndGet();
+    }
+  }
+
   private void processChangeSafely(ChangeEvent<?> changeEvent) {
     try {
       processChange(changeEvent);
@@ -114,27 +209,68 @@ public class ChangeEventProcessorTask implements Runnable {
         }
       }
     }
+  }
 
-    saveCDCStateEntityToken(clazz, changeEvent);
+  private void checkpointIfDue() {
+    if (eventsSinceCheckpoint.get() < CHECKPOINT_EVENTS
+        && System.currentTimeMillis() - lastCheckpointAt < CHECKPOINT_INTERVAL_MILLIS) {
+      return;
+    }
+    if (!checkpointLock.tryLock()) {
+      return;
+    }
+    try {
+      checkpoint();
+    } catch (Exception e) {
+      log.error("An error occurred while checkpointing change events", e);
+    } finally {
+      checkpointLock.unlock();
+    }
   }
 
-  private void saveCDCStateEntityToken(Class<? extends PersistentEntity> sourceClass, ChangeEvent<?> changeEvent) {
-    if (changeEvent.getToken() != null) {
-      String sourceClassName = sourceClass.getCanonicalName();
+  @VisibleForTesting
+  void checkpoint() {
+    long processedThrough = getProcessedThrough();
+    eventsSinceCheckpoint.set(0);
+    lastCheckpointAt = System.currentTimeMillis();
+    timeScaleDBChangeBuffer.flush();
+    tokens.forEach((sourceClass, sourceTokens) -> {
+      Map.Entry<Long, String> token = sourceTokens.floorEntry(processedThrough);
+      if (token != null) {
+        saveCDCStateEntityToken(sourceClass, token.getValue());
+        sourceTokens.headMap(token.getKey(), true).clear();
+      }
+    });
+  }
+
+  /**
+   * @return sequence number up to which all the events have been processed. Every partition processes its events in
+   *     sequence, so all the events of a partition which is still busy up to its last processed one have been.
+   */
+  private long getProcessedThrough() {
+    long processedThrough = dispatched.get();
+    for (Partition partition : partitions) {
+      long lastProcessed = partition.lastProcessed;
+      if (lastProcessed != partition.lastDispatched) {
+        processedThrough = Math.min(processedThrough, lastProcessed);
+      }
+    }
+    return processedThrough;
+  }
 
-      Query<CDCStateEntity> query = wingsPersistence.createQuery(CDCStateEntity.class)
-                                        .field(cdcStateEntityKeys.sourceEntityClass)
-                                        .equal(sourceClassName);
+  private void saveCDCStateEntityToken(Class<? extends PersistentEntity> sourceClass, String token) {
+    String sourceClassName = sourceClass.getCanonicalName();
 
-      UpdateOperations<CDCStateEntity> updateOperations =
-          wingsPersistence.createUpdateOperations(CDCStateEntity.class)
-              .set(cdcStateEntityKeys.lastSyncedToken, changeEvent.getToken());
+    Query<CDCStateEntity> query = wingsPersistence.createQuery(CDCStateEntity.class)
+                                      .field(cdcStateEntityKeys.sourceEntityClass)
+                                      .equal(sourceClassName);
 
-      CDCStateEntity cdcStateEntity = wingsPersistence.upsert(query, updateOperations, upsertReturnNewOptions);
-      if (cdcStateEntity == null || !cdcStateEntity.getLastSyncedToken().equals(changeEvent.getToken())) {
-        log.error(
-            "Failed to save resume token for, entity={}, changeEvent={}", sourceClass.getCanonicalName(), changeEvent);
-      }
+    UpdateOperations<CDCStateEntity> updateOperations =
+        wingsPersistence.createUpdateOperations(CDCStateEntity.class).set(cdcStateEntityKeys.lastSyncedToken, token);
+
+    CDCStateEntity cdcStateEntity = wingsPersistence.upsert(query, updateOperations, upsertReturnNewOptions);
+    if (cdcStateEntity == null || !cdcStateEntity.getLastSyncedToken().equals(token)) {
+      log.error("Failed to save resume token for, entity={}, token={}", sourceClassName, token);
     }
   }
 
@@ -145,4 +281,16 @@ public class ChangeEventProcessorTask implements Runnable {
   public long getCompletedTaskCount() {
     return completed.get();
   }
+
+  /**
+   * @return number of events waiting in the partitions plus the rows waiting to be flushed
+   */
+  public int getPendingCount() {
+    return partitions.stream().mapToInt(partition -> partition.queue.size()).sum() + timeScaleDBChangeBuffer.size();
+  }
+
+  public Stream<ChangeEvent<?>> getQueuedChangeEvents() {
+    return partitions.stream().flatMap(
+        partition -> partition.queue.stream().map(SequencedChangeEvent::getChangeEvent));
+  }
 }
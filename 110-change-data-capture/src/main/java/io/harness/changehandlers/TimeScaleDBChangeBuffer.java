@@ -0,0 +1,217 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.changehandlers;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.timescaledb.TimeScaleDBService;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Buffers the rows written by the change handlers and writes them to timescale as batches of prepared statements,
+ * one batch per table and set of columns. Changes to the same row which are buffered together are coalesced into one,
+ * so a document updated many times in a burst is written once.
+ */
+@OwnedBy(HarnessTeam.CDC)
+@Slf4j
+@Singleton
+public class TimeScaleDBChangeBuffer {
+  private static final int MAX_BUFFERED_ROWS = 500;
+  private static final int MAX_RETRY_COUNT = 5;
+
+  private static final String INSERT_STATEMENT = "INSERT INTO %s (%s) VALUES (%s) ON CONFLICT DO NOTHING";
+  private static final String UPSERT_STATEMENT = "INSERT INTO %s (%s) VALUES (%s) ON CONFLICT (%s) DO UPDATE SET %s";
+  private static final String DELETE_STATEMENT = "DELETE FROM %s WHERE %s = ?";
+
+  @Inject private TimeScaleDBService timeScaleDBService;
+
+  private final Object flushLock = new Object();
+  private Map<RowKey, RowChange> bufferedChanges = new LinkedHashMap<>();
+
+  private enum ChangeKind { INSERT, UPSERT, DELETE }
+
+  @Value
+  private static class RowKey {
+    String tableName;
+    String id;
+  }
+
+  @Value
+  private static class RowChange {
+    ChangeKind kind;
+    String tableName;
+    SortedMap<String, String> columns;
+    List<String> primaryKeys;
+
+    RowChange coalesce(RowChange newer) {
+      if (newer.kind == ChangeKind.DELETE) {
+        return newer;
+      }
+      // the row already exists by the time a later insert would be applied, so the insert wouldn't change anything
+      if (newer.kind == ChangeKind.INSERT) {
+        return this;
+      }
+      SortedMap<String, String> mergedColumns = new TreeMap<>(columns);
+      mergedColumns.putAll(newer.columns);
+      return new RowChange(ChangeKind.UPSERT, tableName, mergedColumns, newer.primaryKeys);
+    }
+
+    String toStatement() {
+      String columnNames = String.join(",", columns.keySet());
+      String placeholders = String.join(",", Collections.nCopies(columns.size(), "?"));
+      switch (kind) {
+        case INSERT:
+          return String.format(INSERT_STATEMENT, tableName, columnNames, placeholders);
+        case UPSERT:
+          String updates = columns.keySet().stream().map(column -> column + "=EXCLUDED." + column).collect(
+              Collectors.joining(","));
+          return String.format(
+              UPSERT_STATEMENT, tableName, columnNames, placeholders, String.join(",", primaryKeys), updates);
+        default:
+          return String.format(DELETE_STATEMENT, tableName, columns.firstKey());
+      }
+    }
+  }
+
+  public void insert(String tableName, String id, Map<String, String> columnValueMapping) {
+    buffer(new RowKey(tableName, id),
+        new RowChange(ChangeKind.INSERT, tableName, withoutEmptyValues(columnValueMapping), null));
+  }
+
+  public void upsert(String tableName, String id, Map<String, String> columnValueMapping, List<String> primaryKeys) {
+    buffer(new RowKey(tableName, id),
+        new RowChange(ChangeKind.UPSERT, tableName, withoutEmptyValues(columnValueMapping), primaryKeys));
+  }
+
+  public void delete(String tableName, String idColumn, String id) {
+    buffer(new RowKey(tableName, id),
+        new RowChange(ChangeKind.DELETE, tableName, new TreeMap<>(Collections.singletonMap(idColumn, id)), null));
+  }
+
+  public synchronized int size() {
+    return bufferedChanges.size();
+  }
+
+  /**
+   * Writes out everything buffered so far. Flushes are applied in the order they are made.
+   */
+  public void flush() {
+    synchronized (flushLock) {
+      Collection<RowChange> changes;
+      synchronized (this) {
+        if (bufferedChanges.isEmpty()) {
+          return;
+        }
+        changes = bufferedChanges.values();
+        bufferedChanges = new LinkedHashMap<>();
+      }
+      write(changes);
+    }
+  }
+
+  private void buffer(RowKey rowKey, RowChange rowChange) {
+    if (rowChange.getColumns().isEmpty()) {
+      return;
+    }
+    while (!tryToBuffer(rowKey, rowChange)) {
+      flush();
+    }
+    if (size() >= MAX_BUFFERED_ROWS) {
+      flush();
+    }
+  }
+
+  private synchronized boolean tryToBuffer(RowKey rowKey, RowChange rowChange) {
+    RowChange bufferedChange = bufferedChanges.get(rowKey);
+    // a row deleted and written again has to be deleted first, which can't be expressed by a single statement
+    if (bufferedChange != null && bufferedChange.getKind() == ChangeKind.DELETE
+        && rowChange.getKind() != ChangeKind.DELETE) {
+      return false;
+    }
+    bufferedChanges.put(rowKey, bufferedChange == null ? rowChange : bufferedChange.coalesce(rowChange));
+    return true;
+  }
+
+  private void write(Collection<RowChange> changes) {
+    if (!timeScaleDBService.isValid()) {
+      log.warn("TimeScale Down, dropping {} changed rows", changes.size());
+      return;
+    }
+    Map<String, List<Collection<String>>> valuesPerStatement = new LinkedHashMap<>();
+    for (RowChange change : changes) {
+      valuesPerStatement.computeIfAbsent(change.toStatement(), statement -> new ArrayList<>())
+          .add(change.getColumns().values());
+    }
+    valuesPerStatement.forEach(this::executeBatch);
+  }
+
+  private void executeBatch(String statementString, List<Collection<String>> rows) {
+    log.trace("In executeBatch, Query: {}, rows: {}", statementString, rows.size());
+    for (int retryCount = 0; retryCount < MAX_RETRY_COUNT; retryCount++) {
+      try (Connection dbConnection = timeScaleDBService.getDBConnection();
+           PreparedStatement statement = dbConnection.prepareStatement(statementString)) {
+        for (Collection<String> row : rows) {
+          setValues(statement, row);
+          statement.addBatch();
+        }
+        statement.executeBatch();
+        return;
+      } catch (SQLException e) {
+        log.error("Failed to save/update/delete data Query = {}, rows=[{}], retryCount=[{}], Exception: ",
+            statementString, rows.size(), retryCount, e);
+      }
+    }
+    // a single bad row fails the whole batch, don't let it take the others down with it
+    rows.forEach(row -> execute(statementString, row));
+  }
+
+  private void execute(String statementString, Collection<String> row) {
+    try (Connection dbConnection = timeScaleDBService.getDBConnection();
+         PreparedStatement statement = dbConnection.prepareStatement(statementString)) {
+      setValues(statement, row);
+      statement.execute();
+    } catch (SQLException e) {
+      log.error("Failed to save/update/delete data Query = {}, values={}, Exception: ", statementString, row, e);
+    }
+  }
+
+  private static void setValues(PreparedStatement statement, Collection<String> values) throws SQLException {
+    int index = 1;
+    for (String value : values) {
+      // typed as unknown, like the quoted literals used before, so that the server casts them to the column type
+      statement.setObject(index++, value, Types.OTHER);
+    }
+  }
+
+  private static SortedMap<String, String> withoutEmptyValues(Map<String, String> columnValueMapping) {
+    SortedMap<String, String> columns = new TreeMap<>();
+    columnValueMapping.forEach((column, value) -> {
+      if (value != null && !value.equals("")) {
+        columns.put(column, value);
+      }
+    });
+    return columns;
+  }
+}
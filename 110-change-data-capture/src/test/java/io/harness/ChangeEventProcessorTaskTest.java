@@ -0,0 +1,105 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness;
+
+import static io.harness.rule.OwnerRule.UTSAV;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CDCStateEntity.cdcStateEntityKeys;
+import io.harness.category.element.UnitTests;
+import io.harness.changehandlers.TimeScaleDBChangeBuffer;
+import io.harness.changestreamsframework.ChangeEvent;
+import io.harness.changestreamsframework.ChangeType;
+import io.harness.entities.CDCEntity;
+import io.harness.rule.Owner;
+
+import software.wings.dl.WingsPersistence;
+
+import com.google.common.collect.ImmutableSet;
+import java.util.concurrent.LinkedBlockingQueue;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.InOrder;
+import org.mongodb.morphia.FindAndModifyOptions;
+import org.mongodb.morphia.query.Query;
+import org.mongodb.morphia.query.UpdateOperations;
+
+public class ChangeEventProcessorTaskTest extends CategoryTest {
+  private WingsPersistence wingsPersistence;
+  private UpdateOperations<CDCStateEntity> updateOperations;
+  private TimeScaleDBChangeBuffer timeScaleDBChangeBuffer;
+  private ChangeEventProcessorTask changeEventProcessorTask;
+
+  @Before
+  @SuppressWarnings("unchecked")
+  public void setUp() {
+    CDCEntity<?> firstEntity = mock(CDCEntity.class);
+    CDCEntity<?> secondEntity = mock(CDCEntity.class);
+    doReturn(CDCStateEntity.class).when(firstEntity).getSubscriptionEntity();
+    doReturn(CDCStateEntity.class).when(secondEntity).getSubscriptionEntity();
+
+    wingsPersistence = mock(WingsPersistence.class, RETURNS_DEEP_STUBS);
+    updateOperations = mock(UpdateOperations.class);
+    when(wingsPersistence.createUpdateOperations(CDCStateEntity.class)).thenReturn(updateOperations);
+    when(updateOperations.set(anyString(), any())).thenReturn(updateOperations);
+    when(wingsPersistence.upsert(any(Query.class), any(UpdateOperations.class), any(FindAndModifyOptions.class)))
+        .thenReturn(null);
+    timeScaleDBChangeBuffer = mock(TimeScaleDBChangeBuffer.class);
+
+    changeEventProcessorTask = new ChangeEventProcessorTask(ImmutableSet.of(firstEntity, secondEntity),
+        new LinkedBlockingQueue<>(), wingsPersistence, timeScaleDBChangeBuffer);
+  }
+
+  @Test
+  @Owner(developers = UTSAV)
+  @Category(UnitTests.class)
+  public void testCheckpointIsHeldBackByLaggingPartition() throws InterruptedException {
+    // with two partitions "b" goes to the first one and "a" to the second one
+    changeEventProcessorTask.dispatch(changeEvent("t1", "b"));
+    changeEventProcessorTask.dispatch(changeEvent("t2", "a"));
+    changeEventProcessorTask.dispatch(changeEvent("t3", "b"));
+    changeEventProcessorTask.dispatch(changeEvent("t4", "a"));
+
+    changeEventProcessorTask.processNextEvent(0);
+    changeEventProcessorTask.processNextEvent(0);
+    changeEventProcessorTask.processNextEvent(1);
+    changeEventProcessorTask.checkpoint();
+
+    // t3 has been processed, but t4 of the second partition hasn't been, so only the tokens up to t2 are safe
+    InOrder inOrder = inOrder(timeScaleDBChangeBuffer, updateOperations);
+    inOrder.verify(timeScaleDBChangeBuffer).flush();
+    inOrder.verify(updateOperations).set(cdcStateEntityKeys.lastSyncedToken, "t2");
+    verify(updateOperations, never()).set(cdcStateEntityKeys.lastSyncedToken, "t3");
+
+    changeEventProcessorTask.processNextEvent(1);
+    changeEventProcessorTask.checkpoint();
+
+    inOrder.verify(timeScaleDBChangeBuffer).flush();
+    inOrder.verify(updateOperations).set(cdcStateEntityKeys.lastSyncedToken, "t4");
+    verify(updateOperations, never()).set(cdcStateEntityKeys.lastSyncedToken, "t3");
+  }
+
+  private static ChangeEvent<CDCStateEntity> changeEvent(String token, String uuid) {
+    return ChangeEvent.<CDCStateEntity>builder()
+        .token(token)
+        .entityType(CDCStateEntity.class)
+        .changeType(ChangeType.UPDATE)
+        .uuid(uuid)
+        .build();
+  }
+}
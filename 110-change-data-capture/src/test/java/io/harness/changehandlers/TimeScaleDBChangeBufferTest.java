@@ -0,0 +1,140 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.changehandlers;
+
+import static io.harness.rule.OwnerRule.UTSAV;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+import io.harness.timescaledb.TimeScaleDBService;
+
+import com.google.common.collect.ImmutableMap;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+public class TimeScaleDBChangeBufferTest extends CategoryTest {
+  private static final String TABLE = "services";
+  private static final List<String> PRIMARY_KEYS = Collections.singletonList("id");
+
+  @Mock private TimeScaleDBService timeScaleDBService;
+  @InjectMocks private TimeScaleDBChangeBuffer timeScaleDBChangeBuffer;
+
+  private Connection connection;
+  private PreparedStatement statement;
+
+  @Before
+  public void setUp() throws SQLException {
+    MockitoAnnotations.initMocks(this);
+    connection = mock(Connection.class);
+    statement = mock(PreparedStatement.class);
+    when(timeScaleDBService.isValid()).thenReturn(true);
+    when(timeScaleDBService.getDBConnection()).thenReturn(connection);
+    when(connection.prepareStatement(anyString())).thenReturn(statement);
+  }
+
+  @Test
+  @Owner(developers = UTSAV)
+  @Category(UnitTests.class)
+  public void testInsertThenUpdateIsOneUpsert() throws SQLException {
+    timeScaleDBChangeBuffer.insert(TABLE, "s1", ImmutableMap.of("id", "s1", "name", "first"));
+    timeScaleDBChangeBuffer.upsert(TABLE, "s1", ImmutableMap.of("id", "s1", "name", "second"), PRIMARY_KEYS);
+    assertThat(timeScaleDBChangeBuffer.size()).isEqualTo(1);
+    timeScaleDBChangeBuffer.flush();
+
+    verify(connection).prepareStatement(
+        "INSERT INTO services (id,name) VALUES (?,?) ON CONFLICT (id) DO UPDATE SET id=EXCLUDED.id,name=EXCLUDED.name");
+    verify(statement).setObject(1, "s1", Types.OTHER);
+    verify(statement).setObject(2, "second", Types.OTHER);
+    verify(statement).executeBatch();
+  }
+
+  @Test
+  @Owner(developers = UTSAV)
+  @Category(UnitTests.class)
+  public void testUpdateThenInsertKeepsTheUpdate() throws SQLException {
+    timeScaleDBChangeBuffer.upsert(TABLE, "s1", ImmutableMap.of("id", "s1", "name", "updated"), PRIMARY_KEYS);
+    timeScaleDBChangeBuffer.insert(TABLE, "s1", ImmutableMap.of("id", "s1", "name", "inserted"));
+    timeScaleDBChangeBuffer.flush();
+
+    verify(connection).prepareStatement(
+        "INSERT INTO services (id,name) VALUES (?,?) ON CONFLICT (id) DO UPDATE SET id=EXCLUDED.id,name=EXCLUDED.name");
+    verify(statement).setObject(2, "updated", Types.OTHER);
+    verify(statement, never()).setObject(2, "inserted", Types.OTHER);
+  }
+
+  @Test
+  @Owner(developers = UTSAV)
+  @Category(UnitTests.class)
+  public void testWriteThenDeleteIsOnlyADelete() throws SQLException {
+    timeScaleDBChangeBuffer.insert(TABLE, "s1", ImmutableMap.of("id", "s1", "name", "first"));
+    timeScaleDBChangeBuffer.upsert(TABLE, "s1", ImmutableMap.of("id", "s1", "name", "second"), PRIMARY_KEYS);
+    timeScaleDBChangeBuffer.delete(TABLE, "id", "s1");
+    timeScaleDBChangeBuffer.flush();
+
+    verify(connection, times(1)).prepareStatement(anyString());
+    verify(connection).prepareStatement("DELETE FROM services WHERE id = ?");
+    verify(statement).setObject(1, "s1", Types.OTHER);
+  }
+
+  @Test
+  @Owner(developers = UTSAV)
+  @Category(UnitTests.class)
+  public void testWriteAfterDeleteFlushesTheDeleteFirst() throws SQLException {
+    timeScaleDBChangeBuffer.delete(TABLE, "id", "s1");
+    timeScaleDBChangeBuffer.insert(TABLE, "s1", ImmutableMap.of("id", "s1", "name", "again"));
+
+    verify(connection).prepareStatement("DELETE FROM services WHERE id = ?");
+    assertThat(timeScaleDBChangeBuffer.size()).isEqualTo(1);
+    timeScaleDBChangeBuffer.flush();
+
+    InOrder inOrder = inOrder(connection);
+    inOrder.verify(connection).prepareStatement("DELETE FROM services WHERE id = ?");
+    inOrder.verify(connection).prepareStatement("INSERT INTO services (id,name) VALUES (?,?) ON CONFLICT DO NOTHING");
+    assertThat(timeScaleDBChangeBuffer.size()).isZero();
+  }
+
+  @Test
+  @Owner(developers = UTSAV)
+  @Category(UnitTests.class)
+  public void testFailingBatchIsRetriedRowByRow() throws SQLException {
+    when(statement.executeBatch()).thenThrow(new SQLException("invalid input syntax"));
+    doThrow(new SQLException("invalid input syntax")).when(statement).setObject(2, "bad", Types.OTHER);
+
+    timeScaleDBChangeBuffer.insert(TABLE, "s1", ImmutableMap.of("id", "s1", "name", "bad"));
+    timeScaleDBChangeBuffer.insert(TABLE, "s2", ImmutableMap.of("id", "s2", "name", "good"));
+    timeScaleDBChangeBuffer.insert(TABLE, "s3", ImmutableMap.of("id", "s3", "name", "fine"));
+    timeScaleDBChangeBuffer.flush();
+
+    // the bad row fails binding its values, the other two are still written on their own
+    verify(statement, times(2)).execute();
+    verify(statement).setObject(2, "good", Types.OTHER);
+    verify(statement).setObject(2, "fine", Types.OTHER);
+  }
+}
@@ -26,6 +26,8 @@ public class InstanceSyncPerpetualTaskInfoDTO {
   String infrastructureMappingId;
   List<DeploymentInfoDetailsDTO> deploymentInfoDetailsDTOList;
   String perpetualTaskId;
+  String instancesFingerprint;
+  long instancesFingerprintedAt;
   long createdAt;
   long lastUpdatedAt;
 }
@@ -41,6 +41,9 @@ public class InstanceSyncPerpetualTaskInfo {
   @FdUniqueIndex String infrastructureMappingId;
   List<DeploymentInfoDetails> deploymentInfoDetailsList;
   @FdUniqueIndex String perpetualTaskId;
+  // Fingerprint of the instances from server which are in sync with the instances in DB
+  String instancesFingerprint;
+  long instancesFingerprintedAt;
   @CreatedDate long createdAt;
   @LastModifiedDate long lastUpdatedAt;
 }
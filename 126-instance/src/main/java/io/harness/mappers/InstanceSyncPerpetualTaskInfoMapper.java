@@ -25,6 +25,8 @@ public class InstanceSyncPerpetualTaskInfoMapper {
         .deploymentInfoDetailsDTOList(DeploymentInfoDetailsMapper.toDeploymentInfoDetailsDTOList(
             instanceSyncPerpetualTaskInfo.getDeploymentInfoDetailsList()))
         .perpetualTaskId(instanceSyncPerpetualTaskInfo.getPerpetualTaskId())
+        .instancesFingerprint(instanceSyncPerpetualTaskInfo.getInstancesFingerprint())
+        .instancesFingerprintedAt(instanceSyncPerpetualTaskInfo.getInstancesFingerprintedAt())
         .createdAt(instanceSyncPerpetualTaskInfo.getCreatedAt())
         .lastUpdatedAt(instanceSyncPerpetualTaskInfo.getLastUpdatedAt())
         .build();
@@ -38,6 +40,8 @@ public class InstanceSyncPerpetualTaskInfoMapper {
         .deploymentInfoDetailsList(DeploymentInfoDetailsMapper.toDeploymentInfoDetailsEntityList(
             instanceSyncPerpetualTaskInfoDTO.getDeploymentInfoDetailsDTOList()))
         .perpetualTaskId(instanceSyncPerpetualTaskInfoDTO.getPerpetualTaskId())
+        .instancesFingerprint(instanceSyncPerpetualTaskInfoDTO.getInstancesFingerprint())
+        .instancesFingerprintedAt(instanceSyncPerpetualTaskInfoDTO.getInstancesFingerprintedAt())
         .build();
   }
 }
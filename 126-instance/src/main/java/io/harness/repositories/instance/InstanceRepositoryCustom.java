@@ -16,6 +16,7 @@ import io.harness.models.EnvBuildInstanceCount;
 import io.harness.models.InstancesByBuildId;
 
 import java.util.List;
+import org.apache.commons.lang3.tuple.Pair;
 import org.springframework.data.mongodb.core.aggregation.AggregationResults;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Update;
@@ -24,6 +25,9 @@ import org.springframework.data.mongodb.core.query.Update;
 public interface InstanceRepositoryCustom {
   Instance findAndReplace(Criteria criteria, Instance instance);
 
+  // Applies all updates and replacements with a single unordered bulk write
+  void bulkUpdateAndReplace(List<Pair<Criteria, Update>> updates, List<Pair<Criteria, Instance>> replacements);
+
   Instance findAndModify(Criteria criteria, Update update);
 
   List<Instance> getActiveInstancesByAccount(String accountIdentifier, long timestamp);
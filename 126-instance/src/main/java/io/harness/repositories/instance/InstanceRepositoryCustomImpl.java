@@ -30,7 +30,9 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import lombok.AllArgsConstructor;
+import org.apache.commons.lang3.tuple.Pair;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.FindAndReplaceOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.aggregation.Aggregation;
@@ -54,6 +56,19 @@ public class InstanceRepositoryCustomImpl implements InstanceRepositoryCustom {
     return mongoTemplate.findAndReplace(query, instance, FindAndReplaceOptions.options().returnNew());
   }
 
+  @Override
+  public void bulkUpdateAndReplace(
+      List<Pair<Criteria, Update>> updates, List<Pair<Criteria, Instance>> replacements) {
+    if (updates.isEmpty() && replacements.isEmpty()) {
+      return;
+    }
+    BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Instance.class);
+    updates.forEach(update -> bulkOperations.updateOne(new Query(update.getLeft()), update.getRight()));
+    replacements.forEach(
+        replacement -> bulkOperations.replaceOne(new Query(replacement.getLeft()), replacement.getRight()));
+    bulkOperations.execute();
+  }
+
   public Instance findAndModify(Criteria criteria, Update update) {
     Query query = new Query(criteria);
     return mongoTemplate.findAndModify(query, update, Instance.class);
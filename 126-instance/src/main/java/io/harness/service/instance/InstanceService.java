@@ -39,6 +39,12 @@ public interface InstanceService {
 
   Optional<InstanceDTO> findAndReplace(InstanceDTO instanceDTO);
 
+  /**
+   * Soft deletes and replaces the given instances with a single bulk write, matching them the same way as
+   * {@link #delete} and {@link #findAndReplace} do
+   */
+  void deleteAndReplaceAll(List<InstanceDTO> instancesToBeDeleted, List<InstanceDTO> instancesToBeReplaced);
+
   List<InstanceDTO> getActiveInstancesByAccount(String accountIdentifier, long timestamp);
 
   List<InstanceDTO> getInstancesDeployedInInterval(String accountIdentifier, long startTimestamp, long endTimeStamp);
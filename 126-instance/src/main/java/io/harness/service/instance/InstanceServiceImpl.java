@@ -25,11 +25,13 @@ import io.harness.repositories.instance.InstanceRepository;
 
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.tuple.Pair;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.mongodb.core.aggregation.AggregationResults;
 import org.springframework.data.mongodb.core.query.Criteria;
@@ -105,19 +107,9 @@ public class InstanceServiceImpl implements InstanceService {
     checkArgument(isNotEmpty(orgIdentifier), "orgIdentifier must be present");
     checkArgument(isNotEmpty(projectIdentifier), "projectIdentifier must be present");
 
-    Criteria criteria = Criteria.where(InstanceKeys.instanceKey)
-                            .is(instanceKey)
-                            .and(InstanceKeys.accountIdentifier)
-                            .is(accountIdentifier)
-                            .and(InstanceKeys.orgIdentifier)
-                            .is(orgIdentifier)
-                            .and(InstanceKeys.projectIdentifier)
-                            .is(projectIdentifier)
-                            .and(InstanceKeys.infrastructureMappingId)
-                            .is(infrastructureMappingId);
-    Update update =
-        new Update().set(InstanceKeys.isDeleted, true).set(InstanceKeys.deletedAt, System.currentTimeMillis());
-    Instance instance = instanceRepository.findAndModify(criteria, update);
+    Criteria criteria =
+        getDeleteCriteria(instanceKey, accountIdentifier, orgIdentifier, projectIdentifier, infrastructureMappingId);
+    Instance instance = instanceRepository.findAndModify(criteria, getSoftDeleteUpdate());
     if (instance == null) {
       return Optional.empty();
     }
@@ -130,17 +122,35 @@ public class InstanceServiceImpl implements InstanceService {
    */
   @Override
   public Optional<InstanceDTO> findAndReplace(InstanceDTO instanceDTO) {
-    Criteria criteria = Criteria.where(InstanceKeys.instanceKey)
-                            .is(instanceDTO.getInstanceKey())
-                            .and(InstanceKeys.infrastructureMappingId)
-                            .is(instanceDTO.getInfrastructureMappingId());
-    Instance instanceOptional = instanceRepository.findAndReplace(criteria, InstanceMapper.toEntity(instanceDTO));
+    Instance instanceOptional =
+        instanceRepository.findAndReplace(getReplaceCriteria(instanceDTO), InstanceMapper.toEntity(instanceDTO));
     if (instanceOptional == null) {
       return Optional.empty();
     }
     return Optional.of(InstanceMapper.toDTO(instanceOptional));
   }
 
+  @Override
+  public void deleteAndReplaceAll(List<InstanceDTO> instancesToBeDeleted, List<InstanceDTO> instancesToBeReplaced) {
+    List<Pair<Criteria, Update>> updates =
+        instancesToBeDeleted.stream()
+            .map(instanceDTO
+                -> Pair.of(getDeleteCriteria(instanceDTO.getInstanceKey(), instanceDTO.getAccountIdentifier(),
+                               instanceDTO.getOrgIdentifier(), instanceDTO.getProjectIdentifier(),
+                               instanceDTO.getInfrastructureMappingId()),
+                    getSoftDeleteUpdate()))
+            .collect(Collectors.toList());
+    long lastModifiedAt = System.currentTimeMillis();
+    List<Pair<Criteria, Instance>> replacements = new ArrayList<>();
+    for (InstanceDTO instanceDTO : instancesToBeReplaced) {
+      Instance instance = InstanceMapper.toEntity(instanceDTO);
+      // bulk writes don't go through auditing
+      instance.setLastModifiedAt(lastModifiedAt);
+      replacements.add(Pair.of(getReplaceCriteria(instanceDTO), instance));
+    }
+    instanceRepository.bulkUpdateAndReplace(updates, replacements);
+  }
+
   @Override
   public List<InstanceDTO> getActiveInstancesByAccount(String accountIdentifier, long timestamp) {
     return InstanceMapper.toDTO(instanceRepository.getActiveInstancesByAccount(accountIdentifier, timestamp));
@@ -274,4 +284,29 @@ public class InstanceServiceImpl implements InstanceService {
     instance.setDeletedAt(0);
     return instanceRepository.findAndReplace(criteria, instance);
   }
+
+  private Criteria getDeleteCriteria(String instanceKey, String accountIdentifier, String orgIdentifier,
+      String projectIdentifier, String infrastructureMappingId) {
+    return Criteria.where(InstanceKeys.instanceKey)
+        .is(instanceKey)
+        .and(InstanceKeys.accountIdentifier)
+        .is(accountIdentifier)
+        .and(InstanceKeys.orgIdentifier)
+        .is(orgIdentifier)
+        .and(InstanceKeys.projectIdentifier)
+        .is(projectIdentifier)
+        .and(InstanceKeys.infrastructureMappingId)
+        .is(infrastructureMappingId);
+  }
+
+  private Update getSoftDeleteUpdate() {
+    return new Update().set(InstanceKeys.isDeleted, true).set(InstanceKeys.deletedAt, System.currentTimeMillis());
+  }
+
+  private Criteria getReplaceCriteria(InstanceDTO instanceDTO) {
+    return Criteria.where(InstanceKeys.instanceKey)
+        .is(instanceDTO.getInstanceKey())
+        .and(InstanceKeys.infrastructureMappingId)
+        .is(instanceDTO.getInfrastructureMappingId());
+  }
 }
@@ -81,6 +81,8 @@ public class InstanceSyncServiceImpl implements InstanceSyncService {
   private AccountClient accountClient;
   private static final int NEW_DEPLOYMENT_EVENT_RETRY = 3;
   private static final long TWO_WEEKS_IN_MILLIS = (long) 14 * 24 * 60 * 60 * 1000;
+  // Instances can also be changed outside of instance sync, so a full sync is done at least this often
+  private static final long INSTANCES_FINGERPRINT_MAX_AGE_IN_MILLIS = (long) 30 * 60 * 1000;
 
   @Override
   public void processInstanceSyncForNewDeployment(DeploymentEvent deploymentEvent) {
@@ -230,9 +232,13 @@ public class InstanceSyncServiceImpl implements InstanceSyncService {
           AbstractInstanceSyncHandler instanceSyncHandler = instanceSyncHandlerFactoryService.getInstanceSyncHandler(
               instanceSyncPerpetualTaskResponse.getDeploymentType(),
               infrastructureMappingDTO.get().getInfrastructureKind());
-          performInstanceSync(instanceSyncPerpetualTaskInfoDTO, infrastructureMappingDTO.get(),
+          boolean synced = performInstanceSync(instanceSyncPerpetualTaskInfoDTO, infrastructureMappingDTO.get(),
               instanceSyncPerpetualTaskResponse.getServerInstanceDetails(), instanceSyncHandler, false);
           instanceSyncStatus = SUCCESS_STATUS;
+          if (!synced) {
+            instanceSyncMonitoringService.recordUnchangedSync(buildMetricDetails(infrastructureMappingDTO.get(),
+                instanceSyncPerpetualTaskResponse.getDeploymentType(), instanceSyncStatus));
+          }
           log.info("Instance Sync completed");
         } catch (Exception exception) {
           instanceSyncStatus = FAILED_STATUS;
@@ -250,15 +256,50 @@ public class InstanceSyncServiceImpl implements InstanceSyncService {
 
   /**
    * @param serverInstanceInfoList details of all instances present in current state of server
+   * @return false if the instances from server are the same as in the last sync, in which case nothing is done
    */
-  private void performInstanceSync(InstanceSyncPerpetualTaskInfoDTO instanceSyncPerpetualTaskInfoDTO,
+  private boolean performInstanceSync(InstanceSyncPerpetualTaskInfoDTO instanceSyncPerpetualTaskInfoDTO,
       InfrastructureMappingDTO infrastructureMappingDTO, List<ServerInstanceInfo> serverInstanceInfoList,
       AbstractInstanceSyncHandler instanceSyncHandler, boolean isNewDeploymentSync) {
+    List<InstanceInfoDTO> instanceInfosFromServer =
+        instanceSyncHandler.getInstanceDetailsFromServerInstances(serverInstanceInfoList);
+    // A new deployment only syncs the instances of its own deployment info, so it can't be fingerprinted
+    String instancesFingerprint =
+        isNewDeploymentSync ? null : utils.getInstancesFingerprint(instanceSyncHandler, instanceInfosFromServer);
+    if (isInSyncWithFingerprint(instanceSyncPerpetualTaskInfoDTO, instancesFingerprint)) {
+      log.info("Instances from server are unchanged since the last instance sync, skipping it");
+      return false;
+    }
+    // The instances in DB are going to change, so the last fingerprint no longer holds even if this sync fails
+    if (instanceSyncPerpetualTaskInfoDTO.getInstancesFingerprint() != null) {
+      updateInstancesFingerprint(instanceSyncPerpetualTaskInfoDTO, null);
+    }
+
     // Prepare final list of instances to be added / deleted / updated
     Map<OperationsOnInstances, List<InstanceDTO>> instancesToBeModified =
-        handleInstanceSync(instanceSyncPerpetualTaskInfoDTO, infrastructureMappingDTO, serverInstanceInfoList,
+        handleInstanceSync(instanceSyncPerpetualTaskInfoDTO, infrastructureMappingDTO, instanceInfosFromServer,
             instanceSyncHandler, isNewDeploymentSync);
     utils.processInstances(instancesToBeModified);
+
+    if (instancesFingerprint != null) {
+      updateInstancesFingerprint(instanceSyncPerpetualTaskInfoDTO, instancesFingerprint);
+    }
+    return true;
+  }
+
+  private boolean isInSyncWithFingerprint(
+      InstanceSyncPerpetualTaskInfoDTO instanceSyncPerpetualTaskInfoDTO, String instancesFingerprint) {
+    return instancesFingerprint != null
+        && instancesFingerprint.equals(instanceSyncPerpetualTaskInfoDTO.getInstancesFingerprint())
+        && System.currentTimeMillis() - instanceSyncPerpetualTaskInfoDTO.getInstancesFingerprintedAt()
+        < INSTANCES_FINGERPRINT_MAX_AGE_IN_MILLIS;
+  }
+
+  private void updateInstancesFingerprint(
+      InstanceSyncPerpetualTaskInfoDTO instanceSyncPerpetualTaskInfoDTO, String instancesFingerprint) {
+    instanceSyncPerpetualTaskInfoDTO.setInstancesFingerprint(instancesFingerprint);
+    instanceSyncPerpetualTaskInfoDTO.setInstancesFingerprintedAt(System.currentTimeMillis());
+    instanceSyncPerpetualTaskInfoService.updateInstancesFingerprint(instanceSyncPerpetualTaskInfoDTO);
   }
 
   /**
@@ -268,10 +309,8 @@ public class InstanceSyncServiceImpl implements InstanceSyncService {
    */
   private Map<OperationsOnInstances, List<InstanceDTO>> handleInstanceSync(
       InstanceSyncPerpetualTaskInfoDTO instanceSyncPerpetualTaskInfoDTO,
-      InfrastructureMappingDTO infrastructureMappingDTO, List<ServerInstanceInfo> serverInstanceInfoList,
+      InfrastructureMappingDTO infrastructureMappingDTO, List<InstanceInfoDTO> instanceInfosFromServer,
       AbstractInstanceSyncHandler instanceSyncHandler, boolean isNewDeploymentSync) {
-    serverInstanceInfoList.forEach(
-        serverInstanceInfo -> log.info("handleInstanceSync, serverInstanceInfo: {}", serverInstanceInfo));
     log.info("handleInstanceSync, InstanceSyncPerpetualTaskInfoDTO: {}", instanceSyncPerpetualTaskInfoDTO);
     log.info("handleInstanceSync, InfrastructureMappingDTO: {}", infrastructureMappingDTO);
     log.info("handleInstanceSync, isNewDeploymentSync: {}", isNewDeploymentSync);
@@ -281,9 +320,6 @@ public class InstanceSyncServiceImpl implements InstanceSyncService {
 
     instancesInDB.forEach(instance -> log.info("handleInstanceSync, Instance in DB: {}", instance));
 
-    List<InstanceInfoDTO> instanceInfosFromServer =
-        instanceSyncHandler.getInstanceDetailsFromServerInstances(serverInstanceInfoList);
-
     instanceInfosFromServer.forEach(
         instanceInfo -> log.info("handleInstanceSync, Instance from Server: {}", instanceInfo));
 
@@ -12,11 +12,15 @@ import io.harness.dtos.instanceinfo.InstanceInfoDTO;
 import io.harness.service.instance.InstanceService;
 import io.harness.service.instancesynchandler.AbstractInstanceSyncHandler;
 
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import com.google.inject.Inject;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -26,17 +30,13 @@ class InstanceSyncServiceUtils {
   private InstanceService instanceService;
 
   public void processInstances(Map<OperationsOnInstances, List<InstanceDTO>> instancesToBeModified) {
-    deleteInstances(instancesToBeModified.get(OperationsOnInstances.DELETE));
+    List<InstanceDTO> instancesToBeDeleted = instancesToBeModified.get(OperationsOnInstances.DELETE);
+    List<InstanceDTO> instancesToBeUpdated = instancesToBeModified.get(OperationsOnInstances.UPDATE);
+    logInstances(OperationsOnInstances.DELETE.name(), instancesToBeDeleted);
+    logInstances(OperationsOnInstances.UPDATE.name(), instancesToBeUpdated);
+    instanceService.deleteAndReplaceAll(instancesToBeDeleted, instancesToBeUpdated);
     // ** check if saveAll method can be used safely to update multiple records together
     saveInstances(instancesToBeModified.get(OperationsOnInstances.ADD));
-    updateInstances(instancesToBeModified.get(OperationsOnInstances.UPDATE));
-  }
-  private void deleteInstances(List<InstanceDTO> instancesToBeDeleted) {
-    logInstances(OperationsOnInstances.DELETE.name(), instancesToBeDeleted);
-    instancesToBeDeleted.forEach(instanceDTO
-        -> instanceService.delete(instanceDTO.getInstanceKey(), instanceDTO.getAccountIdentifier(),
-            instanceDTO.getOrgIdentifier(), instanceDTO.getProjectIdentifier(),
-            instanceDTO.getInfrastructureMappingId()));
   }
 
   private void saveInstances(List<InstanceDTO> instancesToBeSaved) {
@@ -44,10 +44,6 @@ class InstanceSyncServiceUtils {
     instancesToBeSaved.forEach(instanceDTO -> instanceService.saveOrReturnEmptyIfAlreadyExists(instanceDTO));
   }
 
-  private void updateInstances(List<InstanceDTO> instancesToBeUpdated) {
-    logInstances(OperationsOnInstances.UPDATE.name(), instancesToBeUpdated);
-    instancesToBeUpdated.forEach(instanceDTO -> instanceService.findAndReplace(instanceDTO));
-  }
   private void logInstances(String operation, List<InstanceDTO> instanceDTOList) {
     if (instanceDTOList.isEmpty()) {
       return;
@@ -83,6 +79,22 @@ class InstanceSyncServiceUtils {
     return syncKeyToInstanceInfoFromServerMap;
   }
 
+  /**
+   * @return hash of all instances from server, independent of their order. If it is the same as in the last instance
+   *     sync the instances in DB are still in sync with the server
+   */
+  String getInstancesFingerprint(
+      AbstractInstanceSyncHandler instanceSyncHandler, List<InstanceInfoDTO> instanceInfosFromServer) {
+    List<String> instances = instanceInfosFromServer.stream()
+                                 .map(instanceInfoDTO
+                                     -> instanceSyncHandler.getInstanceKey(instanceInfoDTO) + "=" + instanceInfoDTO)
+                                 .sorted()
+                                 .collect(Collectors.toList());
+    Hasher hasher = Hashing.sha256().newHasher();
+    instances.forEach(instance -> hasher.putString(instance, StandardCharsets.UTF_8).putChar('\n'));
+    return hasher.hash().toString();
+  }
+
   Map<OperationsOnInstances, List<InstanceDTO>> initMapForTrackingFinalListOfInstances() {
     Map<OperationsOnInstances, List<InstanceDTO>> instancesToBeModified = new HashMap<>();
     instancesToBeModified.put(OperationsOnInstances.ADD, new ArrayList<>());
@@ -26,4 +26,7 @@ public interface InstanceSyncPerpetualTaskInfoService {
 
   InstanceSyncPerpetualTaskInfoDTO updateDeploymentInfoDetailsList(
       InstanceSyncPerpetualTaskInfoDTO instanceSyncPerpetualTaskInfoDTO);
+
+  InstanceSyncPerpetualTaskInfoDTO updateInstancesFingerprint(
+      InstanceSyncPerpetualTaskInfoDTO instanceSyncPerpetualTaskInfoDTO);
 }
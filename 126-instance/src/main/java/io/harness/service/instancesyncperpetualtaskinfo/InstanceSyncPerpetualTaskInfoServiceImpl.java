@@ -70,4 +70,25 @@ public class InstanceSyncPerpetualTaskInfoServiceImpl implements InstanceSyncPer
             instanceSyncPerpetualTaskInfoDTO.getDeploymentInfoDetailsDTOList()));
     return InstanceSyncPerpetualTaskInfoMapper.toDTO(instanceSyncPerpetualTaskInfoRepository.update(criteria, update));
   }
+
+  @Override
+  public InstanceSyncPerpetualTaskInfoDTO updateInstancesFingerprint(
+      InstanceSyncPerpetualTaskInfoDTO instanceSyncPerpetualTaskInfoDTO) {
+    Criteria criteria = Criteria.where(InstanceSyncPerpetualTaskInfoKeys.accountIdentifier)
+                            .is(instanceSyncPerpetualTaskInfoDTO.getAccountIdentifier())
+                            .and(InstanceSyncPerpetualTaskInfoKeys.id)
+                            .is(instanceSyncPerpetualTaskInfoDTO.getId());
+    Update update =
+        new Update()
+            .set(InstanceSyncPerpetualTaskInfoKeys.instancesFingerprint,
+                instanceSyncPerpetualTaskInfoDTO.getInstancesFingerprint())
+            .set(InstanceSyncPerpetualTaskInfoKeys.instancesFingerprintedAt,
+                instanceSyncPerpetualTaskInfoDTO.getInstancesFingerprintedAt());
+    // the record is gone if the instance sync cleaned it up as it has no deployment info left
+    InstanceSyncPerpetualTaskInfo instanceSyncPerpetualTaskInfo =
+        instanceSyncPerpetualTaskInfoRepository.update(criteria, update);
+    return instanceSyncPerpetualTaskInfo == null
+        ? null
+        : InstanceSyncPerpetualTaskInfoMapper.toDTO(instanceSyncPerpetualTaskInfo);
+  }
 }
@@ -550,6 +550,33 @@ public class InstanceSyncServiceTest extends InstancesTestBase {
     assertEquals(TEST_INFRA_MAPPING_ID, instanceToBeDeleted.getInfrastructureMappingId());
   }
 
+  @Test
+  @Owner(developers = VIKYATH_HAREKAL)
+  @Category(UnitTests.class)
+  public void testProcessInstanceSyncByPerpetualTaskWhenInstancesAreUnchanged() {
+    InstanceSyncPerpetualTaskResponse response = K8sInstanceSyncPerpetualTaskResponse.builder()
+                                                     .serverInstanceDetails(Collections.singletonList(
+                                                         getMockServerInstanceInfo(TEST_POD_NAME1, TEST_RELEASE_NAME1)))
+                                                     .build();
+    InstanceSyncPerpetualTaskInfoDTO instanceSyncPerpetualTaskInfoDTO =
+        getMockInstanceSyncPerpetualTaskInfo(TEST_RELEASE_NAME1);
+    instanceSyncPerpetualTaskInfoDTO.setInstancesFingerprint("fingerprint");
+    instanceSyncPerpetualTaskInfoDTO.setInstancesFingerprintedAt(System.currentTimeMillis());
+
+    when(instanceSyncPerpetualTaskInfoService.findByPerpetualTaskId(anyString(), anyString()))
+        .thenReturn(Optional.of(instanceSyncPerpetualTaskInfoDTO));
+    when(infrastructureMappingService.getByInfrastructureMappingId(TEST_INFRA_MAPPING_ID))
+        .thenReturn(Optional.of(getMockInfraMapping(TEST_INFRA_KEY1)));
+    when(instanceSyncServiceUtils.getInstancesFingerprint(any(), any())).thenReturn("fingerprint");
+
+    instanceSyncService.processInstanceSyncByPerpetualTask(TEST_ACCOUNT_ID, PERPETUAL_TASK_ID, response);
+
+    verify(instanceService, never()).getActiveInstancesByInfrastructureMappingId(any(), any(), any(), any());
+    verify(instanceSyncServiceUtils, never()).processInstances(any());
+    verify(instanceSyncPerpetualTaskInfoService, never()).updateInstancesFingerprint(any());
+    verify(instanceSyncMonitoringService).recordUnchangedSync(any());
+  }
+
   private Map<String, List<InstanceDTO>> mockSyncKeyToInstances(InstanceDTO instanceDTO) {
     K8sInstanceInfoDTO k8sInstanceInfoDTO = (K8sInstanceInfoDTO) instanceDTO.getInstanceInfoDTO();
     Map<String, List<InstanceDTO>> syncKeyToInstanceMap = new HashMap<>();
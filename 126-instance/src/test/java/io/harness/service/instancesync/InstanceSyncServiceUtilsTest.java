@@ -13,8 +13,8 @@ import static io.harness.service.instancesync.OperationsOnInstances.DELETE;
 import static io.harness.service.instancesync.OperationsOnInstances.UPDATE;
 
 import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
 import static junit.framework.TestCase.assertTrue;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 
@@ -28,6 +28,7 @@ import io.harness.rule.Owner;
 import io.harness.service.instance.InstanceService;
 import io.harness.service.instancesynchandler.K8sInstanceSyncHandler;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -82,11 +83,25 @@ public class InstanceSyncServiceUtilsTest {
 
     instanceSyncServiceUtils.processInstances(instancesToBeModified);
 
-    verify(instanceService).delete(eq(INSTANCESYNC_KEY1), anyString(), anyString(), anyString(), anyString());
-    verify(instanceService).findAndReplace(eq(instanceToUpdate));
+    verify(instanceService)
+        .deleteAndReplaceAll(eq(instancesToBeModified.get(DELETE)), eq(Collections.singletonList(instanceToUpdate)));
     verify(instanceService).saveOrReturnEmptyIfAlreadyExists(eq(instanceToAdd));
   }
 
+  @Test
+  @Owner(developers = VIKYATH_HAREKAL)
+  @Category(UnitTests.class)
+  public void testGetInstancesFingerprint() {
+    InstanceInfoDTO instanceInfo1 = mockInstanceDTO(INSTANCESYNC_KEY1).getInstanceInfoDTO();
+    InstanceInfoDTO instanceInfo2 = mockInstanceDTO(INSTANCESYNC_KEY2).getInstanceInfoDTO();
+    String fingerprint =
+        instanceSyncServiceUtils.getInstancesFingerprint(k8sInstanceSyncHandler, Arrays.asList(instanceInfo1, instanceInfo2));
+    assertEquals(fingerprint,
+        instanceSyncServiceUtils.getInstancesFingerprint(k8sInstanceSyncHandler, Arrays.asList(instanceInfo2, instanceInfo1)));
+    assertFalse(fingerprint.equals(instanceSyncServiceUtils.getInstancesFingerprint(
+        k8sInstanceSyncHandler, Collections.singletonList(instanceInfo1))));
+  }
+
   @Test
   @Owner(developers = VIKYATH_HAREKAL)
   @Category(UnitTests.class)
@@ -19,6 +19,9 @@ public class DelegateMetricsConstants {
   public static final String TASKS_CURRENTLY_EXECUTING = "tasks_currently_executing";
   public static final String TASKS_IN_QUEUE = "tasks_in_queue";
   public static final String TASK_TIMEOUT = "task_timeout";
+  public static final String PERPETUAL_TASKS_WARM_UP_TIME = "perpetual_tasks_warm_up_time";
+  public static final String EVENTS_BACKLOG_SIZE = "events_backlog_size";
+  public static final String EVENTS_DRAIN_RATE = "events_drain_rate";
 
   private static final String DELEGATE_NAME_LABEL = "delegate_name";
   private static final String TASK_TYPE_LABEL = "task_type";
@@ -28,6 +31,10 @@ public class DelegateMetricsConstants {
     put(TASKS_CURRENTLY_EXECUTING, create("Number of tasks in execution.", DELEGATE_NAME_LABEL));
     put(TASKS_IN_QUEUE, create("Number of tasks in the queue.", DELEGATE_NAME_LABEL));
     put(TASK_TIMEOUT, create("Number of tasks timed out.", DELEGATE_NAME_LABEL, TASK_TYPE_LABEL));
+    put(PERPETUAL_TASKS_WARM_UP_TIME,
+        create("Time needed to start the assigned perpetual tasks after a delegate start.", DELEGATE_NAME_LABEL));
+    put(EVENTS_BACKLOG_SIZE, create("Number of events in the queue not published yet.", DELEGATE_NAME_LABEL));
+    put(EVENTS_DRAIN_RATE, create("Number of events published per second.", DELEGATE_NAME_LABEL));
   }
 
   private static void put(String metricName, DelegateMetricDetails metricDetails) {
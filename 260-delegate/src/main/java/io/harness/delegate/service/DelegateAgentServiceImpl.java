@@ -48,6 +48,9 @@ import static io.harness.delegate.message.MessageConstants.WATCHER_PROCESS;
 import static io.harness.delegate.message.MessageConstants.WATCHER_VERSION;
 import static io.harness.delegate.message.MessengerType.DELEGATE;
 import static io.harness.delegate.message.MessengerType.WATCHER;
+import static io.harness.delegate.metrics.DelegateMetricsConstants.EVENTS_BACKLOG_SIZE;
+import static io.harness.delegate.metrics.DelegateMetricsConstants.EVENTS_DRAIN_RATE;
+import static io.harness.delegate.metrics.DelegateMetricsConstants.PERPETUAL_TASKS_WARM_UP_TIME;
 import static io.harness.delegate.metrics.DelegateMetricsConstants.TASKS_CURRENTLY_EXECUTING;
 import static io.harness.delegate.metrics.DelegateMetricsConstants.TASKS_IN_QUEUE;
 import static io.harness.delegate.metrics.DelegateMetricsConstants.TASK_EXECUTION_TIME;
@@ -2703,6 +2706,16 @@ public class DelegateAgentServiceImpl implements DelegateAgentService {
     long tasksExecutionCount = ((ThreadPoolExecutor) taskExecutor).getActiveCount();
     metricRegistry.recordGaugeValue(TASKS_IN_QUEUE, new String[] {DELEGATE_NAME}, tasksInQueueCount);
     metricRegistry.recordGaugeValue(TASKS_CURRENTLY_EXECUTING, new String[] {DELEGATE_NAME}, tasksExecutionCount);
+    if (perpetualTaskWorker != null && perpetualTaskWorker.getWarmUpMillis() >= 0) {
+      metricRegistry.recordGaugeValue(
+          PERPETUAL_TASKS_WARM_UP_TIME, new String[] {DELEGATE_NAME}, perpetualTaskWorker.getWarmUpMillis());
+    }
+    if (chronicleEventTailer != null) {
+      metricRegistry.recordGaugeValue(
+          EVENTS_BACKLOG_SIZE, new String[] {DELEGATE_NAME}, chronicleEventTailer.getBacklogSize());
+      metricRegistry.recordGaugeValue(
+          EVENTS_DRAIN_RATE, new String[] {DELEGATE_NAME}, chronicleEventTailer.getDrainRatePerSecond());
+    }
   }
 
   private void sendErrorResponse(DelegateTaskPackage delegateTaskPackage, Exception exception) {
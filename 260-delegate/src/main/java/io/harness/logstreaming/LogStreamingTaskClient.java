@@ -14,7 +14,6 @@ import static software.wings.beans.LogHelper.color;
 import static software.wings.beans.LogHelper.doneColoring;
 import static software.wings.beans.LogWeight.Bold;
 
-import static java.lang.System.currentTimeMillis;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 
 import io.harness.annotations.dev.HarnessModule;
@@ -31,15 +30,25 @@ import software.wings.delegatetasks.DelegateLogService;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import lombok.Builder;
 import lombok.Builder.Default;
 import lombok.extern.slf4j.Slf4j;
@@ -58,6 +67,12 @@ import org.jetbrains.annotations.NotNull;
 @Slf4j
 @TargetModule(HarnessModule._420_DELEGATE_AGENT)
 public class LogStreamingTaskClient implements ILogStreamingTaskClient {
+  private static final int DEFAULT_FLUSH_LINE_THRESHOLD = 500;
+  private static final long DEFAULT_FLUSH_BYTE_THRESHOLD = 256L * 1024;
+  private static final int DEFAULT_MAX_BUFFERED_LINES = 50000;
+  private static final int MAX_LINES_PER_PUSH = 5000;
+  private static final long DEFAULT_CLOSE_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
   private final DelegateLogService logService;
   private final LogStreamingClient logStreamingClient;
   private final LogStreamingSanitizer logStreamingSanitizer;
@@ -65,26 +80,59 @@ public class LogStreamingTaskClient implements ILogStreamingTaskClient {
   private final String token;
   private final String accountId;
   private final String baseLogKey;
-  private static ScheduledExecutorService scheduledExecutorService = new ScheduledThreadPoolExecutor(10,
+  // Only used to trigger the periodic flush, the log service calls are made on the dispatch executor so that a slow
+  // log service can't delay the flush timers of the other streams
+  private static ScheduledExecutorService scheduledExecutorService = new ScheduledThreadPoolExecutor(2,
       new ThreadFactoryBuilder().setNameFormat("log-streaming-client-%d").setPriority(Thread.NORM_PRIORITY).build());
+  private static ExecutorService dispatchExecutorService = createDispatchExecutor();
   @Deprecated private final String appId;
   @Deprecated private final String activityId;
   private ScheduledFuture scheduledFuture;
   private final ITaskProgressClient taskProgressClient;
   private String primaryLogKey;
 
-  @Default private final Map<String, List<LogLine>> logCache = new HashMap<>();
+  @Default private final int flushLineThreshold = DEFAULT_FLUSH_LINE_THRESHOLD;
+  @Default private final long flushByteThreshold = DEFAULT_FLUSH_BYTE_THRESHOLD;
+  @Default private final int maxBufferedLines = DEFAULT_MAX_BUFFERED_LINES;
+  @Default private final long closeTimeoutMillis = DEFAULT_CLOSE_TIMEOUT_MILLIS;
+
+  // Task threads only ever append to these buffers, they never wait for a dispatch in progress
+  @Default private final Map<String, LogBuffer> logCache = new ConcurrentHashMap<>();
+  @Default private final Lock dispatchLock = new ReentrantLock();
+  @Default private final AtomicBoolean dispatchScheduled = new AtomicBoolean(false);
+  @Default private final AtomicLong droppedLogLines = new AtomicLong();
+  // Lines written to a closed stream would recreate a buffer that is never dispatched again, they are rejected instead
+  @Default private final Set<String> closedLogKeys = ConcurrentHashMap.newKeySet();
+  @Default private final AtomicLong lateLogLines = new AtomicLong();
+
+  private static class LogBuffer {
+    private final Queue<LogLine> lines = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger lineCount = new AtomicInteger();
+    private final AtomicLong byteCount = new AtomicLong();
+  }
+
+  private static ExecutorService createDispatchExecutor() {
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(50, 50, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+        new ThreadFactoryBuilder()
+            .setNameFormat("log-streaming-dispatcher-%d")
+            .setPriority(Thread.NORM_PRIORITY)
+            .build());
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
 
   @Override
   public void openStream(String baseLogKeySuffix) {
     primaryLogKey = getLogKey(baseLogKeySuffix);
+    closedLogKeys.remove(primaryLogKey);
 
     try {
       SafeHttpCall.executeWithExceptions(logStreamingClient.openLogStream(token, accountId, primaryLogKey));
     } catch (Exception ex) {
       log.error("Unable to open log stream for account {} and key {}", accountId, primaryLogKey, ex);
     }
-    scheduledFuture = scheduledExecutorService.scheduleAtFixedRate(this::dispatchLogs, 0, 100, TimeUnit.MILLISECONDS);
+    scheduledFuture =
+        scheduledExecutorService.scheduleAtFixedRate(this::scheduleDispatch, 0, 100, TimeUnit.MILLISECONDS);
   }
 
   @Override
@@ -93,28 +141,37 @@ public class LogStreamingTaskClient implements ILogStreamingTaskClient {
     if (!logKeyExpected.equals(primaryLogKey)) {
       log.warn("Log key is not as expected, actual: {} and expected: {}", primaryLogKey, logKeyExpected);
     }
-    synchronized (logCache) {
-      // We can mark this task to be completed. Log upload can happen asynchronously.
-      scheduledExecutorService.submit(() -> closeStreamAsync(logKeyExpected));
-    }
+    closedLogKeys.add(logKeyExpected);
+    // We can mark this task to be completed. Log upload can happen asynchronously.
+    dispatchExecutorService.submit(() -> closeStreamAsync(logKeyExpected));
   }
 
   private void closeStreamAsync(String logKey) {
-    // Waiting for finite time allow log upload to finish.
-    long startTime = currentTimeMillis();
-    synchronized (logCache) {
-      while (logCache.containsKey(logKey) && currentTimeMillis() < startTime + TimeUnit.SECONDS.toMillis(5)) {
-        log.debug("For {} the logs are not drained yet. sleeping...", logKey);
-        try {
-          logCache.wait(100);
-        } catch (InterruptedException e) {
-          log.warn("Log upload didn't completed successfully for {} ", logKey);
+    // The remaining logs are pushed here before closing the stream, but no longer than the close timeout so that a
+    // slow log service can't hold on to a dispatcher thread
+    long deadline = System.currentTimeMillis() + closeTimeoutMillis;
+    boolean locked = false;
+    try {
+      locked = dispatchLock.tryLock(closeTimeoutMillis, TimeUnit.MILLISECONDS);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+    try {
+      LogBuffer logBuffer = logCache.remove(logKey);
+      if (logBuffer != null) {
+        pushLogs(logKey, logBuffer, locked ? deadline : 0);
+        if (logBuffer.lineCount.get() > 0) {
+          log.error("{} log lines were not pushed for {} within {} ms of closing the stream",
+              logBuffer.lineCount.get(), logKey, closeTimeoutMillis);
         }
       }
+    } finally {
+      if (locked) {
+        dispatchLock.unlock();
+      }
     }
-    if (logCache.containsKey(logKey)) {
-      log.error("log cache was not drained for {}. num of keys in map {}. This will result in missing logs", logKey,
-          logCache.size());
+    if (droppedLogLines.get() > 0) {
+      log.warn("{} log lines were dropped for {} as the log buffer was full", droppedLogLines.get(), logKey);
     }
     try {
       SafeHttpCall.executeWithExceptions(logStreamingClient.closeLogStream(token, accountId, logKey, true));
@@ -143,28 +200,96 @@ public class LogStreamingTaskClient implements ILogStreamingTaskClient {
     logStreamingSanitizer.sanitizeLogMessage(logLine);
     colorLog(logLine);
 
-    synchronized (logCache) {
-      if (!logCache.containsKey(logKeyExpected)) {
-        logCache.put(logKeyExpected, new ArrayList<>());
+    // The line is appended within compute, so it either lands in a buffer before close removes it or it is rejected
+    AtomicBoolean flush = new AtomicBoolean();
+    LogBuffer logBuffer = logCache.compute(logKeyExpected, (key, buffer) -> {
+      if (buffer == null) {
+        if (closedLogKeys.contains(key)) {
+          return null;
+        }
+        buffer = new LogBuffer();
+      }
+      flush.set(append(key, buffer, logLine));
+      return buffer;
+    });
+    if (logBuffer == null) {
+      if (lateLogLines.getAndIncrement() % 1000 == 0) {
+        log.warn("Log stream for {} is already closed, rejecting log lines. Rejected so far: {}", logKeyExpected,
+            lateLogLines.get());
+      }
+      return;
+    }
+    if (flush.get()) {
+      scheduleDispatch();
+    }
+  }
+
+  private boolean append(String logKey, LogBuffer logBuffer, LogLine logLine) {
+    if (logBuffer.lineCount.get() >= maxBufferedLines) {
+      // Log service can't keep up, drop the line instead of growing the buffer without limit
+      if (droppedLogLines.getAndIncrement() % 1000 == 0) {
+        log.warn("Log buffer for {} is full, dropping log lines. Dropped so far: {}", logKey, droppedLogLines.get());
       }
-      logCache.get(logKeyExpected).add(logLine);
+      return false;
+    }
+    logBuffer.lines.add(logLine);
+    int lineCount = logBuffer.lineCount.incrementAndGet();
+    long byteCount = logBuffer.byteCount.addAndGet(logLine.getMessage() == null ? 0 : logLine.getMessage().length());
+    return lineCount >= flushLineThreshold || byteCount >= flushByteThreshold;
+  }
+
+  public long getDroppedLogLines() {
+    return droppedLogLines.get();
+  }
+
+  public long getLateLogLines() {
+    return lateLogLines.get();
+  }
+
+  private void scheduleDispatch() {
+    if (!dispatchScheduled.compareAndSet(false, true)) {
+      // A dispatch is already pending, it will pick up the new lines as well
+      return;
+    }
+    try {
+      dispatchExecutorService.submit(() -> {
+        dispatchScheduled.set(false);
+        dispatchLogs();
+      });
+    } catch (RejectedExecutionException ex) {
+      dispatchScheduled.set(false);
+      log.warn("Unable to schedule log dispatch for {}", primaryLogKey, ex);
     }
   }
 
   @Override
   public void dispatchLogs() {
-    synchronized (logCache) {
-      for (Iterator<Map.Entry<String, List<LogLine>>> iterator = logCache.entrySet().iterator(); iterator.hasNext();) {
-        Map.Entry<String, List<LogLine>> next = iterator.next();
-        try {
-          SafeHttpCall.executeWithExceptions(
-              logStreamingClient.pushMessage(token, accountId, next.getKey(), next.getValue()));
-        } catch (Exception ex) {
-          log.error("Unable to push message to log stream for account {} and key {}", accountId, next.getKey(), ex);
-        }
-        iterator.remove();
+    dispatchLock.lock();
+    try {
+      for (Map.Entry<String, LogBuffer> entry : logCache.entrySet()) {
+        pushLogs(entry.getKey(), entry.getValue(), Long.MAX_VALUE);
+      }
+    } finally {
+      dispatchLock.unlock();
+    }
+  }
+
+  private void pushLogs(String logKey, LogBuffer logBuffer, long deadline) {
+    while (!logBuffer.lines.isEmpty() && System.currentTimeMillis() < deadline) {
+      List<LogLine> logLines = new ArrayList<>();
+      long bytes = 0;
+      LogLine logLine;
+      while (logLines.size() < MAX_LINES_PER_PUSH && (logLine = logBuffer.lines.poll()) != null) {
+        logLines.add(logLine);
+        bytes += logLine.getMessage() == null ? 0 : logLine.getMessage().length();
+      }
+      logBuffer.lineCount.addAndGet(-logLines.size());
+      logBuffer.byteCount.addAndGet(-bytes);
+      try {
+        SafeHttpCall.executeWithExceptions(logStreamingClient.pushMessage(token, accountId, logKey, logLines));
+      } catch (Exception ex) {
+        log.error("Unable to push message to log stream for account {} and key {}", accountId, logKey, ex);
       }
-      logCache.notifyAll();
     }
   }
 
@@ -22,6 +22,7 @@ import io.harness.mongo.DelayLogContext;
 import io.harness.threading.Schedulable;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.AbstractScheduledService;
 import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.TimeLimiter;
@@ -32,9 +33,9 @@ import com.google.protobuf.util.Durations;
 import com.google.protobuf.util.Timestamps;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
-import java.security.SecureRandom;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -43,6 +44,7 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -59,6 +61,8 @@ import org.slf4j.MarkerFactory;
 @TargetModule(HarnessModule._930_DELEGATE_TASKS)
 public class PerpetualTaskWorker {
   private static final Marker THROTTLED = MarkerFactory.getMarker("THROTTLED");
+  private static final int CONTEXT_BATCH_SIZE = 200;
+  private static final long MAX_START_JITTER_SECONDS = 120;
   @Getter private final Map<PerpetualTaskId, PerpetualTaskAssignRecord> runningTaskMap = new ConcurrentHashMap<>();
 
   private final TimeLimiter perpetualTaskTimeLimiter;
@@ -73,6 +77,8 @@ public class PerpetualTaskWorker {
   private final AtomicReference<PerpetualTaskWorkerService> svcHolder = new AtomicReference<>();
   private String accountId;
   @Getter private final AtomicInteger currentlyExecutingPerpetualTasksCount = new AtomicInteger();
+  // time it took to start the tasks assigned to this delegate on the first poll, -1 until then
+  @Getter private volatile long warmUpMillis = -1;
 
   private class PerpetualTaskWorkerService extends AbstractScheduledService {
     PerpetualTaskWorkerService() {
@@ -106,6 +112,7 @@ public class PerpetualTaskWorker {
   }
 
   private void handleTasks() {
+    long startTime = currentTimeMillis();
     try {
       List<PerpetualTaskAssignDetails> assignedTasks = fetchAssignedTask();
       Set<PerpetualTaskId> stopTasks = new HashSet<>();
@@ -120,18 +127,26 @@ public class PerpetualTaskWorker {
         stopTask(taskId);
       }
 
+      List<PerpetualTaskAssignDetails> tasksToStart = new ArrayList<>(startTasks);
+      tasksToStart.addAll(updatedTasks);
+      Map<String, PerpetualTaskExecutionContext> contexts = fetchContexts(tasksToStart);
+
+      boolean firstFill = firstFillUp.get();
       for (PerpetualTaskAssignDetails task : startTasks) {
-        if (!firstFillUp.get()) {
+        if (!firstFill) {
           logPullDelay(task, "first poll from this delegate for task");
         }
-        startTask(task);
+        startTask(task, contexts.get(task.getTaskId().getId()), firstFill);
+      }
+      if (firstFillUp.getAndSet(false)) {
+        warmUpMillis = currentTimeMillis() - startTime;
+        log.info("Started {} perpetual tasks in {} ms", startTasks.size(), warmUpMillis);
       }
-      firstFillUp.set(false);
 
       for (PerpetualTaskAssignDetails task : updatedTasks) {
         logPullDelay(task, "update for task");
         stopTask(task.getTaskId());
-        startTask(task);
+        startTask(task, contexts.get(task.getTaskId().getId()), false);
       }
 
       backoffScheduler.recordSuccess();
@@ -192,11 +207,36 @@ public class PerpetualTaskWorker {
     return assignedTasks;
   }
 
+  /**
+   * Fetches the contexts of the tasks in batches instead of one call per task. Contexts missing from the result, e.g.
+   * from a manager which doesn't support the batch call yet, are fetched one by one when the task starts.
+   */
+  @VisibleForTesting
+  Map<String, PerpetualTaskExecutionContext> fetchContexts(List<PerpetualTaskAssignDetails> tasks) {
+    Map<String, PerpetualTaskExecutionContext> contexts = new HashMap<>();
+    List<PerpetualTaskId> taskIds =
+        tasks.stream().map(PerpetualTaskAssignDetails::getTaskId).collect(Collectors.toList());
+    for (List<PerpetualTaskId> batch : Lists.partition(taskIds, CONTEXT_BATCH_SIZE)) {
+      Map<String, PerpetualTaskExecutionContext> batchContexts =
+          perpetualTaskServiceAgentClient.perpetualTaskContexts(batch, accountId);
+      if (batchContexts != null) {
+        contexts.putAll(batchContexts);
+      }
+    }
+    return contexts;
+  }
+
   @VisibleForTesting
   void startTask(PerpetualTaskAssignDetails task) {
+    startTask(task, null, false);
+  }
+
+  private void startTask(
+      PerpetualTaskAssignDetails task, PerpetualTaskExecutionContext fetchedContext, boolean spreadOverInterval) {
     try (AutoLogContext ignore1 = new PerpetualTaskLogContext(task.getTaskId().getId(), OVERRIDE_ERROR)) {
-      PerpetualTaskExecutionContext context =
-          perpetualTaskServiceAgentClient.perpetualTaskContext(task.getTaskId(), accountId);
+      PerpetualTaskExecutionContext context = fetchedContext != null
+          ? fetchedContext
+          : perpetualTaskServiceAgentClient.perpetualTaskContext(task.getTaskId(), accountId);
       PerpetualTaskSchedule schedule = context.getTaskSchedule();
       long intervalSeconds = Durations.toSeconds(schedule.getInterval());
 
@@ -209,7 +249,7 @@ public class PerpetualTaskWorker {
           log.info("Starting perpetual task with id: {}.", task.getTaskId().getId());
           ScheduledFuture<?> taskHandle = perpetualTaskTimeoutExecutor.scheduleWithFixedDelay(
               new Schedulable("Throwable while executing perpetual task", perpetualTaskLifecycleManager::startTask),
-              new SecureRandom().nextInt(120), intervalSeconds, TimeUnit.SECONDS);
+              initialDelaySeconds(intervalSeconds, spreadOverInterval), intervalSeconds, TimeUnit.SECONDS);
 
           PerpetualTaskHandle perpetualTaskHandle = new PerpetualTaskHandle(taskHandle, perpetualTaskLifecycleManager);
 
@@ -224,6 +264,17 @@ public class PerpetualTaskWorker {
     }
   }
 
+  /**
+   * Delays the first run of a task by a random jitter of up to two minutes, or up to its interval if that is shorter.
+   * The tasks started together by the first fill up after a delegate start are spread over their whole interval
+   * instead, so that they don't all hit the manager and the cloud providers at the same time.
+   */
+  @VisibleForTesting
+  static long initialDelaySeconds(long intervalSeconds, boolean spreadOverInterval) {
+    long maxDelaySeconds = spreadOverInterval ? intervalSeconds : Math.min(intervalSeconds, MAX_START_JITTER_SECONDS);
+    return ThreadLocalRandom.current().nextLong(Math.max(maxDelaySeconds, 1));
+  }
+
   @VisibleForTesting
   void stopTask(PerpetualTaskId taskId) {
     try (AutoLogContext ignore1 = new PerpetualTaskLogContext(taskId.getId(), OVERRIDE_ERROR)) {
@@ -16,8 +16,12 @@ import static software.wings.beans.LogHelper.COMMAND_UNIT_PLACEHOLDER;
 import static java.time.Duration.ofMillis;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Matchers.anyList;
+import static org.mockito.Matchers.anyString;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 
 import io.harness.CategoryTest;
@@ -31,6 +35,7 @@ import software.wings.beans.command.ExecutionLogCallback;
 import software.wings.delegatetasks.DelegateLogService;
 
 import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.mockito.ArgumentCaptor;
@@ -141,6 +146,83 @@ public class LogStreamingTaskClientTest extends CategoryTest {
     assertThat(logLines).containsExactly(logLine);
   }
 
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldDropLogLinesWhenBufferIsFull() {
+    LogStreamingTaskClient logStreamingTaskClient = LogStreamingTaskClient.builder()
+                                                        .logStreamingClient(logStreamingClientMock)
+                                                        .accountId(ACCOUNT_ID)
+                                                        .token(TOKEN)
+                                                        .logStreamingSanitizer(logStreamingSanitizerMock)
+                                                        .baseLogKey(BASE_LOG_KEY)
+                                                        .maxBufferedLines(2)
+                                                        .build();
+    LogLine logLine1 = LogLine.builder().level(LogLevel.INFO).message("msg1").build();
+    LogLine logLine2 = LogLine.builder().level(LogLevel.INFO).message("msg2").build();
+    LogLine logLine3 = LogLine.builder().level(LogLevel.INFO).message("msg3").build();
+
+    logStreamingTaskClient.writeLogLine(logLine1, null);
+    logStreamingTaskClient.writeLogLine(logLine2, null);
+    logStreamingTaskClient.writeLogLine(logLine3, null);
+    logStreamingTaskClient.dispatchLogs();
+
+    assertThat(logStreamingTaskClient.getDroppedLogLines()).isEqualTo(1);
+    ArgumentCaptor<List> captor = ArgumentCaptor.forClass(List.class);
+    verify(logStreamingClientMock).pushMessage(eq(TOKEN), eq(ACCOUNT_ID), eq(BASE_LOG_KEY), captor.capture());
+    List logLines = captor.getValue();
+    assertThat(logLines).containsExactly(logLine1, logLine2);
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldRejectLogLinesWrittenAfterClose() {
+    LogStreamingTaskClient logStreamingTaskClient = LogStreamingTaskClient.builder()
+                                                        .logStreamingClient(logStreamingClientMock)
+                                                        .accountId(ACCOUNT_ID)
+                                                        .token(TOKEN)
+                                                        .logStreamingSanitizer(logStreamingSanitizerMock)
+                                                        .baseLogKey(BASE_LOG_KEY)
+                                                        .build();
+    logStreamingTaskClient.openStream(null);
+    logStreamingTaskClient.closeStream(null);
+    verify(logStreamingClientMock, timeout(5000)).closeLogStream(TOKEN, ACCOUNT_ID, BASE_LOG_KEY, true);
+
+    logStreamingTaskClient.writeLogLine(LogLine.builder().level(LogLevel.INFO).message("late").build(), null);
+    logStreamingTaskClient.dispatchLogs();
+
+    assertThat(logStreamingTaskClient.getLateLogLines()).isEqualTo(1);
+    verify(logStreamingClientMock, never()).pushMessage(anyString(), anyString(), anyString(), anyList());
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void shouldCloseStreamWithinTimeoutWhenDispatchIsStuck() {
+    ReentrantLock dispatchLock = new ReentrantLock();
+    LogStreamingTaskClient logStreamingTaskClient = LogStreamingTaskClient.builder()
+                                                        .logStreamingClient(logStreamingClientMock)
+                                                        .accountId(ACCOUNT_ID)
+                                                        .token(TOKEN)
+                                                        .logStreamingSanitizer(logStreamingSanitizerMock)
+                                                        .baseLogKey(BASE_LOG_KEY)
+                                                        .dispatchLock(dispatchLock)
+                                                        .closeTimeoutMillis(100)
+                                                        .build();
+    logStreamingTaskClient.writeLogLine(LogLine.builder().level(LogLevel.INFO).message("msg").build(), null);
+
+    // A dispatch that never finishes holds the lock, the close must not wait for it
+    dispatchLock.lock();
+    try {
+      logStreamingTaskClient.closeStream(null);
+      verify(logStreamingClientMock, timeout(5000)).closeLogStream(TOKEN, ACCOUNT_ID, BASE_LOG_KEY, true);
+    } finally {
+      dispatchLock.unlock();
+    }
+    verify(logStreamingClientMock, never()).pushMessage(anyString(), anyString(), anyString(), anyList());
+  }
+
   @Test
   @Owner(developers = MARKO)
   @Category(UnitTests.class)
@@ -11,7 +11,9 @@ import static io.harness.rule.OwnerRule.GEORGE;
 import static io.harness.rule.OwnerRule.VUK;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyObject;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.doReturn;
@@ -34,6 +36,7 @@ import com.google.protobuf.ByteString;
 import com.google.protobuf.Timestamp;
 import com.google.protobuf.util.Durations;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -136,6 +139,40 @@ public class PerpetualTaskWorkerTest extends DelegateTestBase {
     assertThat(worker.getRunningTaskMap()).isEmpty();
   }
 
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testFetchContexts() {
+    doReturn(Collections.singletonMap(taskIdString1, context))
+        .when(perpetualTaskServiceAgentClient)
+        .perpetualTaskContexts(anyList(), anyObject());
+
+    Map<String, PerpetualTaskExecutionContext> contexts = worker.fetchContexts(Arrays.asList(task1, task2));
+    assertThat(contexts).containsOnlyKeys(taskIdString1);
+    verify(perpetualTaskServiceAgentClient).perpetualTaskContexts(eq(Arrays.asList(taskId1, taskId2)), anyObject());
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testInitialDelaySpreadOverInterval() {
+    for (int i = 0; i < 100; i++) {
+      assertThat(PerpetualTaskWorker.initialDelaySeconds(600, true)).isBetween(0L, 599L);
+    }
+    assertThat(PerpetualTaskWorker.initialDelaySeconds(0, true)).isEqualTo(0L);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testInitialDelayJitterBounded() {
+    for (int i = 0; i < 100; i++) {
+      assertThat(PerpetualTaskWorker.initialDelaySeconds(600, false)).isBetween(0L, 119L);
+      assertThat(PerpetualTaskWorker.initialDelaySeconds(30, false)).isBetween(0L, 29L);
+    }
+    assertThat(PerpetualTaskWorker.initialDelaySeconds(0, false)).isEqualTo(0L);
+  }
+
   @Test
   @Owner(developers = VUK)
   @Category(UnitTests.class)
@@ -7,15 +7,16 @@
 
 package io.harness.cvng.core.services.impl;
 
+import static io.harness.cvng.CVConstants.BULK_OPERATION_THRESHOLD;
 import static io.harness.cvng.analysis.CVAnalysisConstants.TIMESERIES_SERVICE_GUARD_WINDOW_SIZE_NEW;
 import static io.harness.cvng.core.services.CVNextGenConstants.CV_ANALYSIS_WINDOW_MINUTES;
+import static io.harness.cvng.metrics.CVNGMetricsUtils.TIME_SERIES_RECORD_SAVE_TIME;
+import static io.harness.cvng.metrics.CVNGMetricsUtils.TIME_SERIES_RECORD_UPSERT_COUNT;
 import static io.harness.data.structure.EmptyPredicate.isEmpty;
 import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
 import static io.harness.data.structure.UUIDGenerator.generateUuid;
 import static io.harness.persistence.HQuery.excludeAuthority;
 
-import static java.util.Comparator.comparingLong;
-
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.cvng.analysis.beans.TimeSeriesRecordDTO;
@@ -40,6 +41,7 @@ import io.harness.cvng.core.entities.MetricPack.MetricDefinition;
 import io.harness.cvng.core.entities.TimeSeriesRecord;
 import io.harness.cvng.core.entities.TimeSeriesRecord.TimeSeriesGroupValue;
 import io.harness.cvng.core.entities.TimeSeriesRecord.TimeSeriesRecordKeys;
+import io.harness.cvng.core.entities.TimeSeriesRecord.TimeSeriesValueKeys;
 import io.harness.cvng.core.entities.TimeSeriesThreshold;
 import io.harness.cvng.core.services.api.CVConfigService;
 import io.harness.cvng.core.services.api.HostRecordService;
@@ -47,6 +49,8 @@ import io.harness.cvng.core.services.api.MetricPackService;
 import io.harness.cvng.core.services.api.TimeSeriesRecordService;
 import io.harness.cvng.core.services.api.demo.CVNGDemoDataIndexService;
 import io.harness.cvng.core.utils.DateTimeUtils;
+import io.harness.cvng.metrics.beans.AccountMetricContext;
+import io.harness.metrics.service.api.MetricService;
 import io.harness.persistence.HPersistence;
 import io.harness.serializer.JsonUtils;
 
@@ -56,13 +60,19 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
 import com.google.common.io.Resources;
 import com.google.inject.Inject;
+import com.mongodb.BasicDBObject;
+import com.mongodb.BulkWriteOperation;
+import com.mongodb.BulkWriteResult;
+import com.mongodb.DBCollection;
 import java.io.IOException;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -74,9 +84,9 @@ import java.util.stream.Collectors;
 import lombok.Builder;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
-import org.mongodb.morphia.UpdateOptions;
 import org.mongodb.morphia.query.Query;
 import org.mongodb.morphia.query.UpdateOperations;
+import org.mongodb.morphia.query.UpdateOpsImpl;
 import org.reflections.Reflections;
 import org.reflections.scanners.ResourcesScanner;
 
@@ -91,23 +101,31 @@ public class TimeSeriesRecordServiceImpl implements TimeSeriesRecordService {
   @Inject private HostRecordService hostRecordService;
   @Inject private TimeSeriesAnalysisService timeSeriesAnalysisService;
   @Inject private CVNGDemoDataIndexService cvngDemoDataIndexService;
+  @Inject private MetricService metricService;
 
   @Override
   public boolean save(List<TimeSeriesDataCollectionRecord> dataRecords) {
     log.info("Saving {} data records", dataRecords.size());
-    UpdateOptions options = new UpdateOptions();
-    options.upsert(true);
-    Map<TimeSeriesRecordBucketKey, TimeSeriesRecord> timeSeriesRecordMap = bucketTimeSeriesRecords(dataRecords);
-    timeSeriesRecordMap.forEach((timeSeriesRecordBucketKey, timeSeriesRecord) -> {
-      List<TimeSeriesMetricDefinition> metricTemplates =
-          timeSeriesAnalysisService.getMetricTemplate(timeSeriesRecord.getVerificationTaskId());
-      TimeSeriesMetricDefinition timeSeriesMetricDefinition =
-          metricTemplates.stream()
-              .filter(metricTemplate -> metricTemplate.getMetricName().equals(timeSeriesRecord.getMetricName()))
-              .findFirst()
-              .orElse(null);
+    if (isEmpty(dataRecords)) {
+      return true;
+    }
+    Instant saveStartTime = Instant.now();
+    // metric definitions are resolved once per verification task instead of once per record
+    Map<String, Map<String, TimeSeriesMetricType>> metricTypesByVerificationTask = new HashMap<>();
+    Map<String, TimeSeriesMetricType> metricTypeMap =
+        metricTypesByVerificationTask.computeIfAbsent(dataRecords.get(0).getVerificationTaskId(), this::getMetricTypes);
+    Map<TimeSeriesRecordBucketKey, TimeSeriesRecord> timeSeriesRecordMap =
+        bucketTimeSeriesRecords(dataRecords, metricTypeMap);
+
+    DBCollection collection = hPersistence.getCollection(TimeSeriesRecord.class);
+    BulkWriteOperation bulkWriteOperation = collection.initializeUnorderedBulkOperation();
+    int numberOfBulkOperations = 0;
+    for (Map.Entry<TimeSeriesRecordBucketKey, TimeSeriesRecord> entry : timeSeriesRecordMap.entrySet()) {
+      TimeSeriesRecordBucketKey timeSeriesRecordBucketKey = entry.getKey();
+      TimeSeriesRecord timeSeriesRecord = entry.getValue();
       TimeSeriesMetricType metricType =
-          timeSeriesMetricDefinition != null ? timeSeriesMetricDefinition.getMetricType() : null;
+          metricTypesByVerificationTask.computeIfAbsent(timeSeriesRecord.getVerificationTaskId(), this::getMetricTypes)
+              .get(timeSeriesRecord.getMetricName());
       Query<TimeSeriesRecord> query =
           hPersistence.createQuery(TimeSeriesRecord.class)
               .filter(
@@ -132,13 +150,37 @@ public class TimeSeriesRecordServiceImpl implements TimeSeriesRecordService {
       if (Objects.nonNull(timeSeriesRecord.getMetricIdentifier())) {
         updateOperations.set(TimeSeriesRecordKeys.metricIdentifier, timeSeriesRecord.getMetricIdentifier());
       }
-      hPersistence.getDatastore(TimeSeriesRecord.class).update(query, updateOperations, options);
-    });
+      bulkWriteOperation.find(query.getQueryObject())
+          .upsert()
+          .updateOne(((UpdateOpsImpl<TimeSeriesRecord>) updateOperations).getOps());
+      numberOfBulkOperations++;
+      if (numberOfBulkOperations >= BULK_OPERATION_THRESHOLD) {
+        bulkWriteOperation.execute();
+        numberOfBulkOperations = 0;
+        bulkWriteOperation = collection.initializeUnorderedBulkOperation();
+      }
+    }
+    if (numberOfBulkOperations > 0) {
+      bulkWriteOperation.execute();
+    }
 
     saveHosts(dataRecords);
+    try (AccountMetricContext ignore = new AccountMetricContext(dataRecords.get(0).getAccountId())) {
+      metricService.recordMetric(TIME_SERIES_RECORD_UPSERT_COUNT, timeSeriesRecordMap.size());
+      metricService.recordDuration(TIME_SERIES_RECORD_SAVE_TIME, Duration.between(saveStartTime, Instant.now()));
+    }
     return true;
   }
 
+  private Map<String, TimeSeriesMetricType> getMetricTypes(String verificationTaskId) {
+    Map<String, TimeSeriesMetricType> metricTypeMap = new HashMap<>();
+    List<TimeSeriesMetricDefinition> metricDefinitions =
+        timeSeriesAnalysisService.getMetricTemplate(verificationTaskId);
+    metricDefinitions.forEach(timeSeriesMetricDefinition
+        -> metricTypeMap.put(timeSeriesMetricDefinition.getMetricName(), timeSeriesMetricDefinition.getMetricType()));
+    return metricTypeMap;
+  }
+
   @Value
   @Builder
   private static class TimeSeriesRecordBucketKey {
@@ -149,22 +191,19 @@ public class TimeSeriesRecordServiceImpl implements TimeSeriesRecordService {
 
   private void saveHosts(List<TimeSeriesDataCollectionRecord> dataRecords) {
     if (isNotEmpty(dataRecords)) {
-      Preconditions.checkState(
-          dataRecords.stream().map(dataRecord -> dataRecord.getVerificationTaskId()).distinct().count() == 1,
-          "All the verificationIds should be same");
       String verificationTaskId = dataRecords.get(0).getVerificationTaskId();
-      long minTimestamp = dataRecords.stream()
-                              .map(dataRecord -> dataRecord.getTimeStamp())
-                              .min(comparingLong(timestamp -> timestamp))
-                              .get();
-      long maxTimeStamp = dataRecords.stream()
-                              .map(dataRecord -> dataRecord.getTimeStamp())
-                              .max(comparingLong(timestamp -> timestamp))
-                              .get();
-      Set<String> hosts = dataRecords.stream()
-                              .map(dataRecord -> dataRecord.getHost())
-                              .filter(host -> host != null)
-                              .collect(Collectors.toSet());
+      long minTimestamp = Long.MAX_VALUE;
+      long maxTimeStamp = Long.MIN_VALUE;
+      Set<String> hosts = new HashSet<>();
+      for (TimeSeriesDataCollectionRecord dataRecord : dataRecords) {
+        Preconditions.checkState(verificationTaskId.equals(dataRecord.getVerificationTaskId()),
+            "All the verificationIds should be same");
+        minTimestamp = Math.min(minTimestamp, dataRecord.getTimeStamp());
+        maxTimeStamp = Math.max(maxTimeStamp, dataRecord.getTimeStamp());
+        if (dataRecord.getHost() != null) {
+          hosts.add(dataRecord.getHost());
+        }
+      }
       if (isNotEmpty(hosts)) {
         HostRecordDTO hostRecordDTO = HostRecordDTO.builder()
                                           .verificationTaskId(verificationTaskId)
@@ -178,12 +217,7 @@ public class TimeSeriesRecordServiceImpl implements TimeSeriesRecordService {
   }
 
   private Map<TimeSeriesRecordBucketKey, TimeSeriesRecord> bucketTimeSeriesRecords(
-      List<TimeSeriesDataCollectionRecord> dataRecords) {
-    Map<String, TimeSeriesMetricType> metricTypeMap = new HashMap<>();
-    List<TimeSeriesMetricDefinition> metricDefinitions =
-        timeSeriesAnalysisService.getMetricTemplate(dataRecords.get(0).getVerificationTaskId());
-    metricDefinitions.forEach(timeSeriesMetricDefinition
-        -> metricTypeMap.put(timeSeriesMetricDefinition.getMetricName(), timeSeriesMetricDefinition.getMetricType()));
+      List<TimeSeriesDataCollectionRecord> dataRecords, Map<String, TimeSeriesMetricType> metricTypeMap) {
     populatePercent(metricTypeMap, dataRecords);
     Map<TimeSeriesRecordBucketKey, TimeSeriesRecord> rv = new HashMap<>();
     dataRecords.forEach(dataRecord -> {
@@ -269,40 +303,39 @@ public class TimeSeriesRecordServiceImpl implements TimeSeriesRecordService {
 
   @Override
   public boolean updateRiskScores(String verificationTaskId, TimeSeriesRiskSummary riskSummary) {
-    Set<String> metricIdentifiers = riskSummary.getTransactionMetricRiskList()
-                                        .stream()
-                                        .map(TimeSeriesRiskSummary.TransactionMetricRisk::getMetricIdentifier)
-                                        .collect(Collectors.toSet());
-    List<TimeSeriesRecord> records =
-        hPersistence.createQuery(TimeSeriesRecord.class, excludeAuthority)
-            .filter(TimeSeriesRecordKeys.verificationTaskId, riskSummary.getVerificationTaskId())
-            .field(TimeSeriesRecordKeys.bucketStartTime)
-            .greaterThanOrEq(
-                riskSummary.getAnalysisEndTime().minus(TIMESERIES_SERVICE_GUARD_WINDOW_SIZE_NEW, ChronoUnit.MINUTES))
-            .field(TimeSeriesRecordKeys.bucketStartTime)
-            .lessThan(riskSummary.getAnalysisEndTime())
-            .field(TimeSeriesRecordKeys.metricIdentifier)
-            .in(metricIdentifiers)
-            .asList();
-
-    Map<String, List<TimeSeriesRecord>> metricNameRecordMap =
-        records.stream().collect(Collectors.groupingBy(TimeSeriesRecord::getMetricIdentifier));
-
-    riskSummary.getTransactionMetricRiskList().forEach(metricRisk -> {
-      List<TimeSeriesRecord> timeSeriesRecords = metricNameRecordMap.get(metricRisk.getMetricIdentifier());
-      if (isNotEmpty(timeSeriesRecords)) {
-        timeSeriesRecords.forEach(record -> {
-          String groupName = metricRisk.getTransactionName();
-          record.getTimeSeriesGroupValues().forEach(groupValue -> {
-            if (groupName.equals(groupValue.getGroupName())) {
-              groupValue.setRiskScore(Math.max(metricRisk.getMetricRisk().getValue(), groupValue.getRiskScore()));
-            }
-          });
-        });
+    Instant bucketStartTime =
+        riskSummary.getAnalysisEndTime().minus(TIMESERIES_SERVICE_GUARD_WINDOW_SIZE_NEW, ChronoUnit.MINUTES);
+    DBCollection collection = hPersistence.getCollection(TimeSeriesRecord.class);
+    BulkWriteOperation bulkWriteOperation = collection.initializeUnorderedBulkOperation();
+    int numberOfBulkOperations = 0;
+    // raise the risk of the transaction's group values in place instead of loading and saving the whole records
+    for (TimeSeriesRiskSummary.TransactionMetricRisk metricRisk : riskSummary.getTransactionMetricRiskList()) {
+      Query<TimeSeriesRecord> query =
+          hPersistence.createQuery(TimeSeriesRecord.class, excludeAuthority)
+              .filter(TimeSeriesRecordKeys.verificationTaskId, riskSummary.getVerificationTaskId())
+              .field(TimeSeriesRecordKeys.bucketStartTime)
+              .greaterThanOrEq(bucketStartTime)
+              .field(TimeSeriesRecordKeys.bucketStartTime)
+              .lessThan(riskSummary.getAnalysisEndTime())
+              .filter(TimeSeriesRecordKeys.metricIdentifier, metricRisk.getMetricIdentifier());
+      String riskScoreKey =
+          TimeSeriesRecordKeys.timeSeriesGroupValues + ".$[elem]." + TimeSeriesValueKeys.riskScore;
+      bulkWriteOperation.find(query.getQueryObject())
+          .arrayFilters(Lists.newArrayList(
+              new BasicDBObject("elem." + TimeSeriesValueKeys.groupName, metricRisk.getTransactionName())))
+          .update(new BasicDBObject(
+              "$max", new BasicDBObject(riskScoreKey, (double) metricRisk.getMetricRisk().getValue())));
+      numberOfBulkOperations++;
+      if (numberOfBulkOperations >= BULK_OPERATION_THRESHOLD) {
+        bulkWriteOperation.execute();
+        numberOfBulkOperations = 0;
+        bulkWriteOperation = collection.initializeUnorderedBulkOperation();
       }
-    });
-    log.info("Updating the risk in {} timeseries records", records.size());
-    hPersistence.save(records);
+    }
+    if (numberOfBulkOperations > 0) {
+      BulkWriteResult result = bulkWriteOperation.execute();
+      log.info("Updated the risk in {} timeseries records", result.getModifiedCount());
+    }
 
     return false;
   }
@@ -26,6 +26,8 @@ public interface CVNGMetricsUtils {
   String API_CALL_EXECUTION_TIME = "api_call_execution_time";
   String API_CALL_RESPONSE_SIZE = "api_call_response_size";
   String ANALYSIS_STATE_MACHINE_RETRY_COUNT = "analysis_state_machine_retry_count";
+  String TIME_SERIES_RECORD_SAVE_TIME = "time_series_record_save_time";
+  String TIME_SERIES_RECORD_UPSERT_COUNT = "time_series_record_upsert_count";
   String ORCHESTRATOR_STATE_MACHINE_QUEUE_COUNT_ABOVE_FIVE = "orchestrator_state_machine_queue_size_above_five_count";
 
   static String getApiCallLogResponseCodeMetricName(String responseCode) {
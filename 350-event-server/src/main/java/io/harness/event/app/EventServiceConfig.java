@@ -8,6 +8,7 @@
 package io.harness.event.app;
 
 import io.harness.event.config.EventDataBatchQueryConfig;
+import io.harness.event.config.UtilizationRollupConfig;
 import io.harness.grpc.server.Connector;
 import io.harness.mongo.MongoConfig;
 import io.harness.secret.ConfigSecret;
@@ -33,6 +34,7 @@ public class EventServiceConfig {
   private MongoConfig eventsMongo = MongoConfig.builder().build();
   @JsonProperty("secretsConfiguration") private SecretsConfiguration secretsConfiguration;
   @JsonProperty("eventDataBatchQueryConfig") private EventDataBatchQueryConfig eventDataBatchQueryConfig;
+  @JsonProperty("utilizationRollupConfig") private UtilizationRollupConfig utilizationRollupConfig;
 
   @Singular private List<Connector> connectors;
 
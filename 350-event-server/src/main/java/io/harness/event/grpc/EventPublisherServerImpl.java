@@ -106,10 +106,12 @@ public class EventPublisherServerImpl extends EventPublisherGrpc.EventPublisherI
 
       if (isNotEmpty(withoutCategory)) {
         try {
+          List<PublishedMessage> messagesToPersist =
+              UtilizationMessageRollup.rollup(withoutCategory, eventServiceConfig.getUtilizationRollupConfig());
           if (enableBatchWrite) {
-            eventDataBulkWriteService.bulkInsertPublishedMessages(withoutCategory);
+            eventDataBulkWriteService.bulkInsertPublishedMessages(messagesToPersist);
           } else {
-            hPersistence.saveIgnoringDuplicateKeys(withoutCategory);
+            hPersistence.saveIgnoringDuplicateKeys(messagesToPersist);
           }
         } catch (Exception e) {
           log.warn("Encountered error while persisting messages", e);
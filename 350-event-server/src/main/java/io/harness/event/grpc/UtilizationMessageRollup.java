@@ -0,0 +1,123 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.event.grpc;
+
+import static io.harness.ccm.CcmConstants.CLUSTER_ID_IDENTIFIER;
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
+
+import io.harness.ccm.commons.entities.events.PublishedMessage;
+import io.harness.event.config.UtilizationRollupConfig;
+import io.harness.event.payloads.NodeMetric;
+import io.harness.event.payloads.NodeMetricRollup;
+import io.harness.event.payloads.PVMetric;
+import io.harness.event.payloads.PVMetricRollup;
+import io.harness.event.payloads.PodMetric;
+import io.harness.event.payloads.PodMetricRollup;
+
+import com.google.protobuf.Any;
+import com.google.protobuf.Message;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.Value;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Stores the node, pod and volume utilization messages of a publish request as one published message per type and
+ * cluster. A delegate publishes the utilization of all the nodes, pods and volumes of a cluster together, so this
+ * saves most of the documents written by the event server and read back by the batch jobs.
+ */
+@Slf4j
+@UtilityClass
+public class UtilizationMessageRollup {
+  private static final String NODE_UTILIZATION = NodeMetric.class.getName();
+  private static final String POD_UTILIZATION = PodMetric.class.getName();
+  private static final String PV_UTILIZATION = PVMetric.class.getName();
+
+  @Value
+  private static class RollupKey {
+    String type;
+    String clusterId;
+  }
+
+  /**
+   * @return the messages to persist, with the utilization messages replaced by their rollups
+   */
+  public List<PublishedMessage> rollup(List<PublishedMessage> publishedMessages, UtilizationRollupConfig config) {
+    if (config == null || !config.isEnabled()) {
+      return publishedMessages;
+    }
+    Set<String> rawMessageTypes = config.getRawMessageTypes() == null ? Collections.emptySet()
+                                                                       : config.getRawMessageTypes();
+    List<PublishedMessage> messagesToPersist = new ArrayList<>();
+    Map<RollupKey, List<PublishedMessage>> messagesToRollup = new LinkedHashMap<>();
+    for (PublishedMessage publishedMessage : publishedMessages) {
+      String type = publishedMessage.getType();
+      if (!isUtilization(type) || rawMessageTypes.contains(type)) {
+        messagesToPersist.add(publishedMessage);
+        continue;
+      }
+      String clusterId = publishedMessage.getAttributes().getOrDefault(CLUSTER_ID_IDENTIFIER, "");
+      messagesToRollup.computeIfAbsent(new RollupKey(type, clusterId), key -> new ArrayList<>()).add(publishedMessage);
+    }
+    messagesToRollup.forEach((key, messages) -> {
+      PublishedMessage rollup = toRollup(key.getType(), messages);
+      if (rollup != null) {
+        messagesToPersist.add(rollup);
+      }
+    });
+    return messagesToPersist;
+  }
+
+  private boolean isUtilization(String type) {
+    return NODE_UTILIZATION.equals(type) || POD_UTILIZATION.equals(type) || PV_UTILIZATION.equals(type);
+  }
+
+  private PublishedMessage toRollup(String type, List<PublishedMessage> messages) {
+    // messages which can't be parsed are skipped, same as the batch jobs do
+    List<Message> metrics =
+        messages.stream().map(PublishedMessage::getMessage).filter(Objects::nonNull).collect(Collectors.toList());
+    if (metrics.isEmpty()) {
+      return null;
+    }
+    Message rollup;
+    if (NODE_UTILIZATION.equals(type)) {
+      rollup = NodeMetricRollup.newBuilder()
+                   .addAllNodeMetrics(metrics.stream().map(NodeMetric.class::cast).collect(Collectors.toList()))
+                   .build();
+    } else if (POD_UTILIZATION.equals(type)) {
+      rollup = PodMetricRollup.newBuilder()
+                   .addAllPodMetrics(metrics.stream().map(PodMetric.class::cast).collect(Collectors.toList()))
+                   .build();
+    } else {
+      rollup = PVMetricRollup.newBuilder()
+                   .addAllPvMetrics(metrics.stream().map(PVMetric.class::cast).collect(Collectors.toList()))
+                   .build();
+    }
+
+    PublishedMessage first = messages.get(0);
+    long occurredAt = messages.stream().mapToLong(PublishedMessage::getOccurredAt).min().orElse(first.getOccurredAt());
+    log.debug("Rolled up {} messages of type {}", metrics.size(), type);
+    return PublishedMessage.builder()
+        .uuid(generateUuid())
+        .accountId(first.getAccountId())
+        .data(Any.pack(rollup).toByteArray())
+        .type(rollup.getClass().getName())
+        // the attributes of utilization messages are the same for a whole cluster
+        .attributes(first.getAttributes())
+        .occurredAt(occurredAt)
+        .validUntil(first.getValidUntil())
+        .build();
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.event.grpc;
+
+import static io.harness.ccm.CcmConstants.CLUSTER_ID_IDENTIFIER;
+import static io.harness.rule.OwnerRule.AVMOHAN;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.ccm.commons.entities.events.PublishedMessage;
+import io.harness.event.config.UtilizationRollupConfig;
+import io.harness.event.payloads.Lifecycle;
+import io.harness.event.payloads.NodeMetric;
+import io.harness.event.payloads.NodeMetricRollup;
+import io.harness.event.payloads.PodMetric;
+import io.harness.event.payloads.PodMetricRollup;
+import io.harness.rule.Owner;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.protobuf.Any;
+import com.google.protobuf.Message;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class UtilizationMessageRollupTest extends CategoryTest {
+  private static final String ACCOUNT_ID = "ACCOUNT_ID";
+
+  @Test
+  @Owner(developers = AVMOHAN)
+  @Category(UnitTests.class)
+  public void shouldRollupUtilizationMessagesPerCluster() {
+    PodMetric pod1 = PodMetric.newBuilder().setName("pod1").build();
+    PodMetric pod2 = PodMetric.newBuilder().setName("pod2").build();
+    PodMetric pod3 = PodMetric.newBuilder().setName("pod3").build();
+    PublishedMessage lifecycle = publishedMessage(Lifecycle.newBuilder().setInstanceId("instance").build(), "c1", 1);
+    List<PublishedMessage> publishedMessages = Arrays.asList(publishedMessage(pod1, "c1", 20),
+        publishedMessage(pod2, "c1", 10), publishedMessage(pod3, "c2", 30), lifecycle);
+
+    List<PublishedMessage> messagesToPersist = UtilizationMessageRollup.rollup(
+        publishedMessages, UtilizationRollupConfig.builder().enabled(true).build());
+
+    assertThat(messagesToPersist).hasSize(3);
+    assertThat(messagesToPersist.get(0)).isSameAs(lifecycle);
+    PublishedMessage rollup = messagesToPersist.get(1);
+    assertThat(rollup.getType()).isEqualTo(PodMetricRollup.class.getName());
+    assertThat(rollup.getAccountId()).isEqualTo(ACCOUNT_ID);
+    assertThat(rollup.getOccurredAt()).isEqualTo(10);
+    assertThat(rollup.getAttributes()).containsEntry(CLUSTER_ID_IDENTIFIER, "c1");
+    assertThat(((PodMetricRollup) rollup.getMessage()).getPodMetricsList()).containsExactly(pod1, pod2);
+    assertThat(((PodMetricRollup) messagesToPersist.get(2).getMessage()).getPodMetricsList()).containsExactly(pod3);
+  }
+
+  @Test
+  @Owner(developers = AVMOHAN)
+  @Category(UnitTests.class)
+  public void shouldKeepRawMessageTypesAndDisabledRollup() {
+    List<PublishedMessage> publishedMessages =
+        Arrays.asList(publishedMessage(PodMetric.newBuilder().setName("pod1").build(), "c1", 1),
+            publishedMessage(NodeMetric.newBuilder().setName("node1").build(), "c1", 1));
+
+    assertThat(UtilizationMessageRollup.rollup(publishedMessages, null)).isSameAs(publishedMessages);
+    List<PublishedMessage> messagesToPersist = UtilizationMessageRollup.rollup(publishedMessages,
+        UtilizationRollupConfig.builder()
+            .enabled(true)
+            .rawMessageTypes(ImmutableSet.of(PodMetric.class.getName()))
+            .build());
+    assertThat(messagesToPersist).hasSize(2);
+    assertThat(messagesToPersist.get(0)).isSameAs(publishedMessages.get(0));
+    assertThat(messagesToPersist.get(1).getType()).isEqualTo(NodeMetricRollup.class.getName());
+  }
+
+  private static PublishedMessage publishedMessage(Message message, String clusterId, long occurredAt) {
+    return PublishedMessage.builder()
+        .accountId(ACCOUNT_ID)
+        .type(message.getClass().getName())
+        .data(Any.pack(message).toByteArray())
+        .attributes(ImmutableMap.of(CLUSTER_ID_IDENTIFIER, clusterId))
+        .occurredAt(occurredAt)
+        .build();
+  }
+}
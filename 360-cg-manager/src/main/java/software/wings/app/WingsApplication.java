@@ -92,6 +92,7 @@ import io.harness.health.HealthMonitor;
 import io.harness.health.HealthService;
 import io.harness.iterator.DelegateTaskExpiryCheckIterator;
 import io.harness.iterator.FailDelegateTaskIterator;
+import io.harness.limits.checker.rate.RedisTokenBucketStore;
 import io.harness.lock.AcquiredLock;
 import io.harness.lock.DistributedLockImplementation;
 import io.harness.lock.PersistentLocker;
@@ -1056,6 +1057,8 @@ public class WingsApplication extends Application<MainConfiguration> {
     harnessMetricRegistry.registerCounterMetric(
         VERIFICATION_DEPLOYMENTS, VERIFICATION_METRIC_LABELS.toArray(new String[0]), " ");
     harnessMetricRegistry.registerGaugeMetric(CV_META_DATA, CV_24X7_METRIC_LABELS, " ");
+    harnessMetricRegistry.registerCounterMetric(RedisTokenBucketStore.REDIS_FAILURE_METRIC,
+        RedisTokenBucketStore.REDIS_FAILURE_METRIC_LABELS, "Rate limit checks for which Redis couldn't be reached");
   }
 
   private void initializeFeatureFlags(MainConfiguration mainConfiguration, Injector injector) {
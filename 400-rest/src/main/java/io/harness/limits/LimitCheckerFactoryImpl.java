@@ -14,6 +14,9 @@ import io.harness.annotations.dev.OwnedBy;
 import io.harness.annotations.dev.TargetModule;
 import io.harness.limits.checker.MongoStaticLimitChecker;
 import io.harness.limits.checker.rate.MongoSlidingWindowRateLimitChecker;
+import io.harness.limits.checker.rate.RateLimitCheckerConfig;
+import io.harness.limits.checker.rate.RedisTokenBucketRateLimitChecker;
+import io.harness.limits.checker.rate.RedisTokenBucketStore;
 import io.harness.limits.configuration.InvalidLimitConfigurationException;
 import io.harness.limits.configuration.LimitConfigurationService;
 import io.harness.limits.configuration.NoLimitConfiguredException;
@@ -26,6 +29,7 @@ import io.harness.limits.lib.LimitType;
 import software.wings.dl.WingsPersistence;
 
 import com.google.inject.Inject;
+import com.google.inject.Provider;
 import com.google.inject.Singleton;
 import javax.annotation.Nonnull;
 import javax.annotation.ParametersAreNonnullByDefault;
@@ -37,6 +41,9 @@ import javax.annotation.ParametersAreNonnullByDefault;
 public class LimitCheckerFactoryImpl implements LimitCheckerFactory {
   @Inject private LimitConfigurationService configuredLimitService;
   @Inject private WingsPersistence wingsPersistence;
+  @Inject private RateLimitCheckerConfig rateLimitCheckerConfig;
+  // only created when some action type is configured to use redis
+  @Inject private Provider<RedisTokenBucketStore> redisTokenBucketStoreProvider;
 
   // TODO: add cache once Redis infra is in place. See PR #3150 for relevant discussion
   @Override
@@ -54,14 +61,18 @@ public class LimitCheckerFactoryImpl implements LimitCheckerFactory {
     Limit limit = configuredLimit.getLimit();
     LimitChecker checker;
 
-    // might need different implementations based on `action` but for now
-    // using mongo backed implementations
+    // static limits are mongo backed, rate limits can be moved to redis per action type
     switch (limit.getLimitType()) {
       case STATIC:
         checker = new MongoStaticLimitChecker((StaticLimit) limit, wingsPersistence, action);
         break;
       case RATE_LIMIT:
-        checker = new MongoSlidingWindowRateLimitChecker((RateLimit) limit, wingsPersistence, action);
+        if (useRedisRateLimit(action)) {
+          checker =
+              new RedisTokenBucketRateLimitChecker((RateLimit) limit, redisTokenBucketStoreProvider.get(), action);
+        } else {
+          checker = new MongoSlidingWindowRateLimitChecker((RateLimit) limit, wingsPersistence, action);
+        }
         break;
       default:
         throw new IllegalArgumentException("Unhandled limit type: " + limit.getLimitType());
@@ -70,6 +81,11 @@ public class LimitCheckerFactoryImpl implements LimitCheckerFactory {
     return checker;
   }
 
+  private boolean useRedisRateLimit(Action action) {
+    return rateLimitCheckerConfig.getRedisActionTypes().contains(action.getActionType())
+        && redisTokenBucketStoreProvider.get().isAvailable();
+  }
+
   private void validate(ConfiguredLimit configuredLimit, Action action) {
     if (null == configuredLimit.getLimit()) {
       throw new InvalidLimitConfigurationException(configuredLimit, "configuredLimit.limit is null");
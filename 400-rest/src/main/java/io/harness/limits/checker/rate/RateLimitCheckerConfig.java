@@ -0,0 +1,40 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.limits.checker.rate;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.limits.ActionType;
+
+import java.util.EnumSet;
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Selects the rate limit checker implementation per action type.
+ *
+ * Actions listed in redisActionTypes use {@link RedisTokenBucketRateLimitChecker}, every other action keeps using
+ * {@link MongoSlidingWindowRateLimitChecker}. With leaseSize greater than 1 each manager takes permits from Redis in
+ * chunks of leaseSize and hands them out locally for at most leaseTtlMillis. While Redis can't be reached the rate
+ * limited actions are allowed if failOpen is set, and rejected otherwise.
+ */
+@OwnedBy(PL)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RateLimitCheckerConfig {
+  @Builder.Default private Set<ActionType> redisActionTypes = EnumSet.noneOf(ActionType.class);
+  @Builder.Default private int leaseSize = 1;
+  @Builder.Default private long leaseTtlMillis = 1000;
+  @Builder.Default private boolean failOpen = true;
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.limits.checker.rate;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.limits.Action;
+import io.harness.limits.impl.model.RateLimit;
+import io.harness.limits.lib.RateLimitChecker;
+
+import javax.annotation.Nullable;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis backed implementation for rate limits.
+ * Uses token bucket algorithm: the bucket holds up to limit.count permits and refills at limit.count per duration.
+ *
+ * Unlike {@link MongoSlidingWindowRateLimitChecker} a rejected call does not consume a permit. If Redis can't be
+ * reached the action is allowed or rejected as set by {@link RateLimitCheckerConfig#isFailOpen()}.
+ *
+ * You shouldn't need to directly create an instance of this, but rather use {@link
+ * io.harness.limits.LimitCheckerFactory} to get a rate limiter based on action.
+ */
+@OwnedBy(PL)
+@Slf4j
+public class RedisTokenBucketRateLimitChecker implements RateLimitChecker, RateLimitVicinityChecker {
+  @Getter private final RateLimit limit;
+  private final RedisTokenBucketStore store;
+  private final String key;
+  @Getter @Nullable private final Action action;
+
+  public RedisTokenBucketRateLimitChecker(RateLimit limit, RedisTokenBucketStore store, Action action) {
+    this.limit = limit;
+    this.store = store;
+    this.action = action;
+    this.key = action.key();
+  }
+
+  public RedisTokenBucketRateLimitChecker(RateLimit limit, RedisTokenBucketStore store, String key) {
+    this.limit = limit;
+    this.store = store;
+    this.action = null;
+    this.key = key;
+  }
+
+  /**
+   * @return a checker for another limit which is kept in the same store as this one
+   */
+  public RedisTokenBucketRateLimitChecker forLimit(RateLimit otherLimit, String otherKey) {
+    return new RedisTokenBucketRateLimitChecker(otherLimit, store, otherKey);
+  }
+
+  @Override
+  public boolean checkAndConsume() {
+    try {
+      return store.tryConsume(key, limit);
+    } catch (Exception e) {
+      boolean allowed = store.allowOnFailure();
+      log.error("Could not check rate limit for key {}, {} the action", key, allowed ? "allowing" : "rejecting", e);
+      return allowed;
+    }
+  }
+
+  @Override
+  public boolean crossed(int percentage) {
+    try {
+      double used = limit.getCount() - store.availablePermits(key, limit);
+      return used > (percentage / 100.0) * limit.getCount();
+    } catch (Exception e) {
+      log.error("Could not check rate limit vicinity for key {}", key, e);
+      return false;
+    }
+  }
+}
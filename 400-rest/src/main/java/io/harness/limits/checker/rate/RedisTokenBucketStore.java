@@ -0,0 +1,198 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.limits.checker.rate;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import static java.lang.System.currentTimeMillis;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.data.structure.EmptyPredicate;
+import io.harness.limits.impl.model.RateLimit;
+import io.harness.metrics.HarnessMetricRegistry;
+import io.harness.redis.RedisConfig;
+import io.harness.redis.RedissonClientFactory;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Value;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+
+/**
+ * Keeps one token bucket per rate limit key in Redis. The bucket is a hash holding the available tokens and the time
+ * they were last refilled, so it needs constant memory no matter how large the limit is, and every refill and take
+ * happens atomically inside a single script call.
+ *
+ * Permits can also be leased in chunks (see {@link RateLimitCheckerConfig#getLeaseSize()}) and handed out from
+ * memory, which saves the Redis round trip for most calls at the cost of other managers seeing the leased permits
+ * as used until the lease expires.
+ */
+@OwnedBy(PL)
+@Singleton
+public class RedisTokenBucketStore {
+  public static final String REDIS_FAILURE_METRIC = "rate_limit_redis_failures";
+  public static final String[] REDIS_FAILURE_METRIC_LABELS = {"decision"};
+  private static final String KEY_PREFIX = "ratelimit";
+
+  // KEYS[1] bucket, ARGV: capacity, window millis, now, requested permits, minimum permits to grant anything
+  private static final String TAKE_SCRIPT = "local capacity = tonumber(ARGV[1])\n"
+      + "local window = tonumber(ARGV[2])\n"
+      + "local now = tonumber(ARGV[3])\n"
+      + "local requested = tonumber(ARGV[4])\n"
+      + "local minimum = tonumber(ARGV[5])\n"
+      + "local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts')\n"
+      + "local tokens = tonumber(state[1])\n"
+      + "local ts = tonumber(state[2])\n"
+      + "if tokens == nil or ts == nil then\n"
+      + "  tokens = capacity\n"
+      + "  ts = now\n"
+      + "end\n"
+      + "if now > ts then\n"
+      + "  tokens = math.min(capacity, tokens + (now - ts) * capacity / window)\n"
+      + "  ts = now\n"
+      + "end\n"
+      + "local granted = 0\n"
+      + "if requested > 0 and tokens >= minimum then\n"
+      + "  granted = math.min(requested, math.floor(tokens))\n"
+      + "  tokens = tokens - granted\n"
+      + "  redis.call('HMSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(ts))\n"
+      + "  redis.call('PEXPIRE', KEYS[1], window)\n"
+      + "end\n"
+      + "return {granted, tostring(tokens)}";
+
+  private final RedissonClient client;
+  private final String keyPrefix;
+  private final RateLimitCheckerConfig config;
+  private final Map<String, PermitLease> leases = new ConcurrentHashMap<>();
+  @Inject(optional = true) private HarnessMetricRegistry harnessMetricRegistry;
+
+  @Inject
+  public RedisTokenBucketStore(@Named("lock") RedisConfig redisConfig, RateLimitCheckerConfig config) {
+    this(RedissonClientFactory.getClient(redisConfig), redisConfig.getEnvNamespace(), config);
+  }
+
+  @VisibleForTesting
+  RedisTokenBucketStore(RedissonClient client, String envNamespace, RateLimitCheckerConfig config) {
+    this.client = client;
+    this.keyPrefix = EmptyPredicate.isEmpty(envNamespace) ? KEY_PREFIX.concat(":")
+                                                          : String.format("%s:%s:", envNamespace, KEY_PREFIX);
+    this.config = config;
+  }
+
+  public boolean isAvailable() {
+    return client != null;
+  }
+
+  /**
+   * Takes a single permit for the key, from a local lease when there is one.
+   *
+   * @return true if a permit was available
+   */
+  public boolean tryConsume(String key, RateLimit limit) {
+    int leaseSize = config.getLeaseSize();
+    if (leaseSize <= 1) {
+      return take(key, limit, 1, 1).getGranted() > 0;
+    }
+
+    PermitLease lease = leases.get(key);
+    if (lease != null && lease.tryTake()) {
+      return true;
+    }
+
+    long granted = take(key, limit, leaseSize, 1).getGranted();
+    if (granted <= 0) {
+      return false;
+    }
+    if (granted > 1) {
+      // another thread may have leased permits for the key meanwhile, which are added to rather than replaced
+      leases.merge(key, new PermitLease(granted - 1, currentTimeMillis() + config.getLeaseTtlMillis()),
+          (existing, fresh) -> existing.isExpired() ? fresh : existing.add(fresh));
+    } else {
+      leases.computeIfPresent(key, (leaseKey, existing) -> existing.isUsedUp() ? null : existing);
+    }
+    return true;
+  }
+
+  /**
+   * Called when Redis couldn't be reached, so that it is recorded.
+   *
+   * @return whether the rate limited action is allowed all the same
+   */
+  public boolean allowOnFailure() {
+    boolean failOpen = config.isFailOpen();
+    if (harnessMetricRegistry != null) {
+      harnessMetricRegistry.recordCounterInc(REDIS_FAILURE_METRIC, failOpen ? "allowed" : "rejected");
+    }
+    return failOpen;
+  }
+
+  /**
+   * @return permits left in the bucket, permits leased to any manager count as used
+   */
+  public double availablePermits(String key, RateLimit limit) {
+    return take(key, limit, 0, 0).getAvailable();
+  }
+
+  @VisibleForTesting
+  BucketState take(String key, RateLimit limit, long requested, long minimum) {
+    long window = Math.max(1, limit.getDurationUnit().toMillis(limit.getDuration()));
+    List<Object> keys = Collections.singletonList(keyPrefix.concat(key));
+    List<Object> result = client.getScript(StringCodec.INSTANCE)
+                              .eval(RScript.Mode.READ_WRITE, TAKE_SCRIPT, RScript.ReturnType.MULTI, keys,
+                                  String.valueOf(limit.getCount()), String.valueOf(window),
+                                  String.valueOf(currentTimeMillis()), String.valueOf(requested),
+                                  String.valueOf(minimum));
+    return new BucketState(((Number) result.get(0)).longValue(), Double.parseDouble(result.get(1).toString()));
+  }
+
+  @Value
+  static class BucketState {
+    long granted;
+    double available;
+  }
+
+  private static class PermitLease {
+    private final AtomicLong remaining;
+    private volatile long expiresAt;
+
+    PermitLease(long permits, long expiresAt) {
+      this.remaining = new AtomicLong(permits);
+      this.expiresAt = expiresAt;
+    }
+
+    boolean tryTake() {
+      if (isExpired()) {
+        return false;
+      }
+      return remaining.getAndUpdate(value -> value > 0 ? value - 1 : value) > 0;
+    }
+
+    boolean isExpired() {
+      return currentTimeMillis() > expiresAt;
+    }
+
+    boolean isUsedUp() {
+      return isExpired() || remaining.get() <= 0;
+    }
+
+    PermitLease add(PermitLease other) {
+      remaining.addAndGet(other.remaining.get());
+      expiresAt = Math.max(expiresAt, other.expiresAt);
+      return this;
+    }
+  }
+}
@@ -46,8 +46,10 @@ import com.google.protobuf.InvalidProtocolBufferException;
 import com.google.protobuf.Message;
 import com.google.protobuf.util.Durations;
 import io.grpc.Context;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -270,8 +272,25 @@ public class PerpetualTaskServiceImpl implements PerpetualTaskService, DelegateO
   @Override
   public PerpetualTaskExecutionContext perpetualTaskContext(String taskId) {
     log.info("Getting perpetual task context for task with id: {}", taskId);
-    PerpetualTaskRecord perpetualTaskRecord = perpetualTaskRecordDao.getTask(taskId);
+    return toExecutionContext(perpetualTaskRecordDao.getTask(taskId));
+  }
+
+  @Override
+  public Map<String, PerpetualTaskExecutionContext> perpetualTaskContexts(String accountId, List<String> taskIds) {
+    log.info("Getting perpetual task contexts for [{}] tasks", taskIds.size());
+    Map<String, PerpetualTaskExecutionContext> contexts = new HashMap<>();
+    for (PerpetualTaskRecord perpetualTaskRecord : perpetualTaskRecordDao.getTasks(accountId, taskIds)) {
+      try {
+        contexts.put(perpetualTaskRecord.getUuid(), toExecutionContext(perpetualTaskRecord));
+      } catch (Exception e) {
+        // the delegate fetches the context of this task on its own
+        log.error("Failed to get perpetual task context for task with id: {}", perpetualTaskRecord.getUuid(), e);
+      }
+    }
+    return contexts;
+  }
 
+  private PerpetualTaskExecutionContext toExecutionContext(PerpetualTaskRecord perpetualTaskRecord) {
     PerpetualTaskExecutionParams params = getTaskParams(perpetualTaskRecord);
 
     PerpetualTaskSchedule schedule = PerpetualTaskSchedule.newBuilder()
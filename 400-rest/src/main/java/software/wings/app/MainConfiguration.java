@@ -37,6 +37,7 @@ import io.harness.eventsframework.EventsFrameworkConfiguration;
 import io.harness.ff.FeatureFlagConfig;
 import io.harness.grpc.client.GrpcClientConfig;
 import io.harness.grpc.server.GrpcServerConfig;
+import io.harness.limits.checker.rate.RateLimitCheckerConfig;
 import io.harness.lock.DistributedLockImplementation;
 import io.harness.logstreaming.LogStreamingServiceConfig;
 import io.harness.mongo.MongoConfig;
@@ -174,6 +175,8 @@ public class MainConfiguration extends Configuration implements AssetsBundleConf
   @JsonProperty("datadogConfig") @ConfigSecret private DatadogConfig datadogConfig;
   @JsonProperty("redisLockConfig") @ConfigSecret private RedisConfig redisLockConfig;
   @JsonProperty("redisAtmosphereConfig") @ConfigSecret private RedisConfig redisAtmosphereConfig;
+  @JsonProperty("rateLimitCheckerConfig")
+  private RateLimitCheckerConfig rateLimitCheckerConfig = RateLimitCheckerConfig.builder().build();
   @JsonProperty("defaultSalesContacts") private DefaultSalesContacts defaultSalesContacts;
   @JsonProperty("githubConfig") private GithubConfig githubConfig;
   @JsonProperty("linkedinConfig") private LinkedinConfig linkedinConfig;
@@ -160,6 +160,7 @@ import io.harness.licensing.remote.NgLicenseHttpClientModule;
 import io.harness.licensing.remote.admin.AdminLicenseHttpClientModule;
 import io.harness.limits.LimitCheckerFactory;
 import io.harness.limits.LimitCheckerFactoryImpl;
+import io.harness.limits.checker.rate.RateLimitCheckerConfig;
 import io.harness.limits.configuration.LimitConfigurationService;
 import io.harness.limits.configuration.LimitConfigurationServiceMongo;
 import io.harness.limits.counter.service.CounterService;
@@ -867,6 +868,13 @@ public class WingsModule extends AbstractModule implements ServersModule {
     return configuration.getRedisLockConfig();
   }
 
+  @Provides
+  @Singleton
+  RateLimitCheckerConfig rateLimitCheckerConfig() {
+    return configuration.getRateLimitCheckerConfig() == null ? RateLimitCheckerConfig.builder().build()
+                                                             : configuration.getRateLimitCheckerConfig();
+  }
+
   @Provides
   @Named("atmosphere")
   @Singleton
@@ -1217,19 +1217,20 @@ public class DelegateTaskServiceClassicImpl implements DelegateTaskServiceClassi
 
   private List<DelegateTaskEvent> getQueuedEvents(String accountId, String delegateId, boolean sync) {
     // TODO - add assignment filter here (scopes. selectors, ...)
+    // The eligible delegate ids are matched by the pulling_eligible index, so each poll only reads the tasks this
+    // delegate can execute instead of every queued task of the account.
     Query<DelegateTask> delegateTaskQuery = persistence.createQuery(DelegateTask.class)
                                                 .filter(DelegateTaskKeys.accountId, accountId)
                                                 .filter(DelegateTaskKeys.status, QUEUED)
+                                                .filter(DelegateTaskKeys.eligibleToExecuteDelegateIds, delegateId)
                                                 .filter(DelegateTaskKeys.data_async, !sync)
                                                 .field(DelegateTaskKeys.delegateId)
                                                 .doesNotExist()
                                                 .field(DelegateTaskKeys.expiry)
-                                                .greaterThan(currentTimeMillis());
-    List<DelegateTask> delegateTasks =
-        delegateTaskQuery.asList()
-            .stream()
-            .filter(delegateTask -> delegateTask.getEligibleToExecuteDelegateIds().contains(delegateId))
-            .collect(toList());
+                                                .greaterThan(currentTimeMillis())
+                                                .project(DelegateTaskKeys.uuid, true)
+                                                .project(DelegateTaskKeys.data_taskType, true);
+    List<DelegateTask> delegateTasks = delegateTaskQuery.asList();
     return delegateTasks.stream()
         .map(delegateTask
             -> aDelegateTaskEvent()
@@ -20,6 +20,7 @@ import io.harness.limits.checker.LimitApproachingException;
 import io.harness.limits.checker.UsageLimitExceededException;
 import io.harness.limits.checker.rate.MongoSlidingWindowRateLimitChecker;
 import io.harness.limits.checker.rate.RateLimitVicinityChecker;
+import io.harness.limits.checker.rate.RedisTokenBucketRateLimitChecker;
 import io.harness.limits.configuration.NoLimitConfiguredException;
 import io.harness.limits.impl.model.RateLimit;
 import io.harness.limits.lib.DeploymentErrorType;
@@ -137,8 +138,11 @@ public class DeploymentRateLimitChecker implements PreDeploymentChecker {
     }
 
     // 40% of 24 hour limit allowed per hour
-    return new MongoSlidingWindowRateLimitChecker(
-        new RateLimit((int) (limit.getCount() * SHORT_LIMIT_PERCENT), 1, TimeUnit.HOURS), persistence,
-        action.key() + "_hourly");
+    RateLimit shortDurationLimit = new RateLimit((int) (limit.getCount() * SHORT_LIMIT_PERCENT), 1, TimeUnit.HOURS);
+    if (longDurationChecker instanceof RedisTokenBucketRateLimitChecker) {
+      return ((RedisTokenBucketRateLimitChecker) longDurationChecker)
+          .forLimit(shortDurationLimit, action.key() + "_hourly");
+    }
+    return new MongoSlidingWindowRateLimitChecker(shortDurationLimit, persistence, action.key() + "_hourly");
   }
 }
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.limits.checker.rate;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.rule.OwnerRule.UJJAWAL;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.limits.checker.rate.RedisTokenBucketStore.BucketState;
+import io.harness.limits.impl.model.RateLimit;
+import io.harness.redis.RedisConfig;
+import io.harness.rule.Owner;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+
+@OwnedBy(PL)
+public class RedisTokenBucketStoreTest extends CategoryTest {
+  private static final String KEY = "some-key";
+  private static final RateLimit LIMIT = new RateLimit(100, 1, TimeUnit.HOURS);
+
+  private RedisTokenBucketStore store(int leaseSize) {
+    RedisConfig redisConfig = RedisConfig.builder().redisUrl("dummyRedisUrl").build();
+    return spy(new RedisTokenBucketStore(redisConfig, RateLimitCheckerConfig.builder().leaseSize(leaseSize).build()));
+  }
+
+  @Test
+  @Owner(developers = UJJAWAL)
+  @Category(UnitTests.class)
+  public void shouldTakeSinglePermitWithoutLease() {
+    RedisTokenBucketStore store = store(1);
+    doReturn(new BucketState(1, 99), new BucketState(0, 0))
+        .when(store)
+        .take(eq(KEY), any(RateLimit.class), eq(1L), eq(1L));
+
+    assertThat(store.tryConsume(KEY, LIMIT)).isTrue();
+    assertThat(store.tryConsume(KEY, LIMIT)).isFalse();
+    verify(store, times(2)).take(eq(KEY), any(RateLimit.class), eq(1L), eq(1L));
+  }
+
+  @Test
+  @Owner(developers = UJJAWAL)
+  @Category(UnitTests.class)
+  public void shouldHandOutLeasedPermitsLocally() {
+    RedisTokenBucketStore store = store(5);
+    doReturn(new BucketState(5, 95), new BucketState(2, 0), new BucketState(0, 0))
+        .when(store)
+        .take(eq(KEY), any(RateLimit.class), eq(5L), eq(1L));
+
+    for (int i = 0; i < 7; i++) {
+      assertThat(store.tryConsume(KEY, LIMIT)).isTrue();
+    }
+    assertThat(store.tryConsume(KEY, LIMIT)).isFalse();
+    verify(store, times(3)).take(eq(KEY), any(RateLimit.class), eq(5L), eq(1L));
+  }
+
+  @Test
+  @Owner(developers = UJJAWAL)
+  @Category(UnitTests.class)
+  public void shouldAllowActionWhenRedisFails() {
+    RedisTokenBucketStore store = store(1);
+    doThrow(new IllegalStateException("redis down")).when(store).take(anyString(), any(), anyLong(), anyLong());
+
+    RedisTokenBucketRateLimitChecker checker = new RedisTokenBucketRateLimitChecker(LIMIT, store, KEY);
+    assertThat(checker.checkAndConsume()).isTrue();
+    assertThat(checker.crossed(80)).isFalse();
+  }
+
+  @Test
+  @Owner(developers = UJJAWAL)
+  @Category(UnitTests.class)
+  public void shouldReportVicinityFromAvailablePermits() {
+    RedisTokenBucketStore store = store(1);
+    doReturn(new BucketState(0, 15)).when(store).take(eq(KEY), any(RateLimit.class), eq(0L), eq(0L));
+
+    RedisTokenBucketRateLimitChecker checker = new RedisTokenBucketRateLimitChecker(LIMIT, store, KEY);
+    assertThat(checker.crossed(80)).isTrue();
+    assertThat(checker.crossed(90)).isFalse();
+  }
+
+  @Test
+  @Owner(developers = UJJAWAL)
+  @Category(UnitTests.class)
+  public void shouldRejectActionWhenRedisFailsAndFailOpenIsOff() {
+    RedisConfig redisConfig = RedisConfig.builder().redisUrl("dummyRedisUrl").build();
+    RedisTokenBucketStore store = spy(new RedisTokenBucketStore(
+        redisConfig, RateLimitCheckerConfig.builder().leaseSize(1).failOpen(false).build()));
+    doThrow(new IllegalStateException("redis down")).when(store).take(anyString(), any(), anyLong(), anyLong());
+
+    RedisTokenBucketRateLimitChecker checker = new RedisTokenBucketRateLimitChecker(LIMIT, store, KEY);
+    assertThat(checker.checkAndConsume()).isFalse();
+  }
+
+  @Test
+  @Owner(developers = UJJAWAL)
+  @Category(UnitTests.class)
+  public void shouldKeepPermitsLeasedMeanwhile() {
+    RedisTokenBucketStore store = store(5);
+    AtomicInteger takes = new AtomicInteger();
+    doAnswer(invocation -> {
+      if (takes.incrementAndGet() == 1) {
+        // another thread leases permits for the same key while this one waits for redis
+        assertThat(store.tryConsume(KEY, LIMIT)).isTrue();
+      }
+      return takes.get() <= 2 ? new BucketState(5, 90) : new BucketState(0, 0);
+    })
+        .when(store)
+        .take(eq(KEY), any(RateLimit.class), eq(5L), eq(1L));
+
+    assertThat(store.tryConsume(KEY, LIMIT)).isTrue();
+    // both leases of 4 permits are kept
+    for (int i = 0; i < 8; i++) {
+      assertThat(store.tryConsume(KEY, LIMIT)).isTrue();
+    }
+    assertThat(store.tryConsume(KEY, LIMIT)).isFalse();
+    verify(store, times(3)).take(eq(KEY), any(RateLimit.class), eq(5L), eq(1L));
+  }
+
+  @Test
+  @Owner(developers = UJJAWAL)
+  @Category(UnitTests.class)
+  @SuppressWarnings("unchecked")
+  public void shouldCallTheTokenBucketScript() {
+    RedissonClient client = mock(RedissonClient.class);
+    RScript script = mock(RScript.class);
+    when(client.getScript(StringCodec.INSTANCE)).thenReturn(script);
+    when(script.eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.MULTI), anyList(), any(), any(),
+             any(), any(), any()))
+        .thenReturn(Arrays.asList(3L, "96.5"));
+    RedisTokenBucketStore store = new RedisTokenBucketStore(client, "env", RateLimitCheckerConfig.builder().build());
+
+    long before = System.currentTimeMillis();
+    BucketState bucketState = store.take(KEY, LIMIT, 5, 1);
+    assertThat(bucketState.getGranted()).isEqualTo(3);
+    assertThat(bucketState.getAvailable()).isEqualTo(96.5);
+
+    ArgumentCaptor<String> scriptCaptor = ArgumentCaptor.forClass(String.class);
+    ArgumentCaptor<List<Object>> keysCaptor = ArgumentCaptor.forClass(List.class);
+    ArgumentCaptor<Object> argsCaptor = ArgumentCaptor.forClass(Object.class);
+    verify(script).eval(eq(RScript.Mode.READ_WRITE), scriptCaptor.capture(), eq(RScript.ReturnType.MULTI),
+        keysCaptor.capture(), argsCaptor.capture(), argsCaptor.capture(), argsCaptor.capture(), argsCaptor.capture(),
+        argsCaptor.capture());
+    assertThat(keysCaptor.getValue()).containsExactly("env:ratelimit:" + KEY);
+    List<Object> args = argsCaptor.getAllValues();
+    // capacity, window, now, requested and minimum, as read by the script
+    assertThat(args.get(0)).isEqualTo("100");
+    assertThat(args.get(1)).isEqualTo(String.valueOf(TimeUnit.HOURS.toMillis(1)));
+    assertThat(Long.parseLong(args.get(2).toString())).isBetween(before, System.currentTimeMillis());
+    assertThat(args.subList(3, 5)).containsExactly("5", "1");
+    assertThat(scriptCaptor.getValue())
+        .contains("local capacity = tonumber(ARGV[1])", "local window = tonumber(ARGV[2])",
+            "local now = tonumber(ARGV[3])", "local requested = tonumber(ARGV[4])", "local minimum = tonumber(ARGV[5])",
+            "redis.call('PEXPIRE', KEYS[1], window)");
+  }
+}
@@ -35,6 +35,8 @@ import io.harness.logging.AccessTokenBean;
 import io.harness.perpetualtask.HeartbeatRequest;
 import io.harness.perpetualtask.HeartbeatResponse;
 import io.harness.perpetualtask.PerpetualTaskContextResponse;
+import io.harness.perpetualtask.PerpetualTaskContextsRequest;
+import io.harness.perpetualtask.PerpetualTaskContextsResponse;
 import io.harness.perpetualtask.PerpetualTaskListResponse;
 import io.harness.rest.RestResponse;
 import io.harness.serializer.kryo.KryoRequest;
@@ -196,6 +198,11 @@ public interface DelegateAgentManagerClient {
   Call<PerpetualTaskContextResponse> perpetualTaskContext(
       @Query("taskId") String taskId, @Query("accountId") String accountId);
 
+  @Consumes({"application/x-protobuf"})
+  @POST("agent/delegates/perpetual-task/contexts")
+  Call<PerpetualTaskContextsResponse> perpetualTaskContexts(
+      @Query("accountId") String accountId, @Body PerpetualTaskContextsRequest perpetualTaskContextsRequest);
+
   @Consumes({"application/x-protobuf"})
   @PUT("agent/delegates/perpetual-task/heartbeat")
   Call<HeartbeatResponse> heartbeat(@Query("accountId") String accountId, @Body HeartbeatRequest heartbeatRequest);
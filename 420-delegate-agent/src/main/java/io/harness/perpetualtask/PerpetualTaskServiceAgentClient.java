@@ -18,7 +18,9 @@ import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import lombok.extern.slf4j.Slf4j;
@@ -62,6 +64,27 @@ public class PerpetualTaskServiceAgentClient {
     return null;
   }
 
+  /**
+   * @return the contexts by task id, tasks whose context couldn't be fetched are left out
+   */
+  public Map<String, PerpetualTaskExecutionContext> perpetualTaskContexts(
+      List<PerpetualTaskId> taskIds, String accountId) {
+    try {
+      PerpetualTaskContextsRequest request = PerpetualTaskContextsRequest.newBuilder()
+                                                 .addAllPerpetualTaskIds(taskIds)
+                                                 .setAccountId(accountId)
+                                                 .build();
+      Call<PerpetualTaskContextsResponse> call = delegateAgentManagerClient.perpetualTaskContexts(accountId, request);
+      PerpetualTaskContextsResponse response = DelegateRestUtils.executeRestCall(call);
+      if (response != null) {
+        return response.getPerpetualTaskContextsMap();
+      }
+    } catch (Exception e) {
+      log.error("Error while getting perpetualTaskContexts ", e);
+    }
+    return Collections.emptyMap();
+  }
+
   public void heartbeat(
       PerpetualTaskId taskId, Instant taskStartTime, PerpetualTaskResponse perpetualTaskResponse, String accountId) {
     try {
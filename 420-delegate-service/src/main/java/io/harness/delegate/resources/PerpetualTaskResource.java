@@ -15,6 +15,9 @@ import io.harness.perpetualtask.HeartbeatRequest;
 import io.harness.perpetualtask.HeartbeatResponse;
 import io.harness.perpetualtask.PerpetualTaskAssignDetails;
 import io.harness.perpetualtask.PerpetualTaskContextResponse;
+import io.harness.perpetualtask.PerpetualTaskContextsRequest;
+import io.harness.perpetualtask.PerpetualTaskContextsResponse;
+import io.harness.perpetualtask.PerpetualTaskId;
 import io.harness.perpetualtask.PerpetualTaskListResponse;
 import io.harness.perpetualtask.PerpetualTaskResponse;
 import io.harness.perpetualtask.PerpetualTaskService;
@@ -27,7 +30,9 @@ import io.dropwizard.jersey.protobuf.ProtocolBufferMediaType;
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import java.util.List;
+import java.util.stream.Collectors;
 import javax.ws.rs.GET;
+import javax.ws.rs.POST;
 import javax.ws.rs.PUT;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
@@ -72,6 +77,25 @@ public class PerpetualTaskResource {
     return Response.ok(response).build();
   }
 
+  @POST
+  @Path("/contexts")
+  @Timed
+  @DelegateAuth
+  @ExceptionMetered
+  @ApiOperation(value = "Get perpetual task contexts for given perpetual tasks", nickname = "perpetualTaskContexts")
+  public Response perpetualTaskContexts(
+      @QueryParam("accountId") String accountId, PerpetualTaskContextsRequest perpetualTaskContextsRequest) {
+    List<String> taskIds = perpetualTaskContextsRequest.getPerpetualTaskIdsList()
+                               .stream()
+                               .map(PerpetualTaskId::getId)
+                               .collect(Collectors.toList());
+    PerpetualTaskContextsResponse response =
+        PerpetualTaskContextsResponse.newBuilder()
+            .putAllPerpetualTaskContexts(perpetualTaskService.perpetualTaskContexts(accountId, taskIds))
+            .build();
+    return Response.ok(response).build();
+  }
+
   @PUT
   @Path("/heartbeat")
   @Timed
@@ -10,6 +10,7 @@ package io.harness.perpetualtask;
 import io.harness.perpetualtask.internal.PerpetualTaskRecord;
 
 import java.util.List;
+import java.util.Map;
 
 public interface PerpetualTaskService {
   String createTask(String perpetualTaskType, String accountId, PerpetualTaskClientContext clientContext,
@@ -39,6 +40,8 @@ public interface PerpetualTaskService {
 
   PerpetualTaskExecutionContext perpetualTaskContext(String taskId);
 
+  Map<String, PerpetualTaskExecutionContext> perpetualTaskContexts(String accountId, List<String> taskIds);
+
   boolean triggerCallback(String taskId, long heartbeatMillis, PerpetualTaskResponse perpetualTaskResponse);
 
   void appointDelegate(String accountId, String taskId, String delegateId, long lastContextUpdated);
@@ -13,6 +13,9 @@ import io.harness.perpetualtask.HeartbeatResponse;
 import io.harness.perpetualtask.PerpetualTaskAssignDetails;
 import io.harness.perpetualtask.PerpetualTaskContextRequest;
 import io.harness.perpetualtask.PerpetualTaskContextResponse;
+import io.harness.perpetualtask.PerpetualTaskContextsRequest;
+import io.harness.perpetualtask.PerpetualTaskContextsResponse;
+import io.harness.perpetualtask.PerpetualTaskId;
 import io.harness.perpetualtask.PerpetualTaskListRequest;
 import io.harness.perpetualtask.PerpetualTaskListResponse;
 import io.harness.perpetualtask.PerpetualTaskResponse;
@@ -24,6 +27,7 @@ import io.grpc.stub.StreamObserver;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 
 @Singleton
@@ -62,6 +66,23 @@ public class PerpetualTaskServiceGrpc
     }
   }
 
+  @Override
+  public void perpetualTaskContexts(
+      PerpetualTaskContextsRequest request, StreamObserver<PerpetualTaskContextsResponse> responseObserver) {
+    try {
+      List<String> taskIds =
+          request.getPerpetualTaskIdsList().stream().map(PerpetualTaskId::getId).collect(Collectors.toList());
+      responseObserver.onNext(
+          PerpetualTaskContextsResponse.newBuilder()
+              .putAllPerpetualTaskContexts(perpetualTaskService.perpetualTaskContexts(request.getAccountId(), taskIds))
+              .build());
+      responseObserver.onCompleted();
+    } catch (Exception e) {
+      log.error("Unexpected error occurred while getting perpetual task contexts.", e);
+      responseObserver.onError(io.grpc.Status.INTERNAL.withDescription(e.getMessage()).asRuntimeException());
+    }
+  }
+
   @Override
   public void heartbeat(HeartbeatRequest request, StreamObserver<HeartbeatResponse> responseObserver) {
     PerpetualTaskResponse perpetualTaskResponse = PerpetualTaskResponse.builder()
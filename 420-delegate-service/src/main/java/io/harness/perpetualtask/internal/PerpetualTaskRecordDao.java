@@ -223,6 +223,15 @@ public class PerpetualTaskRecordDao {
     return persistence.createQuery(PerpetualTaskRecord.class).field(PerpetualTaskRecordKeys.uuid).equal(taskId).get();
   }
 
+  public List<PerpetualTaskRecord> getTasks(String accountId, List<String> taskIds) {
+    return persistence.createQuery(PerpetualTaskRecord.class)
+        .field(PerpetualTaskRecordKeys.accountId)
+        .equal(accountId)
+        .field(PerpetualTaskRecordKeys.uuid)
+        .in(taskIds)
+        .asList();
+  }
+
   public Optional<PerpetualTaskRecord> getExistingPerpetualTask(
       String accountId, String perpetualTaskType, PerpetualTaskClientContext clientContext) {
     Query<PerpetualTaskRecord> perpetualTaskRecordQuery = persistence.createQuery(PerpetualTaskRecord.class)
@@ -85,6 +85,14 @@ public class DelegateTask implements PersistentEntity, UuidAware, CreatedAtAware
                  .field(DelegateTaskKeys.data_async)
                  .field(DelegateTaskKeys.expiry)
                  .build())
+        .add(CompoundMongoIndex.builder()
+                 .name("pulling_eligible")
+                 .field(DelegateTaskKeys.accountId)
+                 .field(DelegateTaskKeys.status)
+                 .field(DelegateTaskKeys.eligibleToExecuteDelegateIds)
+                 .field(DelegateTaskKeys.data_async)
+                 .field(DelegateTaskKeys.expiry)
+                 .build())
         .add(CompoundMongoIndex.builder()
                  .name("rebroadcast1")
                  .field(DelegateTaskKeys.status)
@@ -19,11 +19,22 @@ import io.harness.eventsframework.api.Consumer;
 import io.harness.eventsframework.api.EventsFrameworkDownException;
 import io.harness.eventsframework.consumer.Message;
 import io.harness.eventsframework.impl.redis.RedisTraceConsumer;
+import io.harness.metrics.service.api.MetricService;
 import io.harness.queue.QueueController;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Inject;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import javax.cache.Cache;
@@ -35,18 +46,53 @@ public abstract class PmsAbstractRedisConsumer<T extends PmsAbstractMessageListe
     extends RedisTraceConsumer implements PmsRedisConsumer {
   private static final int WAIT_TIME_IN_SECONDS = 10;
   private static final String CACHE_KEY = "%s_%s";
+  private static final String CONSUMER_NAME_METRIC_LABEL = "consumerName";
+  private static final String PARTITION_METRIC_LABEL = "partition";
+  private static final String QUEUE_DEPTH_METRIC = "pms_redis_consumer_queue_depth";
+  private static final String HANDLER_TIME_METRIC = "pms_redis_consumer_handler_time";
   private final Consumer redisConsumer;
   private final T messageListener;
   private final QueueController queueController;
   private AtomicBoolean shouldStop = new AtomicBoolean(false);
   private Cache<String, Integer> eventsCache;
+  private final PmsConsumerPartitionConfig partitionConfig;
+  private final List<ThreadPoolExecutor> partitionWorkers;
+  private final Semaphore inFlightMessages;
+  @Inject(optional = true) private MetricService metricService;
 
   public PmsAbstractRedisConsumer(
       Consumer redisConsumer, T messageListener, Cache<String, Integer> eventsCache, QueueController queueController) {
+    this(redisConsumer, messageListener, eventsCache, queueController, null);
+  }
+
+  /**
+   * @param partitionConfig if enabled, each batch read from redis is handled by a pool of partition workers instead of
+   *                        the consumer thread, every worker acknowledging the messages it has processed together
+   */
+  public PmsAbstractRedisConsumer(Consumer redisConsumer, T messageListener, Cache<String, Integer> eventsCache,
+      QueueController queueController, PmsConsumerPartitionConfig partitionConfig) {
     this.redisConsumer = redisConsumer;
     this.messageListener = messageListener;
     this.eventsCache = eventsCache;
     this.queueController = queueController;
+    this.partitionConfig = partitionConfig != null && partitionConfig.isEnabled() ? partitionConfig : null;
+    this.partitionWorkers = createPartitionWorkers(this.partitionConfig);
+    this.inFlightMessages =
+        this.partitionConfig == null ? null : new Semaphore(this.partitionConfig.getMaxInFlightMessages());
+  }
+
+  private List<ThreadPoolExecutor> createPartitionWorkers(PmsConsumerPartitionConfig partitionConfig) {
+    List<ThreadPoolExecutor> workers = new ArrayList<>();
+    if (partitionConfig == null) {
+      return workers;
+    }
+    for (int i = 0; i < partitionConfig.getWorkerCount(); i++) {
+      // Every partition has exactly one thread, that is what keeps the per key ordering
+      workers.add(new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+          new LinkedBlockingQueue<>(partitionConfig.getMaxQueueSizePerWorker()),
+          new ThreadFactoryBuilder().setNameFormat(this.getClass().getSimpleName() + "-partition-" + i).build()));
+    }
+    return workers;
   }
 
   @Override
@@ -74,6 +120,7 @@ public abstract class PmsAbstractRedisConsumer<T extends PmsAbstractMessageListe
       log.error("Consumer {} unexpectedly stopped", this.getClass().getSimpleName(), ex);
     } finally {
       postThreadCompletion();
+      partitionWorkers.forEach(ThreadPoolExecutor::shutdown);
     }
   }
 
@@ -96,6 +143,10 @@ public abstract class PmsAbstractRedisConsumer<T extends PmsAbstractMessageListe
     String messageId;
     boolean messageProcessed;
     messages = redisConsumer.read(Duration.ofSeconds(WAIT_TIME_IN_SECONDS));
+    if (partitionConfig != null) {
+      processMessagesInPartitions(messages);
+      return;
+    }
     for (Message message : messages) {
       messageId = message.getId();
       messageProcessed = handleMessage(message);
@@ -105,6 +156,90 @@ public abstract class PmsAbstractRedisConsumer<T extends PmsAbstractMessageListe
     }
   }
 
+  /**
+   * Hands the messages to the workers of their partitions without waiting for them to be processed, so a slow
+   * partition only holds up its own messages. Blocks while the in-flight budget is used up.
+   */
+  private void processMessagesInPartitions(List<Message> messages) {
+    if (messages.isEmpty()) {
+      return;
+    }
+    Map<Integer, List<Message>> partitions = new LinkedHashMap<>();
+    for (Message message : messages) {
+      partitions.computeIfAbsent(getPartition(message), k -> new ArrayList<>()).add(message);
+    }
+
+    for (Map.Entry<Integer, List<Message>> partition : partitions.entrySet()) {
+      // a batch bigger than the whole budget is let through on its own
+      int permits = Math.min(partition.getValue().size(), partitionConfig.getMaxInFlightMessages());
+      try {
+        inFlightMessages.acquire(permits);
+      } catch (InterruptedException ex) {
+        // These messages are not acknowledged, so they will be claimed again once the max processing time is over
+        Thread.currentThread().interrupt();
+        break;
+      }
+      try {
+        partitionWorkers.get(partition.getKey())
+            .execute(() -> processPartition(partition.getKey(), partition.getValue(), permits));
+      } catch (RejectedExecutionException ex) {
+        inFlightMessages.release(permits);
+        log.warn("Partition {} of consumer {} is full, skipping {} messages", partition.getKey(),
+            this.getClass().getSimpleName(), partition.getValue().size());
+      }
+    }
+    recordQueueDepths();
+  }
+
+  private int getPartition(Message message) {
+    String key = message.getMessage().getMetadataMap().get(partitionConfig.getPartitionKey());
+    if (key == null) {
+      // Messages without the key don't need any ordering, spread them by id
+      key = message.getId();
+    }
+    return Math.floorMod(key.hashCode(), partitionWorkers.size());
+  }
+
+  private void processPartition(int partition, List<Message> messages, int permits) {
+    try {
+      List<String> processedMessageIds = new ArrayList<>();
+      for (Message message : messages) {
+        long startTs = System.currentTimeMillis();
+        if (handleMessage(message)) {
+          processedMessageIds.add(message.getId());
+        }
+        recordMetric(HANDLER_TIME_METRIC, partition, System.currentTimeMillis() - startTs);
+      }
+      redisConsumer.acknowledge(processedMessageIds);
+    } catch (Exception ex) {
+      log.error("Error occurred while processing partition of consumer {}", this.getClass().getSimpleName(), ex);
+    } finally {
+      inFlightMessages.release(permits);
+    }
+  }
+
+  /**
+   * Records the batches waiting in the queue of every partition worker, i.e. the work still pending on each partition
+   * once the current batch has been dispatched.
+   */
+  private void recordQueueDepths() {
+    for (int partition = 0; partition < partitionWorkers.size(); partition++) {
+      recordMetric(QUEUE_DEPTH_METRIC, partition, partitionWorkers.get(partition).getQueue().size());
+    }
+  }
+
+  private void recordMetric(String metricName, int partition, double value) {
+    if (metricService == null) {
+      return;
+    }
+    try (PmsMetricContextGuard ignore = new PmsMetricContextGuard(ImmutableMap.of(CONSUMER_NAME_METRIC_LABEL,
+             this.getClass().getSimpleName(), PARTITION_METRIC_LABEL, String.valueOf(partition)))) {
+      metricService.recordMetric(metricName, value);
+    } catch (Exception ex) {
+      log.warn("Error while recording metric {}", metricName, ex);
+    }
+  }
+
   @Override
   protected boolean processMessage(Message message) {
     AtomicBoolean success = new AtomicBoolean(true);
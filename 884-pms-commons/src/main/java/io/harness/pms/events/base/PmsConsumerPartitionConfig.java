@@ -0,0 +1,38 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.pms.events.base;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Enables partitioned processing in {@link PmsAbstractRedisConsumer}. Messages of a batch are spread across
+ * workerCount single threaded workers by the value of the partitionKey metadata, so messages with the same key are
+ * still handled in the order they were read. Partitioned processing is disabled while workerCount is 0.
+ *
+ * Workers acknowledge the messages they have processed themselves, so the consumer keeps reading while up to
+ * maxInFlightMessages are being processed, and up to maxQueueSizePerWorker batches wait for each worker.
+ */
+@OwnedBy(HarnessTeam.PIPELINE)
+@Value
+@Builder
+public class PmsConsumerPartitionConfig {
+  public static final String PLAN_EXECUTION_ID_KEY = "planExecutionId";
+
+  @Builder.Default int workerCount = 0;
+  @Builder.Default String partitionKey = PLAN_EXECUTION_ID_KEY;
+  @Builder.Default int maxQueueSizePerWorker = 1000;
+  @Builder.Default int maxInFlightMessages = 1000;
+
+  public boolean isEnabled() {
+    return workerCount > 0;
+  }
+}
@@ -21,7 +21,9 @@ import io.harness.pms.yaml.YamlNode;
 import io.harness.pms.yaml.YamlUtils;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.hash.Hashing;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
@@ -174,4 +176,11 @@ public class PlanCreatorUtils {
     logContextMap.put("sdkPlanCreatorRequestId", UUIDGenerator.generateUuid());
     return new AutoLogContext(logContextMap, AutoLogContext.OverrideBehavior.OVERRIDE_NESTS);
   }
+
+  public String yamlHash(String yaml) {
+    if (EmptyPredicate.isEmpty(yaml)) {
+      return "";
+    }
+    return Hashing.sha256().hashString(yaml, StandardCharsets.UTF_8).toString();
+  }
 }
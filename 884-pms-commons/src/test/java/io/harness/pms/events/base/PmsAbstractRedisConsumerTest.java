@@ -12,7 +12,10 @@ import static io.harness.rule.OwnerRule.GARVIT;
 import static org.jooq.tools.reflect.Reflect.on;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -21,12 +24,17 @@ import io.harness.PmsCommonsTestBase;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.category.element.UnitTests;
+import io.harness.eventsframework.api.Consumer;
+import io.harness.eventsframework.consumer.Message;
 import io.harness.monitoring.EventMonitoringService;
 import io.harness.pms.gitsync.PmsGitSyncBranchContextGuard;
 import io.harness.pms.gitsync.PmsGitSyncHelper;
 import io.harness.rule.Owner;
 
 import com.google.common.util.concurrent.MoreExecutors;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
@@ -57,4 +65,56 @@ public class PmsAbstractRedisConsumerTest extends PmsCommonsTestBase {
     redisConsumer.pollAndProcessMessages();
     verify(messageListener, times(1)).handleMessage(any());
   }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void shouldTestHandleMessageWithPartitions() {
+    NoopPmsMessageListener messageListener =
+        spy(new NoopPmsMessageListener("RANDOM_SERVICE", eventHandler, MoreExecutors.newDirectExecutorService()));
+    NoopRedisConsumer consumer = spy(new NoopRedisConsumer("t", "g"));
+    NoopPmsRedisConsumer redisConsumer = new NoopPmsRedisConsumer(
+        consumer, messageListener, PmsConsumerPartitionConfig.builder().workerCount(2).build());
+    redisConsumer.pollAndProcessMessages();
+    verify(messageListener, timeout(5000).times(1)).handleMessage(any());
+    verify(consumer, timeout(5000).times(1)).acknowledge(Collections.singletonList(""));
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void shouldAcknowledgePartitionsIndependently() throws InterruptedException {
+    // with two workers "b" goes to the first partition and "a" to the second one
+    Message slowMessage = messageWithPlanExecutionId("1-0", "b");
+    Message fastMessage = messageWithPlanExecutionId("2-0", "a");
+    Consumer consumer = mock(Consumer.class);
+    when(consumer.read(any())).thenReturn(Arrays.asList(slowMessage, fastMessage));
+    CountDownLatch slowMessageReleased = new CountDownLatch(1);
+    NoopPmsMessageListener messageListener = mock(NoopPmsMessageListener.class);
+    when(messageListener.isProcessable(any())).thenReturn(true);
+    when(messageListener.handleMessage(any())).thenAnswer(invocation -> {
+      if (invocation.getArguments()[0] == slowMessage) {
+        slowMessageReleased.await();
+      }
+      return true;
+    });
+    NoopPmsRedisConsumer redisConsumer = new NoopPmsRedisConsumer(
+        consumer, messageListener, PmsConsumerPartitionConfig.builder().workerCount(2).build());
+
+    redisConsumer.pollAndProcessMessages();
+    verify(consumer, timeout(5000)).acknowledge(Collections.singletonList("2-0"));
+    verify(consumer, never()).acknowledge(Collections.singletonList("1-0"));
+
+    slowMessageReleased.countDown();
+    verify(consumer, timeout(5000)).acknowledge(Collections.singletonList("1-0"));
+  }
+
+  private static Message messageWithPlanExecutionId(String id, String planExecutionId) {
+    return Message.newBuilder()
+        .setId(id)
+        .setMessage(io.harness.eventsframework.producer.Message.newBuilder()
+                        .putMetadata(PmsConsumerPartitionConfig.PLAN_EXECUTION_ID_KEY, planExecutionId)
+                        .build())
+        .build();
+  }
 }
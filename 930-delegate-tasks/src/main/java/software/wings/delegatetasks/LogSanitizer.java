@@ -9,15 +9,13 @@ package software.wings.delegatetasks;
 
 import static io.harness.expression.SecretString.SECRET_MASK;
 
-import static org.apache.commons.lang3.StringUtils.replaceEach;
-
 import io.harness.annotations.dev.HarnessModule;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.annotations.dev.TargetModule;
 import io.harness.data.structure.EmptyPredicate;
+import io.harness.text.MultiPatternReplacer;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -45,15 +43,16 @@ public abstract class LogSanitizer {
     return line;
   }
 
+  /**
+   * Builds the masker for the given secret lines once, so that it can be reused for every log line of the task.
+   */
+  public static MultiPatternReplacer createSecretMasker(Set<String> secretLines) {
+    return new MultiPatternReplacer(secretLines, SECRET_MASK);
+  }
+
   public abstract String sanitizeLog(String activityId, String message);
 
-  protected String sanitizeLogInternal(String message, Set<String> secrets) {
-    ArrayList<String> secretMasks = new ArrayList<>();
-    ArrayList<String> secretValues = new ArrayList<>();
-    for (String secret : secrets) {
-      secretMasks.add(SECRET_MASK);
-      secretValues.add(secret);
-    }
-    return replaceEach(message, secretValues.toArray(new String[] {}), secretMasks.toArray(new String[] {}));
+  protected String sanitizeLogInternal(String message, MultiPatternReplacer secretMasker) {
+    return secretMasker.replace(message);
   }
 }
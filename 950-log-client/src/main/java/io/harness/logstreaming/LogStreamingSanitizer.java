@@ -10,30 +10,25 @@ package io.harness.logstreaming;
 import static io.harness.data.structure.EmptyPredicate.isEmpty;
 import static io.harness.expression.SecretString.SECRET_MASK;
 
-import static org.apache.commons.lang3.StringUtils.replaceEach;
+import io.harness.text.MultiPatternReplacer;
 
-import java.util.ArrayList;
 import java.util.Set;
 import lombok.Builder;
 
-@Builder
 public class LogStreamingSanitizer {
-  private final Set<String> secrets;
+  private final MultiPatternReplacer secretMasker;
+
+  @Builder
+  public LogStreamingSanitizer(Set<String> secrets) {
+    // Built once per sanitizer so that each log line is masked in a single pass
+    this.secretMasker = isEmpty(secrets) ? null : new MultiPatternReplacer(secrets, SECRET_MASK);
+  }
 
   public void sanitizeLogMessage(LogLine logLine) {
-    if (isEmpty(secrets)) {
+    if (secretMasker == null || secretMasker.isEmpty()) {
       return;
     }
 
-    ArrayList<String> secretMasks = new ArrayList<>();
-    ArrayList<String> secretValues = new ArrayList<>();
-    for (String secret : secrets) {
-      secretMasks.add(SECRET_MASK);
-      secretValues.add(secret);
-    }
-    String sanitizedLogMessage =
-        replaceEach(logLine.getMessage(), secretValues.toArray(new String[] {}), secretMasks.toArray(new String[] {}));
-
-    logLine.setMessage(sanitizedLogMessage);
+    logLine.setMessage(secretMasker.replace(logLine.getMessage()));
   }
 }
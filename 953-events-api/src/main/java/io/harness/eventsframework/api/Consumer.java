@@ -19,5 +19,16 @@ import java.util.List;
 public interface Consumer {
   List<Message> read(Duration maxWaitTime);
   void acknowledge(String messageId);
+
+  /**
+   * Acknowledges all the given messages. Implementations may do it in a single round trip, the default one falls back
+   * to acknowledging them one by one.
+   */
+  default void acknowledge(List<String> messageIds) {
+    for (String messageId : messageIds) {
+      acknowledge(messageId);
+    }
+  }
+
   void shutdown();
 }
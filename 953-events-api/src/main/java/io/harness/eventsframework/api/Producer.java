@@ -9,7 +9,25 @@ package io.harness.eventsframework.api;
 
 import io.harness.eventsframework.producer.Message;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public interface Producer {
   String send(Message message);
+
+  /**
+   * Sends all the messages to the topic, preserving their order. Implementations may send them in a single round
+   * trip; the default one falls back to sending them one by one.
+   *
+   * @return the message ids, in the same order as the messages
+   */
+  default List<String> sendBatch(List<Message> messages) {
+    List<String> messageIds = new ArrayList<>();
+    for (Message message : messages) {
+      messageIds.add(send(message));
+    }
+    return messageIds;
+  }
+
   void shutdown();
 }
@@ -40,8 +40,8 @@ import org.redisson.client.RedisException;
 @Slf4j
 public abstract class RedisAbstractConsumer extends AbstractConsumer {
   private static final String REDIS_CONSUMER_EVENT_METRIC = "redis_consumer_event_metric";
-  protected RStream<String, String> stream;
-  protected RStream<String, String> deadLetterQueue;
+  protected RStream<String, Object> stream;
+  protected RStream<String, Object> deadLetterQueue;
   protected RedissonClient redissonClient;
   protected Duration maxProcessingTime;
   protected int batchSize;
@@ -92,8 +92,8 @@ public abstract class RedisAbstractConsumer extends AbstractConsumer {
   }
 
   private void moveMessageToDeadLetterQueue(
-      StreamMessageId messageId, String groupName, Map<StreamMessageId, Map<String, String>> messages) {
-    Map<String, String> messageData = messages.getOrDefault(messageId, new HashMap<>());
+      StreamMessageId messageId, String groupName, Map<StreamMessageId, Map<String, Object>> messages) {
+    Map<String, Object> messageData = messages.getOrDefault(messageId, new HashMap<>());
     messageData.put("prevMessageId", messageId.toString());
     deadLetterQueue.addAll(messageData, RedisUtils.MAX_DEAD_LETTER_QUEUE_SIZE, false);
     stream.ack(groupName, messageId);
@@ -135,7 +135,7 @@ public abstract class RedisAbstractConsumer extends AbstractConsumer {
     if (pendingEntries.isEmpty()) {
       return Collections.emptyList();
     } else {
-      Map<StreamMessageId, Map<String, String>> messages = executeClaimCommand(pendingEntries);
+      Map<StreamMessageId, Map<String, Object>> messages = executeClaimCommand(pendingEntries);
       for (PendingEntry entry : pendingEntries) {
         StreamMessageId messageId = entry.getId();
         // If the message has been delivered breach our redelivery threshold then move this to deadLetterQueue
@@ -147,9 +147,9 @@ public abstract class RedisAbstractConsumer extends AbstractConsumer {
     }
   }
 
-  private Map<StreamMessageId, Map<String, String>> executeClaimCommand(List<PendingEntry> pendingEntries) {
+  private Map<StreamMessageId, Map<String, Object>> executeClaimCommand(List<PendingEntry> pendingEntries) {
     StreamMessageId[] messageIds = pendingEntries.stream().map(PendingEntry::getId).toArray(StreamMessageId[] ::new);
-    Map<StreamMessageId, Map<String, String>> messages = Collections.emptyMap();
+    Map<StreamMessageId, Map<String, Object>> messages = Collections.emptyMap();
     try {
       // Try to claim the pending messages from the group that are pending over max max processing time
       messages =
@@ -176,7 +176,7 @@ public abstract class RedisAbstractConsumer extends AbstractConsumer {
   }
 
   private List<Message> getNewMessagesInternal(Duration maxWaitTime) {
-    Map<StreamMessageId, Map<String, String>> result =
+    Map<StreamMessageId, Map<String, Object>> result =
         stream.readGroup(getGroupName(), getName(), batchSize, maxWaitTime.toMillis(), TimeUnit.MILLISECONDS);
     List<Message> messages = RedisUtils.getMessageObject(result);
     for (Message message : messages) {
@@ -238,6 +238,31 @@ public abstract class RedisAbstractConsumer extends AbstractConsumer {
     stream.ack(getGroupName(), RedisUtils.getStreamId(messageId));
   }
 
+  @Override
+  public void acknowledge(List<String> messageIds) {
+    if (messageIds.isEmpty()) {
+      return;
+    }
+    Supplier<Void> acknowledgeSupplier = () -> {
+      acknowledgeInternal(messageIds);
+      return null;
+    };
+
+    Supplier<Void> retryingAckMessage = Retry.decorateSupplier(retry, acknowledgeSupplier);
+    Try.ofSupplier(retryingAckMessage)
+        .recover(throwable -> {
+          createConsumerGroupIfNotPresent(throwable);
+          // Exhausted exponential backoff to try operating on redis
+          throw new EventsFrameworkDownException(throwable.getMessage());
+        })
+        .get();
+  }
+
+  private void acknowledgeInternal(List<String> messageIds) {
+    // XACK accepts multiple ids, so the whole list is acknowledged in a single round trip
+    stream.ack(getGroupName(), messageIds.stream().map(RedisUtils::getStreamId).toArray(StreamMessageId[] ::new));
+  }
+
   private void createConsumerGroupIfNotPresent(Throwable e) {
     if (e.getMessage().matches("(.*)NOGROUP No such key(.*)or consumer group(.*)")) {
       log.info("Key or consumer group not present, attempting to create consumer group {} for {}", getGroupName(),
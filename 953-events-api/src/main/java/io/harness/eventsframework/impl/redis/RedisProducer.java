@@ -8,7 +8,9 @@
 package io.harness.eventsframework.impl.redis;
 
 import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
 import static io.harness.eventsframework.impl.redis.RedisUtils.REDIS_STREAM_INTERNAL_KEY;
+import static io.harness.eventsframework.impl.redis.RedisUtils.REDIS_STREAM_RAW_DATA_KEY;
 import static io.harness.eventsframework.impl.redis.RedisUtils.REDIS_STREAM_TRACE_ID_KEY;
 
 import io.harness.annotations.dev.OwnedBy;
@@ -24,13 +26,20 @@ import io.github.resilience4j.retry.Retry;
 import io.github.resilience4j.retry.RetryConfig;
 import io.opentelemetry.api.trace.Span;
 import io.vavr.control.Try;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Supplier;
 import javax.validation.constraints.NotNull;
 import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.BatchOptions;
+import org.redisson.api.RBatch;
+import org.redisson.api.RFuture;
 import org.redisson.api.RStream;
+import org.redisson.api.RStreamAsync;
 import org.redisson.api.RedissonClient;
 import org.redisson.api.StreamMessageId;
 import org.slf4j.MDC;
@@ -40,7 +49,7 @@ import org.slf4j.MDC;
 public class RedisProducer extends AbstractProducer {
   private static final String PRODUCER = "producer";
   private static final String REDIS_PRODUCER_EVENT_METRIC = "redis_producer_event_metric";
-  private RStream<String, String> stream;
+  private RStream<String, Object> stream;
   private RedissonClient redissonClient;
   @Inject private RedisEventMetricPublisher redisEventMetricPublisher;
   // This is used when the consumer for the event are no longer accepting due to some failure and
@@ -48,6 +57,9 @@ public class RedisProducer extends AbstractProducer {
   // very important to understand the alerting on the consumers and the scale estimations of a
   // particular use-case which is pushing to the topic
   private int maxTopicSize;
+  // Writes the payload as raw bytes instead of Base64. Only enable this once every consumer of the topic runs a
+  // version which understands REDIS_STREAM_RAW_DATA_KEY, older consumers can't read such messages.
+  private boolean rawPayloadEncoding;
 
   private Retry retry;
 
@@ -75,33 +87,79 @@ public class RedisProducer extends AbstractProducer {
     this.retry = Retry.of("redisProducer:" + topicName, retryConfig);
   }
 
+  public RedisProducer withRawPayloadEncoding(boolean rawPayloadEncoding) {
+    this.rawPayloadEncoding = rawPayloadEncoding;
+    return this;
+  }
+
   @Override
   public String send(Message message) {
-    return handleMessage(message);
+    return handleWithRetry(() -> sendInternal(message));
+  }
+
+  /**
+   * Sends all the messages in a single pipelined round trip. If the batch fails it is retried as a whole, so like
+   * {@link #send(Message)} this is at-least-once: messages of a failed attempt may have been added already.
+   */
+  @Override
+  public List<String> sendBatch(List<Message> messages) {
+    if (isEmpty(messages)) {
+      return Collections.emptyList();
+    }
+    return handleWithRetry(() -> sendBatchInternal(messages));
   }
 
   private String sendInternal(Message message) {
-    Map<String, String> redisData = new HashMap<>(message.getMetadataMap());
-    addTraceId(redisData);
-    redisData.put(REDIS_STREAM_INTERNAL_KEY, Base64.getEncoder().encodeToString(message.getData().toByteArray()));
-    populateOtherProducerSpecificData(redisData);
+    Map<String, Object> redisData = prepareRedisData(message);
 
     StreamMessageId messageId = stream.addAll(redisData, maxTopicSize, false);
     addMonitoring(message);
     redisData.remove(REDIS_STREAM_INTERNAL_KEY);
+    redisData.remove(REDIS_STREAM_RAW_DATA_KEY);
     log.info("Events framework message inserted - messageId: {}, metaData: {} in the topic: {}", messageId, redisData,
         this.getTopicName());
     return messageId.toString();
   }
 
+  private List<String> sendBatchInternal(List<Message> messages) {
+    RBatch batch = redissonClient.createBatch(BatchOptions.defaults());
+    RStreamAsync<String, Object> batchStream = batch.getStream(stream.getName(), stream.getCodec());
+    List<RFuture<StreamMessageId>> futures = new ArrayList<>();
+    for (Message message : messages) {
+      futures.add(batchStream.addAllAsync(prepareRedisData(message), maxTopicSize, false));
+    }
+    batch.execute();
+
+    List<String> messageIds = new ArrayList<>();
+    for (RFuture<StreamMessageId> future : futures) {
+      messageIds.add(future.getNow().toString());
+    }
+    messages.forEach(this::addMonitoring);
+    log.info("Events framework batch of {} messages inserted - messageIds: {} to {} in the topic: {}", messageIds.size(),
+        messageIds.get(0), messageIds.get(messageIds.size() - 1), this.getTopicName());
+    return messageIds;
+  }
+
+  private Map<String, Object> prepareRedisData(Message message) {
+    Map<String, String> metadata = new HashMap<>(message.getMetadataMap());
+    addTraceId(metadata);
+    populateOtherProducerSpecificData(metadata);
+
+    Map<String, Object> redisData = new HashMap<>(metadata);
+    if (rawPayloadEncoding) {
+      redisData.put(REDIS_STREAM_RAW_DATA_KEY, message.getData().toByteArray());
+    } else {
+      redisData.put(REDIS_STREAM_INTERNAL_KEY, Base64.getEncoder().encodeToString(message.getData().toByteArray()));
+    }
+    return redisData;
+  }
+
   protected void populateOtherProducerSpecificData(Map<String, String> redisData) {
     redisData.put(PRODUCER, this.getProducerName());
   }
 
-  private String handleMessage(Message message) {
-    Supplier<String> sendMessageSupplier = () -> sendInternal(message);
-
-    Supplier<String> retryingSendMessage = Retry.decorateSupplier(retry, sendMessageSupplier);
+  private <T> T handleWithRetry(Supplier<T> sendMessageSupplier) {
+    Supplier<T> retryingSendMessage = Retry.decorateSupplier(retry, sendMessageSupplier);
 
     return Try.ofSupplier(retryingSendMessage)
         .recover(throwable -> {
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.eventsframework.impl.redis;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import org.redisson.client.codec.BaseCodec;
+import org.redisson.client.protocol.Decoder;
+import org.redisson.client.protocol.Encoder;
+
+/**
+ * Codec for the events framework streams. String values are written as plain UTF-8, exactly like the
+ * {@link org.redisson.client.codec.StringCodec} used earlier, so messages written before this codec are read back
+ * unchanged. byte[] values are written as-is behind a single marker byte; the marker (0xFF) never occurs in valid
+ * UTF-8, which lets the decoder tell the two apart without knowing the field name.
+ */
+@OwnedBy(PL)
+public class RedisStreamCodec extends BaseCodec {
+  public static final RedisStreamCodec INSTANCE = new RedisStreamCodec();
+
+  private static final byte RAW_BYTES_MARKER = (byte) 0xFF;
+  private static final Charset CHARSET = StandardCharsets.UTF_8;
+
+  private final Encoder encoder = in -> {
+    ByteBuf out = ByteBufAllocator.DEFAULT.buffer();
+    if (in instanceof byte[]) {
+      out.writeByte(RAW_BYTES_MARKER);
+      out.writeBytes((byte[]) in);
+    } else {
+      out.writeCharSequence(in.toString(), CHARSET);
+    }
+    return out;
+  };
+
+  private final Decoder<Object> decoder = (buf, state) -> {
+    if (buf.isReadable() && buf.getByte(buf.readerIndex()) == RAW_BYTES_MARKER) {
+      buf.skipBytes(1);
+      byte[] result = new byte[buf.readableBytes()];
+      buf.readBytes(result);
+      return result;
+    }
+    String str = buf.toString(CHARSET);
+    buf.readerIndex(buf.readableBytes());
+    return str;
+  };
+
+  @Override
+  public Decoder<Object> getValueDecoder() {
+    return decoder;
+  }
+
+  @Override
+  public Encoder getValueEncoder() {
+    return encoder;
+  }
+}
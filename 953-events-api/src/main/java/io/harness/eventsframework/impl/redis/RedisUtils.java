@@ -21,19 +21,21 @@ import com.google.protobuf.Timestamp;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import lombok.experimental.UtilityClass;
 import org.redisson.api.RStream;
 import org.redisson.api.RedissonClient;
 import org.redisson.api.StreamMessageId;
-import org.redisson.client.codec.StringCodec;
 
 @OwnedBy(PL)
 @UtilityClass
 public class RedisUtils {
   // Keeping this as small as possible to save on memory for redis instance
   public static final String REDIS_STREAM_INTERNAL_KEY = "o";
+  // Holds the payload as raw bytes instead of the Base64 string stored against REDIS_STREAM_INTERNAL_KEY
+  public static final String REDIS_STREAM_RAW_DATA_KEY = "b";
   public static final String REDIS_STREAM_TRACE_ID_KEY = "trace_id";
   public static final int MAX_DEAD_LETTER_QUEUE_SIZE = 50000;
   public static final int UNACKED_RETRY_COUNT = 10;
@@ -42,11 +44,11 @@ public class RedisUtils {
     return fromMillis(parseLong(messageId.split("-")[0]));
   }
 
-  public RStream<String, String> getStream(String topicName, RedissonClient client, String envNamespace) {
-    return client.getStream(getStreamName(envNamespace, topicName), new StringCodec("UTF-8"));
+  public RStream<String, Object> getStream(String topicName, RedissonClient client, String envNamespace) {
+    return client.getStream(getStreamName(envNamespace, topicName), RedisStreamCodec.INSTANCE);
   }
 
-  public RStream<String, String> getDeadLetterStream(String topicName, RedissonClient client, String envNamespace) {
+  public RStream<String, Object> getDeadLetterStream(String topicName, RedissonClient client, String envNamespace) {
     String deadLetterStreamName = "deadletter_queue:" + topicName;
     return getStream(deadLetterStreamName, client, envNamespace);
   }
@@ -64,14 +66,14 @@ public class RedisUtils {
     return new StreamMessageId(parseLong(parts[0]), parseLong(parts[1]));
   }
 
-  public List<Message> getMessageObject(Map<StreamMessageId, Map<String, String>> result) {
+  public List<Message> getMessageObject(Map<StreamMessageId, Map<String, Object>> result) {
     if (isEmpty(result)) {
       return Collections.emptyList();
     } else {
       List<Message> messages = new ArrayList<>();
-      Map<String, String> messageMap;
+      Map<String, Object> messageMap;
       StreamMessageId messageId;
-      for (Map.Entry<StreamMessageId, Map<String, String>> entry : result.entrySet()) {
+      for (Map.Entry<StreamMessageId, Map<String, Object>> entry : result.entrySet()) {
         messageId = entry.getKey();
         messageMap = entry.getValue();
         messages.add(getConsumerMessageObject(messageId, messageMap));
@@ -83,18 +85,31 @@ public class RedisUtils {
 
   public io.harness.eventsframework.producer.Message getProducedMessage(
       String messageData, Map<String, String> messageMap) {
+    return getProducedMessage(Base64.getDecoder().decode(messageData), messageMap);
+  }
+
+  public io.harness.eventsframework.producer.Message getProducedMessage(
+      byte[] messageData, Map<String, String> messageMap) {
     return io.harness.eventsframework.producer.Message.newBuilder()
-        .setData(ByteString.copyFrom(Base64.getDecoder().decode(messageData)))
+        .setData(ByteString.copyFrom(messageData))
         .putAllMetadata(messageMap)
         .build();
   }
 
-  public Message getConsumerMessageObject(StreamMessageId messageId, Map<String, String> messageMap) {
-    String messageData = messageMap.remove(REDIS_STREAM_INTERNAL_KEY);
+  public Message getConsumerMessageObject(StreamMessageId messageId, Map<String, Object> messageMap) {
+    Object rawData = messageMap.remove(REDIS_STREAM_RAW_DATA_KEY);
+    Object encodedData = messageMap.remove(REDIS_STREAM_INTERNAL_KEY);
+    Map<String, String> metadata = new HashMap<>();
+    messageMap.forEach((key, value) -> metadata.put(key, String.valueOf(value)));
+
+    // Messages written before raw payloads were supported only carry the Base64 encoded field
+    io.harness.eventsframework.producer.Message producedMessage = rawData instanceof byte[]
+        ? getProducedMessage((byte[]) rawData, metadata)
+        : getProducedMessage((String) encodedData, metadata);
 
     return Message.newBuilder()
         .setId(messageId.toString())
-        .setMessage(getProducedMessage(messageData, messageMap))
+        .setMessage(producedMessage)
         .setTimestamp(RedisUtils.getMessageTimestamp(messageId.toString()))
         .build();
   }
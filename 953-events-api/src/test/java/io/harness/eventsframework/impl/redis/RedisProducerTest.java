@@ -0,0 +1,158 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.eventsframework.impl.redis;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.eventsframework.impl.redis.RedisUtils.REDIS_STREAM_INTERNAL_KEY;
+import static io.harness.eventsframework.impl.redis.RedisUtils.REDIS_STREAM_RAW_DATA_KEY;
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyMap;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.eventsframework.producer.Message;
+import io.harness.rule.Owner;
+
+import com.google.protobuf.ByteString;
+import io.netty.buffer.ByteBuf;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+import org.redisson.api.RBatch;
+import org.redisson.api.RFuture;
+import org.redisson.api.RStream;
+import org.redisson.api.RStreamAsync;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.StreamMessageId;
+import org.redisson.client.RedisException;
+
+@OwnedBy(PL)
+public class RedisProducerTest extends CategoryTest {
+  private static final String TOPIC = "topic";
+  private static final byte[] PAYLOAD = {(byte) 0xFF, 0, 1, 2, (byte) 0x80};
+
+  private RedissonClient redissonClient;
+  private RStream<String, Object> stream;
+
+  @Before
+  @SuppressWarnings("unchecked")
+  public void setUp() {
+    redissonClient = mock(RedissonClient.class);
+    stream = mock(RStream.class);
+    when(redissonClient.<String, Object>getStream(anyString(), any(RedisStreamCodec.class))).thenReturn(stream);
+    when(stream.getName()).thenReturn("streams:" + TOPIC);
+    when(stream.getCodec()).thenReturn(RedisStreamCodec.INSTANCE);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testRawPayloadRoundTrip() throws Exception {
+    RedisProducer producer = RedisProducer.of(TOPIC, redissonClient, 100, "producer", "").withRawPayloadEncoding(true);
+
+    Map<String, Object> written = send(producer);
+
+    assertThat(written).containsKey(REDIS_STREAM_RAW_DATA_KEY).doesNotContainKey(REDIS_STREAM_INTERNAL_KEY);
+    assertConsumedAsSent(written);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testLegacyPayloadRoundTrip() throws Exception {
+    RedisProducer producer = RedisProducer.of(TOPIC, redissonClient, 100, "producer", "");
+
+    Map<String, Object> written = send(producer);
+
+    assertThat(written).containsKey(REDIS_STREAM_INTERNAL_KEY).doesNotContainKey(REDIS_STREAM_RAW_DATA_KEY);
+    assertThat(written.get(REDIS_STREAM_INTERNAL_KEY)).isInstanceOf(String.class);
+    assertConsumedAsSent(written);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testSendBatchRetriesTheWholeBatchOnPartialFailure() {
+    AtomicLong sequence = new AtomicLong();
+    RBatch failedBatch = mockBatch(sequence);
+    RBatch batch = mockBatch(sequence);
+    // redis applies the commands of a batch one by one, so some messages of the failed attempt may have been added
+    when(failedBatch.execute()).thenThrow(new RedisException("OOM command not allowed"));
+    when(redissonClient.createBatch(any())).thenReturn(failedBatch, batch);
+    RedisProducer producer = RedisProducer.of(TOPIC, redissonClient, 100, "producer", "");
+
+    List<String> messageIds = producer.sendBatch(Arrays.asList(message("1"), message("2"), message("3")));
+
+    assertThat(messageIds).containsExactly("1-4", "1-5", "1-6");
+    verify(redissonClient, times(2)).createBatch(any());
+    verify(stream, never()).addAll(anyMap(), anyInt(), eq(false));
+  }
+
+  @SuppressWarnings("unchecked")
+  private RBatch mockBatch(AtomicLong sequence) {
+    RBatch batch = mock(RBatch.class);
+    RStreamAsync<String, Object> batchStream = mock(RStreamAsync.class);
+    when(batch.<String, Object>getStream(anyString(), any())).thenReturn(batchStream);
+    when(batchStream.addAllAsync(anyMap(), anyInt(), eq(false))).thenAnswer(invocation -> {
+      RFuture<StreamMessageId> future = mock(RFuture.class);
+      when(future.getNow()).thenReturn(new StreamMessageId(1, sequence.incrementAndGet()));
+      return future;
+    });
+    return batch;
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<String, Object> send(RedisProducer producer) {
+    when(stream.addAll(anyMap(), anyInt(), eq(false))).thenReturn(new StreamMessageId(1, 1));
+    producer.send(message("value"));
+    ArgumentCaptor<Map> captor = ArgumentCaptor.forClass(Map.class);
+    verify(stream).addAll(captor.capture(), anyInt(), eq(false));
+    return captor.getValue();
+  }
+
+  private void assertConsumedAsSent(Map<String, Object> written) throws Exception {
+    // what the consumer reads is what the stream codec decodes from what it encoded
+    Map<String, Object> read = new HashMap<>();
+    for (Map.Entry<String, Object> entry : written.entrySet()) {
+      ByteBuf encoded = RedisStreamCodec.INSTANCE.getValueEncoder().encode(entry.getValue());
+      read.put(entry.getKey(), RedisStreamCodec.INSTANCE.getValueDecoder().decode(encoded, null));
+    }
+
+    io.harness.eventsframework.consumer.Message consumed =
+        RedisUtils.getConsumerMessageObject(new StreamMessageId(1, 1), read);
+
+    assertThat(consumed.getId()).isEqualTo("1-1");
+    assertThat(consumed.getMessage().getData().toByteArray()).isEqualTo(PAYLOAD);
+    assertThat(consumed.getMessage().getMetadataMap())
+        .containsEntry("key", "value")
+        .containsEntry("producer", "producer")
+        .doesNotContainKeys(REDIS_STREAM_INTERNAL_KEY, REDIS_STREAM_RAW_DATA_KEY);
+  }
+
+  private static Message message(String value) {
+    return Message.newBuilder().setData(ByteString.copyFrom(PAYLOAD)).putMetadata("key", value).build();
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.eventsframework.impl.redis;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import io.netty.buffer.ByteBuf;
+import java.io.IOException;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.redisson.client.codec.StringCodec;
+
+@OwnedBy(PL)
+public class RedisStreamCodecTest extends CategoryTest {
+  private final RedisStreamCodec codec = RedisStreamCodec.INSTANCE;
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testStringRoundTrip() throws IOException {
+    ByteBuf encoded = codec.getValueEncoder().encode("ñame-✓");
+    assertThat(codec.getValueDecoder().decode(encoded, null)).isEqualTo("ñame-✓");
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testBytesRoundTrip() throws IOException {
+    byte[] payload = {(byte) 0xFF, 0, 1, (byte) 0x80, 'a'};
+    ByteBuf encoded = codec.getValueEncoder().encode(payload);
+    assertThat(codec.getValueDecoder().decode(encoded, null)).isEqualTo(payload);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testEmptyBytesAreNotReadAsString() throws IOException {
+    ByteBuf encoded = codec.getValueEncoder().encode(new byte[0]);
+    assertThat(codec.getValueDecoder().decode(encoded, null)).isEqualTo(new byte[0]);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testStringsAreCompatibleWithStringCodec() throws IOException {
+    ByteBuf writtenBefore = StringCodec.INSTANCE.getValueEncoder().encode("legacy");
+    assertThat(codec.getValueDecoder().decode(writtenBefore, null)).isEqualTo("legacy");
+
+    ByteBuf writtenNow = codec.getValueEncoder().encode("current");
+    assertThat(StringCodec.INSTANCE.getValueDecoder().decode(writtenNow, null)).isEqualTo("current");
+  }
+}
@@ -446,7 +446,8 @@ public class YamlNode implements Visitable {
   public static String getNodeYaml(String yaml, Ambiance ambiance) {
     YamlNode currentNode = null;
     try {
-      currentNode = YamlNode.fromYamlPath(yaml, "");
+      // only the returned part of the shared tree is copied
+      currentNode = new YamlNode(YamlUtils.readSharedTree(yaml));
     } catch (IOException e) {
       throw new InvalidYamlException("Yaml could not be converted to YamlNode. Please check if the yaml is correct.");
     }
@@ -482,7 +483,7 @@ public class YamlNode implements Visitable {
         currentNode = currentNode.gotoPath(nodeId);
       }
     }
-    return new YamlConfig(currentNode.getParentNode().getCurrJsonNode()).getYaml();
+    return new YamlConfig(currentNode.getParentNode().getCurrJsonNode().deepCopy()).getYaml();
   }
 
   // Check if YamlNode matches the nodeId.
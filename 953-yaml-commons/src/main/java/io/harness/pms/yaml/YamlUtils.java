@@ -33,14 +33,23 @@ import com.fasterxml.jackson.datatype.guava.GuavaModule;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.hash.Hashing;
 import io.serializer.jackson.NGHarnessJacksonModule;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+import lombok.Value;
 import lombok.experimental.UtilityClass;
 
 @UtilityClass
@@ -50,8 +59,33 @@ public class YamlUtils {
 
   private static final List<String> ignorableStringForQualifiedName = Arrays.asList("step", "parallel");
 
+  // Yamls shorter than this are parsed on every read, hashing and copying the cached tree costs about as much as
+  // parsing them. Set with the yaml.parsedTreeCache.minChars system property.
+  private static final int PARSED_TREE_CACHE_MIN_CHARS = Integer.getInteger("yaml.parsedTreeCache.minChars", 8192);
+  // Estimated heap size of the parsed trees which are kept. Set with the yaml.parsedTreeCache.maxBytes system property.
+  private static final long PARSED_TREE_CACHE_MAX_BYTES =
+      Long.getLong("yaml.parsedTreeCache.maxBytes", 64L * 1024 * 1024);
+  // Rough heap size of a jackson node with the map or list entry and the field name which refer to it
+  private static final int PARSED_TREE_BYTES_PER_NODE = 128;
+
   private final ObjectMapper mapper;
 
+  // Parsed trees by the hash of their yaml. The trees are shared so they must never be changed, callers which get the
+  // tree get a deep copy of it, which is still a lot cheaper than parsing the yaml again.
+  private final Cache<String, ParsedTree> parsedTrees =
+      CacheBuilder.newBuilder()
+          .maximumWeight(PARSED_TREE_CACHE_MAX_BYTES)
+          .weigher((String hash, ParsedTree parsedTree) -> parsedTree.getEstimatedBytes())
+          .expireAfterAccess(10, TimeUnit.MINUTES)
+          .recordStats()
+          .build();
+
+  @Value
+  private static class ParsedTree {
+    int estimatedBytes;
+    JsonNode root;
+  }
+
   static {
     mapper = new ObjectMapper(new YAMLFactory());
     mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
@@ -82,11 +116,48 @@ public class YamlUtils {
   }
 
   public YamlField readTree(String content) throws IOException {
-    JsonNode rootJsonNode = mapper.readTree(content);
-    YamlNode rootYamlNode = new YamlNode(rootJsonNode);
+    JsonNode rootJsonNode = readSharedTree(content);
+    YamlNode rootYamlNode = new YamlNode(rootJsonNode == null ? null : rootJsonNode.deepCopy());
     return new YamlField(rootYamlNode);
   }
 
+  /**
+   * @return the parsed tree of the yaml, shared with all other readers of the same yaml. It must not be changed, copy
+   *     the part which is handed out or changed
+   */
+  JsonNode readSharedTree(String content) throws IOException {
+    if (isEmpty(content) || content.length() < PARSED_TREE_CACHE_MIN_CHARS) {
+      return mapper.readTree(content);
+    }
+    String hash = Hashing.sha256().hashString(content, StandardCharsets.UTF_8).toString();
+    ParsedTree parsedTree = parsedTrees.getIfPresent(hash);
+    if (parsedTree != null) {
+      return parsedTree.getRoot();
+    }
+    JsonNode rootJsonNode = mapper.readTree(content);
+    if (rootJsonNode != null) {
+      parsedTrees.put(hash, new ParsedTree(estimateBytes(rootJsonNode, content), rootJsonNode));
+    }
+    return rootJsonNode;
+  }
+
+  // The values of the tree take at most two bytes per char of the yaml, on top of that every node has its own overhead
+  private int estimateBytes(JsonNode root, String content) {
+    long nodes = 0;
+    Deque<JsonNode> pending = new ArrayDeque<>();
+    pending.push(root);
+    while (!pending.isEmpty()) {
+      JsonNode node = pending.pop();
+      nodes++;
+      node.elements().forEachRemaining(pending::push);
+    }
+    return (int) Math.min(Integer.MAX_VALUE, nodes * PARSED_TREE_BYTES_PER_NODE + 2L * content.length());
+  }
+
+  public CacheStats getParsedTreeCacheStats() {
+    return parsedTrees.stats();
+  }
+
   public YamlField readTree(Object obj, String currentFieldName, YamlNode parentNode) {
     try {
       JsonNode currentJsonNode = mapper.valueToTree(obj);
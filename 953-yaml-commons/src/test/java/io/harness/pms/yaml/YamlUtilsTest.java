@@ -16,20 +16,28 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import io.harness.CategoryTest;
 import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.StressTests;
 import io.harness.category.element.UnitTests;
 import io.harness.rule.Owner;
 import io.harness.rule.OwnerRule;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.google.api.client.util.Charsets;
+import com.google.common.hash.Hashing;
 import com.google.common.io.Resources;
 import java.io.IOException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.LinkedHashMap;
+import java.util.concurrent.Callable;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.Ignore;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
 
 @OwnedBy(PIPELINE)
+@Slf4j
 public class YamlUtilsTest extends CategoryTest {
   @Test
   @Owner(developers = ARCHIT)
@@ -321,6 +329,67 @@ public class YamlUtilsTest extends CategoryTest {
     assertThat(YamlUtils.getStageFqnPath(step1Node)).isEqualTo("pipeline.stages.qaStage");
   }
 
+  @Test
+  @Owner(developers = SAHIL)
+  @Category(UnitTests.class)
+  public void testReadTreeFromParsedTreeCache() throws IOException {
+    ClassLoader classLoader = this.getClass().getClassLoader();
+    final URL testFile = classLoader.getResource("pipeline.yaml");
+    String yamlContent = YamlUtils.injectUuid(Resources.toString(testFile, Charsets.UTF_8));
+    long hitCount = YamlUtils.getParsedTreeCacheStats().hitCount();
+
+    YamlField yamlField = YamlUtils.readTree(yamlContent);
+    yamlField.getNode().getField("pipeline").getNode().removePath("stages");
+    YamlField cachedYamlField = YamlUtils.readTree(yamlContent);
+    assertThat(YamlUtils.getParsedTreeCacheStats().hitCount()).isGreaterThan(hitCount);
+    assertThat(cachedYamlField.getNode().getField("pipeline").getNode().getField("stages")).isNotNull();
+  }
+
+  @Test
+  @Owner(developers = SAHIL)
+  @Category(UnitTests.class)
+  public void testSmallYamlIsNotCached() throws IOException {
+    String yamlContent = "pipeline:\n  identifier: p1\n";
+    long requestCount = YamlUtils.getParsedTreeCacheStats().requestCount();
+
+    YamlUtils.readTree(yamlContent);
+    YamlUtils.readTree(yamlContent);
+    assertThat(YamlUtils.getParsedTreeCacheStats().requestCount()).isEqualTo(requestCount);
+  }
+
+  @Test
+  @Owner(developers = SAHIL)
+  @Category(StressTests.class)
+  @Ignore("Compares parsing with reading from the parsed tree cache, run it manually when tuning the cache")
+  public void testParsedTreeCachePerformance() throws Exception {
+    for (String resource : Arrays.asList("failure-strategy.yaml", "jsonNodeWithList.yaml", "pipeline.yaml")) {
+      String yamlContent = YamlUtils.injectUuid(
+          Resources.toString(this.getClass().getClassLoader().getResource(resource), Charsets.UTF_8));
+      JsonNode cachedTree = YamlUtils.toByteString(yamlContent).getNode().getCurrJsonNode();
+      long parseNanos = measureNanos(() -> YamlUtils.toByteString(yamlContent));
+      // what a cache hit costs: hashing the yaml and copying the cached tree
+      long cachedReadNanos = measureNanos(() -> {
+        Hashing.sha256().hashString(yamlContent, StandardCharsets.UTF_8).toString();
+        return cachedTree.deepCopy();
+      });
+      log.info("Yaml of {} chars: parsing took {}us, a cached read took {}us", yamlContent.length(),
+          parseNanos / 1000, cachedReadNanos / 1000);
+    }
+  }
+
+  private long measureNanos(Callable<Object> read) throws Exception {
+    int iterations = 2000;
+    // the first round warms up the jit
+    for (int i = 0; i < iterations; i++) {
+      read.call();
+    }
+    long start = System.nanoTime();
+    for (int i = 0; i < iterations; i++) {
+      read.call();
+    }
+    return (System.nanoTime() - start) / iterations;
+  }
+
   @Test
   @Owner(developers = OwnerRule.YOGESH)
   @Category(UnitTests.class)
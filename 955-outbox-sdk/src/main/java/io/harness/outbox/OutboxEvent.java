@@ -60,6 +60,8 @@ public class OutboxEvent implements PersistentEntity {
   @CreatedDate Long createdAt;
   @Setter @Builder.Default Boolean blocked = Boolean.FALSE;
   @Setter Instant nextUnblockAttemptAt;
+  @Setter Integer attempts;
+  Integer partition;
 
   GlobalContext globalContext;
 
@@ -76,6 +78,11 @@ public class OutboxEvent implements PersistentEntity {
                  .field(OutboxEventKeys.eventType)
                  .field(OutboxEventKeys.blocked)
                  .build())
+        .add(CompoundMongoIndex.builder()
+                 .name("partition_createdAt_outbox_Idx")
+                 .field(OutboxEventKeys.partition)
+                 .field(OutboxEventKeys.createdAt)
+                 .build())
         .build();
   }
 }
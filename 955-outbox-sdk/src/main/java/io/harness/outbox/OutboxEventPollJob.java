@@ -13,23 +13,30 @@ import static io.harness.outbox.OutboxSDKConstants.DEFAULT_MAX_EVENTS_POLLED;
 import static io.harness.outbox.OutboxSDKConstants.DEFAULT_UNBLOCK_RETRY_INTERVAL_IN_MINUTES;
 
 import io.harness.annotations.dev.OwnedBy;
-import io.harness.exception.UnexpectedException;
 import io.harness.lock.AcquiredLock;
 import io.harness.lock.PersistentLocker;
 import io.harness.outbox.api.OutboxEventHandler;
 import io.harness.outbox.api.OutboxService;
 import io.harness.outbox.filter.OutboxEventFilter;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.inject.Inject;
 import io.github.resilience4j.core.IntervalFunction;
-import io.github.resilience4j.retry.Retry;
-import io.github.resilience4j.retry.RetryConfig;
 import java.time.Duration;
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Drains the outbox shard by shard. Every shard is drained under its own lock by its own worker, in the order the
+ * events were created. An event which can't be handled is blocked and picked up again by a later poll after an
+ * exponentially growing interval, so it doesn't hold up the events behind it.
+ */
 @OwnedBy(PL)
 @Slf4j
 public class OutboxEventPollJob implements Runnable {
@@ -37,9 +44,12 @@ public class OutboxEventPollJob implements Runnable {
   private final OutboxEventHandler outboxEventHandler;
   private final PersistentLocker persistentLocker;
   private final OutboxPollConfiguration outboxPollConfiguration;
-  private final OutboxEventFilter outboxEventFilter;
-  private final Retry retry;
+  private final IntervalFunction unblockIntervalFunction;
+  private final int numberOfShards;
+  private final ExecutorService shardExecutorService;
   private static final String OUTBOX_POLL_JOB_LOCK = "OUTBOX_POLL_JOB_LOCK";
+  private static final Duration OUTBOX_POLL_JOB_LOCK_TIMEOUT = Duration.ofMinutes(2);
+  private static final Duration MAXIMUM_DRAIN_DURATION = Duration.ofMinutes(1);
   private final String outboxLockId;
 
   @Inject
@@ -50,12 +60,14 @@ public class OutboxEventPollJob implements Runnable {
     this.persistentLocker = persistentLocker;
     this.outboxPollConfiguration = outboxPollConfiguration;
     this.outboxLockId = OUTBOX_POLL_JOB_LOCK + "_" + this.outboxPollConfiguration.getLockId();
-    this.outboxEventFilter = OutboxEventFilter.builder().maximumEventsPolled(DEFAULT_MAX_EVENTS_POLLED).build();
-    RetryConfig retryConfig = RetryConfig.custom()
-                                  .intervalFunction(IntervalFunction.ofExponentialBackoff(1000, 1.5))
-                                  .maxAttempts(this.outboxPollConfiguration.getMaximumRetryAttemptsForAnEvent())
-                                  .build();
-    this.retry = Retry.of("outboxEventHandleRetry", retryConfig);
+    this.unblockIntervalFunction = IntervalFunction.ofExponentialBackoff(1000, 1.5);
+    this.numberOfShards = OutboxPartitions.getNumberOfShards(outboxPollConfiguration);
+    this.shardExecutorService = numberOfShards == 1
+        ? null
+        : Executors.newFixedThreadPool(numberOfShards,
+            new ThreadFactoryBuilder()
+                .setNameFormat("outbox-shard-thread-" + outboxPollConfiguration.getLockId() + "-%d")
+                .build());
   }
 
   @Override
@@ -69,74 +81,125 @@ public class OutboxEventPollJob implements Runnable {
     }
   }
 
+  public void shutdown() {
+    if (shardExecutorService != null) {
+      shardExecutorService.shutdownNow();
+    }
+  }
+
   private void pollAndHandleOutboxEvents() {
-    try (AcquiredLock<?> lock = persistentLocker.tryToAcquireLock(outboxLockId, Duration.ofMinutes(2))) {
-      if (lock == null) {
-        log.warn("Could not acquire lock for outbox poll job");
+    if (shardExecutorService == null) {
+      drainShard(0);
+      return;
+    }
+    List<Future<?>> shardFutures = new ArrayList<>();
+    for (int shard = 0; shard < numberOfShards; shard++) {
+      int shardToPoll = shard;
+      shardFutures.add(shardExecutorService.submit(() -> drainShard(shardToPoll)));
+    }
+    for (Future<?> shardFuture : shardFutures) {
+      try {
+        shardFuture.get();
+      } catch (ExecutionException exception) {
+        log.error("Unexpected error occurred while draining an outbox shard", exception.getCause());
+      } catch (InterruptedException exception) {
+        Thread.currentThread().interrupt();
+        shardFutures.forEach(future -> future.cancel(true));
         return;
       }
-      List<OutboxEvent> outboxEvents;
-      try {
-        outboxEvents = outboxService.list(outboxEventFilter);
-      } catch (InstantiationError error) {
-        log.error("InstantiationError occurred while fetching entries from the outbox", error);
+    }
+  }
+
+  private void drainShard(int shard) {
+    String lockId = numberOfShards == 1 ? outboxLockId : outboxLockId + "_" + shard;
+    try (AcquiredLock<?> lock = persistentLocker.tryToAcquireLock(lockId, OUTBOX_POLL_JOB_LOCK_TIMEOUT)) {
+      if (lock == null) {
+        log.warn("Could not acquire lock for outbox poll job for shard {}", shard);
         return;
       }
+      OutboxEventFilter outboxEventFilter =
+          OutboxEventFilter.builder()
+              .maximumEventsPolled(DEFAULT_MAX_EVENTS_POLLED)
+              .partitions(numberOfShards == 1 ? null : OutboxPartitions.getPartitionsOfShard(shard, numberOfShards))
+              .build();
+      // keep draining while full pages come back instead of waiting for the next poll, within the lock timeout
+      long drainUntil = System.currentTimeMillis() + MAXIMUM_DRAIN_DURATION.toMillis();
+      boolean drainMore;
+      do {
+        drainMore = pollAndHandleOutboxEvents(outboxEventFilter);
+      } while (drainMore && !Thread.currentThread().isInterrupted() && System.currentTimeMillis() < drainUntil);
+    }
+  }
 
-      for (int i = 0; i < outboxEvents.size() && !Thread.currentThread().isInterrupted(); i++) {
-        OutboxEvent outbox = outboxEvents.get(i);
-        long startTime = System.currentTimeMillis();
-        boolean success = handle(outbox);
-        log.info(String.format("Took %d milliseconds for outbox event handling for id %s and eventType %s.",
-            System.currentTimeMillis() - startTime, outbox.getId(), outbox.getEventType()));
-        try {
-          if (success) {
-            outboxService.delete(outbox.getId());
-          } else {
-            outbox.setBlocked(true);
-            outbox.setNextUnblockAttemptAt(
-                Instant.now().plus(DEFAULT_UNBLOCK_RETRY_INTERVAL_IN_MINUTES, ChronoUnit.MINUTES));
-            outboxService.update(outbox);
-          }
-        } catch (Exception exception) {
-          log.error(String.format("Error occurred in post handling of outbox event with id %s and type %s",
-                        outbox.getId(), outbox.getEventType()),
-              exception);
-        }
+  /**
+   * @return whether a full page has been handled and written back, so that there may be more events to drain. Events
+   *     whose deletion or blocking failed are still in the outbox and would be polled and handled again right away.
+   */
+  private boolean pollAndHandleOutboxEvents(OutboxEventFilter outboxEventFilter) {
+    List<OutboxEvent> outboxEvents;
+    try {
+      outboxEvents = outboxService.list(outboxEventFilter);
+    } catch (InstantiationError error) {
+      log.error("InstantiationError occurred while fetching entries from the outbox", error);
+      return false;
+    }
+
+    boolean written = true;
+    List<String> handledOutboxEventIds = new ArrayList<>();
+    for (int i = 0; i < outboxEvents.size() && !Thread.currentThread().isInterrupted(); i++) {
+      OutboxEvent outbox = outboxEvents.get(i);
+      long startTime = System.currentTimeMillis();
+      boolean success = handle(outbox);
+      log.info(String.format("Took %d milliseconds for outbox event handling for id %s and eventType %s.",
+          System.currentTimeMillis() - startTime, outbox.getId(), outbox.getEventType()));
+      if (success) {
+        handledOutboxEventIds.add(outbox.getId());
+      } else {
+        written &= block(outbox);
       }
     }
+
+    try {
+      outboxService.deleteAll(handledOutboxEventIds);
+    } catch (Exception exception) {
+      log.error(String.format("Error occurred while deleting %d handled outbox events", handledOutboxEventIds.size()),
+          exception);
+      written = false;
+    }
+    return written && outboxEvents.size() == DEFAULT_MAX_EVENTS_POLLED;
   }
 
   private boolean handle(OutboxEvent outboxEvent) {
-    boolean success = false;
     try {
-      success = outboxEventHandler.handle(outboxEvent);
+      return outboxEventHandler.handle(outboxEvent);
     } catch (Exception exception) {
       log.error(String.format("Error occurred while handling outbox event with id %s and type %s", outboxEvent.getId(),
                     outboxEvent.getEventType()),
           exception);
+      return false;
     }
-    if (!success && !Boolean.TRUE.equals(outboxEvent.getBlocked())) {
-      log.error("Retrying this outbox event with exponential backoff now...");
-      success = handleWithExponentialBackOff(outboxEvent);
-    }
-    return success;
   }
 
-  private boolean handleWithExponentialBackOff(OutboxEvent outboxEvent) {
+  private boolean block(OutboxEvent outboxEvent) {
+    int attempts = outboxEvent.getAttempts() == null ? 1 : outboxEvent.getAttempts() + 1;
+    outboxEvent.setAttempts(attempts);
+    outboxEvent.setBlocked(true);
+    outboxEvent.setNextUnblockAttemptAt(Instant.now().plus(getUnblockInterval(attempts)));
     try {
-      return retry.executeSupplier(() -> {
-        if (!outboxEventHandler.handle(outboxEvent)) {
-          throw new UnexpectedException(String.format(
-              "Outbox event handling failed in another retry attempt for event with id %s", outboxEvent.getId()));
-        }
-        return true;
-      });
+      outboxService.update(outboxEvent);
+      return true;
     } catch (Exception exception) {
-      log.error(String.format("Error occurred while handling outbox event with id %s and type %s", outboxEvent.getId(),
-                    outboxEvent.getEventType()),
+      log.error(String.format("Error occurred in post handling of outbox event with id %s and type %s",
+                    outboxEvent.getId(), outboxEvent.getEventType()),
           exception);
       return false;
     }
   }
+
+  private Duration getUnblockInterval(int attempts) {
+    if (attempts >= outboxPollConfiguration.getMaximumRetryAttemptsForAnEvent()) {
+      return Duration.ofMinutes(DEFAULT_UNBLOCK_RETRY_INTERVAL_IN_MINUTES);
+    }
+    return Duration.ofMillis(unblockIntervalFunction.apply(attempts));
+  }
 }
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.outbox;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.outbox.OutboxSDKConstants.OUTBOX_PARTITIONS;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.ng.core.AccountScope;
+import io.harness.ng.core.OrgScope;
+import io.harness.ng.core.ProjectScope;
+import io.harness.ng.core.ResourceScope;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.experimental.UtilityClass;
+
+/**
+ * Outbox events are spread over a fixed number of partitions by account, and the partitions are split between the
+ * shards of the poll job. Events of an account always land in the same partition, so they keep their order even when
+ * the number of shards changes, while different accounts are drained in parallel.
+ */
+@OwnedBy(PL)
+@UtilityClass
+public class OutboxPartitions {
+  public static int getPartition(ResourceScope resourceScope) {
+    String accountIdentifier = getAccountIdentifier(resourceScope);
+    return accountIdentifier == null ? 0 : Math.floorMod(accountIdentifier.hashCode(), OUTBOX_PARTITIONS);
+  }
+
+  public static int getNumberOfShards(OutboxPollConfiguration outboxPollConfiguration) {
+    return Math.max(1, Math.min(outboxPollConfiguration.getNumberOfShards(), OUTBOX_PARTITIONS));
+  }
+
+  public static List<Integer> getPartitionsOfShard(int shard, int numberOfShards) {
+    List<Integer> partitions = new ArrayList<>();
+    for (int partition = shard; partition < OUTBOX_PARTITIONS; partition += numberOfShards) {
+      partitions.add(partition);
+    }
+    return partitions;
+  }
+
+  private static String getAccountIdentifier(ResourceScope resourceScope) {
+    // a project is deleted at org scope and its resources at project scope, so the partition key can't be any finer
+    // than the account without losing the order between them
+    if (resourceScope instanceof AccountScope) {
+      return ((AccountScope) resourceScope).getAccountIdentifier();
+    } else if (resourceScope instanceof OrgScope) {
+      return ((OrgScope) resourceScope).getAccountIdentifier();
+    } else if (resourceScope instanceof ProjectScope) {
+      return ((ProjectScope) resourceScope).getAccountIdentifier();
+    }
+    return null;
+  }
+}
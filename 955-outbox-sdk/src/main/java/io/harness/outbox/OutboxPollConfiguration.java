@@ -27,4 +27,5 @@ public class OutboxPollConfiguration {
   int pollingIntervalInSeconds;
   int maximumRetryAttemptsForAnEvent;
   String lockId;
+  int numberOfShards;
 }
@@ -31,11 +31,14 @@ public class OutboxSDKConstants {
 
   public static final int DEFAULT_UNBLOCK_RETRY_INTERVAL_IN_MINUTES = 10;
 
+  public static final int OUTBOX_PARTITIONS = 64;
+
   public static final OutboxPollConfiguration DEFAULT_OUTBOX_POLL_CONFIGURATION =
       OutboxPollConfiguration.builder()
           .maximumRetryAttemptsForAnEvent(DEFAULT_MAX_ATTEMPTS)
           .initialDelayInSeconds(5)
           .pollingIntervalInSeconds(5)
+          .numberOfShards(1)
           .build();
 
   public static final OutboxEventFilter DEFAULT_OUTBOX_EVENT_FILTER =
@@ -45,5 +48,7 @@ public class OutboxSDKConstants {
 
   public static final String OUTBOX_BLOCKED_QUEUE_SIZE_METRIC_NAME = "outbox_blocked_queue_size";
 
+  public static final String OUTBOX_SHARD_LAG_METRIC_NAME = "outbox_shard_lag";
+
   public static final String ALL_EVENT_TYPES = "AllEventTypes";
 }
@@ -9,6 +9,8 @@ package io.harness.outbox.api.impl;
 
 import static io.harness.NGCommonEntityConstants.MONGODB_ID;
 import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
+import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
 import static io.harness.outbox.OutboxSDKConstants.DEFAULT_CREATED_AT_ASC_SORT_ORDER;
 import static io.harness.utils.PageUtils.getPageRequest;
 
@@ -30,6 +32,7 @@ import io.harness.repositories.outbox.OutboxEventRepository;
 
 import com.google.inject.Inject;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -100,6 +103,14 @@ public class OutboxDaoImpl implements OutboxDao {
 
   private Criteria getCriteria(OutboxEventFilter outboxEventFilter) {
     Criteria criteria = new Criteria();
+    if (isNotEmpty(outboxEventFilter.getPartitions())) {
+      List<Integer> partitions = new ArrayList<>(outboxEventFilter.getPartitions());
+      if (partitions.contains(0)) {
+        // events saved before partitioning was introduced have no partition
+        partitions.add(null);
+      }
+      criteria = Criteria.where(OutboxEventKeys.partition).in(partitions);
+    }
     Criteria blockedNotTrueCriteria = Criteria.where(OutboxEventKeys.blocked).ne(Boolean.TRUE);
     Criteria blockedTrueCriteria = Criteria.where(OutboxEventKeys.blocked)
                                        .is(Boolean.TRUE)
@@ -114,4 +125,12 @@ public class OutboxDaoImpl implements OutboxDao {
     outboxRepository.deleteById(outboxEventId);
     return true;
   }
+
+  @Override
+  public long deleteAll(List<String> outboxEventIds) {
+    if (isEmpty(outboxEventIds)) {
+      return 0;
+    }
+    return outboxRepository.delete(Criteria.where(OutboxEventKeys.id).in(outboxEventIds));
+  }
 }
@@ -17,6 +17,7 @@ import io.harness.event.Event;
 import io.harness.exception.UnexpectedException;
 import io.harness.manage.GlobalContextManager;
 import io.harness.outbox.OutboxEvent;
+import io.harness.outbox.OutboxPartitions;
 import io.harness.outbox.api.OutboxDao;
 import io.harness.outbox.api.OutboxService;
 import io.harness.outbox.filter.OutboxEventFilter;
@@ -52,6 +53,7 @@ public class OutboxServiceImpl implements OutboxService {
                                   .resource(event.getResource())
                                   .eventData(eventData)
                                   .eventType(event.getEventType())
+                                  .partition(OutboxPartitions.getPartition(event.getResourceScope()))
                                   .globalContext(GlobalContextManager.obtainGlobalContext())
                                   .build();
     return outboxDao.save(outboxEvent);
@@ -75,4 +77,9 @@ public class OutboxServiceImpl implements OutboxService {
     outboxDao.delete(outboxEventId);
     return true;
   }
+
+  @Override
+  public long deleteAll(List<String> outboxEventIds) {
+    return outboxDao.deleteAll(outboxEventIds);
+  }
 }
@@ -11,17 +11,24 @@ import static io.harness.annotations.dev.HarnessTeam.PL;
 import static io.harness.outbox.OutboxSDKConstants.ALL_EVENT_TYPES;
 import static io.harness.outbox.OutboxSDKConstants.OUTBOX_BLOCKED_QUEUE_SIZE_METRIC_NAME;
 import static io.harness.outbox.OutboxSDKConstants.OUTBOX_QUEUE_SIZE_METRIC_NAME;
+import static io.harness.outbox.OutboxSDKConstants.OUTBOX_SHARD_LAG_METRIC_NAME;
 import static io.harness.outbox.TransactionOutboxModule.SERVICE_ID_FOR_OUTBOX;
 
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.metrics.service.api.MetricService;
 import io.harness.metrics.service.api.MetricsPublisher;
+import io.harness.outbox.OutboxEvent;
+import io.harness.outbox.OutboxPartitions;
+import io.harness.outbox.OutboxPollConfiguration;
 import io.harness.outbox.api.OutboxDao;
+import io.harness.outbox.filter.OutboxEventFilter;
 import io.harness.outbox.filter.OutboxMetricsFilter;
 import io.harness.outbox.monitor.context.OutboxContext;
+import io.harness.outbox.monitor.context.OutboxShardContext;
 
 import com.google.inject.Inject;
 import com.google.inject.name.Named;
+import java.util.List;
 import java.util.Map;
 
 @OwnedBy(PL)
@@ -32,13 +39,15 @@ public class OutboxMetricsPublisher implements MetricsPublisher {
   private final OutboxDao outboxDao;
   private final MetricService metricService;
   private final String serviceId;
+  private final int numberOfShards;
 
   @Inject
-  public OutboxMetricsPublisher(
-      OutboxDao outboxDao, MetricService metricService, @Named(SERVICE_ID_FOR_OUTBOX) String serviceId) {
+  public OutboxMetricsPublisher(OutboxDao outboxDao, MetricService metricService,
+      @Named(SERVICE_ID_FOR_OUTBOX) String serviceId, OutboxPollConfiguration outboxPollConfiguration) {
     this.outboxDao = outboxDao;
     this.metricService = metricService;
     this.serviceId = serviceId;
+    this.numberOfShards = OutboxPartitions.getNumberOfShards(outboxPollConfiguration);
   }
 
   @Override
@@ -61,5 +70,27 @@ public class OutboxMetricsPublisher implements MetricsPublisher {
         metricService.recordMetric(OUTBOX_BLOCKED_QUEUE_SIZE_METRIC_NAME, count);
       }
     });
+
+    for (int shard = 0; shard < numberOfShards; shard++) {
+      try (OutboxShardContext ignored = new OutboxShardContext(serviceId, shard)) {
+        metricService.recordMetric(OUTBOX_SHARD_LAG_METRIC_NAME, getLagInMillis(shard));
+      }
+    }
+  }
+
+  /**
+   * @return age of the oldest event waiting to be handled in the shard
+   */
+  private long getLagInMillis(int shard) {
+    OutboxEventFilter outboxEventFilter =
+        OutboxEventFilter.builder()
+            .maximumEventsPolled(1)
+            .partitions(numberOfShards == 1 ? null : OutboxPartitions.getPartitionsOfShard(shard, numberOfShards))
+            .build();
+    List<OutboxEvent> oldestOutboxEvents = outboxDao.list(outboxEventFilter);
+    if (oldestOutboxEvents.isEmpty() || oldestOutboxEvents.get(0).getCreatedAt() == null) {
+      return 0;
+    }
+    return Math.max(0, System.currentTimeMillis() - oldestOutboxEvents.get(0).getCreatedAt());
   }
 }
@@ -0,0 +1,26 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.outbox.monitor.context;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.metrics.AutoMetricContext;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+@Data
+@EqualsAndHashCode(callSuper = true)
+@OwnedBy(PL)
+public class OutboxShardContext extends AutoMetricContext {
+  public OutboxShardContext(String serviceId, int shard) {
+    put("serviceId", serviceId);
+    put("shard", String.valueOf(shard));
+  }
+}
@@ -8,8 +8,11 @@
 package io.harness.outbox;
 
 import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.outbox.OutboxSDKConstants.DEFAULT_MAX_EVENTS_POLLED;
+import static io.harness.outbox.OutboxSDKConstants.OUTBOX_PARTITIONS;
 import static io.harness.rule.OwnerRule.KARAN;
 
+import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static junit.framework.TestCase.assertEquals;
 import static junit.framework.TestCase.assertNotNull;
@@ -30,8 +33,13 @@ import io.harness.lock.PersistentLocker;
 import io.harness.maintenance.MaintenanceController;
 import io.harness.outbox.api.OutboxEventHandler;
 import io.harness.outbox.api.OutboxService;
+import io.harness.outbox.filter.OutboxEventFilter;
 import io.harness.rule.Owner;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
@@ -68,9 +76,9 @@ public class OutboxPollJobTest extends CategoryTest {
     OutboxEvent outboxEvent = OutboxEvent.builder().eventType("emptyEvent").blocked(false).id(id).build();
     when(outboxService.list(any())).thenReturn(singletonList(outboxEvent));
     when(outboxEventHandler.handle(outboxEvent)).thenReturn(true);
-    when(outboxService.delete(id)).thenReturn(true);
+    when(outboxService.deleteAll(singletonList(id))).thenReturn(1L);
     outboxEventPollJob.run();
-    verify(outboxService, times(1)).delete(id);
+    verify(outboxService, times(1)).deleteAll(singletonList(id));
     verify(outboxEventHandler, times(1)).handle(any());
     verify(outboxService, times(0)).update(any());
   }
@@ -89,12 +97,59 @@ public class OutboxPollJobTest extends CategoryTest {
     when(outboxEventHandler.handle(outboxEvent)).thenReturn(false);
     final ArgumentCaptor<OutboxEvent> outboxEventArgumentCaptor = ArgumentCaptor.forClass(OutboxEvent.class);
     outboxEventPollJob.run();
-    verify(outboxService, times(0)).delete(any());
-    verify(outboxEventHandler, times(3)).handle(any());
+    verify(outboxService, times(1)).deleteAll(emptyList());
+    verify(outboxEventHandler, times(1)).handle(any());
     verify(outboxService, times(1)).update(outboxEventArgumentCaptor.capture());
     OutboxEvent updateOutboxEvent = outboxEventArgumentCaptor.getValue();
     assertEquals(id, updateOutboxEvent.getId());
     assertTrue(updateOutboxEvent.getBlocked());
+    assertEquals(1, updateOutboxEvent.getAttempts().intValue());
     assertNotNull(updateOutboxEvent.getNextUnblockAttemptAt());
   }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testFullPageIsNotPolledAgainWhenDeleteFails() {
+    when(persistentLocker.tryToAcquireLock(eq(OUTBOX_POLL_JOB_LOCK + "_LOCK_ID"), any()))
+        .thenReturn(mock(AcquiredLock.class));
+    List<OutboxEvent> outboxEvents = new ArrayList<>();
+    for (int i = 0; i < DEFAULT_MAX_EVENTS_POLLED; i++) {
+      outboxEvents.add(OutboxEvent.builder().eventType("emptyEvent").blocked(false).id(randomAlphabetic(10)).build());
+    }
+    when(outboxService.list(any())).thenReturn(outboxEvents);
+    when(outboxEventHandler.handle(any())).thenReturn(true);
+    when(outboxService.deleteAll(any())).thenThrow(new IllegalStateException("Mongo is down"));
+    outboxEventPollJob.run();
+    verify(outboxService, times(1)).list(any());
+    verify(outboxEventHandler, times(DEFAULT_MAX_EVENTS_POLLED)).handle(any());
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testShardedHandling() {
+    OutboxPollConfiguration outboxPollConfiguration =
+        OutboxPollConfiguration.builder().maximumRetryAttemptsForAnEvent(2).lockId("LOCK_ID").numberOfShards(2).build();
+    OutboxEventPollJob shardedOutboxEventPollJob =
+        new OutboxEventPollJob(outboxService, outboxEventHandler, persistentLocker, outboxPollConfiguration);
+    when(persistentLocker.tryToAcquireLock(any(), any())).thenReturn(mock(AcquiredLock.class));
+    when(outboxService.list(any())).thenReturn(emptyList());
+    final ArgumentCaptor<OutboxEventFilter> outboxEventFilterArgumentCaptor =
+        ArgumentCaptor.forClass(OutboxEventFilter.class);
+    try {
+      shardedOutboxEventPollJob.run();
+    } finally {
+      shardedOutboxEventPollJob.shutdown();
+    }
+    verify(persistentLocker, times(1)).tryToAcquireLock(eq(OUTBOX_POLL_JOB_LOCK + "_LOCK_ID_0"), any());
+    verify(persistentLocker, times(1)).tryToAcquireLock(eq(OUTBOX_POLL_JOB_LOCK + "_LOCK_ID_1"), any());
+    verify(outboxService, times(2)).list(outboxEventFilterArgumentCaptor.capture());
+    Set<Integer> partitions = new HashSet<>();
+    for (OutboxEventFilter outboxEventFilter : outboxEventFilterArgumentCaptor.getAllValues()) {
+      assertEquals(OUTBOX_PARTITIONS / 2, outboxEventFilter.getPartitions().size());
+      partitions.addAll(outboxEventFilter.getPartitions());
+    }
+    assertEquals(OUTBOX_PARTITIONS, partitions.size());
+  }
 }
@@ -29,6 +29,7 @@ import io.harness.repositories.outbox.OutboxEventRepository;
 import io.harness.rule.Owner;
 
 import com.mongodb.BasicDBList;
+import java.util.Arrays;
 import org.bson.Document;
 import org.junit.Before;
 import org.junit.Test;
@@ -82,4 +83,34 @@ public class OutboxDaoImplTest extends CategoryTest {
     Sort sort = Sort.by(OutboxEventKeys.createdAt);
     assertEquals(sort, pageable.getSort());
   }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testListPartitions() {
+    OutboxEventFilter outboxEventFilter =
+        OutboxEventFilter.builder().maximumEventsPolled(50).partitions(Arrays.asList(0, 2)).build();
+    final ArgumentCaptor<Criteria> criteriaArgumentCaptor = ArgumentCaptor.forClass(Criteria.class);
+    when(outboxEventRepository.findAll(any(Criteria.class), any(Pageable.class))).thenReturn(emptyList());
+    outboxDao.list(outboxEventFilter);
+    verify(outboxEventRepository, times(1)).findAll(criteriaArgumentCaptor.capture(), any(Pageable.class));
+    Document criteriaObject = criteriaArgumentCaptor.getValue().getCriteriaObject();
+    assertEquals(2, criteriaObject.size());
+    assertNotNull(criteriaObject.get("$or"));
+    Document partition = (Document) criteriaObject.get(OutboxEventKeys.partition);
+    assertEquals(Arrays.asList(0, 2, null), partition.get("$in"));
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testDeleteAll() {
+    final ArgumentCaptor<Criteria> criteriaArgumentCaptor = ArgumentCaptor.forClass(Criteria.class);
+    when(outboxEventRepository.delete(any(Criteria.class))).thenReturn(2L);
+    assertEquals(0, outboxDao.deleteAll(emptyList()));
+    assertEquals(2, outboxDao.deleteAll(Arrays.asList("id1", "id2")));
+    verify(outboxEventRepository, times(1)).delete(criteriaArgumentCaptor.capture());
+    Document id = (Document) criteriaArgumentCaptor.getValue().getCriteriaObject().get(OutboxEventKeys.id);
+    assertEquals(Arrays.asList("id1", "id2"), id.get("$in"));
+  }
 }
@@ -26,9 +26,11 @@ import io.harness.annotations.dev.OwnedBy;
 import io.harness.category.element.UnitTests;
 import io.harness.event.Event;
 import io.harness.ng.core.AccountScope;
+import io.harness.ng.core.ProjectScope;
 import io.harness.ng.core.Resource;
 import io.harness.ng.core.ResourceScope;
 import io.harness.outbox.OutboxEvent;
+import io.harness.outbox.OutboxPartitions;
 import io.harness.outbox.api.OutboxDao;
 import io.harness.outbox.filter.OutboxEventFilter;
 import io.harness.rule.Owner;
@@ -79,6 +81,8 @@ public class OutboxServiceImplTest extends CategoryTest {
     assertNotNull(outboxEvent.getResourceScope());
     assertEquals("account", outboxEvent.getResourceScope().getScope());
     assertEquals(accountIdentifier, ((AccountScope) outboxEvent.getResourceScope()).getAccountIdentifier());
+    assertEquals(OutboxPartitions.getPartition(new ProjectScope(accountIdentifier, "org", "project")),
+        outboxEvent.getPartition().intValue());
   }
 
   @Test
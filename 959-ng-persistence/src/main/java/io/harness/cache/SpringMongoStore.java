@@ -22,9 +22,9 @@ import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.mongodb.ErrorCategory;
 import com.mongodb.MongoCommandException;
-import java.sql.Date;
 import java.time.Duration;
 import java.time.OffsetDateTime;
+import java.util.Date;
 import java.util.List;
 import java.util.Objects;
 import lombok.extern.slf4j.Slf4j;
@@ -38,9 +38,24 @@ import org.springframework.data.mongodb.core.query.Update;
 @OwnedBy(HarnessTeam.PIPELINE)
 public class SpringMongoStore implements DistributedStore {
   private static final int VERSION = 1;
+  private static final String NEAR_CACHE_TOPIC = "springMongoStore";
 
   @Inject private MongoTemplate mongoTemplate;
   @Inject private KryoSerializer kryoSerializer;
+  private CacheEntityCodec codec = CacheEntityCodec.DEFLATE;
+  private DistributedStoreNearCache nearCache;
+
+  @Inject(optional = true)
+  void configure(DistributedStoreConfig config) {
+    codec = config.getCodec();
+  }
+
+  @Inject(optional = true)
+  void configureNearCache(DistributedStoreConfig config, CacheInvalidationChannel invalidationChannel) {
+    if (config.isNearCacheEnabled()) {
+      nearCache = new DistributedStoreNearCache(NEAR_CACHE_TOPIC, config, invalidationChannel);
+    }
+  }
 
   @Override
   public <T extends Distributable> T get(long algorithmId, long structureHash, String key, List<String> params) {
@@ -104,9 +119,17 @@ public class SpringMongoStore implements DistributedStore {
 
   private <T extends Distributable> T get(
       Long contextValue, long algorithmId, long structureHash, String key, List<String> params) {
+    final String canonicalKey = canonicalKey(algorithmId, structureHash, key, params);
     try {
-      Query query = new Query(
-          where(SpringCacheEntityKeys.canonicalKey).is(canonicalKey(algorithmId, structureHash, key, params)));
+      if (nearCache != null) {
+        byte[] cachedBytes = nearCache.get(canonicalKey, contextValue);
+        if (cachedBytes != null) {
+          return (T) kryoSerializer.asObject(cachedBytes);
+        }
+      }
+      final long loadedAtEpoch = nearCache == null ? 0 : nearCache.currentEpoch();
+
+      Query query = new Query(where(SpringCacheEntityKeys.canonicalKey).is(canonicalKey));
 
       if (contextValue != null) {
         query.addCriteria(where(SpringCacheEntityKeys.contextValue).is(contextValue));
@@ -118,7 +141,13 @@ public class SpringMongoStore implements DistributedStore {
         return null;
       }
 
-      return (T) kryoSerializer.asInflatedObject(cacheEntity.getEntity());
+      final byte[] bytes = CacheEntityCodec.decompress(cacheEntity.getEntity());
+      final T entity = (T) kryoSerializer.asObject(bytes);
+      if (nearCache != null) {
+        nearCache.putLoaded(canonicalKey, cacheEntity.getContextValue(), entity instanceof Ordinal, bytes,
+            cacheEntity.getValidUntil(), loadedAtEpoch);
+      }
+      return entity;
     } catch (RuntimeException ex) {
       log.error("Failed to obtain from cache", ex);
     }
@@ -138,14 +167,19 @@ public class SpringMongoStore implements DistributedStore {
         query.addCriteria(where(SpringCacheEntityKeys.contextValue).lt(contextValue));
       }
 
+      final byte[] bytes = kryoSerializer.asBytes(entity);
+      final Date validUntil = Date.from(OffsetDateTime.now().plus(ttl).toInstant());
       Update update = new Update()
                           .setOnInsert(SpringCacheEntityKeys.canonicalKey, canonicalKey)
                           .set(SpringCacheEntityKeys.contextValue, contextValue)
-                          .set(SpringCacheEntityKeys.entity, kryoSerializer.asDeflatedBytes(entity))
-                          .set(SpringCacheEntityKeys.validUntil, Date.from(OffsetDateTime.now().plus(ttl).toInstant()))
+                          .set(SpringCacheEntityKeys.entity, codec.compress(bytes))
+                          .set(SpringCacheEntityKeys.validUntil, validUntil)
                           .set(SpringCacheEntityKeys.entityUpdatedAt, entityLastUpdatedAt);
 
       mongoTemplate.findAndModify(query, update, HMongoTemplate.upsertReturnNewOptions, SpringCacheEntity.class);
+      if (nearCache != null) {
+        nearCache.putWritten(canonicalKey, contextValue, entity instanceof Ordinal, downgrade, bytes, validUntil);
+      }
     } catch (MongoCommandException e) {
       if (ErrorCategory.fromErrorCode(e.getErrorCode()) != DUPLICATE_KEY) {
         log.error("Failed to update cache for key {}, hash {}", canonicalKey, contextValue, e);
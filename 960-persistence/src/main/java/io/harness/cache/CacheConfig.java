@@ -24,4 +24,7 @@ public class CacheConfig {
   String cacheNamespace;
   Set<String> disabledCaches;
   @JsonProperty(defaultValue = "false") boolean enterpriseCacheEnabled;
+  // Redis caches which are also kept in memory, see NearCache
+  Set<String> nearCachedCaches;
+  long nearCacheMaximumSize;
 }
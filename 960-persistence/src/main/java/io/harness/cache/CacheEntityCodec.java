@@ -0,0 +1,95 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.cache;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.common.io.ByteStreams;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+import net.jpountz.lz4.LZ4FrameInputStream;
+import net.jpountz.lz4.LZ4FrameOutputStream;
+
+/**
+ * Compression of the serialized entities kept by the distributed stores. Only the compression of new entries is
+ * configurable, reading works out the codec from the stored bytes, so entries written with any of them stay readable.
+ * Instances which don't know a codec yet treat its entries as cache misses, so only switch once all of them have it.
+ */
+@OwnedBy(PL)
+public enum CacheEntityCodec {
+  DEFLATE {
+    @Override
+    OutputStream compressing(OutputStream outputStream) {
+      return new DeflaterOutputStream(outputStream);
+    }
+
+    @Override
+    InputStream decompressing(InputStream inputStream) {
+      return new InflaterInputStream(inputStream);
+    }
+  },
+  // Faster than deflate on both ends, at the cost of somewhat bigger entries
+  LZ4 {
+    @Override
+    OutputStream compressing(OutputStream outputStream) throws IOException {
+      return new LZ4FrameOutputStream(outputStream);
+    }
+
+    @Override
+    InputStream decompressing(InputStream inputStream) throws IOException {
+      return new LZ4FrameInputStream(inputStream);
+    }
+  };
+
+  // LZ4 frames start with the magic number 0x184D2204 in little endian, zlib streams can't start with 0x04
+  private static final byte[] LZ4_FRAME_MAGIC = {0x04, 0x22, 0x4D, 0x18};
+
+  abstract OutputStream compressing(OutputStream outputStream) throws IOException;
+
+  abstract InputStream decompressing(InputStream inputStream) throws IOException;
+
+  public byte[] compress(byte[] bytes) {
+    try {
+      ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+      try (OutputStream outputStream = compressing(byteStream)) {
+        outputStream.write(bytes);
+      }
+      return byteStream.toByteArray();
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+  }
+
+  public static byte[] decompress(byte[] bytes) {
+    try (InputStream inputStream = of(bytes).decompressing(new ByteArrayInputStream(bytes))) {
+      return ByteStreams.toByteArray(inputStream);
+    } catch (IOException exception) {
+      throw new UncheckedIOException(exception);
+    }
+  }
+
+  static CacheEntityCodec of(byte[] bytes) {
+    if (bytes.length < LZ4_FRAME_MAGIC.length) {
+      return DEFLATE;
+    }
+    for (int i = 0; i < LZ4_FRAME_MAGIC.length; i++) {
+      if (bytes[i] != LZ4_FRAME_MAGIC[i]) {
+        return DEFLATE;
+      }
+    }
+    return LZ4;
+  }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.cache;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.function.Consumer;
+
+/**
+ * Tells the other instances of a service that the entry under a key has changed, so they drop their local copy.
+ * Invalidations are best effort, local caches still have to expire their entries.
+ */
+@OwnedBy(PL)
+public interface CacheInvalidationChannel {
+  /**
+   * Delivers the key to the listeners subscribed to the topic on all the other instances.
+   */
+  void publish(String topic, String key);
+
+  void subscribe(String topic, Consumer<String> listener);
+}
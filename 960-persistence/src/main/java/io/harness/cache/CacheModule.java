@@ -176,7 +176,7 @@ public class CacheModule extends AbstractModule implements ServersModule {
   @Singleton
   public HarnessCacheManager getHarnessCacheManager(@Named("Redis") Provider<CacheManager> redisProvider,
       @Named("EnterpriseRedis") Provider<Optional<CacheManager>> enterpriseRedisProvider,
-      @Named("Caffeine") Provider<CacheManager> caffeineProvider) {
+      @Named("Caffeine") Provider<CacheManager> caffeineProvider, NearCacheMetrics nearCacheMetrics) {
     CacheBackend cacheBackend = cacheConfig.getCacheBackend();
     switch (cacheBackend) {
       case NOOP:
@@ -192,7 +192,8 @@ public class CacheModule extends AbstractModule implements ServersModule {
       default:
         throw new UnsupportedOperationException();
     }
-    return new HarnessCacheManagerImpl(cacheManager, enterpriseRedisCacheManagerOptional, cacheConfig);
+    return new HarnessCacheManagerImpl(
+        cacheManager, enterpriseRedisCacheManagerOptional, cacheConfig, nearCacheMetrics);
   }
 
   public static <T, R> Supplier<R> bind(Function<T, R> fn, T val) {
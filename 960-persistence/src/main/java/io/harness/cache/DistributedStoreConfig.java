@@ -0,0 +1,25 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.cache;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import lombok.Data;
+
+@OwnedBy(PL)
+@Data
+public class DistributedStoreConfig {
+  private CacheEntityCodec codec = CacheEntityCodec.DEFLATE;
+  private boolean nearCacheEnabled;
+  // Bounds the serialized size of the entries kept in memory
+  private long nearCacheMaximumWeightBytes = 64L * 1024 * 1024;
+  // Upper bound for serving an entry which changed in the meantime, in case an invalidation is lost
+  private long nearCacheExpireAfterWriteSeconds = 300;
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.cache;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.datastructures.DistributedBackend;
+import io.harness.govern.ProviderModule;
+
+import com.google.inject.Provides;
+import com.google.inject.Singleton;
+import com.google.inject.name.Named;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RedissonClient;
+
+/**
+ * Configures the mongo backed {@link DistributedStore}s. Without this module they compress with deflate and have no
+ * near cache.
+ */
+@OwnedBy(PL)
+@Slf4j
+public class DistributedStoreModule extends ProviderModule {
+  private final DistributedStoreConfig distributedStoreConfig;
+
+  public DistributedStoreModule(@NonNull DistributedStoreConfig distributedStoreConfig) {
+    this.distributedStoreConfig = distributedStoreConfig;
+  }
+
+  @Provides
+  @Singleton
+  DistributedStoreConfig distributedStoreConfig() {
+    return distributedStoreConfig;
+  }
+
+  @Provides
+  @Singleton
+  CacheInvalidationChannel cacheInvalidationChannel(
+      DistributedBackend distributedBackend, @Named("cacheRedissonClient") RedissonClient redissonClient) {
+    switch (distributedBackend) {
+      case NOOP:
+        log.info("Initialize Noop cache invalidation channel");
+        return new NoopCacheInvalidationChannel();
+      case REDIS:
+        log.info("Initialize Redis cache invalidation channel");
+        return new RedisCacheInvalidationChannel(redissonClient);
+      default:
+        throw new UnsupportedOperationException();
+    }
+  }
+}
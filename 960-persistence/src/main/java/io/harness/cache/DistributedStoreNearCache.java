@@ -0,0 +1,131 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.cache;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import static java.lang.System.currentTimeMillis;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Value;
+
+/**
+ * In memory tier in front of a {@link DistributedStore}, keyed by the canonical key of the entries. It keeps the
+ * serialized, uncompressed entity, so a hit costs neither a query nor an inflate, and every caller still gets its own
+ * copy to change. The size of the serialized entities bounds the memory used.
+ *
+ * Entries follow the store: an ordinal entry is never replaced by one of a lower context order unless the store was
+ * asked to downgrade, and an entry is not served past the time the store would expire it. Writes are announced over
+ * the {@link CacheInvalidationChannel}, and the other instances drop their copy.
+ */
+@OwnedBy(PL)
+public class DistributedStoreNearCache {
+  private final String topic;
+  private final CacheInvalidationChannel invalidationChannel;
+  private final Cache<String, Entry> cache;
+  // Bumped on every write and invalidation, so loads which raced with one can be told apart
+  private final AtomicLong epoch = new AtomicLong();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  @Value
+  private static class Entry {
+    long contextValue;
+    byte[] bytes;
+    long validUntil;
+  }
+
+  public DistributedStoreNearCache(
+      String topic, DistributedStoreConfig config, CacheInvalidationChannel invalidationChannel) {
+    this.topic = topic;
+    this.invalidationChannel = invalidationChannel;
+    this.cache = CacheBuilder.newBuilder()
+                     .maximumWeight(config.getNearCacheMaximumWeightBytes())
+                     .weigher((String key, Entry entry) -> entry.getBytes().length)
+                     .expireAfterWrite(config.getNearCacheExpireAfterWriteSeconds(), TimeUnit.SECONDS)
+                     .build();
+    invalidationChannel.subscribe(topic, this::invalidateLocally);
+  }
+
+  /**
+   * @param contextValue the context value the entry has to have, or null for any
+   * @return the serialized entity, or null if it has to be read from the store
+   */
+  public byte[] get(String canonicalKey, Long contextValue) {
+    Entry entry = cache.getIfPresent(canonicalKey);
+    if (entry == null || entry.getValidUntil() <= currentTimeMillis()
+        || (contextValue != null && entry.getContextValue() != contextValue)) {
+      misses.increment();
+      return null;
+    }
+    hits.increment();
+    return entry.getBytes();
+  }
+
+  /**
+   * @return the epoch to pass to {@link #putLoaded} for an entry which is about to be read from the store
+   */
+  public long currentEpoch() {
+    return epoch.get();
+  }
+
+  /**
+   * Caches an entry read from the store at the given epoch, unless it has been written or invalidated since.
+   */
+  public void putLoaded(
+      String canonicalKey, long contextValue, boolean ordinal, byte[] bytes, Date validUntil, long loadedAtEpoch) {
+    if (epoch.get() != loadedAtEpoch) {
+      return;
+    }
+    put(canonicalKey, new Entry(contextValue, bytes, toMillis(validUntil)), ordinal, false);
+    // the invalidation might have happened while putting, in which case the entry can't be trusted
+    if (epoch.get() != loadedAtEpoch) {
+      cache.invalidate(canonicalKey);
+    }
+  }
+
+  /**
+   * Caches an entry which has just been written to the store, and tells the other instances to drop theirs.
+   */
+  public void putWritten(String canonicalKey, long contextValue, boolean ordinal, boolean downgrade, byte[] bytes,
+      Date validUntil) {
+    epoch.incrementAndGet();
+    put(canonicalKey, new Entry(contextValue, bytes, toMillis(validUntil)), ordinal, downgrade);
+    invalidationChannel.publish(topic, canonicalKey);
+  }
+
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  private void put(String canonicalKey, Entry entry, boolean ordinal, boolean downgrade) {
+    cache.asMap().merge(canonicalKey, entry,
+        (cached, updated)
+            -> ordinal && !downgrade && cached.getContextValue() > updated.getContextValue() ? cached : updated);
+  }
+
+  private void invalidateLocally(String canonicalKey) {
+    epoch.incrementAndGet();
+    cache.invalidate(canonicalKey);
+  }
+
+  private static long toMillis(Date validUntil) {
+    return validUntil == null ? Long.MAX_VALUE : validUntil.getTime();
+  }
+}
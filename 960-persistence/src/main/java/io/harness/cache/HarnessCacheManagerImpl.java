@@ -9,11 +9,16 @@ package io.harness.cache;
 
 import static io.harness.annotations.dev.HarnessTeam.PL;
 import static io.harness.cache.CacheBackend.CAFFEINE;
+import static io.harness.cache.CacheBackend.REDIS;
 import static io.harness.data.structure.EmptyPredicate.isEmpty;
 
 import io.harness.annotations.dev.OwnedBy;
 
+import java.time.Duration;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 import javax.cache.Cache;
 import javax.cache.CacheException;
@@ -27,13 +32,25 @@ public class HarnessCacheManagerImpl implements HarnessCacheManager {
   private final CacheManager cacheManager;
   private final Optional<CacheManager> enterpriseRedisCacheManagerOptional;
   private final CacheConfig cacheConfig;
+  private final NearCacheMetrics nearCacheMetrics;
+  // One per remote cache, so that each registers a single invalidation listener
+  private final Map<String, Cache<?, ?>> nearCaches = new ConcurrentHashMap<>();
   static final String CACHE_PREFIX = "hCache";
+  private static final long DEFAULT_NEAR_CACHE_MAXIMUM_SIZE = 10000;
+  // Bounds for how long an entry is served after it expired remotely, in case the expiry event is missed
+  private static final Duration NEAR_CACHE_MAXIMUM_EXPIRY = Duration.ofMinutes(1);
 
   HarnessCacheManagerImpl(
       CacheManager cacheManager, Optional<CacheManager> enterpriseRedisCacheManagerOptional, CacheConfig cacheConfig) {
+    this(cacheManager, enterpriseRedisCacheManagerOptional, cacheConfig, new NearCacheMetrics());
+  }
+
+  HarnessCacheManagerImpl(CacheManager cacheManager, Optional<CacheManager> enterpriseRedisCacheManagerOptional,
+      CacheConfig cacheConfig, NearCacheMetrics nearCacheMetrics) {
     this.cacheManager = cacheManager;
     this.enterpriseRedisCacheManagerOptional = enterpriseRedisCacheManagerOptional;
     this.cacheConfig = cacheConfig;
+    this.nearCacheMetrics = nearCacheMetrics;
   }
 
   @Override
@@ -65,6 +82,7 @@ public class HarnessCacheManagerImpl implements HarnessCacheManager {
     return new VersionedCache<>(jCache, keyPrefix);
   }
 
+  @SuppressWarnings("unchecked")
   private <K, V> Cache<K, V> getCacheInternal(String cacheName, Class<K> keyType, Class<V> valueType,
       Factory<ExpiryPolicy> expiryPolicy, boolean enterpriseRedis) {
     if (isCacheDisabled(cacheName)) {
@@ -85,6 +103,18 @@ public class HarnessCacheManagerImpl implements HarnessCacheManager {
         ? enterpriseRedisCacheManagerOptional.get()
         : cacheManager;
 
+    Cache<K, V> jCache = getOrCreateCache(manager, internalCacheName, keyType, valueType, jCacheConfiguration);
+    if (!isNearCacheEnabled(cacheName)) {
+      return jCache;
+    }
+    String nearCacheKey = manager == cacheManager ? internalCacheName : "enterprise/" + internalCacheName;
+    return (Cache<K, V>) nearCaches.computeIfAbsent(nearCacheKey,
+        key -> new NearCache<>(jCache, cacheName, getNearCacheMaximumSize(), getNearCacheExpiry(expiryPolicy),
+            nearCacheMetrics));
+  }
+
+  private <K, V> Cache<K, V> getOrCreateCache(CacheManager manager, String internalCacheName, Class<K> keyType,
+      Class<V> valueType, MutableConfiguration<K, V> jCacheConfiguration) {
     try {
       return Optional.ofNullable(manager.getCache(internalCacheName, keyType, valueType))
           .orElseGet(() -> manager.createCache(internalCacheName, jCacheConfiguration));
@@ -102,11 +132,32 @@ public class HarnessCacheManagerImpl implements HarnessCacheManager {
   }
 
   private boolean isCacheDisabled(String cacheName) {
-    if (isEmpty(cacheConfig.getDisabledCaches())) {
+    return isListed(cacheConfig.getDisabledCaches(), cacheName);
+  }
+
+  private boolean isNearCacheEnabled(String cacheName) {
+    return cacheConfig.getCacheBackend() == REDIS && isListed(cacheConfig.getNearCachedCaches(), cacheName);
+  }
+
+  private static boolean isListed(Set<String> cacheNames, String cacheName) {
+    if (isEmpty(cacheNames)) {
       return false;
     }
-    Optional<String> disabledCacheName =
-        Stream.of(cacheName.split(":")).filter(value -> cacheConfig.getDisabledCaches().contains(value)).findFirst();
-    return disabledCacheName.isPresent();
+    Optional<String> listedCacheName = Stream.of(cacheName.split(":")).filter(cacheNames::contains).findFirst();
+    return listedCacheName.isPresent();
+  }
+
+  private long getNearCacheMaximumSize() {
+    return cacheConfig.getNearCacheMaximumSize() > 0 ? cacheConfig.getNearCacheMaximumSize()
+                                                     : DEFAULT_NEAR_CACHE_MAXIMUM_SIZE;
+  }
+
+  private static Duration getNearCacheExpiry(Factory<ExpiryPolicy> expiryPolicy) {
+    javax.cache.expiry.Duration expiry = expiryPolicy == null ? null : expiryPolicy.create().getExpiryForCreation();
+    if (expiry == null || expiry.isEternal()) {
+      return NEAR_CACHE_MAXIMUM_EXPIRY;
+    }
+    Duration creationExpiry = Duration.ofMillis(expiry.getTimeUnit().toMillis(expiry.getDurationAmount()));
+    return creationExpiry.compareTo(NEAR_CACHE_MAXIMUM_EXPIRY) < 0 ? creationExpiry : NEAR_CACHE_MAXIMUM_EXPIRY;
   }
 }
@@ -39,9 +39,24 @@ import org.mongodb.morphia.query.UpdateOperations;
 @Slf4j
 public class MongoStore implements DistributedStore {
   private static final int version = 1;
+  private static final String NEAR_CACHE_TOPIC = "mongoStore";
 
   @Inject HPersistence hPersistence;
   @Inject private KryoSerializer kryoSerializer;
+  private CacheEntityCodec codec = CacheEntityCodec.DEFLATE;
+  private DistributedStoreNearCache nearCache;
+
+  @Inject(optional = true)
+  void configure(DistributedStoreConfig config) {
+    codec = config.getCodec();
+  }
+
+  @Inject(optional = true)
+  void configureNearCache(DistributedStoreConfig config, CacheInvalidationChannel invalidationChannel) {
+    if (config.isNearCacheEnabled()) {
+      nearCache = new DistributedStoreNearCache(NEAR_CACHE_TOPIC, config, invalidationChannel);
+    }
+  }
 
   String canonicalKey(long algorithmId, long structureHash, String key, List<String> params) {
     if (isEmpty(params)) {
@@ -63,10 +78,18 @@ public class MongoStore implements DistributedStore {
 
   private <T extends Distributable> T get(
       Long contextValue, long algorithmId, long structureHash, String key, List<String> params) {
+    final String canonicalKey = canonicalKey(algorithmId, structureHash, key, params);
     try {
+      if (nearCache != null) {
+        byte[] cachedBytes = nearCache.get(canonicalKey, contextValue);
+        if (cachedBytes != null) {
+          return (T) kryoSerializer.asObject(cachedBytes);
+        }
+      }
+      final long loadedAtEpoch = nearCache == null ? 0 : nearCache.currentEpoch();
+
       final Query<CacheEntity> entityQuery =
-          hPersistence.createQuery(CacheEntity.class)
-              .filter(CacheEntityKeys.canonicalKey, canonicalKey(algorithmId, structureHash, key, params));
+          hPersistence.createQuery(CacheEntity.class).filter(CacheEntityKeys.canonicalKey, canonicalKey);
 
       if (contextValue != null) {
         entityQuery.filter(CacheEntityKeys.contextValue, contextValue);
@@ -78,7 +101,13 @@ public class MongoStore implements DistributedStore {
         return null;
       }
 
-      return (T) kryoSerializer.asInflatedObject(cacheEntity.getEntity());
+      final byte[] bytes = CacheEntityCodec.decompress(cacheEntity.getEntity());
+      final T entity = (T) kryoSerializer.asObject(bytes);
+      if (nearCache != null) {
+        nearCache.putLoaded(canonicalKey, cacheEntity.getContextValue(), entity instanceof Ordinal, bytes,
+            cacheEntity.getValidUntil(), loadedAtEpoch);
+      }
+      return entity;
     } catch (RuntimeException ex) {
       log.error("Failed to obtain from cache", ex);
     }
@@ -106,11 +135,13 @@ public class MongoStore implements DistributedStore {
         entity instanceof Nominal ? ((Nominal) entity).contextHash() : ((Ordinal) entity).contextOrder();
 
     try {
+      final byte[] bytes = kryoSerializer.asBytes(entity);
+      final Date validUntil = Date.from(OffsetDateTime.now().plus(ttl).toInstant());
       final UpdateOperations<CacheEntity> updateOperations = hPersistence.createUpdateOperations(CacheEntity.class);
       updateOperations.set(CacheEntityKeys.contextValue, contextValue);
       updateOperations.set(CacheEntityKeys.canonicalKey, canonicalKey);
-      updateOperations.set(CacheEntityKeys.entity, kryoSerializer.asDeflatedBytes(entity));
-      updateOperations.set(CacheEntityKeys.validUntil, Date.from(OffsetDateTime.now().plus(ttl).toInstant()));
+      updateOperations.set(CacheEntityKeys.entity, codec.compress(bytes));
+      updateOperations.set(CacheEntityKeys.validUntil, validUntil);
       if (isNotEmpty(accountId)) {
         updateOperations.set(CacheEntityKeys.accountId, accountId);
       }
@@ -123,6 +154,9 @@ public class MongoStore implements DistributedStore {
       }
 
       hPersistence.upsert(query, updateOperations);
+      if (nearCache != null) {
+        nearCache.putWritten(canonicalKey, contextValue, entity instanceof Ordinal, downgrade, bytes, validUntil);
+      }
     } catch (MongoCommandException exception) {
       if (ErrorCategory.fromErrorCode(exception.getErrorCode()) != DUPLICATE_KEY) {
         log.error("Failed to update cache for key {}, hash {}", canonicalKey, contextValue, exception);
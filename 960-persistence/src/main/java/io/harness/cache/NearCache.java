@@ -0,0 +1,349 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.cache;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.common.cache.CacheBuilder;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.configuration.CacheEntryListenerConfiguration;
+import javax.cache.configuration.Configuration;
+import javax.cache.configuration.Factory;
+import javax.cache.configuration.MutableCacheEntryListenerConfiguration;
+import javax.cache.event.CacheEntryCreatedListener;
+import javax.cache.event.CacheEntryEvent;
+import javax.cache.event.CacheEntryExpiredListener;
+import javax.cache.event.CacheEntryListener;
+import javax.cache.event.CacheEntryRemovedListener;
+import javax.cache.event.CacheEntryUpdatedListener;
+import javax.cache.integration.CompletionListener;
+import javax.cache.processor.EntryProcessor;
+import javax.cache.processor.EntryProcessorException;
+import javax.cache.processor.EntryProcessorResult;
+
+/**
+ * Keeps the entries of a remote cache in memory as well, bounded in number and in age. Every change to the remote cache
+ * is published to all the instances through the cache entry events, which for redis are delivered over pub/sub, and
+ * drops the entry locally. Changes made through this cache are applied locally right away, so an instance always reads
+ * its own writes.
+ *
+ * Like the caffeine caches, and unlike the redis ones, gets hand out the same instance until it is dropped, so callers
+ * must not change the values they get.
+ */
+@OwnedBy(PL)
+public class NearCache<K, V> implements Cache<K, V> {
+  private final Cache<K, V> jCache;
+  private final String cacheName;
+  private final NearCacheMetrics nearCacheMetrics;
+  private final com.google.common.cache.Cache<K, V> localCache;
+  private final CacheEntryListenerConfiguration<K, V> invalidationListenerConfiguration;
+  // Bumped on every change, so loads which raced with one can be told apart
+  private final AtomicLong epoch = new AtomicLong();
+
+  public NearCache(Cache<K, V> jCache, String cacheName, long maximumSize, Duration expireAfterWrite,
+      NearCacheMetrics nearCacheMetrics) {
+    this.jCache = jCache;
+    this.cacheName = cacheName;
+    this.nearCacheMetrics = nearCacheMetrics;
+    this.localCache = CacheBuilder.newBuilder()
+                          .maximumSize(maximumSize)
+                          .expireAfterWrite(expireAfterWrite.toMillis(), TimeUnit.MILLISECONDS)
+                          .build();
+    Factory<CacheEntryListener<? super K, ? super V>> listenerFactory = InvalidationListener::new;
+    this.invalidationListenerConfiguration =
+        new MutableCacheEntryListenerConfiguration<>(listenerFactory, null, false, false);
+    jCache.registerCacheEntryListener(invalidationListenerConfiguration);
+  }
+
+  private class InvalidationListener
+      implements CacheEntryCreatedListener<K, V>, CacheEntryUpdatedListener<K, V>, CacheEntryRemovedListener<K, V>,
+                 CacheEntryExpiredListener<K, V> {
+    @Override
+    public void onCreated(Iterable<CacheEntryEvent<? extends K, ? extends V>> events) {
+      invalidate(events);
+    }
+
+    @Override
+    public void onUpdated(Iterable<CacheEntryEvent<? extends K, ? extends V>> events) {
+      invalidate(events);
+    }
+
+    @Override
+    public void onRemoved(Iterable<CacheEntryEvent<? extends K, ? extends V>> events) {
+      invalidate(events);
+    }
+
+    @Override
+    public void onExpired(Iterable<CacheEntryEvent<? extends K, ? extends V>> events) {
+      invalidate(events);
+    }
+
+    private void invalidate(Iterable<CacheEntryEvent<? extends K, ? extends V>> events) {
+      for (CacheEntryEvent<? extends K, ? extends V> event : events) {
+        invalidateLocally(event.getKey());
+        nearCacheMetrics.recordInvalidation(cacheName);
+      }
+    }
+  }
+
+  @Override
+  public V get(K key) {
+    V value = localCache.getIfPresent(key);
+    if (value != null) {
+      nearCacheMetrics.recordHit(cacheName);
+      return value;
+    }
+    nearCacheMetrics.recordMiss(cacheName);
+    long loadedAtEpoch = epoch.get();
+    value = jCache.get(key);
+    if (value != null) {
+      cacheLoaded(key, value, loadedAtEpoch);
+    }
+    return value;
+  }
+
+  @Override
+  public Map<K, V> getAll(Set<? extends K> keys) {
+    Map<K, V> result = new HashMap<>(localCache.getAllPresent(keys));
+    result.keySet().forEach(key -> nearCacheMetrics.recordHit(cacheName));
+    Set<K> missingKeys = keys.stream().filter(key -> !result.containsKey(key)).collect(Collectors.toSet());
+    if (!missingKeys.isEmpty()) {
+      missingKeys.forEach(key -> nearCacheMetrics.recordMiss(cacheName));
+      long loadedAtEpoch = epoch.get();
+      Map<K, V> loaded = jCache.getAll(missingKeys);
+      loaded.forEach((key, value) -> cacheLoaded(key, value, loadedAtEpoch));
+      result.putAll(loaded);
+    }
+    return result;
+  }
+
+  @Override
+  public boolean containsKey(K key) {
+    if (localCache.getIfPresent(key) != null) {
+      nearCacheMetrics.recordHit(cacheName);
+      return true;
+    }
+    nearCacheMetrics.recordMiss(cacheName);
+    return jCache.containsKey(key);
+  }
+
+  @Override
+  public void loadAll(Set<? extends K> keys, boolean replaceExistingValues, CompletionListener completionListener) {
+    jCache.loadAll(keys, replaceExistingValues, completionListener);
+    keys.forEach(this::invalidateLocally);
+  }
+
+  @Override
+  public void put(K key, V value) {
+    jCache.put(key, value);
+    cacheWritten(key, value);
+  }
+
+  @Override
+  public V getAndPut(K key, V value) {
+    V previousValue = jCache.getAndPut(key, value);
+    cacheWritten(key, value);
+    return previousValue;
+  }
+
+  @Override
+  public void putAll(Map<? extends K, ? extends V> map) {
+    jCache.putAll(map);
+    epoch.incrementAndGet();
+    localCache.putAll(map);
+  }
+
+  @Override
+  public boolean putIfAbsent(K key, V value) {
+    boolean put = jCache.putIfAbsent(key, value);
+    if (put) {
+      cacheWritten(key, value);
+    }
+    return put;
+  }
+
+  @Override
+  public boolean remove(K key) {
+    boolean removed = jCache.remove(key);
+    invalidateLocally(key);
+    return removed;
+  }
+
+  @Override
+  public boolean remove(K key, V oldValue) {
+    boolean removed = jCache.remove(key, oldValue);
+    invalidateLocally(key);
+    return removed;
+  }
+
+  @Override
+  public V getAndRemove(K key) {
+    V value = jCache.getAndRemove(key);
+    invalidateLocally(key);
+    return value;
+  }
+
+  @Override
+  public boolean replace(K key, V oldValue, V newValue) {
+    boolean replaced = jCache.replace(key, oldValue, newValue);
+    if (replaced) {
+      cacheWritten(key, newValue);
+    } else {
+      // the remote value is not what this instance expected, so the local one can't be trusted either
+      invalidateLocally(key);
+    }
+    return replaced;
+  }
+
+  @Override
+  public boolean replace(K key, V value) {
+    boolean replaced = jCache.replace(key, value);
+    if (replaced) {
+      cacheWritten(key, value);
+    } else {
+      invalidateLocally(key);
+    }
+    return replaced;
+  }
+
+  @Override
+  public V getAndReplace(K key, V value) {
+    V previousValue = jCache.getAndReplace(key, value);
+    if (previousValue != null) {
+      cacheWritten(key, value);
+    } else {
+      invalidateLocally(key);
+    }
+    return previousValue;
+  }
+
+  @Override
+  public void removeAll(Set<? extends K> keys) {
+    jCache.removeAll(keys);
+    keys.forEach(this::invalidateLocally);
+  }
+
+  @Override
+  public void removeAll() {
+    jCache.removeAll();
+    invalidateAllLocally();
+  }
+
+  @Override
+  public void clear() {
+    jCache.clear();
+    invalidateAllLocally();
+  }
+
+  @Override
+  public <C extends Configuration<K, V>> C getConfiguration(Class<C> clazz) {
+    return jCache.getConfiguration(clazz);
+  }
+
+  @Override
+  public <T> T invoke(K key, EntryProcessor<K, V, T> entryProcessor, Object... arguments)
+      throws EntryProcessorException {
+    try {
+      return jCache.invoke(key, entryProcessor, arguments);
+    } finally {
+      invalidateLocally(key);
+    }
+  }
+
+  @Override
+  public <T> Map<K, EntryProcessorResult<T>> invokeAll(
+      Set<? extends K> keys, EntryProcessor<K, V, T> entryProcessor, Object... arguments) {
+    try {
+      return jCache.invokeAll(keys, entryProcessor, arguments);
+    } finally {
+      keys.forEach(this::invalidateLocally);
+    }
+  }
+
+  @Override
+  public String getName() {
+    return jCache.getName();
+  }
+
+  @Override
+  public CacheManager getCacheManager() {
+    return jCache.getCacheManager();
+  }
+
+  @Override
+  public void close() {
+    jCache.deregisterCacheEntryListener(invalidationListenerConfiguration);
+    invalidateAllLocally();
+    jCache.close();
+  }
+
+  @Override
+  public boolean isClosed() {
+    return jCache.isClosed();
+  }
+
+  @Override
+  public <T> T unwrap(Class<T> clazz) {
+    if (clazz.isAssignableFrom(getClass())) {
+      return clazz.cast(this);
+    }
+    return jCache.unwrap(clazz);
+  }
+
+  @Override
+  public void registerCacheEntryListener(CacheEntryListenerConfiguration<K, V> cacheEntryListenerConfiguration) {
+    jCache.registerCacheEntryListener(cacheEntryListenerConfiguration);
+  }
+
+  @Override
+  public void deregisterCacheEntryListener(CacheEntryListenerConfiguration<K, V> cacheEntryListenerConfiguration) {
+    jCache.deregisterCacheEntryListener(cacheEntryListenerConfiguration);
+  }
+
+  @Override
+  public Iterator<Entry<K, V>> iterator() {
+    return jCache.iterator();
+  }
+
+  private void cacheLoaded(K key, V value, long loadedAtEpoch) {
+    if (epoch.get() != loadedAtEpoch) {
+      return;
+    }
+    localCache.put(key, value);
+    // the invalidation might have happened while putting, in which case the entry can't be trusted
+    if (epoch.get() != loadedAtEpoch) {
+      localCache.invalidate(key);
+    }
+  }
+
+  private void cacheWritten(K key, V value) {
+    epoch.incrementAndGet();
+    localCache.put(key, value);
+  }
+
+  private void invalidateLocally(K key) {
+    epoch.incrementAndGet();
+    localCache.invalidate(key);
+  }
+
+  private void invalidateAllLocally() {
+    epoch.incrementAndGet();
+    localCache.invalidateAll();
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.cache;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.metrics.HarnessMetricRegistry;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hit, miss and invalidation counts of the near caches, per cache name. Nothing is recorded in services without a
+ * {@link HarnessMetricRegistry}.
+ */
+@OwnedBy(PL)
+@Singleton
+@Slf4j
+public class NearCacheMetrics {
+  static final String HIT_COUNT = "near_cache_hit_count";
+  static final String MISS_COUNT = "near_cache_miss_count";
+  static final String INVALIDATION_COUNT = "near_cache_invalidation_count";
+  private static final String[] LABELS = {"cache_name"};
+
+  private HarnessMetricRegistry harnessMetricRegistry;
+
+  @Inject(optional = true)
+  void registerMetrics(HarnessMetricRegistry harnessMetricRegistry) {
+    try {
+      harnessMetricRegistry.registerCounterMetric(HIT_COUNT, LABELS, "Gets served by the near cache");
+      harnessMetricRegistry.registerCounterMetric(MISS_COUNT, LABELS, "Gets which went to the remote cache");
+      harnessMetricRegistry.registerCounterMetric(
+          INVALIDATION_COUNT, LABELS, "Near cache entries dropped because they changed remotely");
+    } catch (IllegalArgumentException ex) {
+      // the collector registry is shared by all the injectors of the process
+      log.warn("Near cache metrics are already registered", ex);
+    }
+    this.harnessMetricRegistry = harnessMetricRegistry;
+  }
+
+  void recordHit(String cacheName) {
+    record(HIT_COUNT, cacheName);
+  }
+
+  void recordMiss(String cacheName) {
+    record(MISS_COUNT, cacheName);
+  }
+
+  void recordInvalidation(String cacheName) {
+    record(INVALIDATION_COUNT, cacheName);
+  }
+
+  private void record(String metricName, String cacheName) {
+    if (harnessMetricRegistry != null) {
+      harnessMetricRegistry.recordCounterInc(metricName, cacheName);
+    }
+  }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.cache;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.function.Consumer;
+
+/**
+ * For single instance setups, where there is nobody to tell.
+ */
+@OwnedBy(PL)
+public class NoopCacheInvalidationChannel implements CacheInvalidationChannel {
+  @Override
+  public void publish(String topic, String key) {
+    // nobody else is listening
+  }
+
+  @Override
+  public void subscribe(String topic, Consumer<String> listener) {
+    // nobody else is publishing
+  }
+}
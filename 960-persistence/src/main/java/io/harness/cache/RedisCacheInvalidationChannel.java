@@ -0,0 +1,57 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.cache;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+
+/**
+ * Publishes the invalidations over redis pub/sub. Messages carry the id of the publishing instance, so that an instance
+ * doesn't drop the entries it has just written itself.
+ */
+@OwnedBy(PL)
+@Slf4j
+public class RedisCacheInvalidationChannel implements CacheInvalidationChannel {
+  private static final String TOPIC_PREFIX = "cacheInvalidation:";
+  private static final char SEPARATOR = ':';
+
+  private final RedissonClient redissonClient;
+  private final String instanceId = UUID.randomUUID().toString();
+
+  public RedisCacheInvalidationChannel(RedissonClient redissonClient) {
+    this.redissonClient = redissonClient;
+  }
+
+  @Override
+  public void publish(String topic, String key) {
+    try {
+      redissonClient.getTopic(TOPIC_PREFIX + topic, StringCodec.INSTANCE).publish(instanceId + SEPARATOR + key);
+    } catch (RuntimeException ex) {
+      log.warn("Could not publish the invalidation of {} on {}, other instances will serve it until expiry", key,
+          topic, ex);
+    }
+  }
+
+  @Override
+  public void subscribe(String topic, Consumer<String> listener) {
+    redissonClient.getTopic(TOPIC_PREFIX + topic, StringCodec.INSTANCE)
+        .addListener(String.class, (channel, message) -> {
+          int separatorIndex = message.indexOf(SEPARATOR);
+          if (separatorIndex < 0 || !message.substring(0, separatorIndex).equals(instanceId)) {
+            listener.accept(message.substring(separatorIndex + 1));
+          }
+        });
+  }
+}
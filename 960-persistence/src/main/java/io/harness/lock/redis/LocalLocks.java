@@ -0,0 +1,150 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.lock.redis;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import static java.lang.System.currentTimeMillis;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-process layer in front of the redis locks. Threads of this instance which compete for the same lock name queue
+ * here, so only one of them at a time goes to redis, and attempts which are bound to fail don't cost a round trip.
+ *
+ * A local lock is only trusted for the lease of the redis lock it guards. Should its holder never release it, as some
+ * callers rely on the lease to expire, the threads waiting for it get past it once the lease is over and go to redis
+ * directly, and the next thread to ask for the name replaces it, so it doesn't stay around for good.
+ */
+@OwnedBy(PL)
+class LocalLocks {
+  // how often the waiting threads look at the lease, which may be taken after they have started to wait
+  private static final long LEASE_CHECK_MILLIS = 100;
+
+  private final Map<String, LocalLock> locks = new ConcurrentHashMap<>();
+
+  private static class LocalLock {
+    private final ReentrantLock lock = new ReentrantLock();
+    // guarded by the map entry
+    private int references;
+    private volatile long leaseExpiresAt = Long.MAX_VALUE;
+
+    private boolean isLeaseExpired() {
+      return currentTimeMillis() > leaseExpiresAt;
+    }
+  }
+
+  class Handle {
+    private final String name;
+    private final LocalLock localLock;
+    private final boolean locked;
+    private final boolean contended;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    private Handle(String name, LocalLock localLock, boolean locked, boolean contended) {
+      this.name = name;
+      this.localLock = localLock;
+      this.locked = locked;
+      this.contended = contended;
+    }
+
+    /**
+     * @return whether another thread of this instance held the lock when it was asked for
+     */
+    boolean isContended() {
+      return contended;
+    }
+
+    /**
+     * Called once the redis lock is held, with its lease in milliseconds or -1 if it is held until released.
+     */
+    void leased(long leaseMillis) {
+      if (locked) {
+        localLock.leaseExpiresAt = leaseMillis < 0 ? Long.MAX_VALUE : currentTimeMillis() + leaseMillis;
+      }
+    }
+
+    /**
+     * @return false if the handle has been released already
+     */
+    boolean release() {
+      if (!released.compareAndSet(false, true)) {
+        return false;
+      }
+      // released by another thread, the lock will be let go of by dropping the last reference to it
+      if (locked && localLock.lock.isHeldByCurrentThread()) {
+        // a reentrant hold is released within the outer one, which keeps its lease
+        if (localLock.lock.getHoldCount() == 1) {
+          localLock.leaseExpiresAt = Long.MAX_VALUE;
+        }
+        localLock.lock.unlock();
+      }
+      dereference(name, localLock);
+      return true;
+    }
+  }
+
+  /**
+   * Takes the local lock of the name, waiting for up to the given time, but not past the lease of its holder.
+   *
+   * @return the handle to release along with the redis lock, or null if another thread of this instance holds the lock
+   */
+  Handle lock(String name, long waitMillis) throws InterruptedException {
+    LocalLock localLock = locks.compute(name, (key, existing) -> {
+      // the holder of an expired lock may never release it, start over with a new one
+      LocalLock referenced =
+          existing == null || (existing.lock.isLocked() && existing.isLeaseExpired()) ? new LocalLock() : existing;
+      referenced.references++;
+      return referenced;
+    });
+
+    boolean contended = localLock.lock.isLocked() && !localLock.lock.isHeldByCurrentThread();
+    long waitUntil = currentTimeMillis() + waitMillis;
+    try {
+      while (true) {
+        long now = currentTimeMillis();
+        long waitSliceMillis =
+            Math.max(0, Math.min(Math.min(waitUntil, localLock.leaseExpiresAt) - now, LEASE_CHECK_MILLIS));
+        if (localLock.lock.tryLock(waitSliceMillis, TimeUnit.MILLISECONDS)) {
+          // pending until the redis lock is held, unless this thread holds it already
+          if (localLock.lock.getHoldCount() == 1) {
+            localLock.leaseExpiresAt = Long.MAX_VALUE;
+          }
+          return new Handle(name, localLock, true, contended);
+        }
+        if (localLock.isLeaseExpired()) {
+          // the holder has outlived its lease, so it doesn't hold the redis lock anymore either
+          return new Handle(name, localLock, false, true);
+        }
+        if (currentTimeMillis() >= waitUntil) {
+          dereference(name, localLock);
+          return null;
+        }
+      }
+    } catch (InterruptedException ex) {
+      dereference(name, localLock);
+      throw ex;
+    }
+  }
+
+  int size() {
+    return locks.size();
+  }
+
+  private void dereference(String name, LocalLock localLock) {
+    // a lock which has been replaced isn't in the map anymore
+    locks.computeIfPresent(
+        name, (key, existing) -> existing != localLock || --existing.references > 0 ? existing : null);
+  }
+}
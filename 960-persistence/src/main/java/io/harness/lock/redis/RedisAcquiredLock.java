@@ -22,11 +22,19 @@ import org.redisson.api.RLock;
 public class RedisAcquiredLock implements AcquiredLock<RLock> {
   RLock lock;
   boolean isLeaseInfinite;
+  // Lets go of the in-process lock, has to be safe to run more than once
+  Runnable onRelease;
 
   @Override
   public void release() {
-    if (lock != null && (lock.isLocked() || isLeaseInfinite)) {
-      lock.unlock();
+    try {
+      if (lock != null && (lock.isLocked() || isLeaseInfinite)) {
+        lock.unlock();
+      }
+    } finally {
+      if (onRelease != null) {
+        onRelease.run();
+      }
     }
   }
 
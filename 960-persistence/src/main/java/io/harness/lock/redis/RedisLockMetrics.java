@@ -0,0 +1,99 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.lock.redis;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.metrics.HarnessMetricRegistry;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import io.prometheus.client.Histogram;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Wait time, hold time and contention of the redis locks. Lock names mostly end with ids, so they are recorded by
+ * pattern, with the ids masked. Nothing is recorded in services without a {@link HarnessMetricRegistry}.
+ */
+@OwnedBy(PL)
+@Singleton
+@Slf4j
+public class RedisLockMetrics {
+  static final String WAIT_TIME = "lock_wait_time_ms";
+  static final String HOLD_TIME = "lock_hold_time_ms";
+  static final String CONTENTION_COUNT = "lock_contention_count";
+  static final String LOCAL = "local";
+  static final String REDIS = "redis";
+
+  private static final String LOCK_NAME_LABEL = "lock_name";
+  private static final double[] BUCKETS = {1, 5, 10, 50, 100, 500, 1000, 5000, 10000, 60000};
+  private static final Pattern TOKEN = Pattern.compile("[A-Za-z0-9]+");
+  private static final Pattern DIGIT = Pattern.compile("\\d");
+  private static final int MIN_ID_LENGTH = 16;
+
+  private HarnessMetricRegistry harnessMetricRegistry;
+
+  @Inject(optional = true)
+  void registerMetrics(HarnessMetricRegistry harnessMetricRegistry) {
+    try {
+      harnessMetricRegistry.registerHistogramMetric(WAIT_TIME, histogram(WAIT_TIME, "Time taken to acquire a lock"));
+      harnessMetricRegistry.registerHistogramMetric(HOLD_TIME, histogram(HOLD_TIME, "Time a lock was held for"));
+      harnessMetricRegistry.registerCounterMetric(CONTENTION_COUNT, new String[] {LOCK_NAME_LABEL, "layer"},
+          "Lock attempts which failed as the lock was held, locally or in redis");
+    } catch (IllegalArgumentException ex) {
+      // the collector registry is shared by all the injectors of the process
+      log.warn("Lock metrics are already registered", ex);
+    }
+    this.harnessMetricRegistry = harnessMetricRegistry;
+  }
+
+  void recordWaitTime(String name, long millis) {
+    if (harnessMetricRegistry != null) {
+      harnessMetricRegistry.recordHistogram(WAIT_TIME, new String[] {lockNamePattern(name)}, millis);
+    }
+  }
+
+  void recordHoldTime(String name, long millis) {
+    if (harnessMetricRegistry != null) {
+      harnessMetricRegistry.recordHistogram(HOLD_TIME, new String[] {lockNamePattern(name)}, millis);
+    }
+  }
+
+  void recordContention(String name, String layer) {
+    if (harnessMetricRegistry != null) {
+      harnessMetricRegistry.recordCounterInc(CONTENTION_COUNT, lockNamePattern(name), layer);
+    }
+  }
+
+  /**
+   * Masks the parts of the name which look like ids, i.e. which have a digit or are long, e.g.
+   * GRAPH_LOCK_Gt4KjP2XQjuYhXyaqgCNvA becomes GRAPH_LOCK_*.
+   */
+  static String lockNamePattern(String name) {
+    Matcher matcher = TOKEN.matcher(name);
+    StringBuffer pattern = new StringBuffer();
+    while (matcher.find()) {
+      String token = matcher.group();
+      boolean isId = token.length() >= MIN_ID_LENGTH || DIGIT.matcher(token).find();
+      matcher.appendReplacement(pattern, isId ? "*" : token);
+    }
+    matcher.appendTail(pattern);
+    return pattern.toString();
+  }
+
+  private static Histogram.Builder histogram(String metricName, String help) {
+    return Histogram.build()
+        .name(HarnessMetricRegistry.getAbsoluteMetricName(metricName))
+        .help(help)
+        .labelNames(LOCK_NAME_LABEL)
+        .buckets(BUCKETS);
+  }
+}
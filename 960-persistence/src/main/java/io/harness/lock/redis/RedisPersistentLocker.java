@@ -13,6 +13,7 @@ import static io.harness.eraro.ErrorCode.FAILED_TO_ACQUIRE_PERSISTENT_LOCK;
 import static io.harness.exception.WingsException.SRE;
 
 import static java.lang.String.format;
+import static java.lang.System.currentTimeMillis;
 import static java.time.Duration.ofSeconds;
 
 import io.harness.annotations.dev.OwnedBy;
@@ -26,6 +27,7 @@ import io.harness.lock.PersistentLocker;
 import io.harness.redis.RedisConfig;
 import io.harness.redis.RedissonClientFactory;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
@@ -42,35 +44,42 @@ import org.redisson.api.RedissonClient;
 public class RedisPersistentLocker implements PersistentLocker, HealthMonitor, Managed {
   private RedissonClient client;
   private String lockNamespace;
+  @VisibleForTesting final LocalLocks localLocks = new LocalLocks();
+  private final RedisLockMetrics lockMetrics;
   private static final String LOCK_PREFIX = "locks";
   private static final String ERROR_MESSAGE = "Failed to acquire distributed lock for %s";
+  private static final long INFINITE_LEASE = -1;
+
+  RedisPersistentLocker(RedisConfig redisLockConfig) {
+    this(redisLockConfig, new RedisLockMetrics());
+  }
 
   @Inject
-  RedisPersistentLocker(@Named("lock") RedisConfig redisLockConfig) {
+  RedisPersistentLocker(@Named("lock") RedisConfig redisLockConfig, RedisLockMetrics lockMetrics) {
     this.client = RedissonClientFactory.getClient(redisLockConfig);
     String envNamespace = redisLockConfig.getEnvNamespace();
     this.lockNamespace = EmptyPredicate.isEmpty(envNamespace) ? LOCK_PREFIX.concat(":")
                                                               : String.format("%s:%s:", envNamespace, LOCK_PREFIX);
+    this.lockMetrics = lockMetrics;
   }
 
   private String getLockName(String name) {
     return lockNamespace.concat(name);
   }
 
+  private PersistentLockException failedToAcquire(String name) {
+    return new PersistentLockException(
+        format(ERROR_MESSAGE, getLockName(name)), FAILED_TO_ACQUIRE_PERSISTENT_LOCK, SRE);
+  }
+
   @Override
   public AcquiredLock acquireLock(String name, Duration timeout) {
-    try {
-      name = getLockName(name);
-      RLock lock = client.getLock(name);
-      boolean locked = lock.tryLock(0, timeout.toMillis(), TimeUnit.MILLISECONDS);
-      if (locked) {
-        log.debug("Lock acquired on {} for timeout {}", name, timeout);
-        return RedisAcquiredLock.builder().lock(lock).build();
-      }
-    } catch (Exception ex) {
-      throw new UnexpectedException(format(ERROR_MESSAGE, name), ex);
+    AcquiredLock lock = lock(name, 0, timeout.toMillis());
+    if (lock == null) {
+      throw failedToAcquire(name);
     }
-    throw new PersistentLockException(format(ERROR_MESSAGE, name), FAILED_TO_ACQUIRE_PERSISTENT_LOCK, SRE);
+    log.debug("Lock acquired on {} for timeout {}", name, timeout);
+    return lock;
   }
 
   @Override
@@ -85,11 +94,7 @@ public class RedisPersistentLocker implements PersistentLocker, HealthMonitor, M
 
   @Override
   public AcquiredLock tryToAcquireLock(Class entityClass, String entityId, Duration timeout) {
-    try {
-      return acquireLock(entityClass, entityId, timeout);
-    } catch (WingsException exception) {
-      return null;
-    }
+    return tryToAcquireLock(entityClass.getName() + "-" + entityId, timeout);
   }
 
   @Override
@@ -100,7 +105,7 @@ public class RedisPersistentLocker implements PersistentLocker, HealthMonitor, M
   @Override
   public AcquiredLock tryToAcquireLock(String name, Duration timeout) {
     try {
-      return acquireLock(name, timeout);
+      return lock(name, 0, timeout.toMillis());
     } catch (WingsException exception) {
       return null;
     }
@@ -108,17 +113,11 @@ public class RedisPersistentLocker implements PersistentLocker, HealthMonitor, M
 
   @Override
   public AcquiredLock tryToAcquireInfiniteLockWithPeriodicRefresh(String name, Duration waitTime) {
-    try {
-      name = getLockName(name);
-      RLock lock = client.getLock(name);
-      boolean locked = lock.tryLock(waitTime.toMillis(), -1, TimeUnit.MILLISECONDS);
-      if (locked) {
-        return RedisAcquiredLock.builder().lock(lock).isLeaseInfinite(true).build();
-      }
-    } catch (Exception ex) {
-      throw new UnexpectedException(format(ERROR_MESSAGE, name), ex);
+    AcquiredLock lock = lock(name, waitTime.toMillis(), INFINITE_LEASE);
+    if (lock == null) {
+      throw failedToAcquire(name);
     }
-    throw new PersistentLockException(format(ERROR_MESSAGE, name), FAILED_TO_ACQUIRE_PERSISTENT_LOCK, SRE);
+    return lock;
   }
 
   @Override
@@ -134,18 +133,64 @@ public class RedisPersistentLocker implements PersistentLocker, HealthMonitor, M
 
   @Override
   public AcquiredLock waitToAcquireLock(String name, Duration lockTimeout, Duration waitTimeout) {
+    AcquiredLock lock = lock(name, waitTimeout.toMillis(), lockTimeout.toMillis());
+    if (lock == null) {
+      throw failedToAcquire(name);
+    }
+    log.debug("Acquired lock on {} for {} having a wait Timeout of {}", name, lockTimeout, waitTimeout);
+    return lock;
+  }
+
+  /**
+   * Threads of this instance competing for the same name queue on the in-process lock first, so that only one of them
+   * at a time goes to redis. Both together wait no longer than the given time.
+   *
+   * @param leaseMillis how long the lock is held unless released, or {@link #INFINITE_LEASE} to hold it until released
+   * @return the lock, or null if it is held by somebody else
+   */
+  private AcquiredLock lock(String name, long waitMillis, long leaseMillis) {
+    String lockName = getLockName(name);
+    long startedAt = currentTimeMillis();
+    LocalLocks.Handle localLock = null;
+    boolean locked = false;
     try {
-      name = getLockName(name);
-      RLock lock = client.getLock(name);
-      boolean locked = lock.tryLock(waitTimeout.toMillis(), lockTimeout.toMillis(), TimeUnit.MILLISECONDS);
-      if (locked) {
-        log.debug("Acquired lock on {} for {} having a wait Timeout of {}", name, lockTimeout, waitTimeout);
-        return RedisAcquiredLock.builder().lock(lock).build();
+      localLock = localLocks.lock(lockName, waitMillis);
+      if (localLock == null) {
+        lockMetrics.recordContention(name, RedisLockMetrics.LOCAL);
+        return null;
       }
+      if (localLock.isContended()) {
+        lockMetrics.recordContention(name, RedisLockMetrics.LOCAL);
+      }
+
+      RLock lock = client.getLock(lockName);
+      long remainingWaitMillis = Math.max(0, waitMillis - (currentTimeMillis() - startedAt));
+      locked = lock.tryLock(remainingWaitMillis, leaseMillis, TimeUnit.MILLISECONDS);
+      if (!locked) {
+        lockMetrics.recordContention(name, RedisLockMetrics.REDIS);
+        return null;
+      }
+
+      localLock.leased(leaseMillis);
+      long acquiredAt = currentTimeMillis();
+      lockMetrics.recordWaitTime(name, acquiredAt - startedAt);
+      LocalLocks.Handle acquiredLocalLock = localLock;
+      return RedisAcquiredLock.builder()
+          .lock(lock)
+          .isLeaseInfinite(leaseMillis == INFINITE_LEASE)
+          .onRelease(() -> {
+            if (acquiredLocalLock.release()) {
+              lockMetrics.recordHoldTime(name, currentTimeMillis() - acquiredAt);
+            }
+          })
+          .build();
     } catch (Exception ex) {
-      throw new UnexpectedException(format(ERROR_MESSAGE, name), ex);
+      throw new UnexpectedException(format(ERROR_MESSAGE, lockName), ex);
+    } finally {
+      if (localLock != null && !locked) {
+        localLock.release();
+      }
     }
-    throw new PersistentLockException(format(ERROR_MESSAGE, name), FAILED_TO_ACQUIRE_PERSISTENT_LOCK, SRE);
   }
 
   @Override
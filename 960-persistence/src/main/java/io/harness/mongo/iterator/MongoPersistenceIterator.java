@@ -11,6 +11,8 @@ import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
 import static io.harness.govern.Switch.unhandled;
 import static io.harness.iterator.PersistenceIterator.ProcessMode.PUMP;
 import static io.harness.logging.AutoLogContext.OverrideBehavior.OVERRIDE_ERROR;
+import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.ITERATOR_CLAIM_BATCH_SIZE;
+import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.ITERATOR_CLAIM_LAG;
 import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.ITERATOR_DELAY;
 import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.ITERATOR_ERROR;
 import static io.harness.metrics.impl.PersistenceMetricsServiceImpl.ITERATOR_PROCESSING_TIME;
@@ -84,6 +86,8 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
   @Getter private SchedulingType schedulingType;
   private String iteratorName;
   private boolean unsorted;
+  // When more than 1, due entities are claimed in batches of up to this size instead of one by one
+  private int claimBatchSize;
 
   private long movingAvg(long current, long sample) {
     return (15 * current + sample) / 16;
@@ -135,43 +139,52 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
 
         previous = base;
 
-        T entity = null;
-        try {
-          entity = persistenceProvider.obtainNextInstance(
-              base, throttled, clazz, fieldName, schedulingType, targetInterval, filterExpander, unsorted);
-        } finally {
-          semaphore.release();
-        }
+        if (claimBatchSize > 1) {
+          // one permit per entity to claim, so no more entities are claimed than can be worked on right away
+          int permits = 1;
+          while (permits < claimBatchSize && semaphore.tryAcquire()) {
+            permits++;
+          }
 
-        if (entity != null) {
-          // Make sure that if the object is updated we reset the scheduler for it
-          if (schedulingType != REGULAR) {
-            Long nextIteration = entity.obtainNextIteration(fieldName);
+          List<T> entities = null;
+          try {
+            entities = persistenceProvider.obtainNextInstances(
+                base, throttled, clazz, fieldName, schedulingType, targetInterval, filterExpander, unsorted, permits);
+          } finally {
+            semaphore.release(permits - (entities == null ? 0 : entities.size()));
+          }
 
-            List<Long> nextIterations =
-                ((PersistentIrregularIterable) entity)
-                    .recalculateNextIterations(fieldName, schedulingType == IRREGULAR_SKIP_MISSED, throttled);
-            if (isNotEmpty(nextIterations)) {
-              persistenceProvider.updateEntityField(entity, nextIterations, clazz, fieldName);
+          if (isNotEmpty(entities)) {
+            recordClaimMetrics(entities, base);
+            // the entities are already claimed, so there is no need to wait for the executor to pick each of them up
+            for (T entity : entities) {
+              submitClaimedEntity(entity, throttled);
             }
+            continue;
+          }
+        } else {
+          T entity = null;
+          try {
+            entity = persistenceProvider.obtainNextInstance(
+                base, throttled, clazz, fieldName, schedulingType, targetInterval, filterExpander, unsorted);
+          } finally {
+            semaphore.release();
+          }
 
-            if (nextIteration == null) {
+          if (entity != null) {
+            if (!shouldProcessEntity(entity, throttled)) {
               continue;
             }
-          }
 
-          if (entityProcessController != null && !entityProcessController.shouldProcessEntity(entity)) {
+            T finalEntity = entity;
+            synchronized (finalEntity) {
+              executorService.submit(() -> processEntity(finalEntity));
+              // it might take some time until the submitted task is actually triggered.
+              // lets wait for awhile until for this to happen
+              finalEntity.wait(10000);
+            }
             continue;
           }
-
-          T finalEntity = entity;
-          synchronized (finalEntity) {
-            executorService.submit(() -> processEntity(finalEntity));
-            // it might take some time until the submitted task is actually triggered.
-            // lets wait for awhile until for this to happen
-            finalEntity.wait(10000);
-          }
-          continue;
         }
 
         if (mode == PUMP) {
@@ -200,6 +213,61 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
     }
   }
 
+  private boolean shouldProcessEntity(T entity, long throttled) {
+    // Make sure that if the object is updated we reset the scheduler for it
+    if (schedulingType != REGULAR) {
+      Long nextIteration = entity.obtainNextIteration(fieldName);
+
+      List<Long> nextIterations =
+          ((PersistentIrregularIterable) entity)
+              .recalculateNextIterations(fieldName, schedulingType == IRREGULAR_SKIP_MISSED, throttled);
+      if (isNotEmpty(nextIterations)) {
+        persistenceProvider.updateEntityField(entity, nextIterations, clazz, fieldName);
+      }
+
+      if (nextIteration == null) {
+        return false;
+      }
+    }
+
+    return entityProcessController == null || entityProcessController.shouldProcessEntity(entity);
+  }
+
+  /**
+   * Hands a claimed entity, along with the permit taken for it, to the executor. The permit is released as soon as
+   * the entity is not going to be worked on.
+   */
+  @SuppressWarnings({"PMD", "squid:S1181"})
+  private void submitClaimedEntity(T entity, long throttled) {
+    boolean submitted = false;
+    try {
+      if (shouldProcessEntity(entity, throttled)) {
+        executorService.submit(() -> processEntity(entity, true));
+        submitted = true;
+      }
+    } catch (Throwable exception) {
+      log.error("Exception occurred while submitting a claimed entity", exception);
+      iteratorMetricsService.recordIteratorMetrics(iteratorName, ITERATOR_ERROR);
+    } finally {
+      if (!submitted) {
+        semaphore.release();
+      }
+    }
+  }
+
+  private void recordClaimMetrics(List<T> entities, long base) {
+    iteratorMetricsService.recordIteratorMetricsWithValue(iteratorName, entities.size(), ITERATOR_CLAIM_BATCH_SIZE);
+    long oldestIteration = base;
+    for (T entity : entities) {
+      Long nextIteration = entity.obtainNextIteration(fieldName);
+      if (nextIteration != null && nextIteration != 0) {
+        oldestIteration = Math.min(oldestIteration, nextIteration);
+      }
+    }
+    iteratorMetricsService.recordIteratorMetricsWithDuration(
+        iteratorName, Duration.ofMillis(base - oldestIteration), ITERATOR_CLAIM_LAG);
+  }
+
   public void recoverAfterPause() {
     persistenceProvider.recoverAfterPause(clazz, fieldName);
   }
@@ -228,14 +296,25 @@ public class MongoPersistenceIterator<T extends PersistentIterable, F extends Fi
   @SuppressWarnings({"squid:S2445", "PMD", "squid:S1181"})
   @VisibleForTesting
   public void processEntity(T entity) {
+    processEntity(entity, false);
+  }
+
+  /**
+   * @param permitAcquired whether a permit was already taken for the entity when it was claimed, in which case it is
+   *                       released once the entity is done
+   */
+  @SuppressWarnings({"squid:S2445", "PMD", "squid:S1181"})
+  private void processEntity(T entity, boolean permitAcquired) {
     try (EntityLogContext ignore = new EntityLogContext(entity, OVERRIDE_ERROR)) {
-      try {
-        semaphore.acquire();
-      } catch (InterruptedException e) {
-        log.error("Working on entity was interrupted", e);
-        iteratorMetricsService.recordIteratorMetrics(iteratorName, ITERATOR_ERROR);
-        Thread.currentThread().interrupt();
-        return;
+      if (!permitAcquired) {
+        try {
+          semaphore.acquire();
+        } catch (InterruptedException e) {
+          log.error("Working on entity was interrupted", e);
+          iteratorMetricsService.recordIteratorMetrics(iteratorName, ITERATOR_ERROR);
+          Thread.currentThread().interrupt();
+          return;
+        }
       }
       long startTime = currentTimeMillis();
 
@@ -7,23 +7,38 @@
 
 package io.harness.mongo.iterator.provider;
 
+import static io.harness.data.structure.EmptyPredicate.isEmpty;
 import static io.harness.govern.Switch.unhandled;
+import static io.harness.mongo.iterator.MongoPersistenceIterator.SchedulingType.REGULAR;
 
 import static java.lang.System.currentTimeMillis;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+import static org.mongodb.morphia.mapping.Mapper.ID_KEY;
 
 import io.harness.iterator.PersistentIterable;
 import io.harness.mongo.iterator.MongoPersistenceIterator.SchedulingType;
 import io.harness.mongo.iterator.filter.MorphiaFilterExpander;
 import io.harness.persistence.HPersistence;
+import io.harness.persistence.UuidAccess;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import com.mongodb.BasicDBList;
 import com.mongodb.BasicDBObject;
+import com.mongodb.BulkWriteOperation;
+import com.mongodb.BulkWriteResult;
+import com.mongodb.DBCollection;
+import com.mongodb.DBObject;
 import java.time.Duration;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import org.mongodb.morphia.query.FilterOperator;
+import org.mongodb.morphia.query.FindOptions;
 import org.mongodb.morphia.query.Query;
 import org.mongodb.morphia.query.Sort;
 import org.mongodb.morphia.query.UpdateOperations;
@@ -87,6 +102,95 @@ public class MorphiaPersistenceProvider<T extends PersistentIterable>
     return persistence.findAndModifySystemData(query, updateOperations, HPersistence.returnOldOptions);
   }
 
+  /**
+   * Claims a batch of regular iterable entities in three round trips, no matter the size of the batch: read the due
+   * entities, move the next iteration of each of them with a compare-and-set on the value that was read, all in one
+   * bulk write, then read back which of them carry the new value. Entities another node claimed in between, or which
+   * stopped matching the filter, don't match their update and are left out.
+   *
+   * The returned entities hold the values from before the claim, same as {@link #obtainNextInstance}.
+   */
+  @Override
+  public List<T> obtainNextInstances(long base, long throttled, Class<T> clazz, String fieldName,
+      SchedulingType schedulingType, Duration targetInterval, MorphiaFilterExpander<T> filterExpander,
+      boolean unsorted, int limit) {
+    if (schedulingType != REGULAR || limit <= 1) {
+      return PersistenceProvider.super.obtainNextInstances(
+          base, throttled, clazz, fieldName, schedulingType, targetInterval, filterExpander, unsorted, limit);
+    }
+
+    long now = currentTimeMillis();
+    List<T> candidates =
+        createQuery(now, clazz, fieldName, filterExpander, unsorted).asList(new FindOptions().limit(limit));
+    if (isEmpty(candidates)) {
+      return Collections.emptyList();
+    }
+
+    long nextIteration = base + targetInterval.toMillis();
+    DBObject filter = createQuery(clazz, fieldName, filterExpander, true).getQueryObject();
+    DBCollection collection = persistence.getCollection(clazz);
+    BulkWriteResult result = HPersistence.retry(() -> {
+      BulkWriteOperation bulkWriteOperation = collection.initializeUnorderedBulkOperation();
+      for (T candidate : candidates) {
+        bulkWriteOperation.find(claimFilter(candidate, fieldName, filter))
+            .updateOne(new BasicDBObject("$set", new BasicDBObject(fieldName, nextIteration)));
+      }
+      return bulkWriteOperation.execute();
+    });
+    if (result.getModifiedCount() == 0) {
+      return Collections.emptyList();
+    }
+
+    List<String> ids = candidates.stream().map(UuidAccess::getUuid).collect(toList());
+    Query<T> claimedQuery = persistence.createQuery(clazz).project(ID_KEY, true);
+    claimedQuery.field(ID_KEY).in(ids);
+    claimedQuery.filter(fieldName, nextIteration);
+    Set<String> claimedIds = claimedQuery.asList().stream().map(UuidAccess::getUuid).collect(toSet());
+    if (claimedIds.size() > result.getModifiedCount()) {
+      // Another node claimed some of the same entities in the same millisecond, so it is not known which of them
+      // this node moved. Claim them again one by one, so that every one of them is worked on by a single node.
+      log.warn("Batch claim of {} collided with another claim, claiming {} entities one by one",
+          clazz.getSimpleName(), claimedIds.size());
+      claimedIds = reclaim(clazz, fieldName, claimedIds, nextIteration);
+    }
+    Set<String> ownedIds = claimedIds;
+    return candidates.stream().filter(entity -> ownedIds.contains(entity.getUuid())).collect(toList());
+  }
+
+  /**
+   * Moves the next iteration of every entity on from the value written by the colliding claims, with a
+   * compare-and-set on that value. The first node to move an entity on owns it.
+   */
+  private Set<String> reclaim(Class<T> clazz, String fieldName, Set<String> ids, long nextIteration) {
+    Set<String> reclaimedIds = new HashSet<>();
+    for (String id : ids) {
+      Query<T> query = persistence.createQuery(clazz).filter(ID_KEY, id).filter(fieldName, nextIteration);
+      UpdateOperations<T> updateOperations =
+          persistence.createUpdateOperations(clazz).set(fieldName, nextIteration + 1);
+      if (persistence.findAndModifySystemData(query, updateOperations, HPersistence.returnOldOptions) != null) {
+        reclaimedIds.add(id);
+      }
+    }
+    return reclaimedIds;
+  }
+
+  /**
+   * Matches the entity only while it still has the next iteration it was read with and still passes the filter.
+   */
+  private DBObject claimFilter(T candidate, String fieldName, DBObject filter) {
+    Long nextIteration = candidate.obtainNextIteration(fieldName);
+    BasicDBObject iterationFilter = nextIteration == null
+        ? new BasicDBObject(fieldName, new BasicDBObject("$exists", false))
+        : new BasicDBObject(fieldName, nextIteration);
+    BasicDBList conditions = new BasicDBList();
+    conditions.add(new BasicDBObject(ID_KEY, candidate.getUuid()));
+    conditions.add(iterationFilter);
+    if (!filter.keySet().isEmpty()) {
+      conditions.add(filter);
+    }
+    return new BasicDBObject("$and", conditions);
+  }
+
   @Override
   public T findInstance(Class<T> clazz, String fieldName, MorphiaFilterExpander<T> filterExpander) {
     Query<T> resultQuery = createQuery(clazz, fieldName, filterExpander, false).project(fieldName, true);
@@ -13,6 +13,7 @@ import io.harness.iterator.PersistentIterable;
 import io.harness.mongo.iterator.filter.FilterExpander;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 
 public interface PersistenceProvider<T extends PersistentIterable, F extends FilterExpander> {
@@ -20,5 +21,23 @@ public interface PersistenceProvider<T extends PersistentIterable, F extends Fil
   T obtainNextInstance(long base, long throttled, Class<T> clazz, String fieldName, SchedulingType schedulingType,
       Duration targetInterval, F filterExpander, boolean unsorted);
   T findInstance(Class<T> clazz, String fieldName, F filterExpander);
+
+  /**
+   * Claims up to limit due entities. Providers that can claim several entities in one round trip should override
+   * this, the default claims them one by one.
+   */
+  default List<T> obtainNextInstances(long base, long throttled, Class<T> clazz, String fieldName,
+      SchedulingType schedulingType, Duration targetInterval, F filterExpander, boolean unsorted, int limit) {
+    List<T> entities = new ArrayList<>();
+    while (entities.size() < limit) {
+      T entity = obtainNextInstance(
+          base, throttled, clazz, fieldName, schedulingType, targetInterval, filterExpander, unsorted);
+      if (entity == null) {
+        break;
+      }
+      entities.add(entity);
+    }
+    return entities;
+  }
   void recoverAfterPause(Class<T> clazz, String fieldName);
 }
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.cache;
+
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.DeflaterOutputStream;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+public class CacheEntityCodecTest extends CategoryTest {
+  private static final byte[] BYTES = "some entity, some entity, some entity".getBytes(UTF_8);
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testRoundTrip() {
+    for (CacheEntityCodec codec : CacheEntityCodec.values()) {
+      byte[] compressed = codec.compress(BYTES);
+      assertThat(CacheEntityCodec.of(compressed)).isEqualTo(codec);
+      assertThat(CacheEntityCodec.decompress(compressed)).isEqualTo(BYTES);
+    }
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testDecompressPreviouslyDeflated() throws IOException {
+    ByteArrayOutputStream byteStream = new ByteArrayOutputStream();
+    try (DeflaterOutputStream outputStream = new DeflaterOutputStream(byteStream)) {
+      outputStream.write(BYTES);
+    }
+
+    assertThat(CacheEntityCodec.decompress(byteStream.toByteArray())).isEqualTo(BYTES);
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.cache;
+
+import static io.harness.rule.OwnerRule.GEORGE;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import java.util.Date;
+import java.util.function.Consumer;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+
+public class DistributedStoreNearCacheTest extends CategoryTest {
+  private static final String TOPIC = "topic";
+  private static final String KEY = "key";
+
+  private CacheInvalidationChannel invalidationChannel;
+  private Consumer<String> invalidationListener;
+  private DistributedStoreNearCache nearCache;
+
+  @Before
+  public void setUp() {
+    invalidationChannel = mock(CacheInvalidationChannel.class);
+    DistributedStoreConfig config = new DistributedStoreConfig();
+    config.setNearCacheEnabled(true);
+    nearCache = new DistributedStoreNearCache(TOPIC, config, invalidationChannel);
+    ArgumentCaptor<Consumer> listenerCaptor = ArgumentCaptor.forClass(Consumer.class);
+    verify(invalidationChannel).subscribe(eq(TOPIC), listenerCaptor.capture());
+    invalidationListener = listenerCaptor.getValue();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testGetMatchesContextValue() {
+    assertThat(nearCache.get(KEY, null)).isNull();
+
+    nearCache.putLoaded(KEY, 1, false, bytes("one"), validFor(10000), nearCache.currentEpoch());
+
+    assertThat(nearCache.get(KEY, null)).isEqualTo(bytes("one"));
+    assertThat(nearCache.get(KEY, 1L)).isEqualTo(bytes("one"));
+    assertThat(nearCache.get(KEY, 2L)).isNull();
+    assertThat(nearCache.getHitCount()).isEqualTo(2);
+    assertThat(nearCache.getMissCount()).isEqualTo(2);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testExpiredEntryIsNotServed() {
+    nearCache.putLoaded(KEY, 1, false, bytes("one"), validFor(-1), nearCache.currentEpoch());
+
+    assertThat(nearCache.get(KEY, null)).isNull();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testOrdinalIsNotDowngraded() {
+    nearCache.putWritten(KEY, 2, true, false, bytes("two"), validFor(10000));
+    nearCache.putWritten(KEY, 1, true, false, bytes("one"), validFor(10000));
+    assertThat(nearCache.get(KEY, null)).isEqualTo(bytes("two"));
+
+    nearCache.putWritten(KEY, 1, true, true, bytes("one"), validFor(10000));
+    assertThat(nearCache.get(KEY, null)).isEqualTo(bytes("one"));
+
+    nearCache.putWritten(KEY, 0, false, false, bytes("nominal"), validFor(10000));
+    assertThat(nearCache.get(KEY, null)).isEqualTo(bytes("nominal"));
+    verify(invalidationChannel, times(4)).publish(TOPIC, KEY);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testInvalidation() {
+    nearCache.putLoaded(KEY, 1, false, bytes("one"), validFor(10000), nearCache.currentEpoch());
+
+    invalidationListener.accept(KEY);
+
+    assertThat(nearCache.get(KEY, null)).isNull();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testLoadRacingWithInvalidationIsNotCached() {
+    long loadedAtEpoch = nearCache.currentEpoch();
+    invalidationListener.accept(KEY);
+
+    nearCache.putLoaded(KEY, 1, false, bytes("stale"), validFor(10000), loadedAtEpoch);
+
+    assertThat(nearCache.get(KEY, null)).isNull();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testLoadRacingWithWriteDoesNotReplaceIt() {
+    long loadedAtEpoch = nearCache.currentEpoch();
+    nearCache.putWritten(KEY, 2, false, false, bytes("new"), validFor(10000));
+
+    nearCache.putLoaded(KEY, 1, false, bytes("old"), validFor(10000), loadedAtEpoch);
+
+    assertThat(nearCache.get(KEY, null)).isEqualTo(bytes("new"));
+    verify(invalidationChannel).publish(eq(TOPIC), any());
+  }
+
+  private static byte[] bytes(String value) {
+    return value.getBytes(UTF_8);
+  }
+
+  private static Date validFor(long millis) {
+    return new Date(System.currentTimeMillis() + millis);
+  }
+}
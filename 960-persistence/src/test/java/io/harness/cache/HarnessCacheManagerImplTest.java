@@ -45,6 +45,7 @@ import org.mockito.Captor;
 public class HarnessCacheManagerImplTest extends CategoryTest {
   @Captor private ArgumentCaptor<MutableConfiguration<String, Integer>> configCaptor;
   private static final String DISABLED_CACHE_NAME = "disabledCache";
+  private static final String NEAR_CACHED_CACHE_NAME = "nearCachedCache";
   private HarnessCacheManager harnessCacheManager;
   private CacheManager cacheManager;
   private String cacheNamespace;
@@ -57,6 +58,7 @@ public class HarnessCacheManagerImplTest extends CategoryTest {
                                   .cacheBackend(REDIS)
                                   .cacheNamespace("test")
                                   .disabledCaches(Collections.singleton(DISABLED_CACHE_NAME))
+                                  .nearCachedCaches(Collections.singleton(NEAR_CACHED_CACHE_NAME))
                                   .build();
     this.harnessCacheManager = new HarnessCacheManagerImpl(cacheManager, Optional.empty(), cacheConfig);
     this.cacheNamespace = isEmpty(cacheConfig.getCacheNamespace())
@@ -193,4 +195,18 @@ public class HarnessCacheManagerImplTest extends CategoryTest {
     verify(cacheManager, times(1)).getCache(internalCacheName, String.class, Integer.class);
     verify(cacheManager, times(1)).createCache(eq(internalCacheName), any(MutableConfiguration.class));
   }
+
+  @Test
+  @Owner(developers = UTKARSH)
+  @Category(UnitTests.class)
+  public void test_getCache_shouldReturnSameNearCache() {
+    String internalCacheName = String.format("%s/%s", cacheNamespace, NEAR_CACHED_CACHE_NAME);
+    when(cacheManager.getCache(internalCacheName, String.class, Integer.class)).thenReturn(new NoOpCache<>());
+    Factory<ExpiryPolicy> expiryPolicy = AccessedExpiryPolicy.factoryOf(Duration.TEN_MINUTES);
+    Cache<String, Integer> cache =
+        harnessCacheManager.getCache(NEAR_CACHED_CACHE_NAME, String.class, Integer.class, expiryPolicy);
+    assertThat(cache).isInstanceOf(NearCache.class);
+    assertThat(harnessCacheManager.getCache(NEAR_CACHED_CACHE_NAME, String.class, Integer.class, expiryPolicy))
+        .isSameAs(cache);
+  }
 }
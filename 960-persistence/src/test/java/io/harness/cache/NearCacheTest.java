@@ -0,0 +1,99 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.cache;
+
+import static io.harness.rule.OwnerRule.UTKARSH;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import java.time.Duration;
+import java.util.Collections;
+import javax.cache.Cache;
+import javax.cache.configuration.CacheEntryListenerConfiguration;
+import javax.cache.event.CacheEntryEvent;
+import javax.cache.event.CacheEntryUpdatedListener;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+
+public class NearCacheTest extends CategoryTest {
+  private static final String CACHE_NAME = "cache";
+
+  private Cache<String, Integer> jCache;
+  private NearCacheMetrics nearCacheMetrics;
+  private NearCache<String, Integer> nearCache;
+  private CacheEntryListenerConfiguration<String, Integer> listenerConfiguration;
+
+  @Before
+  public void setUp() {
+    jCache = mock(Cache.class);
+    nearCacheMetrics = mock(NearCacheMetrics.class);
+    nearCache = new NearCache<>(jCache, CACHE_NAME, 100, Duration.ofMinutes(1), nearCacheMetrics);
+    ArgumentCaptor<CacheEntryListenerConfiguration> captor =
+        ArgumentCaptor.forClass(CacheEntryListenerConfiguration.class);
+    verify(jCache).registerCacheEntryListener(captor.capture());
+    listenerConfiguration = captor.getValue();
+  }
+
+  @Test
+  @Owner(developers = UTKARSH)
+  @Category(UnitTests.class)
+  public void testGetIsServedLocally() {
+    when(jCache.get("key")).thenReturn(1);
+
+    assertThat(nearCache.get("key")).isEqualTo(1);
+    assertThat(nearCache.get("key")).isEqualTo(1);
+    assertThat(nearCache.containsKey("key")).isTrue();
+
+    verify(jCache, times(1)).get("key");
+    verify(jCache, never()).containsKey("key");
+    verify(nearCacheMetrics, times(1)).recordMiss(CACHE_NAME);
+    verify(nearCacheMetrics, times(2)).recordHit(CACHE_NAME);
+  }
+
+  @Test
+  @Owner(developers = UTKARSH)
+  @Category(UnitTests.class)
+  public void testReadsOwnWrites() {
+    nearCache.put("key", 1);
+    assertThat(nearCache.get("key")).isEqualTo(1);
+
+    nearCache.remove("key");
+    assertThat(nearCache.get("key")).isNull();
+
+    verify(jCache).put("key", 1);
+    verify(jCache).remove("key");
+    verify(jCache, times(1)).get("key");
+  }
+
+  @Test
+  @Owner(developers = UTKARSH)
+  @Category(UnitTests.class)
+  public void testRemoteChangeInvalidates() {
+    when(jCache.get("key")).thenReturn(1).thenReturn(2);
+    assertThat(nearCache.get("key")).isEqualTo(1);
+
+    CacheEntryEvent<String, Integer> event = mock(CacheEntryEvent.class);
+    when(event.getKey()).thenReturn("key");
+    ((CacheEntryUpdatedListener<String, Integer>) listenerConfiguration.getCacheEntryListenerFactory().create())
+        .onUpdated(Collections.singletonList(event));
+
+    assertThat(nearCache.get("key")).isEqualTo(2);
+    verify(nearCacheMetrics).recordInvalidation(CACHE_NAME);
+  }
+}
@@ -16,6 +16,7 @@ import static io.harness.rule.OwnerRule.GEORGE;
 import static java.lang.System.currentTimeMillis;
 import static java.time.Duration.ofMillis;
 import static java.time.Duration.ofSeconds;
+import static org.mongodb.morphia.mapping.Mapper.ID_KEY;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.joor.Reflect.on;
@@ -37,11 +38,19 @@ import io.harness.threading.Poller;
 import io.harness.threading.ThreadPool;
 
 import com.google.inject.Inject;
+import com.mongodb.DBObject;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
@@ -170,4 +179,172 @@ public class PersistenceRegularIteratorTest extends PersistenceTestBase {
       assertThat(updatedEntity.getNextIteration()).isGreaterThan(entity.getNextIteration());
     }
   }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testObtainNextInstancesClaimsOnlyDueEntities() {
+    String nextIteration = RegularIterableEntityKeys.nextIteration;
+    long now = currentTimeMillis();
+    for (int i = 0; i < 3; i++) {
+      persistence.save(TestRegularIterableEntity.builder().uuid(generateUuid()).nextIteration(now - 1000).build());
+    }
+    TestRegularIterableEntity future =
+        TestRegularIterableEntity.builder().uuid(generateUuid()).nextIteration(now + 60000).build();
+    persistence.save(future);
+
+    List<TestRegularIterableEntity> claimed = persistenceProvider.obtainNextInstances(
+        now, now, TestRegularIterableEntity.class, nextIteration, REGULAR, ofSeconds(10), null, false, 5);
+    assertThat(claimed).hasSize(3);
+    assertThat(claimed).extracting(TestRegularIterableEntity::getUuid).doesNotContain(future.getUuid());
+    assertThat(claimed).allMatch(entity -> entity.getNextIteration() == now - 1000);
+
+    for (TestRegularIterableEntity entity : claimed) {
+      assertThat(persistence.get(TestRegularIterableEntity.class, entity.getUuid()).getNextIteration())
+          .isEqualTo(now + 10000);
+    }
+    assertThat(persistenceProvider.obtainNextInstances(
+                   now, now, TestRegularIterableEntity.class, nextIteration, REGULAR, ofSeconds(10), null, false, 5))
+        .isEmpty();
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testObtainNextInstancesSkipsEntitiesChangedSinceRead() {
+    String nextIteration = RegularIterableEntityKeys.nextIteration;
+    long now = currentTimeMillis();
+    List<String> ids = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      TestRegularIterableEntity entity =
+          TestRegularIterableEntity.builder().uuid(generateUuid()).nextIteration(now - 1000).build();
+      persistence.save(entity);
+      ids.add(entity.getUuid());
+    }
+    String claimedElsewhere = ids.get(2);
+
+    AtomicInteger filterCalls = new AtomicInteger();
+    MorphiaFilterExpander<TestRegularIterableEntity> filterExpander = query -> {
+      // the second call builds the claim, by then another node has claimed one of the entities which were read
+      if (filterCalls.incrementAndGet() == 2) {
+        persistence.update(persistence.createQuery(TestRegularIterableEntity.class).filter(ID_KEY, claimedElsewhere),
+            persistence.createUpdateOperations(TestRegularIterableEntity.class).set(nextIteration, now + 60000));
+      }
+      query.field(ID_KEY).in(ids);
+    };
+
+    List<TestRegularIterableEntity> claimed = persistenceProvider.obtainNextInstances(
+        now, now, TestRegularIterableEntity.class, nextIteration, REGULAR, ofSeconds(10), filterExpander, false, 5);
+
+    assertThat(claimed)
+        .extracting(TestRegularIterableEntity::getUuid)
+        .containsExactlyInAnyOrder(ids.get(0), ids.get(1));
+    assertThat(persistence.get(TestRegularIterableEntity.class, claimedElsewhere).getNextIteration())
+        .isEqualTo(now + 60000);
+    // the claim leaves nothing but the iteration field behind
+    DBObject document = persistence.getCollection(TestRegularIterableEntity.class).findOne(ids.get(0));
+    assertThat(document.keySet()).isSubsetOf(ID_KEY, "className", nextIteration);
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testObtainNextInstancesReclaimsEntitiesOfACollidingClaim() {
+    String nextIteration = RegularIterableEntityKeys.nextIteration;
+    long now = currentTimeMillis();
+    List<String> ids = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      TestRegularIterableEntity entity =
+          TestRegularIterableEntity.builder().uuid(generateUuid()).nextIteration(now - 1000).build();
+      persistence.save(entity);
+      ids.add(entity.getUuid());
+    }
+
+    AtomicInteger filterCalls = new AtomicInteger();
+    MorphiaFilterExpander<TestRegularIterableEntity> filterExpander = query -> {
+      // another node claims one of the entities in the same millisecond, moving it to the same next iteration
+      if (filterCalls.incrementAndGet() == 2) {
+        persistence.update(persistence.createQuery(TestRegularIterableEntity.class).filter(ID_KEY, ids.get(2)),
+            persistence.createUpdateOperations(TestRegularIterableEntity.class).set(nextIteration, now + 10000));
+      }
+      query.field(ID_KEY).in(ids);
+    };
+
+    List<TestRegularIterableEntity> claimed = persistenceProvider.obtainNextInstances(
+        now, now, TestRegularIterableEntity.class, nextIteration, REGULAR, ofSeconds(10), filterExpander, false, 5);
+
+    // the entities this node moved are not dropped, each of them is claimed again on its own
+    assertThat(claimed).extracting(TestRegularIterableEntity::getUuid).contains(ids.get(0), ids.get(1));
+    for (TestRegularIterableEntity entity : claimed) {
+      assertThat(persistence.get(TestRegularIterableEntity.class, entity.getUuid()).getNextIteration())
+          .isEqualTo(now + 10001);
+    }
+  }
+
+  @Test
+  @Owner(developers = GEORGE)
+  @Category(UnitTests.class)
+  public void testBatchClaimDoesNotClaimMoreThanThePoolCanWorkOn() {
+    int threadPoolSize = 3;
+    AtomicInteger inFlight = new AtomicInteger();
+    AtomicInteger maxInFlight = new AtomicInteger();
+    Set<String> handled = ConcurrentHashMap.newKeySet();
+    // counts the entities from the moment they are handed to the executor, queued ones included
+    ExecutorService entityExecutor = new ThreadPoolExecutor(
+        threadPoolSize, threadPoolSize, 1, TimeUnit.SECONDS, new LinkedBlockingQueue<>()) {
+      @Override
+      public void execute(Runnable command) {
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        super.execute(command);
+      }
+
+      @Override
+      protected void afterExecute(Runnable runnable, Throwable throwable) {
+        inFlight.decrementAndGet();
+      }
+    };
+
+    MongoPersistenceIterator<TestRegularIterableEntity, MorphiaFilterExpander<TestRegularIterableEntity>> iterator =
+        MongoPersistenceIterator.<TestRegularIterableEntity, MorphiaFilterExpander<TestRegularIterableEntity>>builder()
+            .mode(LOOP)
+            .iteratorName(this.getClass().getName())
+            .clazz(TestRegularIterableEntity.class)
+            .fieldName(RegularIterableEntityKeys.nextIteration)
+            .targetInterval(ofSeconds(60))
+            .acceptableNoAlertDelay(ofSeconds(1))
+            .maximumDelayForCheck(ofSeconds(1))
+            .executorService(entityExecutor)
+            .semaphore(new Semaphore(threadPoolSize))
+            .handler(entity -> {
+              Morpheus.sleep(ofMillis(100));
+              handled.add(entity.getUuid());
+            })
+            .schedulingType(REGULAR)
+            .claimBatchSize(10)
+            .persistenceProvider(persistenceProvider)
+            .build();
+    on(iterator).set("queueController", queueController);
+    on(iterator).set("iteratorMetricsService", iteratorMetricsService);
+
+    try (MaintenanceGuard guard = new MaintenanceGuard(false)) {
+      long now = currentTimeMillis();
+      List<String> ids = new ArrayList<>();
+      for (int i = 0; i < 12; i++) {
+        TestRegularIterableEntity entity =
+            TestRegularIterableEntity.builder().uuid(generateUuid()).nextIteration(now - 1000).build();
+        persistence.save(entity);
+        ids.add(entity.getUuid());
+      }
+
+      Future<?> loop = executorService.submit(iterator::process);
+      try {
+        Poller.pollFor(ofSeconds(10), ofMillis(10), () -> handled.containsAll(ids));
+      } finally {
+        loop.cancel(true);
+        entityExecutor.shutdownNow();
+      }
+    }
+
+    assertThat(maxInFlight.get()).isBetween(1, threadPoolSize);
+  }
 }
@@ -31,6 +31,9 @@ import io.harness.redis.RedissonClientFactory;
 import io.harness.rule.Owner;
 
 import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import org.junit.Before;
 import org.junit.Test;
@@ -137,4 +140,134 @@ public class RedisPersistentLockerTest extends PersistenceTestBase {
 
     verify(rLock, times(1)).tryLock(anyLong(), anyLong(), any(TimeUnit.class));
   }
+
+  @Test
+  @Owner(developers = RAMA)
+  @Category(UnitTests.class)
+  public void testTryAcquireLockHeldLocallyDoesNotGoToRedis() throws Exception {
+    RLock rLock = mock(RLock.class);
+    when(client.getLock(anyString())).thenReturn(rLock);
+    when(rLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(true);
+
+    try (AcquiredLock lock = redisPersistentLocker.tryToAcquireLock(AcquiredLock.class, "cba", Duration.ofMinutes(1))) {
+      assertThat(lock).isNotNull();
+      ExecutorService executorService = Executors.newSingleThreadExecutor();
+      try {
+        AcquiredLock other =
+            executorService
+                .submit(() -> redisPersistentLocker.tryToAcquireLock(AcquiredLock.class, "cba", Duration.ofMinutes(1)))
+                .get();
+        assertThat(other).isNull();
+      } finally {
+        executorService.shutdownNow();
+      }
+    }
+
+    verify(rLock, times(1)).tryLock(anyLong(), anyLong(), any(TimeUnit.class));
+  }
+
+  @Test
+  @Owner(developers = RAMA)
+  @Category(UnitTests.class)
+  public void testWaitForLocalLockEndsWithTheLeaseOfItsHolder() throws Exception {
+    RLock rLock = mock(RLock.class);
+    when(client.getLock(anyString())).thenReturn(rLock);
+    when(rLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(true);
+
+    // never released, the holder relies on the lease to expire
+    AcquiredLock expiring = redisPersistentLocker.acquireLock(AcquiredLock.class, "cba", Duration.ofMillis(300));
+    assertThat(expiring).isNotNull();
+    ExecutorService executorService = Executors.newSingleThreadExecutor();
+    try {
+      long startedAt = System.currentTimeMillis();
+      Callable<AcquiredLock> waitForLock = ()
+          -> redisPersistentLocker.waitToAcquireLock(
+              AcquiredLock.class, "cba", Duration.ofMinutes(1), Duration.ofMinutes(1));
+      AcquiredLock other = executorService.submit(waitForLock).get();
+      assertThat(other).isNotNull();
+      assertThat(System.currentTimeMillis() - startedAt).isLessThan(TimeUnit.SECONDS.toMillis(10));
+      other.close();
+    } finally {
+      executorService.shutdownNow();
+    }
+
+    verify(rLock, times(2)).tryLock(anyLong(), anyLong(), any(TimeUnit.class));
+  }
+
+  @Test
+  @Owner(developers = RAMA)
+  @Category(UnitTests.class)
+  public void testExpiredLocalLockIsReplaced() throws Exception {
+    RLock rLock = mock(RLock.class);
+    when(client.getLock(anyString())).thenReturn(rLock);
+    when(rLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(true);
+
+    AcquiredLock expiring = redisPersistentLocker.acquireLock(AcquiredLock.class, "cba", Duration.ofMillis(100));
+    assertThat(redisPersistentLocker.localLocks.size()).isEqualTo(1);
+    Thread.sleep(200);
+
+    ExecutorService executorService = Executors.newSingleThreadExecutor();
+    try {
+      AcquiredLock other =
+          executorService
+              .submit(() -> redisPersistentLocker.tryToAcquireLock(AcquiredLock.class, "cba", Duration.ofMinutes(1)))
+              .get();
+      assertThat(other).isNotNull();
+      other.close();
+    } finally {
+      executorService.shutdownNow();
+    }
+    // the entry of the lock which was never released is gone along with the one which replaced it
+    assertThat(redisPersistentLocker.localLocks.size()).isZero();
+
+    // releasing the replaced lock late leaves the current one of the name alone
+    AcquiredLock current = redisPersistentLocker.tryToAcquireLock(AcquiredLock.class, "cba", Duration.ofMinutes(1));
+    expiring.close();
+    assertThat(redisPersistentLocker.localLocks.size()).isEqualTo(1);
+    current.close();
+    assertThat(redisPersistentLocker.localLocks.size()).isZero();
+  }
+
+  @Test
+  @Owner(developers = RAMA)
+  @Category(UnitTests.class)
+  public void testNestedLockKeepsTheLeaseOfTheOuterOne() throws Exception {
+    RLock rLock = mock(RLock.class);
+    when(client.getLock(anyString())).thenReturn(rLock);
+    when(rLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(true);
+
+    // the outer lock is never released, its holder relies on the lease to expire
+    AcquiredLock outer = redisPersistentLocker.acquireLock(AcquiredLock.class, "cba", Duration.ofMillis(100));
+    assertThat(outer).isNotNull();
+    try (AcquiredLock inner =
+             redisPersistentLocker.tryToAcquireLock(AcquiredLock.class, "cba", Duration.ofMillis(100))) {
+      assertThat(inner).isNotNull();
+    }
+    Thread.sleep(200);
+
+    ExecutorService executorService = Executors.newSingleThreadExecutor();
+    try {
+      AcquiredLock other =
+          executorService
+              .submit(() -> redisPersistentLocker.tryToAcquireLock(AcquiredLock.class, "cba", Duration.ofMinutes(1)))
+              .get();
+      assertThat(other).isNotNull();
+      other.close();
+    } finally {
+      executorService.shutdownNow();
+    }
+
+    verify(rLock, times(3)).tryLock(anyLong(), anyLong(), any(TimeUnit.class));
+  }
+
+  @Test
+  @Owner(developers = RAMA)
+  @Category(UnitTests.class)
+  public void testLockNamePattern() {
+    assertThat(RedisLockMetrics.lockNamePattern("GRAPH_LOCK_Gt4KjP2XQjuYhXyaqgCNvA")).isEqualTo("GRAPH_LOCK_*");
+    assertThat(RedisLockMetrics.lockNamePattern("io.harness.lock.AcquiredLock-cba"))
+        .isEqualTo("io.harness.lock.AcquiredLock-cba");
+    assertThat(RedisLockMetrics.lockNamePattern("PERSPECTIVE_kmpySmUISimoRrJL6NL73w-2022"))
+        .isEqualTo("PERSPECTIVE_*-*");
+  }
 }
@@ -10,19 +10,27 @@ package io.harness.event.client.impl.tailer;
 import static com.google.common.base.Verify.verify;
 import static java.util.Objects.requireNonNull;
 
-import io.harness.event.EventPublisherGrpc.EventPublisherBlockingStub;
+import io.harness.event.EventPublisherGrpc.EventPublisherFutureStub;
 import io.harness.event.PublishMessage;
 import io.harness.event.PublishRequest;
+import io.harness.event.PublishResponse;
 import io.harness.flow.BackoffScheduler;
 import io.harness.logging.LoggingListener;
 
 import com.google.common.util.concurrent.AbstractScheduledService;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.MoreExecutors;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
 import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import lombok.Getter;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import net.openhft.chronicle.queue.ExcerptTailer;
 import net.openhft.chronicle.queue.impl.RollingChronicleQueue;
@@ -31,6 +39,10 @@ import net.openhft.chronicle.wire.DocumentContext;
 /**
  * Tails the chronicle-queue and publishes the events over rpc.
  * <p/>
+ * Up to {@code maxInFlightBatches} batches are published at a time. The sent index is only moved past a batch once
+ * it and all the batches read before it have been acknowledged, and on a failure the tailer goes back to the sent
+ * index, so an event is never lost, but may be published more than once.
+ * <p/>
  * Intentionally not thread-safe as CQ tailers are also not thread-safe. The methods in this class, and {@link
  * FileDeletionManager} are supposed to be executed by the same single thread.
  */
@@ -42,23 +54,44 @@ public class ChronicleEventTailer extends AbstractScheduledService {
   // Batching settings
   private static final int MAX_BATCH_COUNT = 500;
   private static final int MAX_BATCH_BYTES = 1024 * 256; // 256KB
+  // so that stats are printed and old files deleted while draining a backlog
+  private static final int MAX_BATCHES_PER_ITERATION = 100;
 
   private final ExcerptTailer readTailer;
+  private final ExcerptTailer endTailer;
 
   private final FileDeletionManager fileDeletionManager;
   private final BackoffScheduler scheduler;
   private final Sampler sampler;
 
-  private final EventPublisherBlockingStub blockingStub;
+  private final EventPublisherFutureStub futureStub;
+  private final int maxInFlightBatches;
 
   private final RollingChronicleQueue queue;
 
+  // Read by the metrics of the process running the tailer, so updated along with the stats
+  @Getter private volatile long backlogSize;
+  @Getter private volatile double drainRatePerSecond;
+  private long publishedCount;
+  private long publishedCountAtStats;
+  private long statsTime = System.currentTimeMillis();
+
+  @Value
+  private static class InFlightBatch {
+    ListenableFuture<PublishResponse> response;
+    long endIndex;
+    int size;
+  }
+
   @Inject
-  ChronicleEventTailer(EventPublisherBlockingStub blockingStub, @Named("tailer") RollingChronicleQueue chronicleQueue,
-      FileDeletionManager fileDeletionManager, @Named("tailer") BackoffScheduler backoffScheduler) {
-    this.blockingStub = blockingStub;
+  ChronicleEventTailer(EventPublisherFutureStub futureStub, @Named("tailer") RollingChronicleQueue chronicleQueue,
+      FileDeletionManager fileDeletionManager, @Named("tailer") BackoffScheduler backoffScheduler,
+      @Named("tailerMaxInFlightBatches") int maxInFlightBatches) {
+    this.futureStub = futureStub;
+    this.maxInFlightBatches = maxInFlightBatches;
     this.queue = chronicleQueue;
     this.readTailer = chronicleQueue.createTailer(READ_TAILER);
+    this.endTailer = chronicleQueue.createTailer();
     this.fileDeletionManager = fileDeletionManager;
     this.scheduler = backoffScheduler;
     this.sampler = new Sampler(Duration.ofMinutes(1));
@@ -99,10 +132,17 @@ public class ChronicleEventTailer extends AbstractScheduledService {
     try {
       long readIndex = readTailer.index();
       long sentIndex = fileDeletionManager.getSentIndex();
-      long endIndex = queue.createTailer().toEnd().index();
+      long endIndex = endTailer.toEnd().index();
       long excerptCount = queue.countExcerpts(readIndex, endIndex);
-      log.info("index.read-tailer={},  index.sent-tailer={}, index.end={}, excerptCount={}", readIndex, sentIndex,
-          endIndex, excerptCount);
+      long now = System.currentTimeMillis();
+      backlogSize = queue.countExcerpts(sentIndex, endIndex);
+      if (now > statsTime) {
+        drainRatePerSecond = (publishedCount - publishedCountAtStats) * 1000.0 / (now - statsTime);
+      }
+      publishedCountAtStats = publishedCount;
+      statsTime = now;
+      log.info("index.read-tailer={},  index.sent-tailer={}, index.end={}, excerptCount={}, backlog={}, drainRate={}/s",
+          readIndex, sentIndex, endIndex, excerptCount, backlogSize, drainRatePerSecond);
     } catch (Exception e) {
       log.error("Exception in printStats", e);
     }
@@ -111,59 +151,38 @@ public class ChronicleEventTailer extends AbstractScheduledService {
   @Override
   protected void runOneIteration() {
     // service will terminate if exception is not caught.
+    Deque<InFlightBatch> inFlightBatches = new ArrayDeque<>();
     try {
       sampler.updateTime();
       sampler.sampled(() -> log.info("Checking for messages to publish"));
-      Batch batchToSend = new Batch(MAX_BATCH_BYTES, MAX_BATCH_COUNT);
-      while (!batchToSend.isFull()) {
-        long endIndex = queue.createTailer().toEnd().index();
-        try (DocumentContext dc = readTailer.readingDocument()) {
-          if (!dc.isPresent()) {
-            sampler.sampled(() -> log.info("Reached end of queue"));
-            long readIndex = readTailer.index();
-            if (readIndex < endIndex) {
-              readTailer.moveToIndex(endIndex);
-              fileDeletionManager.setSentIndex(endIndex);
-              log.warn(
-                  "Observed readTailer not at end with no document context. Moved from {} to {}", readIndex, endIndex);
-            }
-            break;
-          }
-          try {
-            verify(dc.wire() != null, "Null wire with document context present");
-            byte[] bytes = requireNonNull(dc.wire()).read().bytes();
-            if (bytes != null) {
-              PublishMessage message = PublishMessage.parseFrom(bytes);
-              batchToSend.add(message);
-            } else {
-              // could happen in case of an error during append with document context open.
-              log.warn("Read NULL message. Skipping");
-            }
-          } catch (Exception e) {
-            log.error("Exception while parsing message", e);
+      long queuedIndex = readTailer.index();
+      int batchCount = 0;
+      boolean doneReading = false;
+      while (!doneReading || !inFlightBatches.isEmpty()) {
+        if (doneReading || inFlightBatches.size() >= maxInFlightBatches) {
+          if (!awaitOldest(inFlightBatches)) {
+            return;
           }
+          continue;
         }
-      }
-      if (batchToSend.isFull()) {
-        log.info("Batch is full");
-      }
-      if (!batchToSend.isEmpty()) {
-        PublishRequest publishRequest = PublishRequest.newBuilder().addAllMessages(batchToSend.getMessages()).build();
-        try {
-          blockingStub.withDeadlineAfter(30, TimeUnit.SECONDS).publish(publishRequest);
-          log.info("Published {} messages successfully", batchToSend.size());
-          fileDeletionManager.setSentIndex(readTailer.index());
-          scheduler.recordSuccess();
-        } catch (Exception e) {
-          log.warn("Exception during message publish", e);
-          QueueUtils.moveToIndex(readTailer, fileDeletionManager.getSentIndex());
-          scheduler.recordFailure();
+        Batch batchToSend = readBatch();
+        batchCount++;
+        doneReading = !batchToSend.isFull() || batchCount >= MAX_BATCHES_PER_ITERATION;
+        long endIndex = readTailer.index();
+        if (!batchToSend.isEmpty()) {
+          inFlightBatches.add(publish(batchToSend, endIndex));
+        } else if (endIndex != queuedIndex) {
+          // nothing to send, but the tailer has been moved, which the sent index has to follow in order
+          inFlightBatches.add(new InFlightBatch(Futures.immediateFuture(null), endIndex, 0));
+        } else {
+          sampler.sampled(() -> log.info("Skipping message publish as batch is empty"));
         }
-      } else {
-        sampler.sampled(() -> log.info("Skipping message publish as batch is empty"));
+        queuedIndex = endIndex;
       }
     } catch (Exception e) {
       log.error("Encountered exception", e);
+      // the tailer may have been moved past batches which were never acknowledged, even with none in flight
+      dropInFlightBatches(inFlightBatches);
     } finally {
       try {
         sampler.sampled(this::printStats);
@@ -174,6 +193,87 @@ public class ChronicleEventTailer extends AbstractScheduledService {
     }
   }
 
+  private Batch readBatch() {
+    Batch batchToSend = new Batch(MAX_BATCH_BYTES, MAX_BATCH_COUNT);
+    // taken before reading, so that documents appended in the meantime are never skipped
+    long endIndex = endTailer.toEnd().index();
+    while (!batchToSend.isFull()) {
+      try (DocumentContext dc = readTailer.readingDocument()) {
+        if (!dc.isPresent()) {
+          sampler.sampled(() -> log.info("Reached end of queue"));
+          long readIndex = readTailer.index();
+          if (readIndex < endIndex) {
+            readTailer.moveToIndex(endIndex);
+            log.warn(
+                "Observed readTailer not at end with no document context. Moved from {} to {}", readIndex, endIndex);
+          }
+          break;
+        }
+        try {
+          verify(dc.wire() != null, "Null wire with document context present");
+          byte[] bytes = requireNonNull(dc.wire()).read().bytes();
+          if (bytes != null) {
+            PublishMessage message = PublishMessage.parseFrom(bytes);
+            batchToSend.add(message);
+          } else {
+            // could happen in case of an error during append with document context open.
+            log.warn("Read NULL message. Skipping");
+          }
+        } catch (Exception e) {
+          log.error("Exception while parsing message", e);
+        }
+      }
+    }
+    if (batchToSend.isFull()) {
+      log.info("Batch is full");
+    }
+    return batchToSend;
+  }
+
+  private InFlightBatch publish(Batch batchToSend, long endIndex) {
+    PublishRequest publishRequest = PublishRequest.newBuilder().addAllMessages(batchToSend.getMessages()).build();
+    ListenableFuture<PublishResponse> response =
+        futureStub.withDeadlineAfter(30, TimeUnit.SECONDS).publish(publishRequest);
+    return new InFlightBatch(response, endIndex, batchToSend.size());
+  }
+
+  /**
+   * Waits for the oldest batch in flight and moves the sent index past it. On a failure the batches still in flight
+   * are dropped and the tailer goes back to the sent index.
+   *
+   * @return whether the batch has been published
+   */
+  private boolean awaitOldest(Deque<InFlightBatch> inFlightBatches) {
+    InFlightBatch oldest = inFlightBatches.poll();
+    try {
+      oldest.getResponse().get();
+    } catch (ExecutionException e) {
+      log.warn("Exception during message publish", e.getCause());
+      dropInFlightBatches(inFlightBatches);
+      scheduler.recordFailure();
+      return false;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      dropInFlightBatches(inFlightBatches);
+      return false;
+    }
+    fileDeletionManager.setSentIndex(oldest.getEndIndex());
+    if (oldest.getSize() > 0) {
+      log.info("Published {} messages successfully", oldest.getSize());
+      publishedCount += oldest.getSize();
+      scheduler.recordSuccess();
+    }
+    return true;
+  }
+
+  private void dropInFlightBatches(Deque<InFlightBatch> inFlightBatches) {
+    if (!inFlightBatches.isEmpty()) {
+      inFlightBatches.forEach(inFlightBatch -> inFlightBatch.getResponse().cancel(true));
+      inFlightBatches.clear();
+    }
+    QueueUtils.moveToIndex(readTailer, fileDeletionManager.getSentIndex());
+  }
+
   @Override
   protected Scheduler scheduler() {
     return scheduler;
@@ -8,7 +8,7 @@
 package io.harness.event.client.impl.tailer;
 
 import io.harness.event.EventPublisherGrpc;
-import io.harness.event.EventPublisherGrpc.EventPublisherBlockingStub;
+import io.harness.event.EventPublisherGrpc.EventPublisherFutureStub;
 import io.harness.event.client.impl.EventPublisherConstants;
 import io.harness.flow.BackoffScheduler;
 import io.harness.govern.ProviderModule;
@@ -84,9 +84,16 @@ public class DelegateTailerModule extends ProviderModule {
 
   @Provides
   @Singleton
-  EventPublisherBlockingStub eventPublisherBlockingStub(
+  EventPublisherFutureStub eventPublisherFutureStub(
       @Named("event-server-channel") Channel channel, CallCredentials callCredentials) {
-    return EventPublisherGrpc.newBlockingStub(channel).withCallCredentials(callCredentials);
+    EventPublisherFutureStub stub = EventPublisherGrpc.newFutureStub(channel).withCallCredentials(callCredentials);
+    return StringUtils.isEmpty(config.compression) ? stub : stub.withCompression(config.compression);
+  }
+
+  @Provides
+  @Named("tailerMaxInFlightBatches")
+  int maxInFlightBatches() {
+    return config.maxInFlightBatches;
   }
 
   @Value
@@ -97,6 +104,10 @@ public class DelegateTailerModule extends ProviderModule {
     String queueFilePath;
     @Builder.Default Duration minDelay = Duration.ofSeconds(1);
     @Builder.Default Duration maxDelay = Duration.ofMinutes(5);
+    // number of batches published at a time while draining the queue
+    @Builder.Default int maxInFlightBatches = 4;
+    // grpc message compression of the published batches, none if empty
+    @Builder.Default String compression = "gzip";
     String clientCertificateFilePath;
     String clientCertificateKeyFilePath;
 
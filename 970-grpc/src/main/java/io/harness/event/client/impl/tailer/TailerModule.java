@@ -8,7 +8,7 @@
 package io.harness.event.client.impl.tailer;
 
 import io.harness.event.EventPublisherGrpc;
-import io.harness.event.EventPublisherGrpc.EventPublisherBlockingStub;
+import io.harness.event.EventPublisherGrpc.EventPublisherFutureStub;
 import io.harness.event.client.impl.EventPublisherConstants;
 import io.harness.flow.BackoffScheduler;
 import io.harness.govern.ProviderModule;
@@ -30,6 +30,7 @@ import lombok.SneakyThrows;
 import lombok.Value;
 import net.openhft.chronicle.queue.ChronicleQueue;
 import net.openhft.chronicle.queue.impl.RollingChronicleQueue;
+import org.apache.commons.lang3.StringUtils;
 
 public class TailerModule extends ProviderModule {
   private final Config config;
@@ -75,9 +76,16 @@ public class TailerModule extends ProviderModule {
 
   @Provides
   @Singleton
-  EventPublisherBlockingStub eventPublisherBlockingStub(
+  EventPublisherFutureStub eventPublisherFutureStub(
       @Named("event-server-channel") Channel channel, CallCredentials callCredentials) {
-    return EventPublisherGrpc.newBlockingStub(channel).withCallCredentials(callCredentials);
+    EventPublisherFutureStub stub = EventPublisherGrpc.newFutureStub(channel).withCallCredentials(callCredentials);
+    return StringUtils.isEmpty(config.compression) ? stub : stub.withCompression(config.compression);
+  }
+
+  @Provides
+  @Named("tailerMaxInFlightBatches")
+  int maxInFlightBatches() {
+    return config.maxInFlightBatches;
   }
 
   @Value
@@ -90,5 +98,9 @@ public class TailerModule extends ProviderModule {
     String queueFilePath;
     @Builder.Default Duration minDelay = Duration.ofSeconds(1);
     @Builder.Default Duration maxDelay = Duration.ofMinutes(5);
+    // number of batches published at a time while draining the queue
+    @Builder.Default int maxInFlightBatches = 4;
+    // grpc message compression of the published batches, none if empty
+    @Builder.Default String compression = "gzip";
   }
 }
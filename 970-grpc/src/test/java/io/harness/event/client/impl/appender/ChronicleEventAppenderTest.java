@@ -19,7 +19,7 @@ import static org.awaitility.Awaitility.await;
 import io.harness.CategoryTest;
 import io.harness.category.element.UnitTests;
 import io.harness.event.EventPublisherGrpc;
-import io.harness.event.EventPublisherGrpc.EventPublisherBlockingStub;
+import io.harness.event.EventPublisherGrpc.EventPublisherFutureStub;
 import io.harness.event.PublishMessage;
 import io.harness.event.client.EventPublisher;
 import io.harness.event.client.FakeService;
@@ -79,8 +79,8 @@ public class ChronicleEventAppenderTest extends CategoryTest {
 
             @Provides
             @Singleton
-            EventPublisherBlockingStub eventPublisherBlockingStub(ManagedChannel channel) {
-              return EventPublisherGrpc.newBlockingStub(channel);
+            EventPublisherFutureStub eventPublisherFutureStub(ManagedChannel channel) {
+              return EventPublisherGrpc.newFutureStub(channel);
             }
 
             @Provides
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.event.client.impl.tailer;
+
+import static io.harness.rule.OwnerRule.AVMOHAN;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.UnitTests;
+import io.harness.event.EventPublisherGrpc;
+import io.harness.event.PublishMessage;
+import io.harness.event.PublishRequest;
+import io.harness.event.PublishResponse;
+import io.harness.event.client.impl.EventPublisherConstants;
+import io.harness.flow.BackoffScheduler;
+import io.harness.rule.Owner;
+
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import lombok.Value;
+import net.openhft.chronicle.queue.ChronicleQueue;
+import net.openhft.chronicle.queue.impl.RollingChronicleQueue;
+import net.openhft.chronicle.wire.DocumentContext;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.ArgumentCaptor;
+
+public class ChronicleEventTailerTest extends CategoryTest {
+  @Rule public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private final String serverName = InProcessServerBuilder.generateName();
+  private final BlockingQueue<PublishCall> publishCalls = new LinkedBlockingQueue<>();
+  private final ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+  private RollingChronicleQueue queue;
+  private Server server;
+  private ManagedChannel channel;
+  private FileDeletionManager fileDeletionManager;
+  private ChronicleEventTailer chronicleEventTailer;
+
+  @Value
+  private static class PublishCall {
+    PublishRequest request;
+    StreamObserver<PublishResponse> responseObserver;
+
+    List<String> messageIds() {
+      return request.getMessagesList().stream().map(PublishMessage::getMessageId).collect(Collectors.toList());
+    }
+
+    void ack() {
+      responseObserver.onNext(PublishResponse.newBuilder().build());
+      responseObserver.onCompleted();
+    }
+
+    void fail() {
+      responseObserver.onError(Status.UNAVAILABLE.asException());
+    }
+  }
+
+  @Before
+  public void setUp() throws Exception {
+    queue = ChronicleQueue.singleBuilder(temporaryFolder.newFolder())
+                .rollCycle(EventPublisherConstants.QUEUE_ROLL_CYCLE)
+                .timeoutMS(EventPublisherConstants.QUEUE_TIMEOUT_MS)
+                .build();
+    server = InProcessServerBuilder.forName(serverName)
+                 .addService(new EventPublisherGrpc.EventPublisherImplBase() {
+                   @Override
+                   public void publish(PublishRequest request, StreamObserver<PublishResponse> responseObserver) {
+                     publishCalls.add(new PublishCall(request, responseObserver));
+                   }
+                 })
+                 .build()
+                 .start();
+    channel = InProcessChannelBuilder.forName(serverName).build();
+    fileDeletionManager = spy(new FileDeletionManager(queue));
+    Duration delay = Duration.ofMillis(50);
+    chronicleEventTailer = new ChronicleEventTailer(EventPublisherGrpc.newFutureStub(channel), queue,
+        fileDeletionManager, new BackoffScheduler(ChronicleEventTailer.class.getSimpleName(), delay, delay), 4);
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    executorService.shutdownNow();
+    channel.shutdownNow().awaitTermination(10, TimeUnit.SECONDS);
+    server.shutdownNow().awaitTermination();
+    queue.close();
+  }
+
+  @Test
+  @Owner(developers = AVMOHAN)
+  @Category(UnitTests.class)
+  public void testBatchesAcknowledgedOutOfOrderMoveSentIndexInOrder() throws Exception {
+    appendMessages(1200);
+    Future<?> iteration = runIteration();
+    PublishCall first = nextPublishCall();
+    PublishCall second = nextPublishCall();
+    PublishCall third = nextPublishCall();
+    assertThat(first.messageIds()).hasSize(500).startsWith("0");
+    assertThat(second.messageIds()).hasSize(500).startsWith("500");
+    assertThat(third.messageIds()).hasSize(200).startsWith("1000");
+
+    third.ack();
+    second.ack();
+    verify(fileDeletionManager, never()).setSentIndex(anyLong());
+    first.ack();
+    iteration.get(10, TimeUnit.SECONDS);
+
+    ArgumentCaptor<Long> sentIndexes = ArgumentCaptor.forClass(Long.class);
+    verify(fileDeletionManager, times(3)).setSentIndex(sentIndexes.capture());
+    assertThat(sentIndexes.getAllValues()).isSorted().doesNotHaveDuplicates();
+    assertThat(fileDeletionManager.getSentIndex()).isEqualTo(endIndex());
+  }
+
+  @Test
+  @Owner(developers = AVMOHAN)
+  @Category(UnitTests.class)
+  public void testFailedMiddleBatchIsPublishedAgain() throws Exception {
+    appendMessages(1200);
+    Future<?> iteration = runIteration();
+    PublishCall first = nextPublishCall();
+    PublishCall second = nextPublishCall();
+    nextPublishCall();
+    first.ack();
+    second.fail();
+    iteration.get(10, TimeUnit.SECONDS);
+
+    verify(fileDeletionManager, times(1)).setSentIndex(anyLong());
+    long sentIndex = fileDeletionManager.getSentIndex();
+    assertThat(sentIndex).isLessThan(endIndex());
+
+    iteration = runIteration();
+    PublishCall retriedSecond = nextPublishCall();
+    PublishCall retriedThird = nextPublishCall();
+    assertThat(retriedSecond.messageIds()).hasSize(500).startsWith("500");
+    assertThat(retriedThird.messageIds()).hasSize(200).startsWith("1000");
+    retriedSecond.ack();
+    retriedThird.ack();
+    iteration.get(10, TimeUnit.SECONDS);
+    assertThat(fileDeletionManager.getSentIndex()).isEqualTo(endIndex());
+  }
+
+  @Test
+  @Owner(developers = AVMOHAN)
+  @Category(UnitTests.class)
+  public void testTailerRewoundOnExceptionWithNothingInFlight() throws Exception {
+    appendMessages(10);
+    doThrow(new IllegalStateException("Failed to move sent index"))
+        .doCallRealMethod()
+        .when(fileDeletionManager)
+        .setSentIndex(anyLong());
+
+    Future<?> iteration = runIteration();
+    PublishCall call = nextPublishCall();
+    assertThat(call.messageIds()).hasSize(10).startsWith("0");
+    call.ack();
+    iteration.get(10, TimeUnit.SECONDS);
+
+    iteration = runIteration();
+    PublishCall retriedCall = nextPublishCall();
+    assertThat(retriedCall.messageIds()).isEqualTo(call.messageIds());
+    retriedCall.ack();
+    iteration.get(10, TimeUnit.SECONDS);
+    assertThat(fileDeletionManager.getSentIndex()).isEqualTo(endIndex());
+  }
+
+  private void appendMessages(int count) {
+    for (int i = 0; i < count; i++) {
+      byte[] bytes = PublishMessage.newBuilder().setMessageId(String.valueOf(i)).build().toByteArray();
+      try (DocumentContext dc = queue.acquireAppender().writingDocument()) {
+        dc.wire().getValueOut().bytes(bytes);
+      }
+    }
+  }
+
+  private Future<?> runIteration() {
+    return executorService.submit(chronicleEventTailer::runOneIteration);
+  }
+
+  private PublishCall nextPublishCall() throws InterruptedException {
+    PublishCall publishCall = publishCalls.poll(10, TimeUnit.SECONDS);
+    assertThat(publishCall).isNotNull();
+    return publishCall;
+  }
+
+  private long endIndex() {
+    return queue.createTailer().toEnd().index();
+  }
+}
@@ -14,4 +14,7 @@ import io.harness.instancesyncmonitoring.model.InstanceSyncMetricDetails;
 @OwnedBy(HarnessTeam.CDP)
 public interface InstanceSyncMonitoringService {
   void recordMetrics(InstanceSyncMetricDetails instanceSyncMetricDetails, boolean isNewDeployment, long duration);
+
+  // Instance sync by perpetual task skipped because the instances from server didn't change since the last sync
+  void recordUnchangedSync(InstanceSyncMetricDetails instanceSyncMetricDetails);
 }
@@ -25,6 +25,7 @@ public class InstanceSyncMonitoringServiceImpl implements InstanceSyncMonitoring
   @Inject private MetricService metricService;
   public static final String NEW_DEPLOYMENT_METRIC_NAME = "instance_sync_new_deployment";
   public static final String PERPETUAL_TASK_METRIC_NAME = "instance_sync_perpetual_task";
+  public static final String PERPETUAL_TASK_UNCHANGED_METRIC_NAME = "instance_sync_perpetual_task_unchanged";
   public static final String DURATION_METRIC_PATTERN = "%s_duration";
   public static final String SUCCESS_STATUS = "Success";
   public static final String FAILED_STATUS = "Failed";
@@ -37,6 +38,10 @@ public class InstanceSyncMonitoringServiceImpl implements InstanceSyncMonitoring
     recordMetricDuration(instanceSyncMetricDetails, durationMetricName, Duration.ofMillis(duration));
   }
 
+  public void recordUnchangedSync(InstanceSyncMetricDetails instanceSyncMetricDetails) {
+    recordMetric(instanceSyncMetricDetails, PERPETUAL_TASK_UNCHANGED_METRIC_NAME);
+  }
+
   private void recordMetric(InstanceSyncMetricDetails instanceSyncMetricDetails, String metricName) {
     try (InstanceSyncMetricContext ignore = new InstanceSyncMetricContext(instanceSyncMetricDetails)) {
       metricService.incCounter(metricName);
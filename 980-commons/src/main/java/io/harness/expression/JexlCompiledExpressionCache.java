@@ -0,0 +1,77 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.expression;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import javax.validation.constraints.NotNull;
+import lombok.experimental.UtilityClass;
+import org.apache.commons.jexl3.JexlBuilder;
+import org.apache.commons.jexl3.JexlEngine;
+import org.apache.commons.jexl3.JexlExpression;
+import org.apache.commons.jexl3.JexlScript;
+import org.apache.commons.logging.impl.NoOpLog;
+
+/**
+ * Process-wide cache of parsed jexl expressions and scripts shared by all {@link EngineExpressionEvaluator}
+ * instances. Parsed jexl objects are immutable and thread-safe, and don't hold any reference to the context they are
+ * evaluated with, so the same instance can be reused across evaluators and executions.
+ *
+ * The key is the final expression text handed to jexl, i.e. after static aliases and prefixes have already been
+ * applied, so different prefix combinations of the same expression are cached as separate entries. Expressions that
+ * reference variables generated during partial evaluation are parsed without being cached: those names are random per
+ * evaluation, so such an entry could never be hit again and would only evict useful ones.
+ */
+@OwnedBy(HarnessTeam.PIPELINE)
+@UtilityClass
+public class JexlCompiledExpressionCache {
+  private static final int MAX_CACHE_SIZE = 10000;
+
+  private static final JexlEngine engine = new JexlBuilder().logger(new NoOpLog()).create();
+  private static final Cache<String, JexlExpression> expressionCache =
+      Caffeine.newBuilder().maximumSize(MAX_CACHE_SIZE).recordStats().build();
+  private static final Cache<String, JexlScript> scriptCache =
+      Caffeine.newBuilder().maximumSize(MAX_CACHE_SIZE).recordStats().build();
+
+  public JexlExpression getExpression(@NotNull String expression) {
+    String key = normalize(expression);
+    if (hasGeneratedVariables(key)) {
+      return engine.createExpression(key);
+    }
+    return expressionCache.get(key, engine::createExpression);
+  }
+
+  public JexlScript getScript(@NotNull String script) {
+    String key = normalize(script);
+    if (hasGeneratedVariables(key)) {
+      return engine.createScript(key);
+    }
+    return scriptCache.get(key, engine::createScript);
+  }
+
+  public CacheStats expressionCacheStats() {
+    return expressionCache.stats();
+  }
+
+  public CacheStats scriptCacheStats() {
+    return scriptCache.stats();
+  }
+
+  private boolean hasGeneratedVariables(String expression) {
+    return expression.contains(EngineExpressionEvaluator.HARNESS_INTERNAL_VARIABLE_PREFIX);
+  }
+
+  private String normalize(String expression) {
+    // Jexl ignores surrounding whitespace while parsing, so "a.b" and " a.b " map to the same parsed expression.
+    return expression.trim();
+  }
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.text;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Replaces every occurrence of a fixed set of patterns with a single replacement string in one pass over the text,
+ * using an Aho-Corasick automaton which is built once and can be shared between threads.
+ *
+ * The output is the same as {@link org.apache.commons.lang3.StringUtils#replaceEach(String, String[], String[])}
+ * called with the patterns in iteration order: the leftmost occurrence is replaced first, and if several patterns
+ * start at the same position the one that comes first in the collection wins.
+ */
+@OwnedBy(HarnessTeam.DEL)
+public class MultiPatternReplacer {
+  private static final int ROOT = 0;
+  private static final int NONE = -1;
+  private static final int ASCII_SIZE = 128;
+
+  private final String replacement;
+  private final int maxPatternLength;
+
+  // Sorted transition labels and their target states, per state
+  private final char[][] transitionChars;
+  private final int[][] transitionTargets;
+  private final int[] failure;
+  // Nearest state on the failure chain that ends a pattern
+  private final int[] outputLink;
+  // Index of the pattern ending at the state, or NONE
+  private final int[] patternIndex;
+  private final int[] depth;
+  // Most of the time is spent on the root state, so its ascii transitions are looked up directly
+  private final int[] rootAsciiTransitions;
+
+  public MultiPatternReplacer(Collection<String> patterns, String replacement) {
+    this.replacement = replacement;
+
+    List<StringBuilder> chars = new ArrayList<>();
+    List<List<Integer>> targets = new ArrayList<>();
+    List<Integer> patternIndexes = new ArrayList<>();
+    List<Integer> depths = new ArrayList<>();
+    addState(chars, targets, patternIndexes, depths, 0);
+
+    int maxLength = 0;
+    int index = 0;
+    for (String pattern : patterns) {
+      if (pattern == null || pattern.isEmpty()) {
+        index++;
+        continue;
+      }
+      int state = ROOT;
+      for (int i = 0; i < pattern.length(); i++) {
+        int next = findTransition(chars.get(state), targets.get(state), pattern.charAt(i));
+        if (next == NONE) {
+          next = addState(chars, targets, patternIndexes, depths, i + 1);
+          chars.get(state).append(pattern.charAt(i));
+          targets.get(state).add(next);
+        }
+        state = next;
+      }
+      if (patternIndexes.get(state) == NONE) {
+        patternIndexes.set(state, index);
+      }
+      maxLength = Math.max(maxLength, pattern.length());
+      index++;
+    }
+    this.maxPatternLength = maxLength;
+
+    int stateCount = chars.size();
+    transitionChars = new char[stateCount][];
+    transitionTargets = new int[stateCount][];
+    patternIndex = new int[stateCount];
+    depth = new int[stateCount];
+    for (int state = 0; state < stateCount; state++) {
+      sortTransitions(state, chars.get(state), targets.get(state));
+      patternIndex[state] = patternIndexes.get(state);
+      depth[state] = depths.get(state);
+    }
+
+    failure = new int[stateCount];
+    outputLink = new int[stateCount];
+    buildFailureLinks();
+
+    rootAsciiTransitions = new int[ASCII_SIZE];
+    for (char c = 0; c < ASCII_SIZE; c++) {
+      int next = findTransition(ROOT, c);
+      rootAsciiTransitions[c] = next == NONE ? ROOT : next;
+    }
+  }
+
+  public boolean isEmpty() {
+    return maxPatternLength == 0;
+  }
+
+  public String replace(String text) {
+    if (text == null || text.isEmpty() || isEmpty()) {
+      return text;
+    }
+
+    // Best match found so far for each start position in the sliding window of the last maxPatternLength chars
+    int[] bestPattern = new int[maxPatternLength];
+    int[] bestLength = new int[maxPatternLength];
+    Arrays.fill(bestPattern, NONE);
+
+    StringBuilder result = null;
+    int copiedUntil = 0;
+    int state = ROOT;
+    int length = text.length();
+    for (int i = 0; i < length; i++) {
+      state = nextState(state, text.charAt(i));
+      int match = patternIndex[state] != NONE ? state : outputLink[state];
+      while (match != NONE) {
+        int slot = (i - depth[match] + 1) % maxPatternLength;
+        if (bestPattern[slot] == NONE || patternIndex[match] < bestPattern[slot]) {
+          bestPattern[slot] = patternIndex[match];
+          bestLength[slot] = depth[match];
+        }
+        match = outputLink[match];
+      }
+
+      // No pattern starting at this position can end after i, so its best match is final
+      int start = i - maxPatternLength + 1;
+      if (start >= 0) {
+        int slot = start % maxPatternLength;
+        if (bestPattern[slot] != NONE) {
+          if (start >= copiedUntil) {
+            if (result == null) {
+              result = new StringBuilder(length);
+            }
+            result.append(text, copiedUntil, start).append(replacement);
+            copiedUntil = start + bestLength[slot];
+          }
+          bestPattern[slot] = NONE;
+        }
+      }
+    }
+
+    for (int start = Math.max(0, length - maxPatternLength + 1); start < length; start++) {
+      int slot = start % maxPatternLength;
+      if (bestPattern[slot] != NONE && start >= copiedUntil) {
+        if (result == null) {
+          result = new StringBuilder(length);
+        }
+        result.append(text, copiedUntil, start).append(replacement);
+        copiedUntil = start + bestLength[slot];
+      }
+    }
+
+    if (result == null) {
+      return text;
+    }
+    return result.append(text, copiedUntil, length).toString();
+  }
+
+  private int nextState(int state, char c) {
+    while (true) {
+      if (state == ROOT && c < ASCII_SIZE) {
+        return rootAsciiTransitions[c];
+      }
+      int next = findTransition(state, c);
+      if (next != NONE) {
+        return next;
+      }
+      if (state == ROOT) {
+        return ROOT;
+      }
+      state = failure[state];
+    }
+  }
+
+  private int findTransition(int state, char c) {
+    int position = Arrays.binarySearch(transitionChars[state], c);
+    return position < 0 ? NONE : transitionTargets[state][position];
+  }
+
+  private void buildFailureLinks() {
+    Deque<Integer> queue = new ArrayDeque<>();
+    failure[ROOT] = ROOT;
+    outputLink[ROOT] = NONE;
+    for (int child : transitionTargets[ROOT]) {
+      failure[child] = ROOT;
+      outputLink[child] = NONE;
+      queue.add(child);
+    }
+    while (!queue.isEmpty()) {
+      int state = queue.poll();
+      for (int i = 0; i < transitionChars[state].length; i++) {
+        char c = transitionChars[state][i];
+        int child = transitionTargets[state][i];
+        int fallback = failure[state];
+        while (fallback != ROOT && findTransition(fallback, c) == NONE) {
+          fallback = failure[fallback];
+        }
+        int target = findTransition(fallback, c);
+        failure[child] = target == NONE ? ROOT : target;
+        outputLink[child] = patternIndex[failure[child]] != NONE ? failure[child] : outputLink[failure[child]];
+        queue.add(child);
+      }
+    }
+  }
+
+  private void sortTransitions(int state, StringBuilder chars, List<Integer> targets) {
+    Integer[] order = new Integer[chars.length()];
+    for (int i = 0; i < order.length; i++) {
+      order[i] = i;
+    }
+    Arrays.sort(order, (a, b) -> Character.compare(chars.charAt(a), chars.charAt(b)));
+    transitionChars[state] = new char[order.length];
+    transitionTargets[state] = new int[order.length];
+    for (int i = 0; i < order.length; i++) {
+      transitionChars[state][i] = chars.charAt(order[i]);
+      transitionTargets[state][i] = targets.get(order[i]);
+    }
+  }
+
+  private static int findTransition(StringBuilder chars, List<Integer> targets, char c) {
+    for (int i = 0; i < chars.length(); i++) {
+      if (chars.charAt(i) == c) {
+        return targets.get(i);
+      }
+    }
+    return NONE;
+  }
+
+  private static int addState(List<StringBuilder> chars, List<List<Integer>> targets, List<Integer> patternIndexes,
+      List<Integer> depths, int depth) {
+    chars.add(new StringBuilder());
+    targets.add(new ArrayList<>());
+    patternIndexes.add(NONE);
+    depths.add(depth);
+    return chars.size() - 1;
+  }
+}
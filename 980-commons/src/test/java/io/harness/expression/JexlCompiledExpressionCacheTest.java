@@ -0,0 +1,88 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.expression;
+
+import static io.harness.rule.OwnerRule.GARVIT;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import org.apache.commons.jexl3.JexlException;
+import org.apache.commons.jexl3.JexlExpression;
+import org.apache.commons.jexl3.JexlScript;
+import org.apache.commons.jexl3.MapContext;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+public class JexlCompiledExpressionCacheTest extends CategoryTest {
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testGetExpressionReusesParsedExpression() {
+    long hits = JexlCompiledExpressionCache.expressionCacheStats().hitCount();
+    JexlExpression first = JexlCompiledExpressionCache.getExpression("cacheTest.a + 1");
+    JexlExpression second = JexlCompiledExpressionCache.getExpression("  cacheTest.a + 1 ");
+    assertThat(second).isSameAs(first);
+    assertThat(JexlCompiledExpressionCache.expressionCacheStats().hitCount()).isGreaterThan(hits);
+
+    MapContext ctx = new MapContext();
+    ctx.set("cacheTest", new DummyHolder(2));
+    assertThat(first.evaluate(ctx)).isEqualTo(3);
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testGetScriptReusesParsedScript() {
+    JexlScript first = JexlCompiledExpressionCache.getScript("var x = 5; x * 2");
+    JexlScript second = JexlCompiledExpressionCache.getScript("var x = 5; x * 2");
+    assertThat(second).isSameAs(first);
+    assertThat(first.execute(new MapContext())).isEqualTo(10);
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testInvalidExpressionIsNotCached() {
+    assertThatThrownBy(() -> JexlCompiledExpressionCache.getExpression("a +")).isInstanceOf(JexlException.class);
+    assertThatThrownBy(() -> JexlCompiledExpressionCache.getExpression("a +")).isInstanceOf(JexlException.class);
+  }
+
+  @Test
+  @Owner(developers = GARVIT)
+  @Category(UnitTests.class)
+  public void testExpressionWithGeneratedVariableIsNotCached() {
+    String expression = EngineExpressionEvaluator.HARNESS_INTERNAL_VARIABLE_PREFIX + "cacheTest.a + 1";
+    JexlExpression first = JexlCompiledExpressionCache.getExpression(expression);
+    JexlExpression second = JexlCompiledExpressionCache.getExpression(expression);
+    assertThat(second).isNotSameAs(first);
+
+    MapContext ctx = new MapContext();
+    ctx.set(EngineExpressionEvaluator.HARNESS_INTERNAL_VARIABLE_PREFIX + "cacheTest", new DummyHolder(2));
+    assertThat(second.evaluate(ctx)).isEqualTo(3);
+  }
+
+  public static class DummyHolder {
+    private final int a;
+
+    DummyHolder(int a) {
+      this.a = a;
+    }
+
+    public int getA() {
+      return a;
+    }
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.text;
+
+import static io.harness.rule.OwnerRule.MARKO;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Random;
+import java.util.Set;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(HarnessTeam.DEL)
+public class MultiPatternReplacerTest extends CategoryTest {
+  private static final String MASK = "**************";
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testReplace() {
+    MultiPatternReplacer replacer =
+        new MultiPatternReplacer(new LinkedHashSet<>(Arrays.asList("secret1", "secret2", "cret")), MASK);
+    assertThat(replacer.replace(null)).isNull();
+    assertThat(replacer.replace("")).isEmpty();
+    assertThat(replacer.replace("nothing to mask")).isEqualTo("nothing to mask");
+    assertThat(replacer.replace("a secret1 and secret2 and secret3"))
+        .isEqualTo("a " + MASK + " and " + MASK + " and se" + MASK + "3");
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testEmptyPatterns() {
+    MultiPatternReplacer replacer = new MultiPatternReplacer(Collections.singletonList(""), MASK);
+    assertThat(replacer.isEmpty()).isTrue();
+    assertThat(replacer.replace("some text")).isEqualTo("some text");
+  }
+
+  @Test
+  @Owner(developers = MARKO)
+  @Category(UnitTests.class)
+  public void testSameOutputAsReplaceEach() {
+    Random random = new Random(42);
+    String alphabet = "ab c\n";
+    for (int iteration = 0; iteration < 10000; iteration++) {
+      Set<String> patterns = new LinkedHashSet<>();
+      int patternCount = 1 + random.nextInt(6);
+      for (int i = 0; i < patternCount; i++) {
+        patterns.add(randomString(random, alphabet, 1 + random.nextInt(5)));
+      }
+      String text = randomString(random, alphabet, random.nextInt(40));
+
+      String[] searchList = patterns.toArray(new String[0]);
+      String[] replacementList = new String[searchList.length];
+      Arrays.fill(replacementList, MASK);
+
+      assertThat(new MultiPatternReplacer(patterns, MASK).replace(text))
+          .as("patterns %s, text [%s]", patterns, text)
+          .isEqualTo(StringUtils.replaceEach(text, searchList, replacementList));
+    }
+  }
+
+  private String randomString(Random random, String alphabet, int length) {
+    StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < length; i++) {
+      builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+    }
+    return builder.toString();
+  }
+}
@@ -8,6 +8,7 @@
 package io.harness.aggregator.consumers;
 
 import io.harness.accesscontrol.AccessControlEntity;
+import io.harness.accesscontrol.acl.persistence.ACLNearCache;
 import io.harness.aggregator.OpType;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
@@ -38,15 +39,18 @@ public class AccessControlDebeziumChangeConsumer implements DebeziumEngine.Chang
   private final Map<String, ChangeConsumer<? extends AccessControlEntity>> collectionToConsumerMap;
   private final Retry retry;
   private final ChangeEventFailureHandler changeEventFailureHandler;
+  // Only set when the consumer writes to the ACL collection which is read by the permission checks
+  private final ACLNearCache aclNearCache;
 
   public AccessControlDebeziumChangeConsumer(Deserializer<String> idDeserializer,
       Map<String, Deserializer<? extends AccessControlEntity>> collectionToDeserializerMap,
       Map<String, ChangeConsumer<? extends AccessControlEntity>> collectionToConsumerMap,
-      ChangeEventFailureHandler changeEventFailureHandler) {
+      ChangeEventFailureHandler changeEventFailureHandler, ACLNearCache aclNearCache) {
     this.idDeserializer = idDeserializer;
     this.collectionToDeserializerMap = collectionToDeserializerMap;
     this.collectionToConsumerMap = collectionToConsumerMap;
     this.changeEventFailureHandler = changeEventFailureHandler;
+    this.aclNearCache = aclNearCache;
 
     IntervalFunction intervalFunction = IntervalFunction.ofExponentialBackoff(1000, 2);
     RetryConfig retryConfig = RetryConfig.custom()
@@ -85,6 +89,12 @@ public class AccessControlDebeziumChangeConsumer implements DebeziumEngine.Chang
             exception);
         changeEventFailureHandler.handle(changeEvent, exception);
       }
+    }
+    if (aclNearCache != null) {
+      // The changed ACLs are invalidated before the events are acknowledged, if that fails the batch is redelivered
+      retry.executeRunnable(aclNearCache::publishChanges);
+    }
+    for (ChangeEvent<String, String> changeEvent : changeEvents) {
       recordCommitter.markProcessed(changeEvent);
     }
     recordCommitter.markBatchFinished();
@@ -8,6 +8,7 @@
 package io.harness.aggregator.controllers;
 
 import io.harness.accesscontrol.AccessControlEntity;
+import io.harness.accesscontrol.acl.persistence.ACLNearCache;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.accesscontrol.principals.usergroups.persistence.UserGroupDBO;
 import io.harness.accesscontrol.principals.usergroups.persistence.UserGroupRepository;
@@ -67,6 +68,7 @@ public abstract class AggregatorBaseSyncController implements Runnable {
   private final ChangeEventFailureHandler changeEventFailureHandler;
   private final PersistentLocker persistentLocker;
   private final AtomicLong hostSelectorIndex;
+  private final ACLNearCache aclNearCache;
 
   protected static final String ACCESS_CONTROL_AGGREGATOR_LOCK = "ACCESS_CONTROL_AGGREGATOR_LOCK";
   private static final String MONGO_DB_CONNECTOR = "io.debezium.connector.mongodb.MongoDbConnector";
@@ -113,7 +115,7 @@ public abstract class AggregatorBaseSyncController implements Runnable {
       PersistentLocker persistentLocker, ChangeEventFailureHandler changeEventFailureHandler,
       AggregatorJobType aggregatorJobType, ChangeConsumerService changeConsumerService,
       RoleAssignmentCRUDEventHandler roleAssignmentCRUDEventHandler,
-      UserGroupCRUDEventHandler userGroupCRUDEventHandler, ScopeService scopeService) {
+      UserGroupCRUDEventHandler userGroupCRUDEventHandler, ScopeService scopeService, ACLNearCache aclNearCache) {
     ChangeConsumer<RoleAssignmentDBO> roleAssignmentChangeConsumer = new RoleAssignmentChangeConsumerImpl(
         aclRepository, roleAssignmentRepository, changeConsumerService, roleAssignmentCRUDEventHandler);
     ChangeConsumer<RoleDBO> roleChangeConsumer = new RoleChangeConsumerImpl(
@@ -134,6 +136,8 @@ public abstract class AggregatorBaseSyncController implements Runnable {
     this.persistentLocker = persistentLocker;
     this.changeEventFailureHandler = changeEventFailureHandler;
     this.hostSelectorIndex = new AtomicLong(-1);
+    // the secondary sync writes to a collection which is not read until it is switched to primary
+    this.aclNearCache = aggregatorJobType == AggregatorJobType.PRIMARY ? aclNearCache : null;
   }
 
   protected DebeziumEngine<ChangeEvent<String, String>> getEngine(
@@ -223,8 +227,8 @@ public abstract class AggregatorBaseSyncController implements Runnable {
     collectionToDeserializerMap.put(USER_GROUPS, userGroupSerde.deserializer());
 
     // configuring debezium
-    return new AccessControlDebeziumChangeConsumer(
-        idDeserializer, collectionToDeserializerMap, collectionToConsumerMap, changeEventFailureHandler);
+    return new AccessControlDebeziumChangeConsumer(idDeserializer, collectionToDeserializerMap, collectionToConsumerMap,
+        changeEventFailureHandler, aclNearCache);
   }
 
   public abstract String getLockName();
@@ -13,6 +13,7 @@ import static io.harness.aggregator.models.MongoReconciliationOffset.PRIMARY_COL
 import static io.harness.aggregator.models.MongoReconciliationOffset.SECONDARY_COLLECTION;
 
 import io.harness.accesscontrol.acl.persistence.ACL;
+import io.harness.accesscontrol.acl.persistence.ACLNearCache;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.aggregator.models.AggregatorSecondarySyncState;
 import io.harness.aggregator.repositories.AggregatorSecondarySyncStateRepository;
@@ -45,19 +46,22 @@ public class AggregatorController implements Runnable {
   private final ACLRepository secondaryACLRepository;
   private final MongoReconciliationOffsetRepository mongoReconciliationOffsetRepository;
   private final PersistentLocker persistentLocker;
+  private final ACLNearCache aclNearCache;
 
   @Inject
   public AggregatorController(AggregatorSecondarySyncController secondarySyncController,
       AggregatorPrimarySyncController primarySyncJobController,
       AggregatorSecondarySyncStateRepository aggregatorSecondarySyncStateRepository,
       @Named(ACL.SECONDARY_COLLECTION) ACLRepository secondaryACLRepository,
-      MongoReconciliationOffsetRepository mongoReconciliationOffsetRepository, PersistentLocker persistentLocker) {
+      MongoReconciliationOffsetRepository mongoReconciliationOffsetRepository, PersistentLocker persistentLocker,
+      ACLNearCache aclNearCache) {
     this.secondarySyncController = secondarySyncController;
     this.primarySyncController = primarySyncJobController;
     this.aggregatorSecondarySyncStateRepository = aggregatorSecondarySyncStateRepository;
     this.secondaryACLRepository = secondaryACLRepository;
     this.mongoReconciliationOffsetRepository = mongoReconciliationOffsetRepository;
     this.persistentLocker = persistentLocker;
+    this.aclNearCache = aclNearCache;
   }
 
   @Override
@@ -123,6 +127,7 @@ public class AggregatorController implements Runnable {
       if (primaryControllerLock != null && secondaryControllerLock != null) {
         log.info("Both child controller locks have been acquired. Switching primary");
         secondaryACLRepository.renameCollection(ACL.PRIMARY_COLLECTION);
+        aclNearCache.invalidateAll();
         mongoReconciliationOffsetRepository.renameCollectionAToCollectionB(SECONDARY_COLLECTION, PRIMARY_COLLECTION);
         aggregatorSecondarySyncStateRepository.removeByIdentifier(ACCESS_CONTROL_SERVICE);
       } else {
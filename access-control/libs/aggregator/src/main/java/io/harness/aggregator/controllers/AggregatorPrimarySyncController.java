@@ -10,6 +10,7 @@ package io.harness.aggregator.controllers;
 import static io.harness.annotations.dev.HarnessTeam.PL;
 
 import io.harness.accesscontrol.acl.persistence.ACL;
+import io.harness.accesscontrol.acl.persistence.ACLNearCache;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.accesscontrol.principals.usergroups.persistence.UserGroupRepository;
 import io.harness.accesscontrol.resources.resourcegroups.persistence.ResourceGroupRepository;
@@ -49,10 +50,10 @@ public class AggregatorPrimarySyncController extends AggregatorBaseSyncControlle
       AggregatorConfiguration aggregatorConfiguration, PersistentLocker persistentLocker,
       ChangeEventFailureHandler changeEventFailureHandler, ChangeConsumerService changeConsumerService,
       RoleAssignmentCRUDEventHandler roleAssignmentCRUDEventHandler,
-      UserGroupCRUDEventHandler userGroupCRUDEventHandler, ScopeService scopeService) {
+      UserGroupCRUDEventHandler userGroupCRUDEventHandler, ScopeService scopeService, ACLNearCache aclNearCache) {
     super(primaryAclRepository, roleAssignmentRepository, roleRepository, resourceGroupRepository, userGroupRepository,
         aggregatorConfiguration, persistentLocker, changeEventFailureHandler, AggregatorJobType.PRIMARY,
-        changeConsumerService, roleAssignmentCRUDEventHandler, userGroupCRUDEventHandler, scopeService);
+        changeConsumerService, roleAssignmentCRUDEventHandler, userGroupCRUDEventHandler, scopeService, aclNearCache);
   }
 
   @Override
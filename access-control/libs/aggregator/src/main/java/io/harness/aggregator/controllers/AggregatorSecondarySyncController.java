@@ -12,6 +12,7 @@ import static io.harness.aggregator.models.MongoReconciliationOffset.SECONDARY_C
 import static io.harness.annotations.dev.HarnessTeam.PL;
 
 import io.harness.accesscontrol.acl.persistence.ACL;
+import io.harness.accesscontrol.acl.persistence.ACLNearCache;
 import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
 import io.harness.accesscontrol.aggregator.api.SecondarySyncStatus;
 import io.harness.accesscontrol.principals.usergroups.persistence.UserGroupRepository;
@@ -61,10 +62,10 @@ public class AggregatorSecondarySyncController extends AggregatorBaseSyncControl
       ChangeEventFailureHandler changeEventFailureHandler,
       MongoReconciliationOffsetRepository mongoReconciliationOffsetRepository,
       ChangeConsumerService changeConsumerService, RoleAssignmentCRUDEventHandler roleAssignmentCRUDEventHandler,
-      UserGroupCRUDEventHandler userGroupCRUDEventHandler, ScopeService scopeService) {
+      UserGroupCRUDEventHandler userGroupCRUDEventHandler, ScopeService scopeService, ACLNearCache aclNearCache) {
     super(aclRepository, roleAssignmentRepository, roleRepository, resourceGroupRepository, userGroupRepository,
         aggregatorConfiguration, persistentLocker, changeEventFailureHandler, AggregatorJobType.SECONDARY,
-        changeConsumerService, roleAssignmentCRUDEventHandler, userGroupCRUDEventHandler, scopeService);
+        changeConsumerService, roleAssignmentCRUDEventHandler, userGroupCRUDEventHandler, scopeService, aclNearCache);
     this.aggregatorSecondarySyncStateRepository = aggregatorSecondarySyncStateRepository;
     this.aclRepository = aclRepository;
     this.mongoReconciliationOffsetRepository = mongoReconciliationOffsetRepository;
@@ -0,0 +1,24 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.persistence;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import lombok.Data;
+
+@OwnedBy(PL)
+@Data
+public class ACLCacheConfiguration {
+  private boolean enabled;
+  private long maximumSize = 100000;
+  // Upper bound for serving an ACL which changed in the meantime, in case the generation can't be read
+  private long expireAfterWriteSeconds = 300;
+  private long generationPollIntervalMillis = 1000;
+}
@@ -21,6 +21,8 @@ import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import com.google.inject.name.Named;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -38,11 +40,14 @@ public class ACLDAOImpl implements ACLDAO {
   private static final String ALL_RESOURCES_IDENTIFIER = "*";
   private static final String INCLUDE_CHILD_SCOPES_IDENTIFIER = "**";
   private final ACLRepository aclRepository;
+  private final ACLNearCache aclNearCache;
   private final Set<String> scopeResourceTypes;
 
   @Inject
-  public ACLDAOImpl(@Named(ACL.PRIMARY_COLLECTION) ACLRepository aclRepository, Map<String, ScopeLevel> scopeLevels) {
+  public ACLDAOImpl(@Named(ACL.PRIMARY_COLLECTION) ACLRepository aclRepository, ACLNearCache aclNearCache,
+      Map<String, ScopeLevel> scopeLevels) {
     this.aclRepository = aclRepository;
+    this.aclNearCache = aclNearCache;
     this.scopeResourceTypes =
         scopeLevels.values().stream().map(ScopeLevel::getResourceType).collect(Collectors.toSet());
   }
@@ -151,12 +156,34 @@ public class ACLDAOImpl implements ACLDAO {
       aclQueryStrings.addAll(queryStrings);
     });
 
-    List<ACL> aclsPresentInDB = aclRepository.getByAclQueryStringInAndEnabled(aclQueryStrings, true);
-    return aclQueryStringsPerPermission.stream()
-        .map(queryStringsForPermission
-            -> aclsPresentInDB.stream()
-                   .filter(acl -> queryStringsForPermission.contains(acl.getAclQueryString()))
-                   .collect(Collectors.toList()))
-        .collect(Collectors.toList());
+    Map<String, List<ACL>> aclsByQueryString = getACLsByQueryString(aclQueryStrings);
+    List<List<ACL>> matchingACLs = new ArrayList<>(permissionChecks.size());
+    for (Set<String> queryStringsForPermission : aclQueryStringsPerPermission) {
+      List<ACL> aclsForPermission = new ArrayList<>();
+      for (String queryString : queryStringsForPermission) {
+        aclsForPermission.addAll(aclsByQueryString.getOrDefault(queryString, Collections.emptyList()));
+      }
+      matchingACLs.add(aclsForPermission);
+    }
+    return matchingACLs;
+  }
+
+  private Map<String, List<ACL>> getACLsByQueryString(Set<String> aclQueryStrings) {
+    Map<String, List<ACL>> aclsByQueryString = new HashMap<>(aclNearCache.getAll(aclQueryStrings));
+    if (aclsByQueryString.size() == aclQueryStrings.size()) {
+      return aclsByQueryString;
+    }
+
+    Map<String, List<ACL>> loadedACLs = new HashMap<>();
+    aclQueryStrings.stream()
+        .filter(queryString -> !aclsByQueryString.containsKey(queryString))
+        .forEach(queryString -> loadedACLs.put(queryString, new ArrayList<>()));
+    long epoch = aclNearCache.currentEpoch();
+    List<ACL> aclsPresentInDB = aclRepository.getByAclQueryStringInAndEnabled(loadedACLs.keySet(), true);
+    aclsPresentInDB.forEach(
+        acl -> loadedACLs.computeIfAbsent(acl.getAclQueryString(), key -> new ArrayList<>()).add(acl));
+    aclNearCache.putAll(loadedACLs, epoch);
+    aclsByQueryString.putAll(loadedACLs);
+    return aclsByQueryString;
   }
 }
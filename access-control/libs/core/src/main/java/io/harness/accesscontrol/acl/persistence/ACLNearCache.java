@@ -0,0 +1,299 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.persistence;
+
+import static io.harness.annotations.dev.HarnessTeam.PL;
+
+import static java.lang.System.currentTimeMillis;
+
+import io.harness.annotations.dev.OwnedBy;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.ReturnDocument;
+import com.mongodb.client.model.Updates;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+/**
+ * Near cache of the enabled ACLs per acl query string. The query string is built from the principal, so every entry
+ * belongs to a single principal. Query strings without any ACL are cached as an empty list, so repeated checks which
+ * are denied don't go to mongo either.
+ *
+ * The primary ACL repository records the principals whose ACLs it changes. Before the aggregator acknowledges a batch
+ * of changes it publishes them: the entries of those principals are dropped locally, the generation counter in mongo
+ * is bumped and an invalidation record with the principals is stored under the new generation. Every instance polls
+ * the counter and, once it moves, drops the entries of the principals of the records it hasn't seen yet. It drops its
+ * whole cache instead when a record is missing, lists too many principals, or is for a change of the whole collection.
+ *
+ * The principal is the only part of a query string which always belongs to the ACL itself, the scope in it can be the
+ * one of the resource selector, so the invalidation is done per principal rather than per scope.
+ */
+@OwnedBy(PL)
+@Singleton
+@Slf4j
+public class ACLNearCache {
+  static final String GENERATION_COLLECTION = "aclCacheGeneration";
+  static final String INVALIDATION_COLLECTION = "aclCacheInvalidations";
+  private static final String GENERATION_ID = "acl";
+  private static final String GENERATION_KEY = "generation";
+  private static final String ID_KEY = "_id";
+  private static final String PRINCIPALS_KEY = "principals";
+  private static final String ALL_KEY = "all";
+  private static final String CREATED_AT_KEY = "createdAt";
+  private static final char DELIMITER = '$';
+  static final int MAX_PRINCIPALS_PER_INVALIDATION = 1000;
+  static final int INVALIDATIONS_RETAINED = 1000;
+
+  private final MongoTemplate mongoTemplate;
+  // Bumped on every local invalidation, so loads which raced with one can be told apart
+  private final AtomicLong epoch = new AtomicLong();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  // Changes recorded by the primary ACL repository which haven't been published yet
+  private final Set<String> changedPrincipals = ConcurrentHashMap.newKeySet();
+  private final AtomicBoolean allChanged = new AtomicBoolean();
+  private volatile Cache<String, List<ACL>> cache;
+  private volatile long generation;
+  private volatile long lastSyncedAt;
+
+  @Inject
+  public ACLNearCache(MongoTemplate mongoTemplate) {
+    this.mongoTemplate = mongoTemplate;
+  }
+
+  @Inject(optional = true)
+  void configure(ACLCacheConfiguration configuration) {
+    if (!configuration.isEnabled()) {
+      return;
+    }
+    cache = CacheBuilder.newBuilder()
+                .maximumSize(configuration.getMaximumSize())
+                .expireAfterWrite(configuration.getExpireAfterWriteSeconds(), TimeUnit.SECONDS)
+                .build();
+    lastSyncedAt = currentTimeMillis();
+    ScheduledExecutorService executorService = Executors.newSingleThreadScheduledExecutor(
+        new ThreadFactoryBuilder().setNameFormat("acl-near-cache-sync").setDaemon(true).build());
+    executorService.scheduleWithFixedDelay(this::syncGeneration, 0, configuration.getGenerationPollIntervalMillis(),
+        TimeUnit.MILLISECONDS);
+  }
+
+  public boolean isEnabled() {
+    return cache != null;
+  }
+
+  /**
+   * @return the cached ACLs for the query strings which are present, the others are counted as misses
+   */
+  public Map<String, List<ACL>> getAll(Collection<String> aclQueryStrings) {
+    if (!isEnabled()) {
+      return Collections.emptyMap();
+    }
+    Map<String, List<ACL>> present = cache.getAllPresent(aclQueryStrings);
+    hits.add(present.size());
+    misses.add(aclQueryStrings.size() - present.size());
+    return present;
+  }
+
+  /**
+   * @return the epoch to pass to {@link #putAll} for ACLs which are about to be loaded
+   */
+  public long currentEpoch() {
+    return epoch.get();
+  }
+
+  /**
+   * Caches ACLs loaded at the given epoch, unless the cache has been invalidated since.
+   */
+  public void putAll(Map<String, List<ACL>> aclsByQueryString, long loadedAtEpoch) {
+    if (!isEnabled() || epoch.get() != loadedAtEpoch) {
+      return;
+    }
+    cache.putAll(aclsByQueryString);
+    // the invalidation might have happened while putting, in which case the entries can't be trusted
+    if (epoch.get() != loadedAtEpoch) {
+      cache.invalidateAll(aclsByQueryString.keySet());
+    }
+  }
+
+  /**
+   * Records that the ACLs of the given principals have changed, they are invalidated by {@link #publishChanges}.
+   */
+  public void recordChangedPrincipals(Collection<String> principalIdentifiers) {
+    changedPrincipals.addAll(principalIdentifiers);
+  }
+
+  /**
+   * Records a change which can touch the ACLs of any principal, e.g. a switch of the whole ACL collection.
+   */
+  public void recordChangeOfAll() {
+    allChanged.set(true);
+  }
+
+  /**
+   * Drops the local entries of the recorded changes, and publishes them to the other instances. The changes are kept
+   * for the next call if they could not be published.
+   */
+  public void publishChanges() {
+    boolean all = allChanged.getAndSet(false);
+    Set<String> principals = new HashSet<>();
+    for (Iterator<String> iterator = changedPrincipals.iterator(); iterator.hasNext();) {
+      principals.add(iterator.next());
+      iterator.remove();
+    }
+    if (!all && principals.isEmpty()) {
+      return;
+    }
+    all = all || principals.size() > MAX_PRINCIPALS_PER_INVALIDATION;
+    invalidateLocally(all ? null : principals);
+    try {
+      Document document = mongoTemplate.getCollection(GENERATION_COLLECTION)
+                              .findOneAndUpdate(Filters.eq(ID_KEY, GENERATION_ID), Updates.inc(GENERATION_KEY, 1L),
+                                  new FindOneAndUpdateOptions().upsert(true).returnDocument(ReturnDocument.AFTER));
+      long newGeneration = readGeneration(document);
+      MongoCollection<Document> invalidations = mongoTemplate.getCollection(INVALIDATION_COLLECTION);
+      invalidations.insertOne(new Document(ID_KEY, newGeneration)
+                                  .append(ALL_KEY, all)
+                                  .append(PRINCIPALS_KEY, all ? Collections.emptyList() : new ArrayList<>(principals))
+                                  .append(CREATED_AT_KEY, new Date()));
+      invalidations.deleteMany(Filters.lte(ID_KEY, newGeneration - INVALIDATIONS_RETAINED));
+    } catch (RuntimeException ex) {
+      if (all) {
+        allChanged.set(true);
+      }
+      changedPrincipals.addAll(principals);
+      throw ex;
+    }
+  }
+
+  /**
+   * Drops the whole cache on all instances.
+   */
+  public void invalidateAll() {
+    recordChangeOfAll();
+    try {
+      publishChanges();
+    } catch (Exception ex) {
+      log.error("Could not publish the ACL cache invalidation, it will be retried with the next change", ex);
+    }
+  }
+
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  /**
+   * @return how long ago this instance last made sure that it has seen every ACL change, which bounds how stale a
+   *     cached ACL can be
+   */
+  public long getStalenessMillis() {
+    return isEnabled() ? currentTimeMillis() - lastSyncedAt : 0;
+  }
+
+  @VisibleForTesting
+  void syncGeneration() {
+    try {
+      Document document =
+          mongoTemplate.getCollection(GENERATION_COLLECTION).find(Filters.eq("_id", GENERATION_ID)).first();
+      long remoteGeneration = readGeneration(document);
+      if (remoteGeneration != generation) {
+        applyInvalidations(generation, remoteGeneration);
+        generation = remoteGeneration;
+      }
+      lastSyncedAt = currentTimeMillis();
+    } catch (Exception ex) {
+      log.warn("Could not read the ACL cache generation", ex);
+    }
+  }
+
+  private void applyInvalidations(long fromGeneration, long toGeneration) {
+    if (toGeneration < fromGeneration || toGeneration - fromGeneration >= INVALIDATIONS_RETAINED) {
+      invalidateLocally(null);
+      return;
+    }
+    List<Document> records =
+        mongoTemplate.getCollection(INVALIDATION_COLLECTION)
+            .find(Filters.and(Filters.gt(ID_KEY, fromGeneration), Filters.lte(ID_KEY, toGeneration)))
+            .into(new ArrayList<>());
+    // The record of a generation is written right after the bump, so it can be missing for a moment, or for good if
+    // writing it failed
+    if (records.size() != toGeneration - fromGeneration) {
+      invalidateLocally(null);
+      return;
+    }
+    Set<String> principals = new HashSet<>();
+    for (Document record : records) {
+      if (Boolean.TRUE.equals(record.getBoolean(ALL_KEY))) {
+        invalidateLocally(null);
+        return;
+      }
+      principals.addAll((List<String>) record.get(PRINCIPALS_KEY));
+    }
+    invalidateLocally(principals);
+  }
+
+  /**
+   * @param principals the principals whose entries are dropped, or null to drop the whole cache
+   */
+  private void invalidateLocally(Set<String> principals) {
+    epoch.incrementAndGet();
+    if (!isEnabled()) {
+      return;
+    }
+    if (principals == null) {
+      cache.invalidateAll();
+    } else if (!principals.isEmpty()) {
+      cache.asMap().keySet().removeIf(aclQueryString -> belongsToAny(aclQueryString, principals));
+    }
+  }
+
+  private static boolean belongsToAny(String aclQueryString, Set<String> principals) {
+    // The query string ends with the principal identifier, which could contain the delimiter itself
+    for (int i = aclQueryString.indexOf(DELIMITER); i >= 0; i = aclQueryString.indexOf(DELIMITER, i + 1)) {
+      if (principals.contains(aclQueryString.substring(i + 1))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static long readGeneration(Document document) {
+    if (document == null || document.get(GENERATION_KEY) == null) {
+      return 0;
+    }
+    return ((Number) document.get(GENERATION_KEY)).longValue();
+  }
+}
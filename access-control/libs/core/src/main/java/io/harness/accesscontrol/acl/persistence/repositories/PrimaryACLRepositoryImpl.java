@@ -8,23 +8,100 @@
 package io.harness.accesscontrol.acl.persistence.repositories;
 
 import io.harness.accesscontrol.acl.persistence.ACL;
+import io.harness.accesscontrol.acl.persistence.ACLNearCache;
+import io.harness.accesscontrol.resources.resourcegroups.ResourceSelector;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
+import java.util.List;
+import java.util.Set;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
 import org.springframework.data.mongodb.core.MongoTemplate;
 
+/**
+ * Records the principals of the ACLs it changes with the {@link ACLNearCache}, which is read from this collection.
+ */
 @OwnedBy(HarnessTeam.PL)
 @Singleton
 public class PrimaryACLRepositoryImpl extends BaseACLRepositoryImpl implements ACLRepository {
+  private final ACLNearCache aclNearCache;
+
   @Inject
-  public PrimaryACLRepositoryImpl(MongoTemplate mongoTemplate) {
+  public PrimaryACLRepositoryImpl(MongoTemplate mongoTemplate, ACLNearCache aclNearCache) {
     super(mongoTemplate);
+    this.aclNearCache = aclNearCache;
   }
 
   @Override
   protected String getCollectionName() {
     return ACL.PRIMARY_COLLECTION;
   }
+
+  @Override
+  public long insertAllIgnoringDuplicates(List<ACL> acls) {
+    long inserted = super.insertAllIgnoringDuplicates(acls);
+    if (inserted > 0) {
+      aclNearCache.recordChangedPrincipals(
+          acls.stream().map(ACL::getPrincipalIdentifier).collect(Collectors.toSet()));
+    }
+    return inserted;
+  }
+
+  @Override
+  public long deleteByRoleAssignmentId(String id) {
+    return deleteRecordingPrincipals(id, () -> super.deleteByRoleAssignmentId(id));
+  }
+
+  @Override
+  public long deleteByRoleAssignmentIdAndResourceSelectors(
+      String roleAssignmentId, Set<ResourceSelector> resourceSelectorsToDelete) {
+    return deleteRecordingPrincipals(roleAssignmentId,
+        () -> super.deleteByRoleAssignmentIdAndResourceSelectors(roleAssignmentId, resourceSelectorsToDelete));
+  }
+
+  @Override
+  public long deleteByRoleAssignmentIdAndPermissions(String roleAssignmentId, Set<String> permissions) {
+    return deleteRecordingPrincipals(
+        roleAssignmentId, () -> super.deleteByRoleAssignmentIdAndPermissions(roleAssignmentId, permissions));
+  }
+
+  @Override
+  public long deleteByRoleAssignmentIdAndPrincipals(String roleAssignmentId, Set<String> principals) {
+    long deleted = super.deleteByRoleAssignmentIdAndPrincipals(roleAssignmentId, principals);
+    if (deleted > 0) {
+      aclNearCache.recordChangedPrincipals(principals);
+    }
+    return deleted;
+  }
+
+  @Override
+  public long deleteByRoleAssignmentIdAndImplicitForScope(String roleAssignmentId) {
+    return deleteRecordingPrincipals(
+        roleAssignmentId, () -> super.deleteByRoleAssignmentIdAndImplicitForScope(roleAssignmentId));
+  }
+
+  @Override
+  public void cleanCollection() {
+    super.cleanCollection();
+    aclNearCache.recordChangeOfAll();
+  }
+
+  @Override
+  public void renameCollection(String newCollectionName) {
+    super.renameCollection(newCollectionName);
+    aclNearCache.recordChangeOfAll();
+  }
+
+  private long deleteRecordingPrincipals(String roleAssignmentId, LongSupplier delete) {
+    // The principals have to be read while their ACLs are still there
+    List<String> principals = getDistinctPrincipalsInACLsForRoleAssignment(roleAssignmentId);
+    long deleted = delete.getAsLong();
+    if (deleted > 0) {
+      aclNearCache.recordChangedPrincipals(principals);
+    }
+    return deleted;
+  }
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.persistence;
+
+import static io.harness.accesscontrol.acl.persistence.ACL.getAclQueryString;
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.rule.OwnerRule.KARAN;
+
+import static junit.framework.TestCase.assertEquals;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.accesscontrol.AccessControlCoreTestBase;
+import io.harness.accesscontrol.acl.PermissionCheck;
+import io.harness.accesscontrol.acl.api.Principal;
+import io.harness.accesscontrol.acl.persistence.repositories.ACLRepository;
+import io.harness.accesscontrol.principals.PrincipalType;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+@OwnedBy(PL)
+public class ACLDAOImplTest extends AccessControlCoreTestBase {
+  private static final String PERMISSION = "core_pipeline_view";
+  private static final String RESOURCE_TYPE = "PIPELINE";
+  private static final Principal PRINCIPAL = Principal.of(PrincipalType.USER, "user");
+
+  private ACLRepository aclRepository;
+  private ACLNearCache aclNearCache;
+  private ACLDAOImpl aclDAO;
+
+  @Before
+  public void setup() {
+    aclRepository = mock(ACLRepository.class);
+    aclNearCache = new ACLNearCache(mock(MongoTemplate.class));
+    ACLCacheConfiguration configuration = new ACLCacheConfiguration();
+    configuration.setEnabled(true);
+    configuration.setGenerationPollIntervalMillis(3600000);
+    aclNearCache.configure(configuration);
+    aclDAO = new ACLDAOImpl(aclRepository, aclNearCache, Collections.emptyMap());
+  }
+
+  private PermissionCheck permissionCheck(String resourceIdentifier) {
+    return PermissionCheck.builder()
+        .resourceType(RESOURCE_TYPE)
+        .resourceIdentifier(resourceIdentifier)
+        .permission(PERMISSION)
+        .build();
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testGetMatchingACLsFromNearCache() {
+    String allPipelines = getAclQueryString("", "/" + RESOURCE_TYPE + "/*", PRINCIPAL.getPrincipalType().name(),
+        PRINCIPAL.getPrincipalIdentifier(), PERMISSION);
+    ACL acl = ACL.builder().aclQueryString(allPipelines).build();
+    when(aclRepository.getByAclQueryStringInAndEnabled(anyCollection(), anyBoolean()))
+        .thenReturn(Collections.singletonList(acl));
+    List<PermissionCheck> permissionChecks = Arrays.asList(permissionCheck("p1"), permissionCheck("p2"));
+
+    List<List<ACL>> matchingACLs = aclDAO.getMatchingACLs(PRINCIPAL, permissionChecks);
+    assertEquals(Arrays.asList(Collections.singletonList(acl), Collections.singletonList(acl)), matchingACLs);
+    assertEquals(4, aclNearCache.getMissCount());
+
+    assertEquals(matchingACLs, aclDAO.getMatchingACLs(PRINCIPAL, permissionChecks));
+    assertEquals(4, aclNearCache.getHitCount());
+    verify(aclRepository, times(1)).getByAclQueryStringInAndEnabled(anyCollection(), anyBoolean());
+
+    aclNearCache.invalidateAll();
+    assertEquals(matchingACLs, aclDAO.getMatchingACLs(PRINCIPAL, permissionChecks));
+    verify(aclRepository, times(2)).getByAclQueryStringInAndEnabled(anyCollection(), anyBoolean());
+  }
+}
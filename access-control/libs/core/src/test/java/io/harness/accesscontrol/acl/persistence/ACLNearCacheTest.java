@@ -0,0 +1,163 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.accesscontrol.acl.persistence;
+
+import static io.harness.accesscontrol.acl.persistence.ACL.getAclQueryString;
+import static io.harness.annotations.dev.HarnessTeam.PL;
+import static io.harness.rule.OwnerRule.KARAN;
+
+import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertFalse;
+import static junit.framework.TestCase.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.harness.accesscontrol.AccessControlCoreTestBase;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import com.google.common.collect.ImmutableMap;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+@OwnedBy(PL)
+public class ACLNearCacheTest extends AccessControlCoreTestBase {
+  private static final String USER_1_ACLS = getAclQueryString("/ACCOUNT/acc", "/PIPELINE/*", "USER", "user1", "view");
+  private static final String USER_2_ACLS = getAclQueryString("/ACCOUNT/acc", "/PIPELINE/*", "USER", "user2", "view");
+  private static final List<String> QUERY_STRINGS = Arrays.asList(USER_1_ACLS, USER_2_ACLS);
+
+  private MongoCollection<Document> generationCollection;
+  private MongoCollection<Document> invalidationCollection;
+  private ACLNearCache aclNearCache;
+
+  @Before
+  public void setup() {
+    MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    generationCollection = mock(MongoCollection.class);
+    invalidationCollection = mock(MongoCollection.class);
+    when(mongoTemplate.getCollection(ACLNearCache.GENERATION_COLLECTION)).thenReturn(generationCollection);
+    when(mongoTemplate.getCollection(ACLNearCache.INVALIDATION_COLLECTION)).thenReturn(invalidationCollection);
+    aclNearCache = new ACLNearCache(mongoTemplate);
+    ACLCacheConfiguration configuration = new ACLCacheConfiguration();
+    configuration.setEnabled(true);
+    configuration.setGenerationPollIntervalMillis(3600000);
+    aclNearCache.configure(configuration);
+  }
+
+  private void cacheACLsOfBothUsers() {
+    List<ACL> noACLs = Collections.emptyList();
+    aclNearCache.putAll(ImmutableMap.of(USER_1_ACLS, noACLs, USER_2_ACLS, noACLs), aclNearCache.currentEpoch());
+    assertEquals(2, aclNearCache.getAll(QUERY_STRINGS).size());
+  }
+
+  private void mockGeneration(long generation) {
+    FindIterable<Document> iterable = mock(FindIterable.class);
+    when(iterable.first()).thenReturn(new Document("generation", generation));
+    when(generationCollection.find(any(Bson.class))).thenReturn(iterable);
+  }
+
+  private static Document invalidation(long generation, String principal) {
+    return new Document("_id", generation)
+        .append("all", false)
+        .append("principals", Collections.singletonList(principal));
+  }
+
+  private void mockInvalidations(Document... invalidations) {
+    FindIterable<Document> iterable = mock(FindIterable.class);
+    when(iterable.into(anyList())).thenAnswer(invocation -> {
+      List<Document> target = invocation.getArgument(0);
+      target.addAll(Arrays.asList(invalidations));
+      return target;
+    });
+    when(invalidationCollection.find(any(Bson.class))).thenReturn(iterable);
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testPublishChangesDropsOnlyTheACLsOfChangedPrincipals() {
+    when(generationCollection.findOneAndUpdate(any(Bson.class), any(Bson.class), any(FindOneAndUpdateOptions.class)))
+        .thenReturn(new Document("generation", 1L));
+    cacheACLsOfBothUsers();
+
+    aclNearCache.recordChangedPrincipals(Collections.singleton("user1"));
+    aclNearCache.publishChanges();
+
+    assertEquals(Collections.singleton(USER_2_ACLS), aclNearCache.getAll(QUERY_STRINGS).keySet());
+    ArgumentCaptor<Document> captor = ArgumentCaptor.forClass(Document.class);
+    verify(invalidationCollection).insertOne(captor.capture());
+    assertEquals(1L, captor.getValue().get("_id"));
+    assertFalse(captor.getValue().getBoolean("all"));
+    assertEquals(Collections.singletonList("user1"), captor.getValue().get("principals"));
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testChangesAreKeptWhenPublishingFails() {
+    when(generationCollection.findOneAndUpdate(any(Bson.class), any(Bson.class), any(FindOneAndUpdateOptions.class)))
+        .thenThrow(new IllegalStateException("mongo is down"))
+        .thenReturn(new Document("generation", 1L));
+
+    aclNearCache.recordChangedPrincipals(Collections.singleton("user1"));
+    try {
+      aclNearCache.publishChanges();
+    } catch (IllegalStateException ex) {
+      // expected, the changes are published with the next call
+    }
+    verify(invalidationCollection, never()).insertOne(any(Document.class));
+
+    aclNearCache.publishChanges();
+    ArgumentCaptor<Document> captor = ArgumentCaptor.forClass(Document.class);
+    verify(invalidationCollection).insertOne(captor.capture());
+    assertEquals(Collections.singletonList("user1"), captor.getValue().get("principals"));
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testSyncDropsTheACLsOfThePrincipalsChangedOnOtherInstances() {
+    cacheACLsOfBothUsers();
+    mockGeneration(2);
+    mockInvalidations(invalidation(1, "user1"), invalidation(2, "user3"));
+
+    aclNearCache.syncGeneration();
+
+    assertEquals(Collections.singleton(USER_2_ACLS), aclNearCache.getAll(QUERY_STRINGS).keySet());
+  }
+
+  @Test
+  @Owner(developers = KARAN)
+  @Category(UnitTests.class)
+  public void testSyncDropsTheWholeCacheWhenAnInvalidationIsMissing() {
+    cacheACLsOfBothUsers();
+    mockGeneration(2);
+    mockInvalidations(invalidation(2, "user3"));
+
+    aclNearCache.syncGeneration();
+
+    assertTrue(aclNearCache.getAll(QUERY_STRINGS).isEmpty());
+  }
+}
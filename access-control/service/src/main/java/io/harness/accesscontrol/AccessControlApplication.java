@@ -26,6 +26,7 @@ import static com.google.common.collect.ImmutableMap.of;
 import static io.serializer.HObjectMapper.configureObjectMapperForNG;
 
 import io.harness.Microservice;
+import io.harness.accesscontrol.acl.persistence.ACLNearCache;
 import io.harness.accesscontrol.commons.bootstrap.AccessControlManagementJob;
 import io.harness.accesscontrol.commons.events.EntityCrudEventListenerService;
 import io.harness.accesscontrol.commons.events.UserMembershipEventListenerService;
@@ -77,6 +78,7 @@ import io.harness.telemetry.filter.APIAuthTelemetryFilter;
 import io.harness.telemetry.filter.APIAuthTelemetryResponseFilter;
 import io.harness.token.remote.TokenClient;
 
+import com.codahale.metrics.Gauge;
 import com.codahale.metrics.MetricRegistry;
 import com.google.common.collect.ImmutableMap;
 import com.google.inject.Guice;
@@ -180,6 +182,7 @@ public class AccessControlApplication extends Application<AccessControlConfigura
     registerAuthFilters(appConfig, environment, injector);
     registerAPIAuthTelemetryFilters(appConfig, environment, injector);
     registerHealthCheck(environment, injector);
+    registerACLCacheMetrics(injector);
     registerManagedBeans(appConfig, environment, injector);
     registerMigrations(injector);
     registerIterators(injector);
@@ -216,6 +219,13 @@ public class AccessControlApplication extends Application<AccessControlConfigura
     healthService.registerMonitor(injector.getInstance(HPersistence.class));
   }
 
+  private void registerACLCacheMetrics(Injector injector) {
+    ACLNearCache aclNearCache = injector.getInstance(ACLNearCache.class);
+    metricRegistry.register("acl_cache_hits", (Gauge<Long>) aclNearCache::getHitCount);
+    metricRegistry.register("acl_cache_misses", (Gauge<Long>) aclNearCache::getMissCount);
+    metricRegistry.register("acl_cache_staleness_millis", (Gauge<Long>) aclNearCache::getStalenessMillis);
+  }
+
   public void registerIterators(Injector injector) {
     injector.getInstance(ResourceGroupReconciliationIterator.class).registerIterators();
     injector.getInstance(UserGroupReconciliationIterator.class).registerIterators();
@@ -31,6 +31,7 @@ import io.harness.accesscontrol.acl.ResourceAttributeProvider;
 import io.harness.accesscontrol.acl.api.ACLResource;
 import io.harness.accesscontrol.acl.api.ACLResourceImpl;
 import io.harness.accesscontrol.acl.api.ResourceAttributeProviderImpl;
+import io.harness.accesscontrol.acl.persistence.ACLCacheConfiguration;
 import io.harness.accesscontrol.aggregator.api.AggregatorResource;
 import io.harness.accesscontrol.aggregator.api.AggregatorResourceImpl;
 import io.harness.accesscontrol.aggregator.consumers.AccessControlChangeEventFailureHandler;
@@ -228,6 +229,12 @@ public class AccessControlModule extends AbstractModule {
         Duration.ofMinutes(10), 3, redisConfig.getEnvNamespace(), redisEventMetricPublisher);
   }
 
+  @Provides
+  @Singleton
+  public ACLCacheConfiguration getACLCacheConfiguration() {
+    return config.getAclCacheConfiguration();
+  }
+
   @Provides
   public AccessControlIteratorsConfig getIteratorsConfig() {
     return config.getIteratorsConfig();
@@ -14,6 +14,7 @@ import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.batch.processing.billing.timeseries.data.InstanceBillingData;
 import io.harness.batch.processing.billing.timeseries.service.support.BillingDataTableNameProvider;
+import io.harness.batch.processing.billing.timeseries.service.support.TimescaleCopyLoader;
 import io.harness.batch.processing.ccm.ActualIdleCostWriterData;
 import io.harness.batch.processing.ccm.BatchJobType;
 import io.harness.batch.processing.entities.ClusterDataDetails;
@@ -52,12 +53,11 @@ public class BillingDataServiceImpl {
   @Autowired private TimeScaleDBService timeScaleDBService;
   @Autowired private TimeUtils utils;
 
-  private static final int BATCH_SIZE = 500;
   private static final int MAX_RETRY_COUNT = 2;
   private static final int DELETE_MAX_RETRY_COUNT = 5;
   private static final int SELECT_MAX_RETRY_COUNT = 5;
-  static final String INSERT_STATEMENT =
-      "INSERT INTO %s (STARTTIME, ENDTIME, ACCOUNTID, INSTANCETYPE, BILLINGACCOUNTID, BILLINGAMOUNT, CPUBILLINGAMOUNT, MEMORYBILLINGAMOUNT, USAGEDURATIONSECONDS, INSTANCEID, CLUSTERNAME, CLUSTERID, SETTINGID,  SERVICEID, APPID, CLOUDPROVIDERID, ENVID, CPUUNITSECONDS, MEMORYMBSECONDS, PARENTINSTANCEID, REGION, LAUNCHTYPE, CLUSTERTYPE, CLOUDPROVIDER, WORKLOADNAME, WORKLOADTYPE, NAMESPACE, CLOUDSERVICENAME, TASKID, IDLECOST, CPUIDLECOST, MEMORYIDLECOST, MAXCPUUTILIZATION, MAXMEMORYUTILIZATION, AVGCPUUTILIZATION, AVGMEMORYUTILIZATION, SYSTEMCOST, CPUSYSTEMCOST, MEMORYSYSTEMCOST, ACTUALIDLECOST, CPUACTUALIDLECOST, MEMORYACTUALIDLECOST, UNALLOCATEDCOST, CPUUNALLOCATEDCOST, MEMORYUNALLOCATEDCOST, INSTANCENAME, CPUREQUEST, MEMORYREQUEST, CPULIMIT, MEMORYLIMIT, MAXCPUUTILIZATIONVALUE, MAXMEMORYUTILIZATIONVALUE, AVGCPUUTILIZATIONVALUE, AVGMEMORYUTILIZATIONVALUE, NETWORKCOST, PRICINGSOURCE, STORAGEACTUALIDLECOST, STORAGEUNALLOCATEDCOST, STORAGEUTILIZATIONVALUE, STORAGEREQUEST, STORAGEMBSECONDS, STORAGECOST, MAXSTORAGEUTILIZATIONVALUE, MAXSTORAGEREQUEST, ORGIDENTIFIER, PROJECTIDENTIFIER) VALUES (?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?) ON CONFLICT DO NOTHING";
+  static final String INSERT_COLUMNS =
+      "STARTTIME, ENDTIME, ACCOUNTID, INSTANCETYPE, BILLINGACCOUNTID, BILLINGAMOUNT, CPUBILLINGAMOUNT, MEMORYBILLINGAMOUNT, USAGEDURATIONSECONDS, INSTANCEID, CLUSTERNAME, CLUSTERID, SETTINGID, SERVICEID, APPID, CLOUDPROVIDERID, ENVID, CPUUNITSECONDS, MEMORYMBSECONDS, PARENTINSTANCEID, REGION, LAUNCHTYPE, CLUSTERTYPE, CLOUDPROVIDER, WORKLOADNAME, WORKLOADTYPE, NAMESPACE, CLOUDSERVICENAME, TASKID, IDLECOST, CPUIDLECOST, MEMORYIDLECOST, MAXCPUUTILIZATION, MAXMEMORYUTILIZATION, AVGCPUUTILIZATION, AVGMEMORYUTILIZATION, SYSTEMCOST, CPUSYSTEMCOST, MEMORYSYSTEMCOST, ACTUALIDLECOST, CPUACTUALIDLECOST, MEMORYACTUALIDLECOST, UNALLOCATEDCOST, CPUUNALLOCATEDCOST, MEMORYUNALLOCATEDCOST, INSTANCENAME, CPUREQUEST, MEMORYREQUEST, CPULIMIT, MEMORYLIMIT, MAXCPUUTILIZATIONVALUE, MAXMEMORYUTILIZATIONVALUE, AVGCPUUTILIZATIONVALUE, AVGMEMORYUTILIZATIONVALUE, NETWORKCOST, PRICINGSOURCE, STORAGEACTUALIDLECOST, STORAGEUNALLOCATEDCOST, STORAGEUTILIZATIONVALUE, STORAGEREQUEST, STORAGEMBSECONDS, STORAGECOST, MAXSTORAGEUTILIZATIONVALUE, MAXSTORAGEREQUEST, ORGIDENTIFIER, PROJECTIDENTIFIER";
 
   static final String UPDATE_STATEMENT =
       "UPDATE %s SET ACTUALIDLECOST = ?, CPUACTUALIDLECOST = ?, MEMORYACTUALIDLECOST = ?, UNALLOCATEDCOST = ?, CPUUNALLOCATEDCOST = ?, MEMORYUNALLOCATEDCOST = ? WHERE ACCOUNTID = ? AND CLUSTERID = ? AND INSTANCEID = ? AND STARTTIME = ?";
@@ -107,22 +107,11 @@ public class BillingDataServiceImpl {
   public boolean create(List<InstanceBillingData> instanceBillingDataList, BatchJobType batchJobType) {
     boolean successfulInsert = false;
     if (timeScaleDBService.isValid() && !instanceBillingDataList.isEmpty()) {
-      String insertStatement = BillingDataTableNameProvider.replaceTableName(INSERT_STATEMENT, batchJobType);
+      String tableName = BillingDataTableNameProvider.getTableName(batchJobType);
       int retryCount = 0;
       while (!successfulInsert && retryCount < MAX_RETRY_COUNT) {
-        try (Connection dbConnection = timeScaleDBService.getDBConnection();
-             PreparedStatement statement = dbConnection.prepareStatement(insertStatement)) {
-          int index = 0;
-          for (InstanceBillingData instanceBillingData : instanceBillingDataList) {
-            updateInsertStatement(statement, instanceBillingData);
-            statement.addBatch();
-            index++;
-
-            if (index % BATCH_SIZE == 0 || index == instanceBillingDataList.size()) {
-              log.debug("Prepared Statement in BillingDataServiceImpl: {} ", statement);
-              statement.executeBatch();
-            }
-          }
+        try (Connection dbConnection = timeScaleDBService.getDBConnection()) {
+          TimescaleCopyLoader.copy(dbConnection, tableName, INSERT_COLUMNS, instanceBillingDataList, this::toRow);
           successfulInsert = true;
         } catch (SQLException e) {
           log.error("Failed to save instance data,[{}],retryCount=[{}], Exception: ", instanceBillingDataList.size(),
@@ -174,73 +163,38 @@ public class BillingDataServiceImpl {
     statement.setTimestamp(10, new Timestamp(actualIdleCostWriterData.getStartTime()), utils.getDefaultCalendar());
   }
 
-  void updateInsertStatement(PreparedStatement statement, InstanceBillingData instanceBillingData) throws SQLException {
-    statement.setTimestamp(1, new Timestamp(instanceBillingData.getStartTimestamp()), utils.getDefaultCalendar());
-    statement.setTimestamp(2, new Timestamp(instanceBillingData.getEndTimestamp()), utils.getDefaultCalendar());
-    statement.setString(3, instanceBillingData.getAccountId());
-    statement.setString(4, instanceBillingData.getInstanceType());
-    statement.setString(5, instanceBillingData.getBillingAccountId());
-    statement.setBigDecimal(6, instanceBillingData.getBillingAmount());
-    statement.setBigDecimal(7, instanceBillingData.getCpuBillingAmount());
-    statement.setBigDecimal(8, instanceBillingData.getMemoryBillingAmount());
-    statement.setDouble(9, instanceBillingData.getUsageDurationSeconds());
-    statement.setString(10, instanceBillingData.getInstanceId());
-    statement.setString(11, instanceBillingData.getClusterName());
-    statement.setString(12, instanceBillingData.getClusterId());
-    statement.setString(13, instanceBillingData.getSettingId());
-    statement.setString(14, instanceBillingData.getServiceId());
-    statement.setString(15, instanceBillingData.getAppId());
-    statement.setString(16, instanceBillingData.getCloudProviderId());
-    statement.setString(17, instanceBillingData.getEnvId());
-    statement.setDouble(18, instanceBillingData.getCpuUnitSeconds());
-    statement.setDouble(19, instanceBillingData.getMemoryMbSeconds());
-    statement.setString(20, instanceBillingData.getParentInstanceId());
-    statement.setString(21, instanceBillingData.getRegion());
-    statement.setString(22, instanceBillingData.getLaunchType());
-    statement.setString(23, instanceBillingData.getClusterType());
-    statement.setString(24, instanceBillingData.getCloudProvider());
-    statement.setString(25, instanceBillingData.getWorkloadName());
-    statement.setString(26, instanceBillingData.getWorkloadType());
-    statement.setString(27, instanceBillingData.getNamespace());
-    statement.setString(28, instanceBillingData.getCloudServiceName());
-    statement.setString(29, instanceBillingData.getTaskId());
-    statement.setBigDecimal(30, instanceBillingData.getIdleCost());
-    statement.setBigDecimal(31, instanceBillingData.getCpuIdleCost());
-    statement.setBigDecimal(32, instanceBillingData.getMemoryIdleCost());
-    statement.setDouble(33, instanceBillingData.getMaxCpuUtilization());
-    statement.setDouble(34, instanceBillingData.getMaxMemoryUtilization());
-    statement.setDouble(35, instanceBillingData.getAvgCpuUtilization());
-    statement.setDouble(36, instanceBillingData.getAvgMemoryUtilization());
-    statement.setBigDecimal(37, instanceBillingData.getSystemCost());
-    statement.setBigDecimal(38, instanceBillingData.getCpuSystemCost());
-    statement.setBigDecimal(39, instanceBillingData.getMemorySystemCost());
-    statement.setBigDecimal(40, instanceBillingData.getActualIdleCost());
-    statement.setBigDecimal(41, instanceBillingData.getCpuActualIdleCost());
-    statement.setBigDecimal(42, instanceBillingData.getMemoryActualIdleCost());
-    statement.setBigDecimal(43, instanceBillingData.getUnallocatedCost());
-    statement.setBigDecimal(44, instanceBillingData.getCpuUnallocatedCost());
-    statement.setBigDecimal(45, instanceBillingData.getMemoryUnallocatedCost());
-    statement.setString(46, instanceBillingData.getInstanceName());
-    statement.setDouble(47, instanceBillingData.getCpuRequest());
-    statement.setDouble(48, instanceBillingData.getMemoryRequest());
-    statement.setDouble(49, instanceBillingData.getCpuLimit());
-    statement.setDouble(50, instanceBillingData.getMemoryLimit());
-    statement.setDouble(51, instanceBillingData.getMaxCpuUtilizationValue());
-    statement.setDouble(52, instanceBillingData.getMaxMemoryUtilizationValue());
-    statement.setDouble(53, instanceBillingData.getAvgCpuUtilizationValue());
-    statement.setDouble(54, instanceBillingData.getAvgMemoryUtilizationValue());
-    statement.setDouble(55, instanceBillingData.getNetworkCost());
-    statement.setString(56, instanceBillingData.getPricingSource());
-    statement.setBigDecimal(57, instanceBillingData.getStorageActualIdleCost());
-    statement.setBigDecimal(58, instanceBillingData.getStorageUnallocatedCost());
-    statement.setDouble(59, instanceBillingData.getStorageUtilizationValue());
-    statement.setDouble(60, instanceBillingData.getStorageRequest());
-    statement.setDouble(61, instanceBillingData.getStorageMbSeconds());
-    statement.setBigDecimal(62, instanceBillingData.getStorageBillingAmount());
-    statement.setDouble(63, instanceBillingData.getMaxStorageUtilizationValue());
-    statement.setDouble(64, instanceBillingData.getMaxStorageRequest());
-    statement.setString(65, instanceBillingData.getOrgIdentifier());
-    statement.setString(66, instanceBillingData.getProjectIdentifier());
+  Object[] toRow(InstanceBillingData instanceBillingData) {
+    return new Object[] {Instant.ofEpochMilli(instanceBillingData.getStartTimestamp()),
+        Instant.ofEpochMilli(instanceBillingData.getEndTimestamp()), instanceBillingData.getAccountId(),
+        instanceBillingData.getInstanceType(), instanceBillingData.getBillingAccountId(),
+        instanceBillingData.getBillingAmount(), instanceBillingData.getCpuBillingAmount(),
+        instanceBillingData.getMemoryBillingAmount(), instanceBillingData.getUsageDurationSeconds(),
+        instanceBillingData.getInstanceId(), instanceBillingData.getClusterName(), instanceBillingData.getClusterId(),
+        instanceBillingData.getSettingId(), instanceBillingData.getServiceId(), instanceBillingData.getAppId(),
+        instanceBillingData.getCloudProviderId(), instanceBillingData.getEnvId(),
+        instanceBillingData.getCpuUnitSeconds(), instanceBillingData.getMemoryMbSeconds(),
+        instanceBillingData.getParentInstanceId(), instanceBillingData.getRegion(), instanceBillingData.getLaunchType(),
+        instanceBillingData.getClusterType(), instanceBillingData.getCloudProvider(),
+        instanceBillingData.getWorkloadName(), instanceBillingData.getWorkloadType(),
+        instanceBillingData.getNamespace(), instanceBillingData.getCloudServiceName(), instanceBillingData.getTaskId(),
+        instanceBillingData.getIdleCost(), instanceBillingData.getCpuIdleCost(),
+        instanceBillingData.getMemoryIdleCost(), instanceBillingData.getMaxCpuUtilization(),
+        instanceBillingData.getMaxMemoryUtilization(), instanceBillingData.getAvgCpuUtilization(),
+        instanceBillingData.getAvgMemoryUtilization(), instanceBillingData.getSystemCost(),
+        instanceBillingData.getCpuSystemCost(), instanceBillingData.getMemorySystemCost(),
+        instanceBillingData.getActualIdleCost(), instanceBillingData.getCpuActualIdleCost(),
+        instanceBillingData.getMemoryActualIdleCost(), instanceBillingData.getUnallocatedCost(),
+        instanceBillingData.getCpuUnallocatedCost(), instanceBillingData.getMemoryUnallocatedCost(),
+        instanceBillingData.getInstanceName(), instanceBillingData.getCpuRequest(),
+        instanceBillingData.getMemoryRequest(), instanceBillingData.getCpuLimit(), instanceBillingData.getMemoryLimit(),
+        instanceBillingData.getMaxCpuUtilizationValue(), instanceBillingData.getMaxMemoryUtilizationValue(),
+        instanceBillingData.getAvgCpuUtilizationValue(), instanceBillingData.getAvgMemoryUtilizationValue(),
+        instanceBillingData.getNetworkCost(), instanceBillingData.getPricingSource(),
+        instanceBillingData.getStorageActualIdleCost(), instanceBillingData.getStorageUnallocatedCost(),
+        instanceBillingData.getStorageUtilizationValue(), instanceBillingData.getStorageRequest(),
+        instanceBillingData.getStorageMbSeconds(), instanceBillingData.getStorageBillingAmount(),
+        instanceBillingData.getMaxStorageUtilizationValue(), instanceBillingData.getMaxStorageRequest(),
+        instanceBillingData.getOrgIdentifier(), instanceBillingData.getProjectIdentifier()};
   }
 
   public List<InstanceBillingData> read(
@@ -12,9 +12,9 @@ import io.harness.batch.processing.billing.timeseries.data.NodePodId;
 import io.harness.batch.processing.billing.timeseries.data.PodActivityInfo;
 import io.harness.batch.processing.billing.timeseries.data.PodCountData;
 import io.harness.batch.processing.billing.timeseries.data.UsageTimeInfo;
+import io.harness.batch.processing.billing.timeseries.service.support.TimescaleCopyLoader;
 import io.harness.batch.processing.service.intfc.InstanceDataService;
 import io.harness.batch.processing.shard.AccountShardService;
-import io.harness.ccm.commons.utils.TimeUtils;
 import io.harness.exception.InvalidRequestException;
 import io.harness.timescaledb.DBUtils;
 import io.harness.timescaledb.TimeScaleDBService;
@@ -22,11 +22,9 @@ import io.harness.timescaledb.TimeScaleDBService;
 import software.wings.service.impl.instance.CloudToHarnessMappingServiceImpl;
 
 import java.sql.Connection;
-import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -46,7 +44,6 @@ public class PodCountComputationServiceImpl {
   @Autowired private CloudToHarnessMappingServiceImpl cloudToHarnessMappingService;
   @Autowired private AccountShardService accountShardService;
   @Autowired private InstanceDataService instanceDataService;
-  @Autowired private TimeUtils utils;
 
   private static final String ACTIVE_POD_COUNT_PURGE_QUERY =
       "SELECT drop_chunks('active_pod_count', interval '60 days')";
@@ -57,11 +54,10 @@ public class PodCountComputationServiceImpl {
   static final String GET_PODS_QUERY =
       "SELECT DISTINCT(INSTANCEID) AS PODID FROM billing_data where INSTANCETYPE = 'K8S_POD' AND ACCOUNTID = '%s' AND CLUSTERID = '%s' AND PARENTINSTANCEID = '%s'  AND STARTTIME >= '%s' AND STARTTIME < '%s';";
   private static final int MAX_RETRY = 3;
-  private static final int BATCH_SIZE = 500;
   private static final long ONE_DAY_MILLIS = 86400000;
   private static final long FIVE_MINUTES_IN_MILLIS = 300000;
-  static final String INSERT_STATEMENT =
-      "INSERT INTO ACTIVE_POD_COUNT (STARTTIME, ENDTIME, ACCOUNTID, CLUSTERID, INSTANCEID, PODCOUNT) VALUES (?,?,?,?,?,?) ON CONFLICT DO NOTHING";
+  private static final String ACTIVE_POD_COUNT_TABLE = "ACTIVE_POD_COUNT";
+  static final String INSERT_COLUMNS = "STARTTIME, ENDTIME, ACCOUNTID, CLUSTERID, INSTANCEID, PODCOUNT";
 
   public boolean computePodCountForNodes(String accountId, long startTime, long endTime, NodePodId nodePodId) {
     List<InstanceLifecycleInfo> instanceLifecycleInfoList =
@@ -130,31 +126,21 @@ public class PodCountComputationServiceImpl {
       String clusterId, String accountId, String nodeId, long startTime, Map<Long, Long> podCount) {
     boolean successfulInsert = false;
     if (timeScaleDBService.isValid()) {
+      List<PodCountData> podCountData = new ArrayList<>();
+      for (long time = startTime, index = 0; index < podCount.size(); index++, time += FIVE_MINUTES_IN_MILLIS) {
+        podCountData.add(PodCountData.builder()
+                             .accountId(accountId)
+                             .clusterId(clusterId)
+                             .nodeId(nodeId)
+                             .startTime(time)
+                             .endTime(time + FIVE_MINUTES_IN_MILLIS - 1)
+                             .count(podCount.get(time))
+                             .build());
+      }
       int retryCount = 0;
       while (!successfulInsert && retryCount < MAX_RETRY) {
-        try (Connection dbConnection = timeScaleDBService.getDBConnection();
-             PreparedStatement statement = dbConnection.prepareStatement(INSERT_STATEMENT)) {
-          int index = 0;
-          int totalEntries = podCount.size();
-          long time = startTime;
-          while (index < totalEntries) {
-            updateInsertStatement(statement,
-                PodCountData.builder()
-                    .accountId(accountId)
-                    .clusterId(clusterId)
-                    .nodeId(nodeId)
-                    .startTime(time)
-                    .endTime(time + FIVE_MINUTES_IN_MILLIS - 1)
-                    .count(podCount.get(time))
-                    .build());
-            statement.addBatch();
-            index++;
-            time += FIVE_MINUTES_IN_MILLIS;
-
-            if (index % BATCH_SIZE == 0 || index == totalEntries) {
-              statement.executeBatch();
-            }
-          }
+        try (Connection dbConnection = timeScaleDBService.getDBConnection()) {
+          TimescaleCopyLoader.copy(dbConnection, ACTIVE_POD_COUNT_TABLE, INSERT_COLUMNS, podCountData, this::toRow);
           successfulInsert = true;
         } catch (SQLException e) {
           log.error("Failed to save podCount data,retryCount=[{}], Exception: ", retryCount, e);
@@ -237,13 +223,9 @@ public class PodCountComputationServiceImpl {
     return NodePodId.builder().clusterId(clusterId).nodeId(nodeId).podId(pods).build();
   }
 
-  private void updateInsertStatement(PreparedStatement statement, PodCountData data) throws SQLException {
-    statement.setTimestamp(1, new Timestamp(data.getStartTime()), utils.getDefaultCalendar());
-    statement.setTimestamp(2, new Timestamp(data.getEndTime()), utils.getDefaultCalendar());
-    statement.setString(3, data.getAccountId());
-    statement.setString(4, data.getClusterId());
-    statement.setString(5, data.getNodeId());
-    statement.setLong(6, data.getCount());
+  private Object[] toRow(PodCountData data) {
+    return new Object[] {Instant.ofEpochMilli(data.getStartTime()), Instant.ofEpochMilli(data.getEndTime()),
+        data.getAccountId(), data.getClusterId(), data.getNodeId(), data.getCount()};
   }
 
   private Map<String, PodActivityInfo> getPodActivityInfo(List<InstanceLifecycleInfo> instanceData, long startTime) {
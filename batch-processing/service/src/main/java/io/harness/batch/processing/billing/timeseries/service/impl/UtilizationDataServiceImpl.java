@@ -11,23 +11,21 @@ import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
 
 import io.harness.batch.processing.billing.service.UtilizationData;
 import io.harness.batch.processing.billing.timeseries.data.InstanceUtilizationData;
+import io.harness.batch.processing.billing.timeseries.service.support.TimescaleCopyLoader;
 import io.harness.batch.processing.cloudevents.aws.ecs.service.util.ClusterIdAndServiceArn;
 import io.harness.batch.processing.cloudevents.aws.ecs.service.util.ECSUtilizationData;
 import io.harness.ccm.commons.beans.InstanceType;
 import io.harness.ccm.commons.constants.InstanceMetaDataConstants;
 import io.harness.ccm.commons.entities.batch.InstanceData;
-import io.harness.ccm.commons.utils.TimeUtils;
 import io.harness.exception.InvalidRequestException;
 import io.harness.timescaledb.DBUtils;
 import io.harness.timescaledb.TimeScaleDBService;
 
 import com.google.inject.Singleton;
 import java.sql.Connection;
-import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -43,14 +41,13 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class UtilizationDataServiceImpl {
   @Autowired private TimeScaleDBService timeScaleDBService;
-  @Autowired private TimeUtils utils;
 
   private static final int MAX_RETRY_COUNT = 2;
   private static final int SELECT_MAX_RETRY_COUNT = 5;
-  private static final int BATCH_SIZE = 500;
 
-  static final String INSERT_STATEMENT =
-      "INSERT INTO UTILIZATION_DATA (STARTTIME, ENDTIME, ACCOUNTID, MAXCPU, MAXMEMORY, AVGCPU, AVGMEMORY, INSTANCEID, INSTANCETYPE, CLUSTERID, SETTINGID, MAXCPUVALUE, MAXMEMORYVALUE, AVGCPUVALUE, AVGMEMORYVALUE, AVGSTORAGECAPACITYVALUE, AVGSTORAGEUSAGEVALUE, AVGSTORAGEREQUESTVALUE, MAXSTORAGEUSAGEVALUE, MAXSTORAGEREQUESTVALUE) VALUES (?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?) ON CONFLICT DO NOTHING";
+  private static final String UTILIZATION_DATA_TABLE = "UTILIZATION_DATA";
+  static final String INSERT_COLUMNS =
+      "STARTTIME, ENDTIME, ACCOUNTID, MAXCPU, MAXMEMORY, AVGCPU, AVGMEMORY, INSTANCEID, INSTANCETYPE, CLUSTERID, SETTINGID, MAXCPUVALUE, MAXMEMORYVALUE, AVGCPUVALUE, AVGMEMORYVALUE, AVGSTORAGECAPACITYVALUE, AVGSTORAGEUSAGEVALUE, AVGSTORAGEREQUESTVALUE, MAXSTORAGEUSAGEVALUE, MAXSTORAGEREQUESTVALUE";
   private static final String UTILIZATION_DATA_QUERY =
       "SELECT MAX(MAXCPU) as MAXCPUUTILIZATION, MAX(MAXMEMORY) as MAXMEMORYUTILIZATION, AVG(AVGCPU) as AVGCPUUTILIZATION, AVG(AVGMEMORY) as AVGMEMORYUTILIZATION, MAX(MAXCPUVALUE) as MAXCPUVALUE, MAX(MAXMEMORYVALUE) as MAXMEMORYVALUE, AVG(AVGCPUVALUE) as AVGCPUVALUE, AVG(AVGMEMORYVALUE) as AVGMEMORYVALUE, AVG(AVGSTORAGECAPACITYVALUE) as AVGSTORAGECAPACITYVALUE ,AVG(AVGSTORAGEUSAGEVALUE) as AVGSTORAGEUSAGEVALUE, AVG(AVGSTORAGEREQUESTVALUE) as AVGSTORAGEREQUESTVALUE ,MAX(MAXSTORAGEUSAGEVALUE) as MAXSTORAGEUSAGEVALUE, MAX(MAXSTORAGEREQUESTVALUE) as MAXSTORAGEREQUESTVALUE, INSTANCEID FROM UTILIZATION_DATA WHERE ACCOUNTID = '%s' AND SETTINGID = '%s' AND CLUSTERID = '%s' AND INSTANCEID IN ('%s') AND STARTTIME >= '%s' AND STARTTIME < '%s' GROUP BY INSTANCEID;";
   private static final String UTILIZATION_DATA_QUERY_BY_CLUSTER_IDS =
@@ -64,18 +61,9 @@ public class UtilizationDataServiceImpl {
       log.info("Util data size {}", instanceUtilizationDataList.size());
       int retryCount = 0;
       while (!successfulInsert && retryCount < MAX_RETRY_COUNT) {
-        try (Connection dbConnection = timeScaleDBService.getDBConnection();
-             PreparedStatement statement = dbConnection.prepareStatement(INSERT_STATEMENT)) {
-          int index = 0;
-          for (InstanceUtilizationData instanceUtilizationData : instanceUtilizationDataList) {
-            updateInsertStatement(statement, instanceUtilizationData);
-            statement.addBatch();
-            index++;
-
-            if (index % BATCH_SIZE == 0 || index == instanceUtilizationDataList.size()) {
-              statement.executeBatch();
-            }
-          }
+        try (Connection dbConnection = timeScaleDBService.getDBConnection()) {
+          TimescaleCopyLoader.copy(
+              dbConnection, UTILIZATION_DATA_TABLE, INSERT_COLUMNS, instanceUtilizationDataList, this::toRow);
           successfulInsert = true;
         } catch (SQLException e) {
           log.error("Failed to save instance Utilization data,[{}],retryCount=[{}], Exception: ",
@@ -89,28 +77,18 @@ public class UtilizationDataServiceImpl {
     return successfulInsert;
   }
 
-  private void updateInsertStatement(PreparedStatement statement, InstanceUtilizationData instanceUtilizationData)
-      throws SQLException {
-    statement.setTimestamp(1, new Timestamp(instanceUtilizationData.getStartTimestamp()), utils.getDefaultCalendar());
-    statement.setTimestamp(2, new Timestamp(instanceUtilizationData.getEndTimestamp()), utils.getDefaultCalendar());
-    statement.setString(3, instanceUtilizationData.getAccountId());
-    statement.setDouble(4, instanceUtilizationData.getCpuUtilizationMax());
-    statement.setDouble(5, instanceUtilizationData.getMemoryUtilizationMax());
-    statement.setDouble(6, instanceUtilizationData.getCpuUtilizationAvg());
-    statement.setDouble(7, instanceUtilizationData.getMemoryUtilizationAvg());
-    statement.setString(8, instanceUtilizationData.getInstanceId());
-    statement.setString(9, instanceUtilizationData.getInstanceType());
-    statement.setString(10, instanceUtilizationData.getClusterId());
-    statement.setString(11, instanceUtilizationData.getSettingId());
-    statement.setDouble(12, instanceUtilizationData.getCpuUtilizationMaxValue());
-    statement.setDouble(13, instanceUtilizationData.getMemoryUtilizationMaxValue());
-    statement.setDouble(14, instanceUtilizationData.getCpuUtilizationAvgValue());
-    statement.setDouble(15, instanceUtilizationData.getMemoryUtilizationAvgValue());
-    statement.setDouble(16, instanceUtilizationData.getStorageCapacityAvgValue());
-    statement.setDouble(17, instanceUtilizationData.getStorageUsageAvgValue());
-    statement.setDouble(18, instanceUtilizationData.getStorageRequestAvgValue());
-    statement.setDouble(19, instanceUtilizationData.getStorageUsageMaxValue());
-    statement.setDouble(20, instanceUtilizationData.getStorageRequestMaxValue());
+  private Object[] toRow(InstanceUtilizationData instanceUtilizationData) {
+    return new Object[] {Instant.ofEpochMilli(instanceUtilizationData.getStartTimestamp()),
+        Instant.ofEpochMilli(instanceUtilizationData.getEndTimestamp()), instanceUtilizationData.getAccountId(),
+        instanceUtilizationData.getCpuUtilizationMax(), instanceUtilizationData.getMemoryUtilizationMax(),
+        instanceUtilizationData.getCpuUtilizationAvg(), instanceUtilizationData.getMemoryUtilizationAvg(),
+        instanceUtilizationData.getInstanceId(), instanceUtilizationData.getInstanceType(),
+        instanceUtilizationData.getClusterId(), instanceUtilizationData.getSettingId(),
+        instanceUtilizationData.getCpuUtilizationMaxValue(), instanceUtilizationData.getMemoryUtilizationMaxValue(),
+        instanceUtilizationData.getCpuUtilizationAvgValue(), instanceUtilizationData.getMemoryUtilizationAvgValue(),
+        instanceUtilizationData.getStorageCapacityAvgValue(), instanceUtilizationData.getStorageUsageAvgValue(),
+        instanceUtilizationData.getStorageRequestAvgValue(), instanceUtilizationData.getStorageUsageMaxValue(),
+        instanceUtilizationData.getStorageRequestMaxValue()};
   }
 
   public Map<String, UtilizationData> getUtilizationDataForInstances(List<? extends InstanceData> instanceDataList,
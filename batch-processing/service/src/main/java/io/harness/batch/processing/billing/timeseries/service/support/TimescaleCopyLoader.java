@@ -0,0 +1,127 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.batch.processing.billing.timeseries.service.support;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.function.Function;
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.PGCopyOutputStream;
+
+/**
+ * Loads rows into a timescale table through the postgres COPY protocol, which is a lot cheaper than batched inserts.
+ * The rows are streamed as csv into a temporary staging table and moved into the table by a single
+ * INSERT ... ON CONFLICT DO NOTHING in the same transaction. Rows which are already present are skipped as they were by
+ * the batched inserts, and a failed load leaves nothing behind, so it can simply be retried.
+ */
+@OwnedBy(HarnessTeam.CE)
+@UtilityClass
+@Slf4j
+public class TimescaleCopyLoader {
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  static final String CREATE_STAGING_TABLE =
+      "CREATE TEMPORARY TABLE IF NOT EXISTS %s (LIKE %s) ON COMMIT DELETE ROWS";
+  static final String COPY_STATEMENT = "COPY %s (%s) FROM STDIN WITH (FORMAT csv)";
+  static final String MOVE_STATEMENT = "INSERT INTO %s (%s) SELECT %s FROM %s ON CONFLICT DO NOTHING";
+
+  /**
+   * @param columns comma separated columns, in the order of the values returned by the row mapper. Timestamps are to
+   *                be given as {@link java.time.Instant}.
+   * @return number of rows inserted
+   */
+  public static <T> int copy(Connection connection, String table, String columns, List<T> rows,
+      Function<T, Object[]> rowMapper) throws SQLException {
+    String stagingTable = "staging_" + table.toLowerCase();
+    boolean autoCommit = connection.getAutoCommit();
+    connection.setAutoCommit(false);
+    try (Statement statement = connection.createStatement()) {
+      statement.execute(String.format(CREATE_STAGING_TABLE, stagingTable, table));
+      copyIn(connection, String.format(COPY_STATEMENT, stagingTable, columns), rows, rowMapper);
+      int inserted = statement.executeUpdate(String.format(MOVE_STATEMENT, table, columns, columns, stagingTable));
+      connection.commit();
+      log.debug("Copied [{}] rows into {}, [{}] were new", rows.size(), table, inserted);
+      return inserted;
+    } catch (SQLException | RuntimeException e) {
+      // e.g. a row mapper failing half way through the rows must not leave the transaction open either
+      rollback(connection, e);
+      throw e;
+    } finally {
+      connection.setAutoCommit(autoCommit);
+    }
+  }
+
+  private static void rollback(Connection connection, Exception cause) {
+    try {
+      connection.rollback();
+    } catch (SQLException e) {
+      cause.addSuppressed(e);
+    }
+  }
+
+  private static <T> void copyIn(Connection connection, String copyStatement, List<T> rows,
+      Function<T, Object[]> rowMapper) throws SQLException {
+    CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(copyStatement);
+    boolean copied = false;
+    try {
+      Writer writer = new OutputStreamWriter(new PGCopyOutputStream(copyIn, BUFFER_SIZE), UTF_8);
+      for (T row : rows) {
+        writeRow(writer, rowMapper.apply(row));
+      }
+      // ends the copy
+      writer.close();
+      copied = true;
+    } catch (IOException e) {
+      throw new SQLException("Failed to copy rows", e);
+    } finally {
+      if (!copied && copyIn.isActive()) {
+        copyIn.cancelCopy();
+      }
+    }
+  }
+
+  static void writeRow(Writer writer, Object[] values) throws IOException {
+    for (int i = 0; i < values.length; i++) {
+      if (i > 0) {
+        writer.write(',');
+      }
+      writeValue(writer, values[i]);
+    }
+    writer.write('\n');
+  }
+
+  private static void writeValue(Writer writer, Object value) throws IOException {
+    // an unquoted empty value is null, a quoted one is an empty string
+    if (value == null) {
+      return;
+    }
+    if (value instanceof BigDecimal) {
+      writer.write(((BigDecimal) value).toPlainString());
+    } else if (value instanceof Number) {
+      writer.write(value.toString());
+    } else {
+      writer.write('"');
+      writer.write(value.toString().replace("\"", "\"\""));
+      writer.write('"');
+    }
+  }
+}
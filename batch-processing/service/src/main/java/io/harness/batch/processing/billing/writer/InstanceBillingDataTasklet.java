@@ -49,7 +49,10 @@ import io.harness.ccm.commons.beans.Resource;
 import io.harness.ccm.commons.constants.CloudProvider;
 import io.harness.ccm.commons.constants.InstanceMetaDataConstants;
 import io.harness.ccm.commons.entities.batch.InstanceData;
+import io.harness.exception.InvalidRequestException;
+import io.harness.manage.ManagedExecutorService;
 
+import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
@@ -65,19 +68,29 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.mutable.MutableInt;
 import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 
 @OwnedBy(HarnessTeam.CE)
 @Slf4j
 @Singleton
-public class InstanceBillingDataTasklet implements Tasklet {
+public class InstanceBillingDataTasklet implements Tasklet, InitializingBean, DisposableBean {
   @Autowired private BillingCalculationService billingCalculationService;
   @Autowired private BillingDataServiceImpl billingDataService;
   @Autowired private UtilizationDataServiceImpl utilizationDataService;
@@ -90,7 +103,42 @@ public class InstanceBillingDataTasklet implements Tasklet {
   @Autowired private BatchMainConfig config;
 
   private static final String CLAIM_REF_SEPARATOR = "/";
-  private int batchSize;
+  private static final int DEFAULT_CLUSTER_BILLING_PARALLELISM = 4;
+
+  // reads run one batch ahead and writes one batch behind the billing computation
+  private ExecutorService billingPipelineExecutor;
+  private ExecutorService clusterBillingExecutor;
+
+  /**
+   * Parent instances looked up over the batches of a job, so they are only fetched once per job.
+   */
+  static class ParentInstanceCache {
+    private final Map<String, String> parentInstanceIds = new ConcurrentHashMap<>();
+    private final Map<String, Double> activeSeconds = new HashMap<>();
+    private final Set<String> fetchedInstanceIds = new HashSet<>();
+  }
+
+  private static class BillingStageStats {
+    private final AtomicLong readInstances = new AtomicLong();
+    private final AtomicLong readMillis = new AtomicLong();
+    private final AtomicLong computeMillis = new AtomicLong();
+    private final AtomicLong writtenInstances = new AtomicLong();
+    private final AtomicLong writeMillis = new AtomicLong();
+  }
+
+  @Override
+  public void afterPropertiesSet() {
+    int clusterBillingParallelism = config.getBatchQueryConfig().getBillingParallelism();
+    billingPipelineExecutor = new ManagedExecutorService(Executors.newCachedThreadPool());
+    clusterBillingExecutor = new ManagedExecutorService(Executors.newWorkStealingPool(
+        clusterBillingParallelism > 0 ? clusterBillingParallelism : DEFAULT_CLUSTER_BILLING_PARALLELISM));
+  }
+
+  @Override
+  public void destroy() {
+    billingPipelineExecutor.shutdownNow();
+    clusterBillingExecutor.shutdownNow();
+  }
 
   @Override
   public RepeatStatus execute(StepContribution stepContribution, ChunkContext chunkContext) {
@@ -98,38 +146,100 @@ public class InstanceBillingDataTasklet implements Tasklet {
     String accountId = jobConstants.getAccountId();
     Instant startTime = Instant.ofEpochMilli(jobConstants.getJobStartTime());
     Instant endTime = Instant.ofEpochMilli(jobConstants.getJobEndTime());
-    batchSize = config.getBatchQueryConfig().getInstanceDataBatchSize();
+    int batchSize = config.getBatchQueryConfig().getInstanceDataBatchSize();
 
-    BatchJobType batchJobType = CCMJobConstants.getBatchJobTypeFromJobParams(
-        chunkContext.getStepContext().getStepExecution().getJobParameters());
+    StepExecution stepExecution = chunkContext.getStepContext().getStepExecution();
+    BatchJobType batchJobType = CCMJobConstants.getBatchJobTypeFromJobParams(stepExecution.getJobParameters());
+    ParentInstanceCache parentInstanceCache = new ParentInstanceCache();
+    Future<Map<String, MutableInt>> pvcClaimCountFuture =
+        billingPipelineExecutor.submit(() -> getPvcClaimCount(accountId, startTime, endTime, batchSize));
     // bill PV first
-    List<InstanceBillingData> pvInstanceBillingDataList = billPVInstances(batchJobType, accountId, startTime, endTime);
+    List<InstanceBillingData> pvInstanceBillingDataList =
+        billPVInstances(batchJobType, accountId, startTime, endTime, batchSize, parentInstanceCache);
     Map<String, InstanceBillingData> claimRefToPVInstanceBillingData =
         pvInstanceBillingDataList.stream().collect(Collectors.toMap(e
             -> e.getNamespace() + CLAIM_REF_SEPARATOR + e.getWorkloadName(),
             e -> e, (e1, e2) -> e1.getStartTimestamp() > e2.getStartTimestamp() ? e1 : e2));
 
-    Map<String, MutableInt> pvcClaimCount = getPvcClaimCount(accountId, startTime, endTime);
+    Map<String, MutableInt> pvcClaimCount = await(pvcClaimCountFuture);
     List<InstanceData> instanceDataLists;
     InstanceDataReader instanceDataReader = new InstanceDataReader(instanceDataDao, accountId,
         ImmutableList.of(
             ECS_TASK_FARGATE, ECS_TASK_EC2, ECS_CONTAINER_INSTANCE, K8S_POD, K8S_POD_FARGATE, K8S_NODE, K8S_PVC),
         startTime, endTime, batchSize);
 
-    do {
-      instanceDataLists = instanceDataReader.getNext();
-      try {
-        createBillingData(accountId, startTime, endTime, batchJobType, instanceDataLists,
-            claimRefToPVInstanceBillingData, pvcClaimCount);
-      } catch (Exception ex) {
-        log.error("Exception in billing step", ex);
-        throw ex;
+    BillingStageStats stats = new BillingStageStats();
+    Future<List<InstanceData>> nextBatch = billingPipelineExecutor.submit(() -> read(instanceDataReader, stats));
+    Future<?> pendingWrite = null;
+    try {
+      do {
+        instanceDataLists = await(nextBatch);
+        if (instanceDataLists.size() == batchSize) {
+          nextBatch = billingPipelineExecutor.submit(() -> read(instanceDataReader, stats));
+        }
+        long computeStart = System.currentTimeMillis();
+        List<InstanceBillingData> instanceBillingDataList = computeBillingData(accountId, startTime, endTime,
+            instanceDataLists, claimRefToPVInstanceBillingData, pvcClaimCount, parentInstanceCache);
+        stats.computeMillis.addAndGet(System.currentTimeMillis() - computeStart);
+        if (pendingWrite != null) {
+          await(pendingWrite);
+        }
+        pendingWrite = billingPipelineExecutor.submit(() -> write(instanceBillingDataList, batchJobType, stats));
+      } while (instanceDataLists.size() == batchSize);
+      if (pendingWrite != null) {
+        await(pendingWrite);
       }
-    } while (instanceDataLists.size() == batchSize);
+    } catch (Exception ex) {
+      log.error("Exception in billing step", ex);
+      throw ex;
+    }
+    recordStats(stepContribution, stepExecution, stats);
     return null;
   }
 
-  private Map<String, MutableInt> getPvcClaimCount(String accountId, Instant startTime, Instant endTime) {
+  private List<InstanceData> read(InstanceDataReader instanceDataReader, BillingStageStats stats) {
+    long readStart = System.currentTimeMillis();
+    List<InstanceData> instanceDataLists = instanceDataReader.getNext();
+    stats.readMillis.addAndGet(System.currentTimeMillis() - readStart);
+    stats.readInstances.addAndGet(instanceDataLists.size());
+    return instanceDataLists;
+  }
+
+  private void write(
+      List<InstanceBillingData> instanceBillingDataList, BatchJobType batchJobType, BillingStageStats stats) {
+    long writeStart = System.currentTimeMillis();
+    billingDataService.create(instanceBillingDataList, batchJobType);
+    stats.writeMillis.addAndGet(System.currentTimeMillis() - writeStart);
+    stats.writtenInstances.addAndGet(instanceBillingDataList.size());
+  }
+
+  private void recordStats(StepContribution stepContribution, StepExecution stepExecution, BillingStageStats stats) {
+    stepContribution.incrementWriteCount((int) stats.writtenInstances.get());
+    ExecutionContext executionContext = stepExecution.getExecutionContext();
+    executionContext.putLong("billingReadInstances", stats.readInstances.get());
+    executionContext.putLong("billingReadMillis", stats.readMillis.get());
+    executionContext.putLong("billingComputeMillis", stats.computeMillis.get());
+    executionContext.putLong("billingWrittenInstances", stats.writtenInstances.get());
+    executionContext.putLong("billingWriteMillis", stats.writeMillis.get());
+    log.info("Billing stages: read [{}] instances in [{}] ms, computed in [{}] ms, wrote [{}] in [{}] ms",
+        stats.readInstances.get(), stats.readMillis.get(), stats.computeMillis.get(), stats.writtenInstances.get(),
+        stats.writeMillis.get());
+  }
+
+  private static <T> T await(Future<T> future) {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InvalidRequestException("Interrupted while billing instances", e);
+    } catch (ExecutionException e) {
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new InvalidRequestException("Failed to bill instances", e.getCause());
+    }
+  }
+
+  private Map<String, MutableInt> getPvcClaimCount(
+      String accountId, Instant startTime, Instant endTime, int batchSize) {
     List<InstanceData> instanceDataLists;
     Map<String, MutableInt> result = new HashMap<>();
     InstanceDataReader instanceDataReader =
@@ -151,8 +261,8 @@ public class InstanceBillingDataTasklet implements Tasklet {
     return result;
   }
 
-  private List<InstanceBillingData> billPVInstances(
-      BatchJobType batchJobType, String accountId, Instant startTime, Instant endTime) {
+  private List<InstanceBillingData> billPVInstances(BatchJobType batchJobType, String accountId, Instant startTime,
+      Instant endTime, int batchSize, ParentInstanceCache parentInstanceCache) {
     List<InstanceBillingData> instanceBillingDataList = new ArrayList<>();
     List<InstanceData> instanceDataLists;
     InstanceDataReader instanceDataReader =
@@ -160,8 +270,8 @@ public class InstanceBillingDataTasklet implements Tasklet {
     do {
       instanceDataLists = instanceDataReader.getNext();
       try {
-        instanceBillingDataList.addAll(createBillingData(
-            accountId, startTime, endTime, batchJobType, instanceDataLists, ImmutableMap.of(), ImmutableMap.of()));
+        instanceBillingDataList.addAll(createBillingData(accountId, startTime, endTime, batchJobType,
+            instanceDataLists, ImmutableMap.of(), ImmutableMap.of(), parentInstanceCache));
       } catch (Exception ex) {
         log.error("Exception in billing step", ex);
         throw ex;
@@ -172,7 +282,17 @@ public class InstanceBillingDataTasklet implements Tasklet {
 
   List<InstanceBillingData> createBillingData(String accountId, Instant startTime, Instant endTime,
       BatchJobType batchJobType, List<InstanceData> instanceDataLists,
-      Map<String, InstanceBillingData> claimRefToPVInstanceBillingData, Map<String, MutableInt> pvcClaimCount) {
+      Map<String, InstanceBillingData> claimRefToPVInstanceBillingData, Map<String, MutableInt> pvcClaimCount,
+      ParentInstanceCache parentInstanceCache) {
+    List<InstanceBillingData> instanceBillingDataList = computeBillingData(accountId, startTime, endTime,
+        instanceDataLists, claimRefToPVInstanceBillingData, pvcClaimCount, parentInstanceCache);
+    billingDataService.create(instanceBillingDataList, batchJobType);
+    return instanceBillingDataList;
+  }
+
+  private List<InstanceBillingData> computeBillingData(String accountId, Instant startTime, Instant endTime,
+      List<InstanceData> instanceDataLists, Map<String, InstanceBillingData> claimRefToPVInstanceBillingData,
+      Map<String, MutableInt> pvcClaimCount, ParentInstanceCache parentInstanceCache) {
     Set<String> parentInstanceIds = new HashSet<>();
     Instant prevStartTime = startTime.minus(3, ChronoUnit.DAYS);
     instanceDataLists.forEach(instanceData -> {
@@ -198,7 +318,7 @@ public class InstanceBillingDataTasklet implements Tasklet {
       Set<String> resourceIds = new HashSet<>();
       Set<String> eksFargateResourceIds = new HashSet<>();
       instanceDataLists.forEach(instanceData -> {
-        addParentInstanceId(instanceData, parentInstanceIds);
+        addParentInstanceId(instanceData, parentInstanceIds, parentInstanceCache);
         String resourceId =
             getValueForKeyFromInstanceMetaData(InstanceMetaDataConstants.CLOUD_PROVIDER_INSTANCE_ID, instanceData);
         String cloudProvider =
@@ -233,7 +353,7 @@ public class InstanceBillingDataTasklet implements Tasklet {
     if (azureDataSetId != null) {
       Set<String> resourceIds = new HashSet<>();
       instanceDataLists.forEach(instanceData -> {
-        addParentInstanceId(instanceData, parentInstanceIds);
+        addParentInstanceId(instanceData, parentInstanceIds, parentInstanceCache);
         String resourceId =
             getValueForKeyFromInstanceMetaData(InstanceMetaDataConstants.CLOUD_PROVIDER_INSTANCE_ID, instanceData);
         String cloudProvider =
@@ -248,41 +368,67 @@ public class InstanceBillingDataTasklet implements Tasklet {
       }
     }
 
+    Map<String, Double> parentInstanceActiveSecondMap =
+        getParentInstanceActiveSeconds(parentInstanceIds, startTime, endTime, parentInstanceCache);
+    // clusters are billed independently of each other
+    List<Future<List<InstanceBillingData>>> clusterBillingData = new ArrayList<>();
+    for (List<InstanceData> instanceDataList : instanceDataGroupedCluster.values()) {
+      clusterBillingData.add(clusterBillingExecutor.submit(() -> billCluster(instanceDataList, startTime, endTime,
+          claimRefToPVInstanceBillingData, pvcClaimCount, parentInstanceActiveSecondMap, parentInstanceCache)));
+    }
+    List<InstanceBillingData> instanceBillingDataList = new ArrayList<>();
+    for (Future<List<InstanceBillingData>> future : clusterBillingData) {
+      instanceBillingDataList.addAll(await(future));
+    }
+    return instanceBillingDataList;
+  }
+
+  private List<InstanceBillingData> billCluster(List<InstanceData> instanceDataList, Instant startTime,
+      Instant endTime, Map<String, InstanceBillingData> claimRefToPVInstanceBillingData,
+      Map<String, MutableInt> pvcClaimCount, Map<String, Double> parentInstanceActiveSecondMap,
+      ParentInstanceCache parentInstanceCache) {
+    InstanceData firstInstanceData = instanceDataList.get(0);
+    Map<String, UtilizationData> utilizationDataForInstances = utilizationDataService.getUtilizationDataForInstances(
+        instanceDataList, startTime.toString(), endTime.toString(), firstInstanceData.getAccountId(),
+        firstInstanceData.getSettingId(), firstInstanceData.getClusterId());
+
     List<InstanceBillingData> instanceBillingDataList = new ArrayList<>();
-    instanceDataGroupedCluster.forEach((clusterRecordId, instanceDataList) -> {
-      InstanceData firstInstanceData = instanceDataList.get(0);
-      Map<String, UtilizationData> utilizationDataForInstances = utilizationDataService.getUtilizationDataForInstances(
-          instanceDataList, startTime.toString(), endTime.toString(), firstInstanceData.getAccountId(),
-          firstInstanceData.getSettingId(), firstInstanceData.getClusterId());
-
-      List<InstanceData> parentInstanceDataList = instanceDataDao.fetchInstanceData(parentInstanceIds);
-      Map<String, Double> parentInstanceActiveSecondMap =
-          billingCalculationService.getInstanceActiveSeconds(parentInstanceDataList, startTime, endTime);
-
-      for (InstanceData instanceData : instanceDataList) {
-        if (instanceData.getInstanceType() != null
-            && billingDataGenerationValidator.shouldGenerateBillingData(
-                instanceData.getAccountId(), instanceData.getClusterId(), startTime)) {
-          Double parentInstanceActiveSecond = null;
-          String parentInstanceId = getParentInstanceId(instanceData);
-          if (null != parentInstanceId) {
-            parentInstanceActiveSecond = parentInstanceActiveSecondMap.getOrDefault(
-                billingCalculationService.getInstanceClusterIdKey(parentInstanceId, instanceData.getClusterId()), null);
-          }
-          InstanceBillingData instanceBillingData = getInstanceBillingData(instanceData, utilizationDataForInstances,
-              startTime, endTime, claimRefToPVInstanceBillingData, pvcClaimCount, parentInstanceActiveSecond);
-          instanceBillingDataList.add(instanceBillingData);
+    for (InstanceData instanceData : instanceDataList) {
+      if (instanceData.getInstanceType() != null
+          && billingDataGenerationValidator.shouldGenerateBillingData(
+              instanceData.getAccountId(), instanceData.getClusterId(), startTime)) {
+        Double parentInstanceActiveSecond = null;
+        String parentInstanceId = getParentInstanceId(instanceData, parentInstanceCache);
+        if (null != parentInstanceId) {
+          parentInstanceActiveSecond = parentInstanceActiveSecondMap.getOrDefault(
+              billingCalculationService.getInstanceClusterIdKey(parentInstanceId, instanceData.getClusterId()), null);
         }
+        InstanceBillingData instanceBillingData =
+            getInstanceBillingData(instanceData, utilizationDataForInstances, startTime, endTime,
+                claimRefToPVInstanceBillingData, pvcClaimCount, parentInstanceActiveSecond, parentInstanceCache);
+        instanceBillingDataList.add(instanceBillingData);
       }
-    });
-
-    billingDataService.create(instanceBillingDataList, batchJobType);
+    }
     return instanceBillingDataList;
   }
 
-  private void addParentInstanceId(InstanceData instanceData, Set<String> parentInstanceIds) {
+  private Map<String, Double> getParentInstanceActiveSeconds(Set<String> parentInstanceIds, Instant startTime,
+      Instant endTime, ParentInstanceCache parentInstanceCache) {
+    Set<String> instanceIdsToFetch = new HashSet<>(parentInstanceIds);
+    instanceIdsToFetch.removeAll(parentInstanceCache.fetchedInstanceIds);
+    if (!instanceIdsToFetch.isEmpty()) {
+      List<InstanceData> parentInstanceDataList = instanceDataDao.fetchInstanceData(instanceIdsToFetch);
+      parentInstanceCache.activeSeconds.putAll(
+          billingCalculationService.getInstanceActiveSeconds(parentInstanceDataList, startTime, endTime));
+      parentInstanceCache.fetchedInstanceIds.addAll(instanceIdsToFetch);
+    }
+    return parentInstanceCache.activeSeconds;
+  }
+
+  private void addParentInstanceId(
+      InstanceData instanceData, Set<String> parentInstanceIds, ParentInstanceCache parentInstanceCache) {
     if (ImmutableSet.of(InstanceType.K8S_POD).contains(instanceData.getInstanceType())) {
-      parentInstanceIds.add(getParentInstanceId(instanceData));
+      parentInstanceIds.add(getParentInstanceId(instanceData, parentInstanceCache));
     }
   }
 
@@ -301,7 +447,7 @@ public class InstanceBillingDataTasklet implements Tasklet {
   private InstanceBillingData getInstanceBillingData(final InstanceData instanceData,
       Map<String, UtilizationData> utilizationDataForInstances, Instant startTime, Instant endTime,
       Map<String, InstanceBillingData> claimRefToPVInstanceBillingData, Map<String, MutableInt> pvcClaimCount,
-      Double parentInstanceActiveSecond) {
+      Double parentInstanceActiveSecond, ParentInstanceCache parentInstanceCache) {
     InstanceType instanceType = instanceData.getInstanceType();
     String computeType = InstanceMetaDataUtils.getValueForKeyFromInstanceMetaData(
         InstanceMetaDataConstants.COMPUTE_TYPE, instanceData.getMetaData());
@@ -425,7 +571,7 @@ public class InstanceBillingDataTasklet implements Tasklet {
         .orgIdentifier(orgIdentifier)
         .cpuUnitSeconds(billingData.getCpuUnitSeconds())
         .memoryMbSeconds(billingData.getMemoryMbSeconds())
-        .parentInstanceId(getParentInstanceId(instanceData))
+        .parentInstanceId(getParentInstanceId(instanceData, parentInstanceCache))
         .launchType(getValueForKeyFromInstanceMetaData(InstanceMetaDataConstants.LAUNCH_TYPE, instanceData))
         .taskId(getTaskIdOrWorkloadId(instanceData))
         .namespace(namespace)
@@ -502,6 +648,10 @@ public class InstanceBillingDataTasklet implements Tasklet {
   }
 
   String getParentInstanceId(InstanceData instanceData) {
+    return getParentInstanceId(instanceData, null);
+  }
+
+  private String getParentInstanceId(InstanceData instanceData, ParentInstanceCache parentInstanceCache) {
     String actualParentResourceId =
         getValueForKeyFromInstanceMetaData(InstanceMetaDataConstants.ACTUAL_PARENT_RESOURCE_ID, instanceData);
     if (null == actualParentResourceId
@@ -510,18 +660,36 @@ public class InstanceBillingDataTasklet implements Tasklet {
       String parentResourceId =
           getValueForKeyFromInstanceMetaData(InstanceMetaDataConstants.PARENT_RESOURCE_ID, instanceData);
       if (null != parentResourceId) {
-        InstanceData parentInstanceData = instanceDataService.fetchInstanceDataWithName(
-            instanceData.getAccountId(), instanceData.getClusterId(), parentResourceId, Instant.now().toEpochMilli());
-        if (null != parentInstanceData) {
-          return parentInstanceData.getInstanceId();
-        } else {
-          return parentResourceId;
+        if (parentInstanceCache == null) {
+          return fetchParentInstanceId(instanceData, parentResourceId);
+        }
+        String key = instanceData.getAccountId() + CLAIM_REF_SEPARATOR + instanceData.getClusterId()
+            + CLAIM_REF_SEPARATOR + parentResourceId;
+        String parentInstanceId = parentInstanceCache.parentInstanceIds.get(key);
+        if (parentInstanceId == null) {
+          // fetched outside of the map, the clusters are billed in parallel and the lookup goes to mongo
+          parentInstanceId = fetchParentInstanceId(instanceData, parentResourceId);
+          String cachedParentInstanceId = parentInstanceCache.parentInstanceIds.putIfAbsent(key, parentInstanceId);
+          if (cachedParentInstanceId != null) {
+            parentInstanceId = cachedParentInstanceId;
+          }
         }
+        return parentInstanceId;
       }
     }
     return actualParentResourceId;
   }
 
+  private String fetchParentInstanceId(InstanceData instanceData, String parentResourceId) {
+    InstanceData parentInstanceData = instanceDataService.fetchInstanceDataWithName(
+        instanceData.getAccountId(), instanceData.getClusterId(), parentResourceId, Instant.now().toEpochMilli());
+    if (null != parentInstanceData) {
+      return parentInstanceData.getInstanceId();
+    } else {
+      return parentResourceId;
+    }
+  }
+
   String getCloudServiceName(InstanceData instanceData) {
     String cloudServiceName =
         getValueForKeyFromInstanceMetaData(InstanceMetaDataConstants.ECS_SERVICE_NAME, instanceData);
@@ -10,7 +10,7 @@ package io.harness.batch.processing.config;
 import io.harness.batch.processing.ccm.BatchJobType;
 import io.harness.batch.processing.dao.intfc.PublishedMessageDao;
 import io.harness.batch.processing.reader.K8sGranularUtilizationMetricsReader;
-import io.harness.batch.processing.reader.PublishedMessageBatchedReader;
+import io.harness.batch.processing.reader.UtilizationMessageBatchedReader;
 import io.harness.batch.processing.svcmetrics.BatchJobExecutionListener;
 import io.harness.batch.processing.writer.K8sPVUtilizationAggregationTasklet;
 import io.harness.batch.processing.writer.K8sUtilizationMetricsWriter;
@@ -56,8 +56,8 @@ public class K8sUtilizationConfiguration {
   public ItemReader<PublishedMessage> k8sPodUtilizationEventMessageReader(
       @Value("#{jobParameters[accountId]}") String accountId, @Value("#{jobParameters[startDate]}") Long startDate,
       @Value("#{jobParameters[endDate]}") Long endDate) {
-    return new PublishedMessageBatchedReader(
-        accountId, EventTypeConstants.POD_UTILIZATION, startDate, endDate, null, publishedMessageDao);
+    return new UtilizationMessageBatchedReader(accountId, EventTypeConstants.POD_UTILIZATION,
+        EventTypeConstants.POD_UTILIZATION_ROLLUP, startDate, endDate, null, publishedMessageDao);
   }
 
   //  WRITER
@@ -86,8 +86,8 @@ public class K8sUtilizationConfiguration {
   public ItemReader<PublishedMessage> k8sNodeUtilizationEventMessageReader(
       @Value("#{jobParameters[accountId]}") String accountId, @Value("#{jobParameters[startDate]}") Long startDate,
       @Value("#{jobParameters[endDate]}") Long endDate) {
-    return new PublishedMessageBatchedReader(
-        accountId, EventTypeConstants.NODE_UTILIZATION, startDate, endDate, GRANULAR_BATCH_SIZE, publishedMessageDao);
+    return new UtilizationMessageBatchedReader(accountId, EventTypeConstants.NODE_UTILIZATION,
+        EventTypeConstants.NODE_UTILIZATION_ROLLUP, startDate, endDate, GRANULAR_BATCH_SIZE, publishedMessageDao);
   }
 
   //  WRITER
@@ -116,8 +116,8 @@ public class K8sUtilizationConfiguration {
   public ItemReader<PublishedMessage> k8sPVUtilizationEventMessageReader(
       @Value("#{jobParameters[accountId]}") String accountId, @Value("#{jobParameters[startDate]}") Long startDate,
       @Value("#{jobParameters[endDate]}") Long endDate) {
-    return new PublishedMessageBatchedReader(
-        accountId, EventTypeConstants.PV_UTILIZATION, startDate, endDate, GRANULAR_BATCH_SIZE, publishedMessageDao);
+    return new UtilizationMessageBatchedReader(accountId, EventTypeConstants.PV_UTILIZATION,
+        EventTypeConstants.PV_UTILIZATION_ROLLUP, startDate, endDate, GRANULAR_BATCH_SIZE, publishedMessageDao);
   }
 
   //  WRITER
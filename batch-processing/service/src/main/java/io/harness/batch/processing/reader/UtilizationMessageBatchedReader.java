@@ -0,0 +1,119 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.batch.processing.reader;
+
+import static com.google.common.base.MoreObjects.firstNonNull;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.batch.processing.dao.intfc.PublishedMessageDao;
+import io.harness.ccm.commons.entities.events.PublishedMessage;
+import io.harness.event.payloads.NodeMetricRollup;
+import io.harness.event.payloads.PVMetricRollup;
+import io.harness.event.payloads.PodMetricRollup;
+
+import com.google.protobuf.Message;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reads the utilization messages stored one per document, followed by the ones the event server has rolled up per
+ * cluster, which are handed out one message at a time as if they had been stored on their own. A rollup carries up to
+ * a whole publish request, so rollups are expanded lazily and no batch holds more than the reader batch size of
+ * messages, the rest of a rollup being kept for the next one.
+ * This is a stateful reader and hence can't be singleton.
+ */
+@OwnedBy(HarnessTeam.CE)
+@Slf4j
+public class UtilizationMessageBatchedReader extends BatchedItemReader<PublishedMessage> {
+  private final String messageType;
+  private final PublishedMessageBatchedReader messageReader;
+  private final PublishedMessageBatchedReader rollupReader;
+  private final int readerBatchSize;
+  private final Deque<PublishedMessage> pendingRollups = new ArrayDeque<>();
+  // number of metrics of the first pending rollup which have been handed out already
+  private int expandedMetrics;
+  private boolean messagesRead;
+
+  public UtilizationMessageBatchedReader(String accountId, String messageType, String rollupType, Long startDate,
+      Long endDate, Integer readerBatchSize, PublishedMessageDao publishedMessageDao) {
+    this.messageType = messageType;
+    this.messageReader = new PublishedMessageBatchedReader(
+        accountId, messageType, startDate, endDate, readerBatchSize, publishedMessageDao);
+    this.rollupReader = new PublishedMessageBatchedReader(
+        accountId, rollupType, startDate, endDate, readerBatchSize, publishedMessageDao);
+    this.readerBatchSize = firstNonNull(readerBatchSize, DEFAULT_READER_BATCH_SIZE);
+  }
+
+  @Override
+  @NonNull
+  protected List<PublishedMessage> getMore() {
+    if (!messagesRead) {
+      List<PublishedMessage> messages = messageReader.getMore();
+      if (!messages.isEmpty()) {
+        return messages;
+      }
+      messagesRead = true;
+    }
+
+    List<PublishedMessage> messages = new ArrayList<>();
+    while (messages.size() < readerBatchSize) {
+      if (pendingRollups.isEmpty()) {
+        List<PublishedMessage> rollups = rollupReader.getMore();
+        if (rollups.isEmpty()) {
+          break;
+        }
+        pendingRollups.addAll(rollups);
+      }
+      expand(pendingRollups.peekFirst(), messages);
+    }
+    return messages;
+  }
+
+  /**
+   * Expands as many metrics of the rollup as fit into the batch, dropping the rollup once all of them have been.
+   */
+  private void expand(PublishedMessage rollup, List<PublishedMessage> messages) {
+    List<? extends Message> metrics = metricsOf(rollup.getMessage());
+    int expandUntil = Math.min(metrics.size(), expandedMetrics + readerBatchSize - messages.size());
+    for (Message metric : metrics.subList(expandedMetrics, expandUntil)) {
+      messages.add(PublishedMessage.builder()
+                       .uuid(rollup.getUuid())
+                       .accountId(rollup.getAccountId())
+                       .type(messageType)
+                       .message(metric)
+                       .attributes(rollup.getAttributes())
+                       .occurredAt(rollup.getOccurredAt())
+                       .validUntil(rollup.getValidUntil())
+                       .build());
+    }
+    if (expandUntil < metrics.size()) {
+      expandedMetrics = expandUntil;
+    } else {
+      pendingRollups.removeFirst();
+      expandedMetrics = 0;
+    }
+  }
+
+  private List<? extends Message> metricsOf(Message rollup) {
+    if (rollup instanceof PodMetricRollup) {
+      return ((PodMetricRollup) rollup).getPodMetricsList();
+    } else if (rollup instanceof NodeMetricRollup) {
+      return ((NodeMetricRollup) rollup).getNodeMetricsList();
+    } else if (rollup instanceof PVMetricRollup) {
+      return ((PVMetricRollup) rollup).getPvMetricsList();
+    }
+    // the rollup couldn't be parsed, which has been logged on load
+    return Collections.emptyList();
+  }
+}
@@ -17,8 +17,11 @@ import io.harness.event.payloads.EcsTaskInfo;
 import io.harness.event.payloads.EcsTaskLifecycle;
 import io.harness.event.payloads.EcsUtilization;
 import io.harness.event.payloads.NodeMetric;
+import io.harness.event.payloads.NodeMetricRollup;
 import io.harness.event.payloads.PVMetric;
+import io.harness.event.payloads.PVMetricRollup;
 import io.harness.event.payloads.PodMetric;
+import io.harness.event.payloads.PodMetricRollup;
 import io.harness.perpetualtask.k8s.watch.K8SClusterSyncEvent;
 import io.harness.perpetualtask.k8s.watch.K8sWatchEvent;
 import io.harness.perpetualtask.k8s.watch.K8sWorkloadSpec;
@@ -41,6 +44,9 @@ public class EventTypeConstants {
   public final String POD_UTILIZATION = PodMetric.class.getName();
   public final String NODE_UTILIZATION = NodeMetric.class.getName();
   public final String PV_UTILIZATION = PVMetric.class.getName();
+  public final String POD_UTILIZATION_ROLLUP = PodMetricRollup.class.getName();
+  public final String NODE_UTILIZATION_ROLLUP = NodeMetricRollup.class.getName();
+  public final String PV_UTILIZATION_ROLLUP = PVMetricRollup.class.getName();
   public final String ECS_SYNC_EVENT = EcsSyncEvent.class.getName();
   public final String ECS_UTILIZATION = EcsUtilization.class.getName();
   public final String EC2_INSTANCE_INFO = Ec2InstanceInfo.class.getName();
@@ -16,6 +16,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
 import static org.mockito.Mockito.when;
 
 import io.harness.CategoryTest;
@@ -50,6 +51,9 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.mockito.stubbing.Answer;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
 
 @RunWith(MockitoJUnitRunner.class)
 public class BillingDataServiceImplTest extends CategoryTest {
@@ -71,15 +75,13 @@ public class BillingDataServiceImplTest extends CategoryTest {
   @Before
   public void setup() throws SQLException {
     MockitoAnnotations.initMocks(this);
-    Connection mockConnection = mock(Connection.class);
+    Connection mockConnection = mock(Connection.class, withSettings().extraInterfaces(PGConnection.class));
     when(timeScaleDBService.getDBConnection()).thenReturn(mockConnection);
     when(timeScaleDBService.isValid()).thenReturn(true);
-    when(mockConnection.prepareStatement(BillingDataTableNameProvider.replaceTableName(
-             billingDataService.INSERT_STATEMENT, BatchJobType.INSTANCE_BILLING)))
-        .thenReturn(statement);
-    when(mockConnection.prepareStatement(BillingDataTableNameProvider.replaceTableName(
-             billingDataService.INSERT_STATEMENT, BatchJobType.INSTANCE_BILLING_HOURLY)))
-        .thenReturn(statement);
+    CopyManager copyManager = mock(CopyManager.class);
+    when(mockConnection.unwrap(PGConnection.class)).thenReturn((PGConnection) mockConnection);
+    when(((PGConnection) mockConnection).getCopyAPI()).thenReturn(copyManager);
+    when(copyManager.copyIn(anyString())).thenReturn(mock(CopyIn.class));
     when(mockConnection.prepareStatement(
              BillingDataTableNameProvider.replaceTableName(
                  billingDataService.PREAGG_QUERY_PREFIX, BatchJobType.INSTANCE_BILLING_AGGREGATION)
@@ -145,7 +147,7 @@ public class BillingDataServiceImplTest extends CategoryTest {
   @Owner(developers = HITESH)
   @Category(UnitTests.class)
   public void testNullCreateBillingData() throws SQLException {
-    when(statement.executeBatch()).thenThrow(new SQLException());
+    when(statement.executeUpdate(anyString())).thenThrow(new SQLException());
     InstanceBillingData instanceBillingData = instanceBillingData();
     boolean insert =
         billingDataService.create(ImmutableList.of(instanceBillingData), BatchJobType.INSTANCE_BILLING_HOURLY);
@@ -11,7 +11,9 @@ import static io.harness.rule.OwnerRule.HITESH;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
 import static org.mockito.Mockito.when;
 
 import io.harness.CategoryTest;
@@ -19,7 +21,6 @@ import io.harness.batch.processing.billing.timeseries.data.InstanceLifecycleInfo
 import io.harness.batch.processing.billing.timeseries.data.NodePodId;
 import io.harness.batch.processing.service.intfc.InstanceDataService;
 import io.harness.category.element.UnitTests;
-import io.harness.ccm.commons.utils.TimeUtils;
 import io.harness.rule.Owner;
 import io.harness.timescaledb.TimeScaleDBService;
 
@@ -30,11 +31,9 @@ import java.sql.SQLException;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
-import java.util.Calendar;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
-import java.util.TimeZone;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
@@ -45,6 +44,9 @@ import org.mockito.MockitoAnnotations;
 import org.mockito.Spy;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.mockito.stubbing.Answer;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
 
 @RunWith(MockitoJUnitRunner.class)
 public class PodCountComputationServiceImplTest extends CategoryTest {
@@ -52,7 +54,6 @@ public class PodCountComputationServiceImplTest extends CategoryTest {
   @Mock private TimeScaleDBService timeScaleDBService;
   @Mock private PreparedStatement statement;
   @Mock private InstanceDataService instanceDataService;
-  @Mock private TimeUtils utils;
   @Mock ResultSet nodeIdResultSet, podDataResultSet;
 
   final int[] count = {0};
@@ -67,14 +68,16 @@ public class PodCountComputationServiceImplTest extends CategoryTest {
   @Before
   public void setup() throws SQLException {
     MockitoAnnotations.initMocks(this);
-    Connection mockConnection = mock(Connection.class);
+    Connection mockConnection = mock(Connection.class, withSettings().extraInterfaces(PGConnection.class));
     when(timeScaleDBService.getDBConnection()).thenReturn(mockConnection);
     when(timeScaleDBService.isValid()).thenReturn(true);
     when(mockConnection.prepareStatement(podCountComputationService.GET_NODE_QUERY)).thenReturn(statement);
     when(mockConnection.prepareStatement(podCountComputationService.GET_PODS_QUERY)).thenReturn(statement);
-    when(mockConnection.prepareStatement(podCountComputationService.INSERT_STATEMENT)).thenReturn(statement);
+    CopyManager copyManager = mock(CopyManager.class);
+    when(mockConnection.unwrap(PGConnection.class)).thenReturn((PGConnection) mockConnection);
+    when(((PGConnection) mockConnection).getCopyAPI()).thenReturn(copyManager);
+    when(copyManager.copyIn(anyString())).thenReturn(mock(CopyIn.class));
     when(mockConnection.createStatement()).thenReturn(statement);
-    when(utils.getDefaultCalendar()).thenReturn(Calendar.getInstance(TimeZone.getTimeZone("UTC")));
   }
 
   @Test
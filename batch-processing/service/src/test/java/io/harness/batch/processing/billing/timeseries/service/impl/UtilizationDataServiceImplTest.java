@@ -15,6 +15,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
 import static org.mockito.Mockito.when;
 
 import io.harness.CategoryTest;
@@ -28,7 +29,6 @@ import io.harness.ccm.commons.beans.HarnessServiceInfo;
 import io.harness.ccm.commons.beans.InstanceType;
 import io.harness.ccm.commons.constants.InstanceMetaDataConstants;
 import io.harness.ccm.commons.entities.batch.InstanceData;
-import io.harness.ccm.commons.utils.TimeUtils;
 import io.harness.exception.InvalidRequestException;
 import io.harness.rule.Owner;
 import io.harness.timescaledb.TimeScaleDBService;
@@ -40,12 +40,10 @@ import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.Calendar;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.TimeZone;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
@@ -55,13 +53,15 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.mockito.stubbing.Answer;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
 
 @RunWith(MockitoJUnitRunner.class)
 public class UtilizationDataServiceImplTest extends CategoryTest {
   @InjectMocks private UtilizationDataServiceImpl utilizationDataService;
   @Mock private TimeScaleDBService timeScaleDBService;
   @Mock private PreparedStatement statement;
-  @Mock private TimeUtils utils;
   @Mock ResultSet resultSet;
 
   public static final String SERVICE_ARN = "service_arn";
@@ -85,10 +85,13 @@ public class UtilizationDataServiceImplTest extends CategoryTest {
   @Before
   public void setup() throws SQLException {
     MockitoAnnotations.initMocks(this);
-    Connection mockConnection = mock(Connection.class);
+    Connection mockConnection = mock(Connection.class, withSettings().extraInterfaces(PGConnection.class));
     when(timeScaleDBService.getDBConnection()).thenReturn(mockConnection);
-    when(mockConnection.prepareStatement(utilizationDataService.INSERT_STATEMENT)).thenReturn(statement);
-    when(utils.getDefaultCalendar()).thenReturn(Calendar.getInstance(TimeZone.getTimeZone("UTC")));
+    CopyManager copyManager = mock(CopyManager.class);
+    when(mockConnection.unwrap(PGConnection.class)).thenReturn((PGConnection) mockConnection);
+    when(((PGConnection) mockConnection).getCopyAPI()).thenReturn(copyManager);
+    when(copyManager.copyIn(anyString())).thenReturn(mock(CopyIn.class));
+    when(mockConnection.createStatement()).thenReturn(statement);
   }
 
   @Test
@@ -106,7 +109,7 @@ public class UtilizationDataServiceImplTest extends CategoryTest {
   @Category(UnitTests.class)
   public void testNullCreateInstanceUtilizationData() throws SQLException {
     when(timeScaleDBService.isValid()).thenReturn(true);
-    when(statement.executeBatch()).thenThrow(new SQLException());
+    when(statement.executeUpdate(anyString())).thenThrow(new SQLException());
     InstanceUtilizationData instanceUtilizationData = instanceUtilizationData();
     boolean insert = utilizationDataService.create(Collections.singletonList(instanceUtilizationData));
     assertThat(insert).isFalse();
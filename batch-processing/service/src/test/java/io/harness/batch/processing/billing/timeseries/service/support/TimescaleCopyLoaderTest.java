@@ -0,0 +1,187 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.batch.processing.billing.timeseries.service.support;
+
+import static io.harness.rule.OwnerRule.HITESH;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import io.harness.CategoryTest;
+import io.harness.category.element.StressTests;
+import io.harness.category.element.UnitTests;
+import io.harness.rule.Owner;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.Before;
+import org.junit.Ignore;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+
+@Slf4j
+public class TimescaleCopyLoaderTest extends CategoryTest {
+  private static final String COLUMNS = "STARTTIME, ACCOUNTID, BILLINGAMOUNT, CPUREQUEST";
+
+  private Connection connection;
+  private Statement statement;
+  private CopyManager copyManager;
+  private CopyIn copyIn;
+  private final ByteArrayOutputStream copied = new ByteArrayOutputStream();
+
+  @Before
+  public void setUp() throws SQLException {
+    connection = mock(Connection.class, withSettings().extraInterfaces(PGConnection.class));
+    statement = mock(Statement.class);
+    copyManager = mock(CopyManager.class);
+    copyIn = mock(CopyIn.class);
+    when(connection.createStatement()).thenReturn(statement);
+    when(connection.getAutoCommit()).thenReturn(true);
+    when(connection.unwrap(PGConnection.class)).thenReturn((PGConnection) connection);
+    when(((PGConnection) connection).getCopyAPI()).thenReturn(copyManager);
+    when(copyManager.copyIn(anyString())).thenReturn(copyIn);
+    when(copyIn.isActive()).thenReturn(true);
+    doAnswer(invocation -> {
+      copied.write(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2));
+      return null;
+    })
+        .when(copyIn)
+        .writeToCopy(any(byte[].class), anyInt(), anyInt());
+  }
+
+  @Test
+  @Owner(developers = HITESH)
+  @Category(UnitTests.class)
+  public void testCopy() throws SQLException {
+    List<Object[]> rows =
+        Arrays.asList(new Object[] {Instant.ofEpochMilli(0), "account \"1\"", new BigDecimal("1E-10"), 0.5},
+            new Object[] {Instant.ofEpochMilli(1000), "", null, 2.0});
+    when(statement.executeUpdate(anyString())).thenReturn(2);
+
+    assertThat(TimescaleCopyLoader.copy(connection, "BILLING_DATA", COLUMNS, rows, row -> row)).isEqualTo(2);
+    assertThat(new String(copied.toByteArray(), UTF_8))
+        .isEqualTo("\"1970-01-01T00:00:00Z\",\"account \"\"1\"\"\",0.0000000001,0.5\n"
+            + "\"1970-01-01T00:00:01Z\",\"\",,2.0\n");
+    verify(statement).execute(String.format(TimescaleCopyLoader.CREATE_STAGING_TABLE, "staging_billing_data",
+        "BILLING_DATA"));
+    verify(copyManager).copyIn(String.format(TimescaleCopyLoader.COPY_STATEMENT, "staging_billing_data", COLUMNS));
+    verify(statement).executeUpdate(String.format(
+        TimescaleCopyLoader.MOVE_STATEMENT, "BILLING_DATA", COLUMNS, COLUMNS, "staging_billing_data"));
+    verify(copyIn).endCopy();
+    verify(connection).commit();
+    verify(connection).setAutoCommit(true);
+  }
+
+  @Test
+  @Owner(developers = HITESH)
+  @Category(UnitTests.class)
+  public void testCopyRollsBackOnFailure() throws SQLException {
+    when(statement.executeUpdate(anyString())).thenThrow(new SQLException());
+    List<Object[]> rows = Arrays.<Object[]>asList(new Object[] {Instant.ofEpochMilli(0), "account", null, 0.5});
+
+    assertThatThrownBy(() -> TimescaleCopyLoader.copy(connection, "BILLING_DATA", COLUMNS, rows, row -> row))
+        .isInstanceOf(SQLException.class);
+    verify(connection).rollback();
+    verify(connection, never()).commit();
+    verify(connection).setAutoCommit(true);
+  }
+
+  @Test
+  @Owner(developers = HITESH)
+  @Category(UnitTests.class)
+  public void testCopyRollsBackOnRuntimeException() throws SQLException {
+    List<Object[]> rows = Arrays.<Object[]>asList(new Object[] {Instant.ofEpochMilli(0), "account", null, 0.5});
+    IllegalStateException mappingFailure = new IllegalStateException("Invalid row");
+
+    assertThatThrownBy(() -> TimescaleCopyLoader.copy(connection, "BILLING_DATA", COLUMNS, rows, row -> {
+      throw mappingFailure;
+    })).isSameAs(mappingFailure);
+    verify(copyIn).cancelCopy();
+    verify(connection).rollback();
+    verify(connection, never()).commit();
+    verify(connection).setAutoCommit(true);
+  }
+
+  /**
+   * Compares loading rows through COPY with the batched inserts used before, against the postgres given by the
+   * timescaledb.url, timescaledb.user and timescaledb.password system properties.
+   */
+  @Test
+  @Owner(developers = HITESH)
+  @Category(StressTests.class)
+  @Ignore("Needs a running postgres, run it manually to measure the load throughput")
+  public void testCopyThroughputAgainstBatchedInserts() throws SQLException {
+    int rowCount = 100_000;
+    List<Object[]> rows = new ArrayList<>();
+    for (int i = 0; i < rowCount; i++) {
+      rows.add(new Object[] {Instant.ofEpochSecond(i), "account" + (i % 10), "cluster", "instance" + i, i % 50});
+    }
+    String url = System.getProperty("timescaledb.url", "jdbc:postgresql://localhost:5432/harness");
+    String user = System.getProperty("timescaledb.user", "postgres");
+    String columns = "STARTTIME, ACCOUNTID, CLUSTERID, INSTANCEID, PODCOUNT";
+    try (Connection connection = DriverManager.getConnection(url, user, System.getProperty("timescaledb.password", ""));
+         Statement statement = connection.createStatement()) {
+      statement.execute("CREATE TABLE IF NOT EXISTS COPY_LOADER_POD_COUNT (STARTTIME TIMESTAMPTZ NOT NULL, "
+          + "ACCOUNTID TEXT NOT NULL, CLUSTERID TEXT, INSTANCEID TEXT NOT NULL, PODCOUNT INTEGER, "
+          + "PRIMARY KEY (STARTTIME, ACCOUNTID, INSTANCEID))");
+
+      statement.execute("TRUNCATE COPY_LOADER_POD_COUNT");
+      long start = System.nanoTime();
+      try (PreparedStatement insert = connection.prepareStatement(
+               "INSERT INTO COPY_LOADER_POD_COUNT (" + columns + ") VALUES (?,?,?,?,?) ON CONFLICT DO NOTHING")) {
+        for (int i = 0; i < rowCount; i++) {
+          Object[] row = rows.get(i);
+          insert.setTimestamp(1, Timestamp.from((Instant) row[0]));
+          for (int column = 1; column < row.length; column++) {
+            insert.setObject(column + 1, row[column]);
+          }
+          insert.addBatch();
+          if ((i + 1) % 500 == 0 || i + 1 == rowCount) {
+            insert.executeBatch();
+          }
+        }
+      }
+      long batchedInsertMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+      statement.execute("TRUNCATE COPY_LOADER_POD_COUNT");
+      start = System.nanoTime();
+      int copied = TimescaleCopyLoader.copy(connection, "COPY_LOADER_POD_COUNT", columns, rows, row -> row);
+      long copyMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+      assertThat(copied).isEqualTo(rowCount);
+      log.info("Loaded {} rows with batched inserts in {}ms and with copy in {}ms", rowCount, batchedInsertMillis,
+          copyMillis);
+      statement.execute("DROP TABLE COPY_LOADER_POD_COUNT");
+    }
+  }
+}
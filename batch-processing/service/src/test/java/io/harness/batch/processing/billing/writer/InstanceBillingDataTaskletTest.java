@@ -15,6 +15,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyInt;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -56,6 +57,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
@@ -66,9 +68,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepContribution;
 import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.item.ExecutionContext;
 import org.springframework.batch.repeat.RepeatStatus;
 import org.springframework.test.context.ActiveProfiles;
 
@@ -118,6 +122,12 @@ public class InstanceBillingDataTaskletTest extends CategoryTest {
   @Before
   public void setup() {
     when(config.getBatchQueryConfig()).thenReturn(BatchQueryConfig.builder().instanceDataBatchSize(50).build());
+    instanceBillingDataTasklet.afterPropertiesSet();
+  }
+
+  @After
+  public void tearDown() {
+    instanceBillingDataTasklet.destroy();
   }
 
   @Test
@@ -276,9 +286,41 @@ public class InstanceBillingDataTaskletTest extends CategoryTest {
 
     when(instanceDataDao.getInstanceDataListsOfTypes(any(), anyInt(), any(), any(), any()))
         .thenReturn(Arrays.asList(instanceData));
+    ExecutionContext executionContext = new ExecutionContext();
+    when(stepExecution.getExecutionContext()).thenReturn(executionContext);
 
-    RepeatStatus repeatStatus = instanceBillingDataTasklet.execute(null, chunkContext);
+    RepeatStatus repeatStatus = instanceBillingDataTasklet.execute(new StepContribution(stepExecution), chunkContext);
     assertThat(repeatStatus).isNull();
+    assertThat(executionContext.getLong("billingReadInstances")).isEqualTo(1);
+    assertThat(executionContext.getLong("billingWrittenInstances")).isEqualTo(0);
+  }
+
+  @Test
+  @Owner(developers = HITESH)
+  @Category(UnitTests.class)
+  public void testParentInstancesFetchedOncePerJob() {
+    Map<String, String> metaData = new HashMap<>();
+    metaData.put(InstanceMetaDataConstants.CLOUD_PROVIDER, CloudProvider.AWS.name());
+    metaData.put(InstanceMetaDataConstants.PARENT_RESOURCE_ID, PARENT_RESOURCE_ID);
+    InstanceData instanceData = InstanceData.builder()
+                                    .accountId(ACCOUNT_ID)
+                                    .clusterId(CLUSTER_ID)
+                                    .instanceId(INSTANCE_ID)
+                                    .instanceType(InstanceType.K8S_POD)
+                                    .activeInstanceIterator(Instant.ofEpochMilli(START_TIME_MILLIS))
+                                    .metaData(metaData)
+                                    .build();
+    when(customBillingMetaDataService.getAwsDataSetId(ACCOUNT_ID)).thenReturn("AWS_DATA_SETID");
+
+    InstanceBillingDataTasklet.ParentInstanceCache parentInstanceCache =
+        new InstanceBillingDataTasklet.ParentInstanceCache();
+    for (int batch = 0; batch < 2; batch++) {
+      instanceBillingDataTasklet.createBillingData(ACCOUNT_ID, Instant.ofEpochMilli(START_TIME_MILLIS),
+          Instant.ofEpochMilli(END_TIME_MILLIS), BatchJobType.INSTANCE_BILLING, Arrays.asList(instanceData),
+          ImmutableMap.of(), ImmutableMap.of(), parentInstanceCache);
+    }
+    verify(instanceDataService, times(1)).fetchInstanceDataWithName(any(), any(), any(), any());
+    verify(instanceDataDao, times(1)).fetchInstanceData(any());
   }
 
   @Test
@@ -321,7 +363,7 @@ public class InstanceBillingDataTaskletTest extends CategoryTest {
 
     instanceBillingDataTasklet.createBillingData(ACCOUNT_ID, Instant.ofEpochMilli(START_TIME_MILLIS),
         Instant.ofEpochMilli(END_TIME_MILLIS), BatchJobType.INSTANCE_BILLING, Arrays.asList(instanceData),
-        ImmutableMap.of(), ImmutableMap.of());
+        ImmutableMap.of(), ImmutableMap.of(), new InstanceBillingDataTasklet.ParentInstanceCache());
     ArgumentCaptor<BatchJobType> batchJobTypeArgumentCaptor = ArgumentCaptor.forClass(BatchJobType.class);
     verify(billingDataService)
         .create(instanceBillingDataArgumentCaptor.capture(), batchJobTypeArgumentCaptor.capture());
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.batch.processing.reader;
+
+import static io.harness.rule.OwnerRule.UTSAV;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.when;
+
+import io.harness.CategoryTest;
+import io.harness.batch.processing.dao.intfc.PublishedMessageDao;
+import io.harness.batch.processing.writer.constants.EventTypeConstants;
+import io.harness.category.element.UnitTests;
+import io.harness.ccm.commons.entities.events.PublishedMessage;
+import io.harness.event.payloads.PodMetric;
+import io.harness.event.payloads.PodMetricRollup;
+import io.harness.rule.Owner;
+
+import com.google.common.collect.ImmutableList;
+import java.time.Instant;
+import java.util.Collections;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+public class UtilizationMessageBatchedReaderTest extends CategoryTest {
+  @Mock private PublishedMessageDao publishedMessageDao;
+  private UtilizationMessageBatchedReader utilizationMessageBatchedReader;
+
+  private static final String ACCOUNT_ID = "ACCOUNT_ID";
+  private static final Long NOW = Instant.now().toEpochMilli();
+
+  @Before
+  public void setup() {
+    MockitoAnnotations.initMocks(this);
+
+    utilizationMessageBatchedReader = new UtilizationMessageBatchedReader(ACCOUNT_ID,
+        EventTypeConstants.POD_UTILIZATION, EventTypeConstants.POD_UTILIZATION_ROLLUP, NOW, NOW, null,
+        publishedMessageDao);
+  }
+
+  @Test
+  @Owner(developers = UTSAV)
+  @Category(UnitTests.class)
+  public void testReadMessagesAndRollups() {
+    PodMetric pod0 = PodMetric.newBuilder().setName("name0").build();
+    PodMetric pod1 = PodMetric.newBuilder().setName("name1").build();
+    PodMetric pod2 = PodMetric.newBuilder().setName("name2").build();
+    when(publishedMessageDao.fetchPublishedMessage(
+             eq(ACCOUNT_ID), eq(EventTypeConstants.POD_UTILIZATION), any(), any(), anyInt()))
+        .thenReturn(ImmutableList.of(PublishedMessage.builder()
+                                         .accountId(ACCOUNT_ID)
+                                         .type(EventTypeConstants.POD_UTILIZATION)
+                                         .uuid("0")
+                                         .message(pod0)
+                                         .build()))
+        .thenReturn(Collections.emptyList());
+    when(publishedMessageDao.fetchPublishedMessage(
+             eq(ACCOUNT_ID), eq(EventTypeConstants.POD_UTILIZATION_ROLLUP), any(), any(), anyInt()))
+        .thenReturn(ImmutableList.of(PublishedMessage.builder()
+                                         .accountId(ACCOUNT_ID)
+                                         .type(EventTypeConstants.POD_UTILIZATION_ROLLUP)
+                                         .uuid("1")
+                                         .message(PodMetricRollup.newBuilder()
+                                                      .addPodMetrics(pod1)
+                                                      .addPodMetrics(pod2)
+                                                      .build())
+                                         .build()))
+        .thenReturn(Collections.emptyList());
+
+    for (PodMetric podMetric : ImmutableList.of(pod0, pod1, pod2)) {
+      PublishedMessage publishedMessage = utilizationMessageBatchedReader.read();
+      assertThat(publishedMessage.getType()).isEqualTo(EventTypeConstants.POD_UTILIZATION);
+      assertThat(publishedMessage.getAccountId()).isEqualTo(ACCOUNT_ID);
+      assertThat(publishedMessage.getMessage()).isEqualTo(podMetric);
+    }
+    assertThat(utilizationMessageBatchedReader.read()).isNull();
+  }
+
+  @Test
+  @Owner(developers = UTSAV)
+  @Category(UnitTests.class)
+  public void testRollupsAreExpandedUpToTheBatchSize() {
+    utilizationMessageBatchedReader = new UtilizationMessageBatchedReader(ACCOUNT_ID,
+        EventTypeConstants.POD_UTILIZATION, EventTypeConstants.POD_UTILIZATION_ROLLUP, NOW, NOW, 2,
+        publishedMessageDao);
+    PodMetric pod0 = PodMetric.newBuilder().setName("name0").build();
+    PodMetric pod1 = PodMetric.newBuilder().setName("name1").build();
+    PodMetric pod2 = PodMetric.newBuilder().setName("name2").build();
+    when(publishedMessageDao.fetchPublishedMessage(
+             eq(ACCOUNT_ID), eq(EventTypeConstants.POD_UTILIZATION), any(), any(), anyInt()))
+        .thenReturn(Collections.emptyList());
+    when(publishedMessageDao.fetchPublishedMessage(
+             eq(ACCOUNT_ID), eq(EventTypeConstants.POD_UTILIZATION_ROLLUP), any(), any(), anyInt()))
+        .thenReturn(ImmutableList.of(PublishedMessage.builder()
+                                         .accountId(ACCOUNT_ID)
+                                         .type(EventTypeConstants.POD_UTILIZATION_ROLLUP)
+                                         .uuid("1")
+                                         .message(PodMetricRollup.newBuilder()
+                                                      .addPodMetrics(pod0)
+                                                      .addPodMetrics(pod1)
+                                                      .addPodMetrics(pod2)
+                                                      .build())
+                                         .build()))
+        .thenReturn(Collections.emptyList());
+
+    assertThat(utilizationMessageBatchedReader.getMore())
+        .extracting(PublishedMessage::getMessage)
+        .containsExactly(pod0, pod1);
+    assertThat(utilizationMessageBatchedReader.getMore())
+        .extracting(PublishedMessage::getMessage)
+        .containsExactly(pod2);
+    assertThat(utilizationMessageBatchedReader.getMore()).isEmpty();
+  }
+}
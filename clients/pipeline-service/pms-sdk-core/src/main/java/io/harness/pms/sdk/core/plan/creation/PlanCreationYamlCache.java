@@ -0,0 +1,53 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.pms.sdk.core.plan.creation;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.data.structure.EmptyPredicate;
+import io.harness.pms.contracts.plan.Dependencies;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.inject.Singleton;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pipeline yaml received from the pipeline service by its content hash. The pipeline service ships the yaml once per
+ * plan creation and refers to it by hash afterwards. A miss is reported back as a yamlNotCached error, on which the
+ * pipeline service sends the yaml inline again.
+ */
+@OwnedBy(PIPELINE)
+@Singleton
+public class PlanCreationYamlCache {
+  private static final int MAX_YAMLS = 50;
+
+  private final Cache<String, String> yamls =
+      CacheBuilder.newBuilder().maximumSize(MAX_YAMLS).expireAfterAccess(10, TimeUnit.MINUTES).build();
+
+  /**
+   * @return the dependencies with the yaml filled in from the cache if they only carry its hash, null if that hash is
+   *     not cached
+   */
+  public Dependencies resolve(Dependencies dependencies) {
+    String yamlHash = dependencies.getYamlHash();
+    if (EmptyPredicate.isEmpty(yamlHash)) {
+      return dependencies;
+    }
+    if (EmptyPredicate.isNotEmpty(dependencies.getYaml())) {
+      yamls.put(yamlHash, dependencies.getYaml());
+      return dependencies;
+    }
+    String yaml = yamls.getIfPresent(yamlHash);
+    if (yaml == null) {
+      return null;
+    }
+    return dependencies.toBuilder().setYaml(yaml).build();
+  }
+}
@@ -40,6 +40,7 @@ import io.harness.pms.gitsync.PmsGitSyncHelper;
 import io.harness.pms.plan.creation.PlanCreatorUtils;
 import io.harness.pms.sdk.core.pipeline.filters.FilterCreatorService;
 import io.harness.pms.sdk.core.plan.creation.PlanCreationResponseBlobHelper;
+import io.harness.pms.sdk.core.plan.creation.PlanCreationYamlCache;
 import io.harness.pms.sdk.core.plan.creation.beans.MergePlanCreationResponse;
 import io.harness.pms.sdk.core.plan.creation.beans.PlanCreationContext;
 import io.harness.pms.sdk.core.plan.creation.beans.PlanCreationResponse;
@@ -68,6 +69,7 @@ import lombok.extern.slf4j.Slf4j;
 public class PlanCreatorService extends PlanCreationServiceImplBase {
   @Inject @Named(PLAN_CREATOR_SERVICE_EXECUTOR) private Executor executor;
   @Inject ExceptionManager exceptionManager;
+  @Inject PlanCreationYamlCache planCreationYamlCache;
 
   private final FilterCreatorService filterCreatorService;
   private final VariableCreatorService variableCreatorService;
@@ -94,9 +96,18 @@ public class PlanCreatorService extends PlanCreationServiceImplBase {
     try (AutoLogContext ignore = PlanCreatorUtils.autoLogContextWithRandomRequestId(metadata.getMetadata(),
              metadata.getAccountIdentifier(), metadata.getOrgIdentifier(), metadata.getProjectIdentifier())) {
       try {
-        MergePlanCreationResponse finalResponse =
-            createPlanForDependenciesRecursive(request.getDeps(), request.getContextMap());
-        planCreationResponse = getPlanCreationResponseFromFinalResponse(finalResponse);
+        Dependencies dependencies = planCreationYamlCache.resolve(request.getDeps());
+        if (dependencies == null) {
+          log.warn("Pipeline yaml with hash [{}] is not cached", request.getDeps().getYamlHash());
+          planCreationResponse = yamlNotCachedResponse(request.getDeps().getYamlHash());
+        } else {
+          MergePlanCreationResponse finalResponse =
+              createPlanForDependenciesRecursive(dependencies, request.getContextMap());
+          if (EmptyPredicate.isEmpty(request.getDeps().getYaml())) {
+            removeUnchangedYaml(finalResponse, dependencies);
+          }
+          planCreationResponse = getPlanCreationResponseFromFinalResponse(finalResponse, dependencies.getYamlHash());
+        }
       } catch (Exception ex) {
         log.error(ExceptionUtils.getMessage(ex), ex);
         WingsException processedException = exceptionManager.processException(ex);
@@ -116,6 +127,24 @@ public class PlanCreatorService extends PlanCreationServiceImplBase {
     responseObserver.onCompleted();
   }
 
+  private io.harness.pms.contracts.plan.PlanCreationResponse yamlNotCachedResponse(String yamlHash) {
+    return io.harness.pms.contracts.plan.PlanCreationResponse.newBuilder()
+        .setErrorResponse(ErrorResponse.newBuilder()
+                              .addMessages(format("Pipeline yaml with hash [%s] is not cached", yamlHash))
+                              .setYamlNotCached(true)
+                              .build())
+        .build();
+  }
+
+  // The pipeline service already has the yaml it sent by hash, so it is only sent back if the plan creators changed it
+  private void removeUnchangedYaml(MergePlanCreationResponse finalResponse, Dependencies requestDependencies) {
+    Dependencies dependencies = finalResponse.getDependencies();
+    if (dependencies != null && dependencies.getYaml().equals(requestDependencies.getYaml())) {
+      finalResponse.setDependencies(
+          dependencies.toBuilder().clearYaml().setYamlHash(requestDependencies.getYamlHash()).build());
+    }
+  }
+
   private MergePlanCreationResponse createPlanForDependenciesRecursive(
       Dependencies initialDependencies, Map<String, PlanCreationContextValue> context) {
     // TODO: Add patch version before sending the response back
@@ -230,14 +259,17 @@ public class PlanCreatorService extends PlanCreationServiceImplBase {
   }
 
   private io.harness.pms.contracts.plan.PlanCreationResponse getPlanCreationResponseFromFinalResponse(
-      MergePlanCreationResponse finalResponse) {
+      MergePlanCreationResponse finalResponse, String cachedYamlHash) {
     if (EmptyPredicate.isNotEmpty(finalResponse.getErrorMessages())) {
       return io.harness.pms.contracts.plan.PlanCreationResponse.newBuilder()
           .setErrorResponse(ErrorResponse.newBuilder().addAllMessages(finalResponse.getErrorMessages()).build())
           .build();
     }
     return io.harness.pms.contracts.plan.PlanCreationResponse.newBuilder()
-        .setBlobResponse(planCreationResponseBlobHelper.toBlobResponse(finalResponse))
+        .setBlobResponse(planCreationResponseBlobHelper.toBlobResponse(finalResponse)
+                             .toBuilder()
+                             .setCachedYamlHash(cachedYamlHash)
+                             .build())
         .build();
   }
 
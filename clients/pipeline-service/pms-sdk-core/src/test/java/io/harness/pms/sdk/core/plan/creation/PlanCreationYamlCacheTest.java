@@ -0,0 +1,45 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.pms.sdk.core.plan.creation;
+
+import static io.harness.rule.OwnerRule.SAHIL;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.pms.contracts.plan.Dependencies;
+import io.harness.pms.plan.creation.PlanCreatorUtils;
+import io.harness.rule.Owner;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+@OwnedBy(HarnessTeam.PIPELINE)
+public class PlanCreationYamlCacheTest extends CategoryTest {
+  private static final String YAML = "pipeline:\n  identifier: p1\n";
+
+  @Test
+  @Owner(developers = SAHIL)
+  @Category(UnitTests.class)
+  public void testResolveYamlByHash() {
+    PlanCreationYamlCache planCreationYamlCache = new PlanCreationYamlCache();
+    String yamlHash = PlanCreatorUtils.yamlHash(YAML);
+    Dependencies byHash = Dependencies.newBuilder().setYamlHash(yamlHash).putDependencies("uuid", "pipeline").build();
+    assertThat(planCreationYamlCache.resolve(byHash)).isNull();
+
+    Dependencies inline = byHash.toBuilder().setYaml(YAML).build();
+    assertThat(planCreationYamlCache.resolve(inline)).isEqualTo(inline);
+    assertThat(planCreationYamlCache.resolve(byHash)).isEqualTo(inline);
+
+    Dependencies withoutHash = Dependencies.newBuilder().setYaml(YAML).build();
+    assertThat(planCreationYamlCache.resolve(withoutHash)).isSameAs(withoutHash);
+  }
+}
@@ -17,6 +17,7 @@ import io.harness.pms.contracts.advisers.AdviserType;
 import io.harness.pms.contracts.execution.events.OrchestrationEventType;
 import io.harness.pms.contracts.facilitators.FacilitatorType;
 import io.harness.pms.contracts.steps.StepType;
+import io.harness.pms.events.base.PmsConsumerPartitionConfig;
 import io.harness.pms.sdk.core.PipelineSdkRedisEventsConfig;
 import io.harness.pms.sdk.core.SdkDeployMode;
 import io.harness.pms.sdk.core.adviser.Adviser;
@@ -69,6 +70,7 @@ public class PmsSdkConfiguration {
           .build();
 
   @Default PipelineSdkRedisEventsConfig pipelineSdkRedisEventsConfig = PipelineSdkRedisEventsConfig.builder().build();
+  @Default PmsConsumerPartitionConfig consumerPartitionConfig = PmsConsumerPartitionConfig.builder().build();
 
   public String getServiceName() {
     return moduleType.name().toLowerCase();
@@ -12,6 +12,7 @@ import static io.harness.pms.sdk.core.SdkDeployMode.REMOTE;
 import io.harness.annotations.dev.HarnessTeam;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.cache.HarnessCacheManager;
+import io.harness.pms.events.base.PmsConsumerPartitionConfig;
 import io.harness.pms.expression.EngineExpressionService;
 import io.harness.pms.sdk.core.execution.ExecutionSummaryModuleInfoProvider;
 import io.harness.pms.sdk.core.pipeline.filters.FilterCreationResponseMerger;
@@ -65,6 +66,12 @@ class PmsSdkProviderModule extends AbstractModule {
     return config.getFilterCreationResponseMerger();
   }
 
+  @Provides
+  @Singleton
+  public PmsConsumerPartitionConfig consumerPartitionConfig() {
+    return config.getConsumerPartitionConfig();
+  }
+
   @Provides
   @Singleton
   @Named("sdkEventsCache")
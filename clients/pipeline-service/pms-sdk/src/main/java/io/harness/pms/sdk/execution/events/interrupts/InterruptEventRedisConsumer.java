@@ -13,6 +13,7 @@ import static io.harness.pms.sdk.execution.events.PmsSdkEventFrameworkConstants.
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.eventsframework.api.Consumer;
 import io.harness.pms.events.base.PmsAbstractRedisConsumer;
+import io.harness.pms.events.base.PmsConsumerPartitionConfig;
 import io.harness.queue.QueueController;
 
 import com.google.inject.Inject;
@@ -28,7 +29,8 @@ public class InterruptEventRedisConsumer extends PmsAbstractRedisConsumer<Interr
   @Inject
   public InterruptEventRedisConsumer(@Named(PT_INTERRUPT_CONSUMER) Consumer redisConsumer,
       InterruptEventMessageListener interruptEventMessageListener,
-      @Named("sdkEventsCache") Cache<String, Integer> eventsCache, QueueController queueController) {
-    super(redisConsumer, interruptEventMessageListener, eventsCache, queueController);
+      @Named("sdkEventsCache") Cache<String, Integer> eventsCache, QueueController queueController,
+      PmsConsumerPartitionConfig partitionConfig) {
+    super(redisConsumer, interruptEventMessageListener, eventsCache, queueController, partitionConfig);
   }
 }
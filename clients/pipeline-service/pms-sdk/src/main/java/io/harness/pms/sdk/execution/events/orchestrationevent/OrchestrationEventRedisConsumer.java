@@ -13,6 +13,7 @@ import static io.harness.pms.sdk.execution.events.PmsSdkEventFrameworkConstants.
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.eventsframework.api.Consumer;
 import io.harness.pms.events.base.PmsAbstractRedisConsumer;
+import io.harness.pms.events.base.PmsConsumerPartitionConfig;
 import io.harness.queue.QueueController;
 
 import com.google.inject.Inject;
@@ -28,7 +29,8 @@ public class OrchestrationEventRedisConsumer extends PmsAbstractRedisConsumer<Or
   @Inject
   public OrchestrationEventRedisConsumer(@Named(PT_ORCHESTRATION_EVENT_CONSUMER) Consumer redisConsumer,
       OrchestrationEventMessageListener sdkOrchestrationEventMessageListener,
-      @Named("sdkEventsCache") Cache<String, Integer> eventsCache, QueueController queueController) {
-    super(redisConsumer, sdkOrchestrationEventMessageListener, eventsCache, queueController);
+      @Named("sdkEventsCache") Cache<String, Integer> eventsCache, QueueController queueController,
+      PmsConsumerPartitionConfig partitionConfig) {
+    super(redisConsumer, sdkOrchestrationEventMessageListener, eventsCache, queueController, partitionConfig);
   }
 }
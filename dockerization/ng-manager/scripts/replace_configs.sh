@@ -497,6 +497,8 @@ replace_key_value outboxPollConfig.pollingIntervalInSeconds "$OUTBOX_POLL_INTERV
 
 replace_key_value outboxPollConfig.maximumRetryAttemptsForAnEvent "$OUTBOX_MAX_RETRY_ATTEMPTS"
 
+replace_key_value outboxPollConfig.numberOfShards "$OUTBOX_NUMBER_OF_SHARDS"
+
 replace_key_value notificationClient.httpClient.baseUrl "$NOTIFICATION_BASE_URL"
 
 replace_key_value notificationClient.secrets.notificationClientSecret "$NEXT_GEN_MANAGER_SECRET"
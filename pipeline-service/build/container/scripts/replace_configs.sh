@@ -384,6 +384,9 @@ fi
 replace_key_value cacheConfig.cacheNamespace $CACHE_NAMESPACE
 replace_key_value cacheConfig.cacheBackend $CACHE_BACKEND
 replace_key_value cacheConfig.enterpriseCacheEnabled $ENTERPRISE_CACHE_ENABLED
+replace_key_value distributedStoreConfig.codec $DISTRIBUTED_STORE_CODEC
+replace_key_value distributedStoreConfig.nearCacheEnabled $DISTRIBUTED_STORE_NEAR_CACHE_ENABLED
+replace_key_value distributedStoreConfig.nearCacheMaximumWeightBytes $DISTRIBUTED_STORE_NEAR_CACHE_MAXIMUM_WEIGHT_BYTES
 
 replace_key_value eventsFramework.redis.sentinel $EVENTS_FRAMEWORK_USE_SENTINEL
 replace_key_value eventsFramework.redis.envNamespace $EVENTS_FRAMEWORK_ENV_NAMESPACE
@@ -42,4 +42,9 @@ public class NodeProjectionUtils {
 
   public static Set<String> forFacilitation = Sets.newHashSet(NodeExecutionKeys.ambiance,
       NodeExecutionKeys.originalNodeExecutionId, NodeExecutionKeys.module, NodeExecutionKeys.resolvedParams);
+
+  // Graph and execution summary updates read almost every field, these are the ones they never look at
+  public static final Set<String> fieldsExcludedForGraphUpdate = Sets.newHashSet(NodeExecutionKeys.notifyId,
+      NodeExecutionKeys.timeoutInstanceIds, NodeExecutionKeys.timeoutDetails, NodeExecutionKeys.adviserResponse,
+      NodeExecutionKeys.adviserTimeoutInstanceIds, NodeExecutionKeys.adviserTimeoutDetails);
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.beans;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+
+import io.harness.annotations.StoreIn;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.mongo.index.CompoundMongoIndex;
+import io.harness.mongo.index.FdTtlIndex;
+import io.harness.mongo.index.MongoIndex;
+import io.harness.ng.DbAliases;
+import io.harness.persistence.PersistentEntity;
+
+import com.google.common.collect.ImmutableList;
+import java.time.OffsetDateTime;
+import java.util.Date;
+import java.util.List;
+import lombok.Builder;
+import lombok.Value;
+import lombok.experimental.FieldNameConstants;
+import org.mongodb.morphia.annotations.Entity;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.TypeAlias;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * The vertices and edges of an {@link OrchestrationGraph} which changed while processing one batch of orchestration
+ * event logs. The graph is read as the cached snapshot with all the deltas after its lastUpdatedAt applied in order.
+ */
+@OwnedBy(PIPELINE)
+@Value
+@Builder
+@FieldNameConstants(innerTypeName = "OrchestrationGraphDeltaKeys")
+@StoreIn(DbAliases.PMS)
+@Entity(value = "orchestrationGraphDeltas", noClassnameStored = true)
+@Document("orchestrationGraphDeltas")
+@TypeAlias("orchestrationGraphDelta")
+public class OrchestrationGraphDelta implements PersistentEntity {
+  public static final long TTL_MONTHS = 6;
+
+  @Id @org.mongodb.morphia.annotations.Id String uuid;
+  String planExecutionId;
+  // createdAt of the last event log contained in this delta
+  long lastUpdatedAt;
+
+  // Kryo deflated OrchestrationGraph holding only the changed vertices and edges, a null value marks a removed one
+  byte[] delta;
+
+  @Builder.Default @FdTtlIndex Date validUntil = Date.from(OffsetDateTime.now().plusMonths(TTL_MONTHS).toInstant());
+
+  public static List<MongoIndex> mongoIndexes() {
+    return ImmutableList.<MongoIndex>builder()
+        .add(CompoundMongoIndex.builder()
+                 .name("planExecutionId_lastUpdatedAt_idx")
+                 .field(OrchestrationGraphDeltaKeys.planExecutionId)
+                 .field(OrchestrationGraphDeltaKeys.lastUpdatedAt)
+                 .build())
+        .build();
+  }
+}
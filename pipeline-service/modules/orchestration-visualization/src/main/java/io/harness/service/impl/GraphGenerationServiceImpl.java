@@ -17,8 +17,6 @@ import io.harness.beans.OrchestrationEventLog;
 import io.harness.beans.OrchestrationGraph;
 import io.harness.beans.converter.EphemeralOrchestrationGraphConverter;
 import io.harness.beans.internal.OrchestrationAdjacencyListInternal;
-import io.harness.cache.SpringCacheEntity;
-import io.harness.cache.SpringMongoStore;
 import io.harness.data.structure.EmptyPredicate;
 import io.harness.dto.OrchestrationGraphDTO;
 import io.harness.dto.converter.OrchestrationGraphDTOConverter;
@@ -36,10 +34,13 @@ import io.harness.execution.PlanExecution;
 import io.harness.generator.OrchestrationAdjacencyListGenerator;
 import io.harness.lock.AcquiredLock;
 import io.harness.lock.PersistentLocker;
+import io.harness.metrics.service.api.MetricService;
 import io.harness.plan.NodeType;
 import io.harness.pms.PmsFeatureFlagService;
 import io.harness.pms.contracts.execution.events.OrchestrationEventType;
 import io.harness.pms.contracts.steps.StepCategory;
+import io.harness.pms.events.base.PmsMetricContextGuard;
+import io.harness.pms.execution.utils.NodeProjectionUtils;
 import io.harness.pms.execution.utils.StatusUtils;
 import io.harness.pms.plan.execution.ExecutionSummaryUpdateUtils;
 import io.harness.pms.plan.execution.beans.PipelineExecutionSummaryEntity;
@@ -48,6 +49,7 @@ import io.harness.repositories.orchestrationEventLog.OrchestrationEventLogReposi
 import io.harness.service.GraphGenerationService;
 import io.harness.skip.service.VertexSkipperService;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
@@ -58,6 +60,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.mongodb.core.query.Update;
@@ -68,10 +71,13 @@ import org.springframework.data.mongodb.core.query.Update;
 public class GraphGenerationServiceImpl implements GraphGenerationService {
   private static final long THRESHOLD_LOG = 50;
   private static final String GRAPH_LOCK = "GRAPH_LOCK_";
+  private static final String LOCK_HOLD_TIME_METRIC = "pms_graph_update_lock_hold_time";
+  private static final String NODE_EXECUTION_FETCH_COUNT_METRIC = "pms_graph_update_node_execution_fetch_count";
+  private static final String LOCK_MODE_METRIC_LABEL = "lockMode";
 
   @Inject private PlanExecutionService planExecutionService;
   @Inject private NodeExecutionService nodeExecutionService;
-  @Inject private SpringMongoStore mongoStore;
+  @Inject private OrchestrationGraphStore orchestrationGraphStore;
   @Inject private OrchestrationAdjacencyListGenerator orchestrationAdjacencyListGenerator;
   @Inject private VertexSkipperService vertexSkipperService;
   @Inject private OrchestrationEventLogRepository orchestrationEventLogRepository;
@@ -82,6 +88,7 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
   @Inject private PersistentLocker persistentLocker;
   @Inject private OrchestrationLogPublisher orchestrationLogPublisher;
   @Inject private PmsFeatureFlagService pmsFeatureFlagService;
+  @Inject(optional = true) private MetricService metricService;
 
   @Override
   public boolean updateGraph(String planExecutionId) {
@@ -94,7 +101,7 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
         return false;
       }
 
-      return updateGraphUnderLock(planExecutionId);
+      return updateGraphUnderLock(planExecutionId, "try");
     } catch (Exception exception) {
       log.error(String.format(
                     "[GRAPH_ERROR] Exception Occurred while updating graph for planExecutionId: %s", planExecutionId),
@@ -115,7 +122,7 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
         return false;
       }
 
-      return updateGraphUnderLock(planExecutionId);
+      return updateGraphUnderLock(planExecutionId, "wait");
     } catch (Exception exception) {
       log.error(String.format(
                     "[GRAPH_ERROR] Exception Occurred while updating graph for planExecutionId: %s", planExecutionId),
@@ -124,6 +131,18 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
     }
   }
 
+  // This must always be called after acquiring the lock
+  private boolean updateGraphUnderLock(String planExecutionId, String lockMode) {
+    long lockAcquiredAt = System.currentTimeMillis();
+    try (PmsMetricContextGuard ignore = new PmsMetricContextGuard(ImmutableMap.of(LOCK_MODE_METRIC_LABEL, lockMode))) {
+      try {
+        return updateGraphUnderLock(planExecutionId);
+      } finally {
+        recordMetric(LOCK_HOLD_TIME_METRIC, System.currentTimeMillis() - lockAcquiredAt);
+      }
+    }
+  }
+
   // This must always be called after acquiring the lock
   private boolean updateGraphUnderLock(String planExecutionId) {
     OrchestrationGraph orchestrationGraph = getCachedOrchestrationGraph(planExecutionId);
@@ -152,10 +171,13 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
       log.warn("[PMS_GRAPH] Found [{}] unprocessed event logs", unprocessedEventLogs.size());
     }
 
+    Map<String, NodeExecution> nodeExecutionMap = fetchNodeExecutions(unprocessedEventLogs);
     Update executionSummaryUpdate = new Update();
     Set<String> processedNodeExecutionIds = new HashSet<>();
+    OrchestrationGraphChangeTracker changeTracker = new OrchestrationGraphChangeTracker(orchestrationGraph);
     for (OrchestrationEventLog orchestrationEventLog : unprocessedEventLogs) {
       String nodeExecutionId = orchestrationEventLog.getNodeExecutionId();
+      changeTracker.touchVertex(nodeExecutionId);
       OrchestrationEventType orchestrationEventType = orchestrationEventLog.getOrchestrationEventType();
       switch (orchestrationEventType) {
         case PLAN_EXECUTION_STATUS_UPDATE:
@@ -174,7 +196,10 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
             continue;
           }
           processedNodeExecutionIds.add(nodeExecutionId);
-          NodeExecution nodeExecution = nodeExecutionService.get(nodeExecutionId);
+          NodeExecution nodeExecution = nodeExecutionMap.get(nodeExecutionId);
+          if (nodeExecution == null) {
+            nodeExecution = nodeExecutionService.get(nodeExecutionId);
+          }
           pmsExecutionSummaryService.addStageNodeInGraphIfUnderStrategy(
               planExecutionId, nodeExecution, executionSummaryUpdate);
           pmsExecutionSummaryService.updateStrategyNode(planExecutionId, nodeExecution, executionSummaryUpdate);
@@ -192,25 +217,56 @@ public class GraphGenerationServiceImpl implements GraphGenerationService {
       }
       lastUpdatedAt = orchestrationEventLog.getCreatedAt();
     }
-    cachePartialOrchestrationGraph(orchestrationGraph.withLastUpdatedAt(lastUpdatedAt), lastUpdatedAt);
+    orchestrationGraphStore.saveChanges(orchestrationGraph.withLastUpdatedAt(lastUpdatedAt), changeTracker);
     pmsExecutionSummaryService.update(planExecutionId, executionSummaryUpdate);
     log.info("[PMS_GRAPH] Processing of [{}] orchestration event logs completed in [{}ms]", unprocessedEventLogs.size(),
         System.currentTimeMillis() - startTs);
     return true;
   }
 
+  /**
+   * Loads the node executions of all the node events in one query, instead of one query per event while holding the
+   * graph lock.
+   */
+  private Map<String, NodeExecution> fetchNodeExecutions(List<OrchestrationEventLog> eventLogs) {
+    Set<String> nodeExecutionIds = new HashSet<>();
+    for (OrchestrationEventLog eventLog : eventLogs) {
+      switch (eventLog.getOrchestrationEventType()) {
+        case PLAN_EXECUTION_STATUS_UPDATE:
+        case STEP_DETAILS_UPDATE:
+        case STEP_INPUTS_UPDATE:
+          break;
+        default:
+          if (EmptyPredicate.isNotEmpty(eventLog.getNodeExecutionId())) {
+            nodeExecutionIds.add(eventLog.getNodeExecutionId());
+          }
+      }
+    }
+    List<NodeExecution> nodeExecutions = nodeExecutionService.getAllWithFieldsExcluded(
+        nodeExecutionIds, NodeProjectionUtils.fieldsExcludedForGraphUpdate);
+    recordMetric(NODE_EXECUTION_FETCH_COUNT_METRIC, nodeExecutions.size());
+    return nodeExecutions.stream().collect(Collectors.toMap(NodeExecution::getUuid, Function.identity()));
+  }
+
+  private void recordMetric(String metricName, double value) {
+    if (metricService == null) {
+      return;
+    }
+    try {
+      metricService.recordMetric(metricName, value);
+    } catch (Exception ex) {
+      log.warn("Error while recording metric {}", metricName, ex);
+    }
+  }
+
   @Override
   public OrchestrationGraph getCachedOrchestrationGraph(String planExecutionId) {
-    return mongoStore.get(OrchestrationGraph.ALGORITHM_ID, OrchestrationGraph.STRUCTURE_HASH, planExecutionId, null);
+    return orchestrationGraphStore.get(planExecutionId);
   }
 
   @Override
   public void cacheOrchestrationGraph(OrchestrationGraph orchestrationGraph) {
-    mongoStore.upsert(orchestrationGraph, SpringCacheEntity.TTL);
-  }
-
-  private void cachePartialOrchestrationGraph(OrchestrationGraph orchestrationGraph, long entityUpdatedAt) {
-    mongoStore.upsert(orchestrationGraph, SpringCacheEntity.TTL, entityUpdatedAt);
+    orchestrationGraphStore.save(orchestrationGraph);
   }
 
   @Override
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.service.impl;
+
+import static io.harness.data.structure.EmptyPredicate.isNotEmpty;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.beans.GraphVertex;
+import io.harness.beans.OrchestrationGraph;
+import io.harness.beans.internal.EdgeListInternal;
+import io.harness.beans.internal.OrchestrationAdjacencyListInternal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Finds out what an update changed in an {@link OrchestrationGraph}.
+ *
+ * Event handlers only change the vertex of the node execution they handle, so touched vertices are recorded by id.
+ * Adding or removing a vertex also changes the edges of its parent, previous or chain end vertex, so the edges are
+ * snapshotted up front and compared afterwards.
+ */
+@OwnedBy(HarnessTeam.PIPELINE)
+public class OrchestrationGraphChangeTracker {
+  private final OrchestrationAdjacencyListInternal adjacencyList;
+  private final Map<String, EdgeListInternal> edgesBefore;
+  private final Set<String> touchedVertexIds = new HashSet<>();
+
+  public OrchestrationGraphChangeTracker(OrchestrationGraph orchestrationGraph) {
+    adjacencyList = orchestrationGraph.getAdjacencyList();
+    edgesBefore = new HashMap<>();
+    adjacencyList.getAdjacencyMap().forEach((id, edgeList) -> edgesBefore.put(id, copyOf(edgeList)));
+  }
+
+  public void touchVertex(String vertexId) {
+    if (isNotEmpty(vertexId)) {
+      touchedVertexIds.add(vertexId);
+    }
+  }
+
+  /**
+   * @return the graph with only the changed vertices and edges, removed ones are mapped to null. Null if the graph
+   *     has been regenerated from scratch and has to be saved as a whole
+   */
+  public OrchestrationGraph toDelta(OrchestrationGraph orchestrationGraph) {
+    if (orchestrationGraph.getAdjacencyList() != adjacencyList) {
+      return null;
+    }
+
+    Map<String, GraphVertex> graphVertexMap = adjacencyList.getGraphVertexMap();
+    Map<String, GraphVertex> changedVertices = new HashMap<>();
+    for (String vertexId : touchedVertexIds) {
+      changedVertices.put(vertexId, graphVertexMap.get(vertexId));
+    }
+
+    Map<String, EdgeListInternal> adjacencyMap = adjacencyList.getAdjacencyMap();
+    Map<String, EdgeListInternal> changedEdges = new HashMap<>();
+    adjacencyMap.forEach((id, edgeList) -> {
+      if (!edgeList.equals(edgesBefore.get(id))) {
+        changedEdges.put(id, edgeList);
+      }
+    });
+    for (String id : edgesBefore.keySet()) {
+      if (!adjacencyMap.containsKey(id)) {
+        changedEdges.put(id, null);
+      }
+    }
+
+    return OrchestrationGraph.builder()
+        .cacheKey(orchestrationGraph.getCacheKey())
+        .cacheContextOrder(orchestrationGraph.getCacheContextOrder())
+        .cacheParams(orchestrationGraph.getCacheParams())
+        .lastUpdatedAt(orchestrationGraph.getLastUpdatedAt())
+        .planExecutionId(orchestrationGraph.getPlanExecutionId())
+        .startTs(orchestrationGraph.getStartTs())
+        .endTs(orchestrationGraph.getEndTs())
+        .status(orchestrationGraph.getStatus())
+        .rootNodeIds(orchestrationGraph.getRootNodeIds())
+        .adjacencyList(OrchestrationAdjacencyListInternal.builder()
+                           .graphVertexMap(changedVertices)
+                           .adjacencyMap(changedEdges)
+                           .build())
+        .build();
+  }
+
+  private static EdgeListInternal copyOf(EdgeListInternal edgeList) {
+    return EdgeListInternal.builder()
+        .parentId(edgeList.getParentId())
+        .prevIds(copyOf(edgeList.getPrevIds()))
+        .nextIds(copyOf(edgeList.getNextIds()))
+        .edges(copyOf(edgeList.getEdges()))
+        .build();
+  }
+
+  private static List<String> copyOf(List<String> ids) {
+    return ids == null ? null : new ArrayList<>(ids);
+  }
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Shield 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/06/PolyForm-Shield-1.0.0.txt.
+ */
+
+package io.harness.service.impl;
+
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
+
+import static org.springframework.data.domain.Sort.by;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.beans.GraphVertex;
+import io.harness.beans.OrchestrationGraph;
+import io.harness.beans.OrchestrationGraphDelta;
+import io.harness.beans.OrchestrationGraphDelta.OrchestrationGraphDeltaKeys;
+import io.harness.beans.internal.EdgeListInternal;
+import io.harness.beans.internal.OrchestrationAdjacencyListInternal;
+import io.harness.cache.SpringCacheEntity;
+import io.harness.cache.SpringMongoStore;
+import io.harness.pms.execution.utils.StatusUtils;
+import io.harness.serializer.KryoSerializer;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+/**
+ * Keeps the {@link OrchestrationGraph} as a snapshot in the {@link SpringMongoStore} plus one
+ * {@link OrchestrationGraphDelta} per update, so an update of a big graph only writes what it changed. The deltas are
+ * folded back into the snapshot every {@link #MAX_DELTAS} updates and once the execution is finished.
+ *
+ * Graphs of running executions are also kept in memory. A read only checks that nothing has been written since, and
+ * hands out a copy because callers change the graph they get.
+ */
+@OwnedBy(HarnessTeam.PIPELINE)
+@Singleton
+@Slf4j
+public class OrchestrationGraphStore {
+  private static final int MAX_DELTAS = 50;
+  private static final int HOT_CACHE_SIZE = 200;
+
+  @Inject private SpringMongoStore mongoStore;
+  @Inject private MongoTemplate mongoTemplate;
+  @Inject private KryoSerializer kryoSerializer;
+
+  private final Cache<String, HotGraph> hotCache =
+      CacheBuilder.newBuilder().maximumSize(HOT_CACHE_SIZE).expireAfterAccess(10, TimeUnit.MINUTES).build();
+
+  @Value
+  private static class GraphVersion {
+    Long snapshotUpdatedAt;
+    Long lastDeltaAt;
+  }
+
+  @Value
+  private static class HotGraph {
+    OrchestrationGraph orchestrationGraph;
+    int deltaCount;
+    GraphVersion version;
+  }
+
+  public OrchestrationGraph get(String planExecutionId) {
+    GraphVersion version = readVersion(planExecutionId);
+    if (version.getSnapshotUpdatedAt() == null) {
+      hotCache.invalidate(planExecutionId);
+      return null;
+    }
+    HotGraph hotGraph = hotCache.getIfPresent(planExecutionId);
+    if (hotGraph == null || !hotGraph.getVersion().equals(version)) {
+      hotGraph = load(planExecutionId, version);
+      if (hotGraph == null) {
+        return null;
+      }
+      if (StatusUtils.isFinalStatus(hotGraph.getOrchestrationGraph().getStatus())) {
+        hotCache.invalidate(planExecutionId);
+        return hotGraph.getOrchestrationGraph();
+      }
+      hotCache.put(planExecutionId, hotGraph);
+    }
+    return copyOf(hotGraph.getOrchestrationGraph());
+  }
+
+  /**
+   * Saves the whole graph as the new snapshot.
+   */
+  public void save(OrchestrationGraph orchestrationGraph) {
+    hotCache.invalidate(orchestrationGraph.getPlanExecutionId());
+    saveSnapshot(orchestrationGraph, System.currentTimeMillis());
+  }
+
+  /**
+   * Saves what has changed since the tracker was created. Must be called under the graph lock, and the graph must not
+   * be changed afterwards as it becomes the in memory copy.
+   */
+  public void saveChanges(OrchestrationGraph orchestrationGraph, OrchestrationGraphChangeTracker changeTracker) {
+    String planExecutionId = orchestrationGraph.getPlanExecutionId();
+    HotGraph hotGraph = hotCache.getIfPresent(planExecutionId);
+    hotCache.invalidate(planExecutionId);
+
+    OrchestrationGraph delta = changeTracker.toDelta(orchestrationGraph);
+    if (delta == null) {
+      saveSnapshot(orchestrationGraph, System.currentTimeMillis());
+      return;
+    }
+
+    int deltaCount = hotGraph == null ? countDeltas(planExecutionId) : hotGraph.getDeltaCount();
+    boolean finished = StatusUtils.isFinalStatus(orchestrationGraph.getStatus());
+    if ((finished || deltaCount + 1 >= MAX_DELTAS)
+        && saveSnapshot(orchestrationGraph, orchestrationGraph.getLastUpdatedAt())) {
+      if (!finished) {
+        hotCache.put(planExecutionId,
+            new HotGraph(orchestrationGraph, 0, new GraphVersion(orchestrationGraph.getLastUpdatedAt(), null)));
+      }
+      return;
+    }
+
+    byte[] deltaBytes = kryoSerializer.asDeflatedBytes(delta);
+    mongoTemplate.insert(OrchestrationGraphDelta.builder()
+                             .uuid(generateUuid())
+                             .planExecutionId(planExecutionId)
+                             .lastUpdatedAt(orchestrationGraph.getLastUpdatedAt())
+                             .delta(deltaBytes)
+                             .build());
+    log.debug("[PMS_GRAPH] Saved delta of [{}] vertices and [{}] edges in [{}] bytes for plan [{}]",
+        delta.getAdjacencyList().getGraphVertexMap().size(), delta.getAdjacencyList().getAdjacencyMap().size(),
+        deltaBytes.length, planExecutionId);
+    if (hotGraph != null) {
+      hotCache.put(planExecutionId,
+          new HotGraph(orchestrationGraph, deltaCount + 1,
+              new GraphVersion(hotGraph.getVersion().getSnapshotUpdatedAt(), orchestrationGraph.getLastUpdatedAt())));
+    }
+  }
+
+  @VisibleForTesting
+  void evict(String planExecutionId) {
+    hotCache.invalidate(planExecutionId);
+  }
+
+  private HotGraph load(String planExecutionId, GraphVersion version) {
+    OrchestrationGraph orchestrationGraph =
+        mongoStore.get(OrchestrationGraph.ALGORITHM_ID, OrchestrationGraph.STRUCTURE_HASH, planExecutionId, null);
+    if (orchestrationGraph == null) {
+      return null;
+    }
+    Query query = new Query(where(OrchestrationGraphDeltaKeys.planExecutionId)
+                                .is(planExecutionId)
+                                .and(OrchestrationGraphDeltaKeys.lastUpdatedAt)
+                                .gt(orchestrationGraph.getLastUpdatedAt()))
+                      .with(by(OrchestrationGraphDeltaKeys.lastUpdatedAt));
+    List<OrchestrationGraphDelta> deltas = mongoTemplate.find(query, OrchestrationGraphDelta.class);
+    for (OrchestrationGraphDelta delta : deltas) {
+      orchestrationGraph =
+          applyDelta(orchestrationGraph, (OrchestrationGraph) kryoSerializer.asInflatedObject(delta.getDelta()));
+    }
+    return new HotGraph(orchestrationGraph, deltas.size(), version);
+  }
+
+  private OrchestrationGraph applyDelta(OrchestrationGraph orchestrationGraph, OrchestrationGraph delta) {
+    OrchestrationAdjacencyListInternal adjacencyList = orchestrationGraph.getAdjacencyList();
+    Map<String, GraphVertex> graphVertexMap = adjacencyList.getGraphVertexMap();
+    delta.getAdjacencyList().getGraphVertexMap().forEach((id, vertex) -> {
+      if (vertex == null) {
+        graphVertexMap.remove(id);
+      } else {
+        graphVertexMap.put(id, vertex);
+      }
+    });
+    Map<String, EdgeListInternal> adjacencyMap = adjacencyList.getAdjacencyMap();
+    delta.getAdjacencyList().getAdjacencyMap().forEach((id, edgeList) -> {
+      if (edgeList == null) {
+        adjacencyMap.remove(id);
+      } else {
+        adjacencyMap.put(id, edgeList);
+      }
+    });
+
+    return OrchestrationGraph.builder()
+        .cacheKey(orchestrationGraph.getCacheKey())
+        .cacheContextOrder(orchestrationGraph.getCacheContextOrder())
+        .cacheParams(orchestrationGraph.getCacheParams())
+        .lastUpdatedAt(delta.getLastUpdatedAt())
+        .planExecutionId(orchestrationGraph.getPlanExecutionId())
+        .startTs(delta.getStartTs())
+        .endTs(delta.getEndTs())
+        .status(delta.getStatus())
+        .rootNodeIds(new ArrayList<>(delta.getRootNodeIds()))
+        .adjacencyList(adjacencyList)
+        .build();
+  }
+
+  /**
+   * Deltas up to the snapshot are only removed once the snapshot is known to be written, as the store doesn't report
+   * failed writes.
+   *
+   * @return whether the snapshot has been written
+   */
+  private boolean saveSnapshot(OrchestrationGraph orchestrationGraph, long entityUpdatedAt) {
+    String planExecutionId = orchestrationGraph.getPlanExecutionId();
+    mongoStore.upsert(orchestrationGraph, SpringCacheEntity.TTL, entityUpdatedAt);
+    Long savedUpdatedAt = mongoStore.getEntityUpdatedAt(
+        OrchestrationGraph.ALGORITHM_ID, OrchestrationGraph.STRUCTURE_HASH, planExecutionId, null);
+    if (!Objects.equals(savedUpdatedAt, entityUpdatedAt)) {
+      log.warn("[PMS_GRAPH] Could not save graph snapshot for plan [{}]", planExecutionId);
+      return false;
+    }
+    mongoTemplate.remove(new Query(where(OrchestrationGraphDeltaKeys.planExecutionId)
+                                       .is(planExecutionId)
+                                       .and(OrchestrationGraphDeltaKeys.lastUpdatedAt)
+                                       .lte(orchestrationGraph.getLastUpdatedAt())),
+        OrchestrationGraphDelta.class);
+    return true;
+  }
+
+  private GraphVersion readVersion(String planExecutionId) {
+    Long snapshotUpdatedAt = mongoStore.getEntityUpdatedAt(
+        OrchestrationGraph.ALGORITHM_ID, OrchestrationGraph.STRUCTURE_HASH, planExecutionId, null);
+    if (snapshotUpdatedAt == null) {
+      return new GraphVersion(null, null);
+    }
+    Query query = new Query(where(OrchestrationGraphDeltaKeys.planExecutionId).is(planExecutionId))
+                      .with(by(Sort.Direction.DESC, OrchestrationGraphDeltaKeys.lastUpdatedAt));
+    query.fields().include(OrchestrationGraphDeltaKeys.lastUpdatedAt);
+    OrchestrationGraphDelta lastDelta = mongoTemplate.findOne(query, OrchestrationGraphDelta.class);
+    return new GraphVersion(snapshotUpdatedAt, lastDelta == null ? null : lastDelta.getLastUpdatedAt());
+  }
+
+  private int countDeltas(String planExecutionId) {
+    Query query = new Query(where(OrchestrationGraphDeltaKeys.planExecutionId).is(planExecutionId));
+    return (int) mongoTemplate.count(query, OrchestrationGraphDelta.class);
+  }
+
+  private OrchestrationGraph copyOf(OrchestrationGraph orchestrationGraph) {
+    try {
+      return kryoSerializer.clone(orchestrationGraph);
+    } catch (RuntimeException ex) {
+      // some of the vertex contents have serializers which can't copy
+      return (OrchestrationGraph) kryoSerializer.asObject(kryoSerializer.asBytes(orchestrationGraph));
+    }
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.service.impl;
+
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
+import static io.harness.rule.OwnerRule.ALEXEI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.harness.OrchestrationVisualizationTestBase;
+import io.harness.beans.GraphVertex;
+import io.harness.beans.OrchestrationGraph;
+import io.harness.beans.OrchestrationGraphDelta;
+import io.harness.beans.internal.EdgeListInternal;
+import io.harness.beans.internal.OrchestrationAdjacencyListInternal;
+import io.harness.cache.SpringMongoStore;
+import io.harness.category.element.UnitTests;
+import io.harness.pms.contracts.execution.Status;
+import io.harness.rule.Owner;
+
+import com.google.inject.Inject;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+public class OrchestrationGraphStoreTest extends OrchestrationVisualizationTestBase {
+  @Inject private OrchestrationGraphStore orchestrationGraphStore;
+  @Inject private SpringMongoStore mongoStore;
+  @Inject private MongoTemplate mongoTemplate;
+
+  @Test
+  @Owner(developers = ALEXEI)
+  @Category(UnitTests.class)
+  public void shouldSaveOnlyChangedVerticesAsDelta() {
+    String planExecutionId = generateUuid();
+    GraphVertex first = GraphVertex.builder().uuid(generateUuid()).name("first").status(Status.SUCCEEDED).build();
+    Map<String, GraphVertex> graphVertexMap = new HashMap<>();
+    graphVertexMap.put(first.getUuid(), first);
+    Map<String, EdgeListInternal> adjacencyMap = new HashMap<>();
+    adjacencyMap.put(first.getUuid(), edgeList(new ArrayList<>()));
+    List<String> rootNodeIds = new ArrayList<>();
+    rootNodeIds.add(first.getUuid());
+    orchestrationGraphStore.save(OrchestrationGraph.builder()
+                                     .cacheKey(planExecutionId)
+                                     .planExecutionId(planExecutionId)
+                                     .status(Status.RUNNING)
+                                     .rootNodeIds(rootNodeIds)
+                                     .adjacencyList(OrchestrationAdjacencyListInternal.builder()
+                                                        .graphVertexMap(graphVertexMap)
+                                                        .adjacencyMap(adjacencyMap)
+                                                        .build())
+                                     .build());
+
+    OrchestrationGraph orchestrationGraph = orchestrationGraphStore.get(planExecutionId);
+    OrchestrationGraphChangeTracker changeTracker = new OrchestrationGraphChangeTracker(orchestrationGraph);
+    GraphVertex second = GraphVertex.builder().uuid(generateUuid()).name("second").status(Status.RUNNING).build();
+    List<String> prevIds = new ArrayList<>();
+    prevIds.add(first.getUuid());
+    orchestrationGraph.getAdjacencyList().getGraphVertexMap().put(second.getUuid(), second);
+    orchestrationGraph.getAdjacencyList().getAdjacencyMap().put(second.getUuid(), edgeList(prevIds));
+    orchestrationGraph.getAdjacencyList().getAdjacencyMap().get(first.getUuid()).getNextIds().add(second.getUuid());
+    changeTracker.touchVertex(second.getUuid());
+
+    OrchestrationGraph delta = changeTracker.toDelta(orchestrationGraph);
+    assertThat(delta.getAdjacencyList().getGraphVertexMap()).containsOnlyKeys(second.getUuid());
+    assertThat(delta.getAdjacencyList().getAdjacencyMap()).containsOnlyKeys(first.getUuid(), second.getUuid());
+
+    orchestrationGraphStore.saveChanges(
+        orchestrationGraph.withLastUpdatedAt(orchestrationGraph.getLastUpdatedAt() + 1), changeTracker);
+    assertThat(mongoTemplate.findAll(OrchestrationGraphDelta.class)).hasSize(1);
+    OrchestrationGraph snapshot =
+        mongoStore.get(OrchestrationGraph.ALGORITHM_ID, OrchestrationGraph.STRUCTURE_HASH, planExecutionId, null);
+    assertThat(snapshot.getAdjacencyList().getGraphVertexMap()).containsOnlyKeys(first.getUuid());
+
+    orchestrationGraphStore.evict(planExecutionId);
+    OrchestrationGraph loadedGraph = orchestrationGraphStore.get(planExecutionId);
+    assertThat(loadedGraph.getAdjacencyList().getGraphVertexMap()).containsOnlyKeys(first.getUuid(), second.getUuid());
+    assertThat(loadedGraph.getAdjacencyList().getAdjacencyMap().get(first.getUuid()).getNextIds())
+        .containsExactly(second.getUuid());
+    assertThat(loadedGraph.getLastUpdatedAt()).isEqualTo(orchestrationGraph.getLastUpdatedAt() + 1);
+  }
+
+  private EdgeListInternal edgeList(List<String> prevIds) {
+    return EdgeListInternal.builder().prevIds(prevIds).nextIds(new ArrayList<>()).edges(new ArrayList<>()).build();
+  }
+}
@@ -35,6 +35,8 @@ public interface NodeExecutionService {
 
   NodeExecution getWithFieldsIncluded(String nodeExecutionId, Set<String> fieldsToInclude);
 
+  List<NodeExecution> getAllWithFieldsExcluded(Set<String> nodeExecutionIds, Set<String> fieldsToBeExcluded);
+
   NodeExecution getByPlanNodeUuid(String planNodeUuid, String planExecutionId);
 
   List<NodeExecution> fetchNodeExecutions(String planExecutionId);
@@ -130,6 +130,18 @@ public class NodeExecutionServiceImpl implements NodeExecutionService {
     return nodeExecution;
   }
 
+  @Override
+  public List<NodeExecution> getAllWithFieldsExcluded(Set<String> nodeExecutionIds, Set<String> fieldsToBeExcluded) {
+    if (isEmpty(nodeExecutionIds)) {
+      return Collections.emptyList();
+    }
+    Query query = query(where(NodeExecutionKeys.uuid).in(nodeExecutionIds));
+    for (String field : fieldsToBeExcluded) {
+      query.fields().exclude(field);
+    }
+    return mongoTemplate.find(query, NodeExecution.class);
+  }
+
   // TODO (alexi) : Handle the case where multiple instances are returned
   @Override
   public NodeExecution getByPlanNodeUuid(String planNodeUuid, String planExecutionId) {
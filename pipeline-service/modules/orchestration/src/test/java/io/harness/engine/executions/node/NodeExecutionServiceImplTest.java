@@ -52,7 +52,9 @@ import io.harness.utils.AmbianceTestUtils;
 import com.google.common.collect.ImmutableList;
 import com.google.inject.Inject;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -99,6 +101,37 @@ public class NodeExecutionServiceImplTest extends OrchestrationTestBase {
     assertThat(savedExecution.getUuid()).isEqualTo(nodeExecutionId);
   }
 
+  @Test
+  @Owner(developers = PRASHANT)
+  @Category(UnitTests.class)
+  public void shouldTestGetAllWithFieldsExcluded() {
+    List<String> nodeExecutionIds = Arrays.asList(generateUuid(), generateUuid(), generateUuid());
+    for (String nodeExecutionId : nodeExecutionIds) {
+      nodeExecutionService.save(
+          NodeExecution.builder()
+              .uuid(nodeExecutionId)
+              .ambiance(AmbianceTestUtils.buildAmbiance())
+              .nodeId(generateUuid())
+              .name("name")
+              .identifier("dummy")
+              .stepType(StepType.newBuilder().setType("DUMMY").setStepCategory(StepCategory.STEP).build())
+              .module("CD")
+              .notifyId(generateUuid())
+              .status(Status.RUNNING)
+              .build());
+    }
+
+    List<NodeExecution> nodeExecutions = nodeExecutionService.getAllWithFieldsExcluded(
+        new HashSet<>(nodeExecutionIds.subList(0, 2)), Collections.singleton(NodeExecutionKeys.notifyId));
+    assertThat(nodeExecutions)
+        .extracting(NodeExecution::getUuid)
+        .containsExactlyInAnyOrder(nodeExecutionIds.get(0), nodeExecutionIds.get(1));
+    assertThat(nodeExecutions).allMatch(nodeExecution -> nodeExecution.getNotifyId() == null);
+    assertThat(nodeExecutions).allMatch(nodeExecution -> nodeExecution.getStatus() == Status.RUNNING);
+    assertThat(nodeExecutionService.getAllWithFieldsExcluded(Collections.emptySet(), Collections.emptySet()))
+        .isEmpty();
+  }
+
   @Test
   @Owner(developers = PRASHANT)
   @Category(UnitTests.class)
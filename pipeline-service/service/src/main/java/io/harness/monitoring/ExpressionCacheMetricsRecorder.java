@@ -0,0 +1,68 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.monitoring;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.expression.JexlCompiledExpressionCache;
+import io.harness.metrics.service.api.MetricService;
+import io.harness.pms.events.base.PmsMetricContextGuard;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.google.common.collect.ImmutableMap;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import java.util.function.Supplier;
+
+/**
+ * Records the hit rate, miss rate and evictions of the parsed jexl expression and script caches over each publishing
+ * interval. The caches only keep cumulative stats, so the ones of the previous interval are kept to diff against.
+ */
+@OwnedBy(HarnessTeam.PIPELINE)
+@Singleton
+public class ExpressionCacheMetricsRecorder {
+  static final String HIT_RATE_METRIC_NAME = "pms_expression_cache_hit_rate";
+  static final String MISS_RATE_METRIC_NAME = "pms_expression_cache_miss_rate";
+  static final String EVICTION_COUNT_METRIC_NAME = "pms_expression_cache_eviction_count";
+  private static final String CACHE_NAME_METRIC_LABEL = "cacheName";
+
+  @Inject private MetricService metricService;
+
+  private final CacheStatsSnapshot expressionCacheStats =
+      new CacheStatsSnapshot("expression", JexlCompiledExpressionCache::expressionCacheStats);
+  private final CacheStatsSnapshot scriptCacheStats =
+      new CacheStatsSnapshot("script", JexlCompiledExpressionCache::scriptCacheStats);
+
+  public void recordMetrics() {
+    expressionCacheStats.record();
+    scriptCacheStats.record();
+  }
+
+  private class CacheStatsSnapshot {
+    private final String cacheName;
+    private final Supplier<CacheStats> statsSupplier;
+    private CacheStats previous = CacheStats.empty();
+
+    CacheStatsSnapshot(String cacheName, Supplier<CacheStats> statsSupplier) {
+      this.cacheName = cacheName;
+      this.statsSupplier = statsSupplier;
+    }
+
+    synchronized void record() {
+      CacheStats current = statsSupplier.get();
+      CacheStats interval = current.minus(previous);
+      previous = current;
+      try (PmsMetricContextGuard ignore =
+               new PmsMetricContextGuard(ImmutableMap.of(CACHE_NAME_METRIC_LABEL, cacheName))) {
+        metricService.recordMetric(HIT_RATE_METRIC_NAME, interval.hitRate());
+        metricService.recordMetric(MISS_RATE_METRIC_NAME, interval.missRate());
+        metricService.recordMetric(EVICTION_COUNT_METRIC_NAME, interval.evictionCount());
+      }
+    }
+  }
+}
@@ -17,8 +17,12 @@ import com.google.inject.Inject;
 @OwnedBy(HarnessTeam.PIPELINE)
 public class PipelineMetricsPublisher implements MetricsPublisher {
   @Inject PlanExecutionMonitorService planExecutionMonitorService;
+  @Inject ExpressionCacheMetricsRecorder expressionCacheMetricsRecorder;
+  @Inject YamlTreeCacheMetricsRecorder yamlTreeCacheMetricsRecorder;
   @Override
   public void recordMetrics() {
     planExecutionMonitorService.registerActiveExecutionMetrics();
+    expressionCacheMetricsRecorder.recordMetrics();
+    yamlTreeCacheMetricsRecorder.recordMetrics();
   }
 }
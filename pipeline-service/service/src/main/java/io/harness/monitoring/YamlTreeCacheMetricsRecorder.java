@@ -0,0 +1,42 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.monitoring;
+
+import io.harness.annotations.dev.HarnessTeam;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.metrics.service.api.MetricService;
+import io.harness.pms.yaml.YamlUtils;
+
+import com.google.common.cache.CacheStats;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+
+/**
+ * Records the hit rate, miss rate and evictions of the parsed yaml tree cache of {@link YamlUtils} over each publishing
+ * interval.
+ */
+@OwnedBy(HarnessTeam.PIPELINE)
+@Singleton
+public class YamlTreeCacheMetricsRecorder {
+  static final String HIT_RATE_METRIC_NAME = "pms_yaml_tree_cache_hit_rate";
+  static final String MISS_RATE_METRIC_NAME = "pms_yaml_tree_cache_miss_rate";
+  static final String EVICTION_COUNT_METRIC_NAME = "pms_yaml_tree_cache_eviction_count";
+
+  @Inject private MetricService metricService;
+
+  private CacheStats previous = new CacheStats(0, 0, 0, 0, 0, 0);
+
+  public synchronized void recordMetrics() {
+    CacheStats current = YamlUtils.getParsedTreeCacheStats();
+    CacheStats interval = current.minus(previous);
+    previous = current;
+    metricService.recordMetric(HIT_RATE_METRIC_NAME, interval.hitRate());
+    metricService.recordMetric(MISS_RATE_METRIC_NAME, interval.missRate());
+    metricService.recordMetric(EVICTION_COUNT_METRIC_NAME, interval.evictionCount());
+  }
+}
@@ -55,6 +55,8 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -180,12 +182,21 @@ public class PlanCreatorMergeService {
     finalResponseBuilder.putAllContext(
         createInitialPlanCreationContext(accountId, orgIdentifier, projectIdentifier, metadata, triggerPayload));
 
+    YamlHandoff yamlHandoff = new YamlHandoff();
     try {
+      String parsedYaml = null;
+      YamlField fullYamlField = null;
       for (int i = 0; i < MAX_DEPTH && EmptyPredicate.isNotEmpty(finalResponseBuilder.getDeps().getDependenciesMap());
            i++) {
-        YamlField fullYamlField = YamlUtils.readTree(finalResponseBuilder.getDeps().getYaml());
+        // The yaml only changes when plan creators send yaml updates, so it is parsed and hashed again only then
+        String yaml = finalResponseBuilder.getDeps().getYaml();
+        if (!yaml.equals(parsedYaml)) {
+          fullYamlField = YamlUtils.readTree(yaml);
+          yamlHandoff.setYaml(yaml);
+          parsedYaml = yaml;
+        }
         PlanCreationBlobResponse currIterationResponse =
-            createPlanForDependencies(services, finalResponseBuilder, fullYamlField);
+            createPlanForDependencies(services, finalResponseBuilder, fullYamlField, yamlHandoff);
         PlanCreationBlobResponseUtils.addNodes(finalResponseBuilder, currIterationResponse.getNodesMap());
         PlanCreationBlobResponseUtils.mergeStartingNodeId(
             finalResponseBuilder, currIterationResponse.getStartingNodeId());
@@ -205,7 +216,7 @@ public class PlanCreatorMergeService {
   }
 
   private PlanCreationBlobResponse createPlanForDependencies(Map<String, PlanCreatorServiceInfo> services,
-      PlanCreationBlobResponse.Builder responseBuilder, YamlField fullYamlField) {
+      PlanCreationBlobResponse.Builder responseBuilder, YamlField fullYamlField, YamlHandoff yamlHandoff) {
     PlanCreationBlobResponse.Builder currIterationResponseBuilder = PlanCreationBlobResponse.newBuilder();
     CompletableFutures<PlanCreationResponse> completableFutures = new CompletableFutures<>(executor);
     PlanCreationContextValue metadata = responseBuilder.getContextMap().get("metadata");
@@ -217,7 +228,7 @@ public class PlanCreatorMergeService {
       getServiceToDependenciesMap(services, responseBuilder, fullYamlField, serviceToDependencyMap);
 
       // Sending batch dependency requests for a single service in a async fashion.
-      executeCreatePlanInBatchDependency(responseBuilder, completableFutures, serviceToDependencyMap);
+      executeCreatePlanInBatchDependency(responseBuilder, completableFutures, serviceToDependencyMap, yamlHandoff);
 
       // Collecting results for all completable futures at one go, thus it will wait till all dependencies are resolved.
       List<ErrorResponse> errorResponses;
@@ -245,7 +256,8 @@ public class PlanCreatorMergeService {
   // Sending all dependencies in batch manner in async fashion
   private void executeCreatePlanInBatchDependency(PlanCreationBlobResponse.Builder responseBuilder,
       CompletableFutures<PlanCreationResponse> completableFutures,
-      Map<Map.Entry<String, PlanCreatorServiceInfo>, List<Map.Entry<String, String>>> serviceToDependencyMap) {
+      Map<Map.Entry<String, PlanCreatorServiceInfo>, List<Map.Entry<String, String>>> serviceToDependencyMap,
+      YamlHandoff yamlHandoff) {
     for (Map.Entry<Map.Entry<String, PlanCreatorServiceInfo>, List<Map.Entry<String, String>>> serviceDependencyEntry :
         serviceToDependencyMap.entrySet()) {
       Map.Entry<String, PlanCreatorServiceInfo> serviceInfo = serviceDependencyEntry.getKey();
@@ -255,7 +267,8 @@ public class PlanCreatorMergeService {
         dependencyBatch.put(dependency.getKey(), dependency.getValue());
         if (dependencyBatch.size() >= planCreatorMergeServiceDependencyBatch) {
           Dependencies batchDependency = pmsSdkHelper.createBatchDependency(responseBuilder.getDeps(), dependencyBatch);
-          executeDependenciesAsync(completableFutures, serviceInfo, batchDependency, responseBuilder.getContextMap());
+          executeDependenciesAsync(
+              completableFutures, serviceInfo, batchDependency, responseBuilder.getContextMap(), yamlHandoff);
           dependencyBatch = new HashMap<>();
         }
       }
@@ -263,7 +276,8 @@ public class PlanCreatorMergeService {
       // call completable future for leftover batch
       if (dependencyBatch.size() > 0) {
         Dependencies batchDependency = pmsSdkHelper.createBatchDependency(responseBuilder.getDeps(), dependencyBatch);
-        executeDependenciesAsync(completableFutures, serviceInfo, batchDependency, responseBuilder.getContextMap());
+        executeDependenciesAsync(
+            completableFutures, serviceInfo, batchDependency, responseBuilder.getContextMap(), yamlHandoff);
       }
     }
   }
@@ -306,14 +320,13 @@ public class PlanCreatorMergeService {
   // Sending batch dependency requests for a single service in a async fashion.
   private void executeDependenciesAsync(CompletableFutures<PlanCreationResponse> completableFutures,
       Map.Entry<String, PlanCreatorServiceInfo> serviceInfo, Dependencies batchDependency,
-      Map<String, PlanCreationContextValue> contextMap) {
+      Map<String, PlanCreationContextValue> contextMap, YamlHandoff yamlHandoff) {
     PlanCreationContextValue metadata = contextMap.get("metadata");
     completableFutures.supplyAsync(() -> {
       try (AutoLogContext ignore = PlanCreatorUtils.autoLogContext(metadata.getMetadata(),
                metadata.getAccountIdentifier(), metadata.getOrgIdentifier(), metadata.getProjectIdentifier())) {
         try {
-          return PmsGrpcClientUtils.retryAndProcessException(serviceInfo.getValue().getPlanCreationClient()::createPlan,
-              PlanCreationBlobRequest.newBuilder().setDeps(batchDependency).putAllContext(contextMap).build());
+          return createPlanWithYamlHandoff(serviceInfo, batchDependency, contextMap, yamlHandoff);
         } catch (StatusRuntimeException ex) {
           log.error(
               String.format("Error connecting with service: [%s]. Is this service Running?", serviceInfo.getKey()), ex);
@@ -328,7 +341,80 @@ public class PlanCreatorMergeService {
     });
   }
 
+  @VisibleForTesting
+  PlanCreationResponse createPlanWithYamlHandoff(Map.Entry<String, PlanCreatorServiceInfo> serviceInfo,
+      Dependencies batchDependency, Map<String, PlanCreationContextValue> contextMap, YamlHandoff yamlHandoff) {
+    String serviceName = serviceInfo.getKey();
+    if (yamlHandoff.isShipped(serviceName)) {
+      PlanCreationResponse response = createPlan(serviceInfo, yamlHandoff.byHash(batchDependency), contextMap);
+      if (!isYamlNotCached(response)) {
+        return response;
+      }
+      // The replica serving this request has not cached the yaml, e.g. it was restarted or evicted it
+      log.warn("Yaml is not cached by service [{}], sending the yaml inline", serviceName);
+      yamlHandoff.disable(serviceName);
+    }
+    PlanCreationResponse response = createPlan(serviceInfo, yamlHandoff.inline(batchDependency), contextMap);
+    if (response.getResponseCase() == PlanCreationResponse.ResponseCase.BLOBRESPONSE) {
+      yamlHandoff.markShipped(serviceName, response.getBlobResponse().getCachedYamlHash());
+    }
+    return response;
+  }
+
+  private boolean isYamlNotCached(PlanCreationResponse response) {
+    return response.getResponseCase() == PlanCreationResponse.ResponseCase.ERRORRESPONSE
+        && response.getErrorResponse().getYamlNotCached();
+  }
+
+  private PlanCreationResponse createPlan(Map.Entry<String, PlanCreatorServiceInfo> serviceInfo,
+      Dependencies dependencies, Map<String, PlanCreationContextValue> contextMap) {
+    return PmsGrpcClientUtils.retryAndProcessException(serviceInfo.getValue().getPlanCreationClient()::createPlan,
+        PlanCreationBlobRequest.newBuilder().setDeps(dependencies).putAllContext(contextMap).build());
+  }
+
   private boolean isPipelineService(Map.Entry<String, PlanCreatorServiceInfo> serviceInfo) {
     return serviceInfo.getKey().equals(ModuleType.PMS.name().toLowerCase());
   }
+
+  /**
+   * Tracks which services already have the current yaml of a plan creation, so that further dependencies are sent to
+   * them with the yaml hash only. A service counts as having the yaml once it reports the hash it cached it under, so
+   * sdks which don't know the hash yet keep getting the yaml inline. Services which report a cache miss get the yaml
+   * inline for the rest of the plan creation.
+   */
+  @VisibleForTesting
+  static class YamlHandoff {
+    private volatile String yamlHash;
+    private final Map<String, String> serviceToShippedYamlHash = new ConcurrentHashMap<>();
+    private final Set<String> disabledServices = ConcurrentHashMap.newKeySet();
+
+    void setYaml(String yaml) {
+      yamlHash = PlanCreatorUtils.yamlHash(yaml);
+    }
+
+    boolean isShipped(String serviceName) {
+      return EmptyPredicate.isNotEmpty(yamlHash) && !disabledServices.contains(serviceName)
+          && yamlHash.equals(serviceToShippedYamlHash.get(serviceName));
+    }
+
+    void markShipped(String serviceName, String cachedYamlHash) {
+      String currentYamlHash = yamlHash;
+      if (!disabledServices.contains(serviceName) && EmptyPredicate.isNotEmpty(currentYamlHash)
+          && currentYamlHash.equals(cachedYamlHash)) {
+        serviceToShippedYamlHash.put(serviceName, currentYamlHash);
+      }
+    }
+
+    void disable(String serviceName) {
+      disabledServices.add(serviceName);
+    }
+
+    Dependencies byHash(Dependencies dependencies) {
+      return dependencies.toBuilder().clearYaml().setYamlHash(yamlHash).build();
+    }
+
+    Dependencies inline(Dependencies dependencies) {
+      return dependencies.toBuilder().setYamlHash(yamlHash).build();
+    }
+  }
 }
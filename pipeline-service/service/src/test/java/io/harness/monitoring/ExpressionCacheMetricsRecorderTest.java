@@ -0,0 +1,61 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+package io.harness.monitoring;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+import static io.harness.rule.OwnerRule.NAMAN;
+
+import static org.mockito.Matchers.anyDouble;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.expression.JexlCompiledExpressionCache;
+import io.harness.metrics.service.api.MetricService;
+import io.harness.rule.Owner;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+@OwnedBy(PIPELINE)
+public class ExpressionCacheMetricsRecorderTest extends CategoryTest {
+  @InjectMocks ExpressionCacheMetricsRecorder expressionCacheMetricsRecorder;
+  @Mock MetricService metricService;
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+  }
+
+  @Test
+  @Owner(developers = NAMAN)
+  @Category(UnitTests.class)
+  public void testRecordMetricsReportsTheLastInterval() {
+    expressionCacheMetricsRecorder.recordMetrics();
+    reset(metricService);
+
+    JexlCompiledExpressionCache.getExpression("expressionCacheMetricsRecorderTest.a + 1");
+    JexlCompiledExpressionCache.getExpression("expressionCacheMetricsRecorderTest.a + 1");
+    expressionCacheMetricsRecorder.recordMetrics();
+
+    verify(metricService).recordMetric(ExpressionCacheMetricsRecorder.HIT_RATE_METRIC_NAME, 0.5);
+    verify(metricService).recordMetric(ExpressionCacheMetricsRecorder.MISS_RATE_METRIC_NAME, 0.5);
+    // the script cache had no lookups, which caffeine reports as a full hit rate
+    verify(metricService).recordMetric(ExpressionCacheMetricsRecorder.HIT_RATE_METRIC_NAME, 1.0);
+    verify(metricService, times(2))
+        .recordMetric(eq(ExpressionCacheMetricsRecorder.EVICTION_COUNT_METRIC_NAME), anyDouble());
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2022 Harness Inc. All rights reserved.
+ * Use of this source code is governed by the PolyForm Free Trial 1.0.0 license
+ * that can be found in the licenses directory at the root of this repository, also available at
+ * https://polyformproject.org/wp-content/uploads/2020/05/PolyForm-Free-Trial-1.0.0.txt.
+ */
+
+
+package io.harness.monitoring;
+
+import static io.harness.annotations.dev.HarnessTeam.PIPELINE;
+import static io.harness.data.structure.UUIDGenerator.generateUuid;
+import static io.harness.rule.OwnerRule.NAMAN;
+
+import static org.mockito.Matchers.anyDouble;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
+
+import io.harness.CategoryTest;
+import io.harness.annotations.dev.OwnedBy;
+import io.harness.category.element.UnitTests;
+import io.harness.metrics.service.api.MetricService;
+import io.harness.pms.yaml.YamlUtils;
+import io.harness.rule.Owner;
+
+import java.io.IOException;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+@OwnedBy(PIPELINE)
+public class YamlTreeCacheMetricsRecorderTest extends CategoryTest {
+  @InjectMocks YamlTreeCacheMetricsRecorder yamlTreeCacheMetricsRecorder;
+  @Mock MetricService metricService;
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+  }
+
+  @Test
+  @Owner(developers = NAMAN)
+  @Category(UnitTests.class)
+  public void testRecordMetricsReportsTheLastInterval() throws IOException {
+    yamlTreeCacheMetricsRecorder.recordMetrics();
+    reset(metricService);
+
+    // only large yamls go through the cache
+    StringBuilder yaml = new StringBuilder("pipeline:\n  identifier: " + generateUuid() + "\n  tags:\n");
+    for (int i = 0; i < 500; i++) {
+      yaml.append("    tag").append(i).append(": value").append(i).append('\n');
+    }
+    YamlUtils.readTree(yaml.toString());
+    YamlUtils.readTree(yaml.toString());
+    yamlTreeCacheMetricsRecorder.recordMetrics();
+
+    verify(metricService).recordMetric(YamlTreeCacheMetricsRecorder.HIT_RATE_METRIC_NAME, 0.5);
+    verify(metricService).recordMetric(YamlTreeCacheMetricsRecorder.MISS_RATE_METRIC_NAME, 0.5);
+    verify(metricService).recordMetric(eq(YamlTreeCacheMetricsRecorder.EVICTION_COUNT_METRIC_NAME), anyDouble());
+  }
+}
@@ -12,26 +12,44 @@ import static io.harness.rule.OwnerRule.NAMAN;
 
 import static junit.framework.TestCase.assertTrue;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import io.harness.CategoryTest;
 import io.harness.annotations.dev.OwnedBy;
 import io.harness.beans.FeatureName;
 import io.harness.category.element.UnitTests;
 import io.harness.pms.PmsFeatureFlagService;
+import io.harness.pms.contracts.plan.Dependencies;
+import io.harness.pms.contracts.plan.ErrorResponse;
 import io.harness.pms.contracts.plan.ExecutionMetadata;
+import io.harness.pms.contracts.plan.PlanCreationBlobRequest;
+import io.harness.pms.contracts.plan.PlanCreationBlobResponse;
 import io.harness.pms.contracts.plan.PlanCreationContextValue;
+import io.harness.pms.contracts.plan.PlanCreationResponse;
+import io.harness.pms.contracts.plan.PlanCreationServiceGrpc.PlanCreationServiceBlockingStub;
 import io.harness.pms.contracts.triggers.ParsedPayload;
 import io.harness.pms.contracts.triggers.SourceType;
 import io.harness.pms.contracts.triggers.TriggerPayload;
 import io.harness.rule.Owner;
 
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Executors;
 import org.junit.Test;
 import org.junit.experimental.categories.Category;
+import org.mockito.ArgumentCaptor;
 
 @OwnedBy(PIPELINE)
 public class PlanCreatorMergeServiceTest extends CategoryTest {
+  private static final String YAML = "pipeline:\n  identifier: p1\n";
+  private static final String YAML_HASH = PlanCreatorUtils.yamlHash(YAML);
+
   PmsFeatureFlagService pmsFeatureFlagService = new NoOpPmsFeatureFlagService();
   @Test
   @Owner(developers = NAMAN)
@@ -75,6 +93,99 @@ public class PlanCreatorMergeServiceTest extends CategoryTest {
     assertThat(planCreationContextValue.getMetadata()).isEqualTo(executionMetadata);
     assertThat(planCreationContextValue.getTriggerPayload()).isEqualTo(triggerPayload);
   }
+  @Test
+  @Owner(developers = NAMAN)
+  @Category(UnitTests.class)
+  public void testYamlSentInlineOnCacheMiss() {
+    PlanCreationServiceBlockingStub planCreationClient = mock(PlanCreationServiceBlockingStub.class);
+    PlanCreationResponse notCached =
+        PlanCreationResponse.newBuilder()
+            .setErrorResponse(ErrorResponse.newBuilder().addMessages("not cached").setYamlNotCached(true).build())
+            .build();
+    PlanCreationResponse created = blobResponse(YAML_HASH);
+    when(planCreationClient.createPlan(any())).thenReturn(notCached, created);
+    PlanCreatorMergeService.YamlHandoff yamlHandoff = shippedYamlHandoff();
+
+    PlanCreationResponse response = newPlanCreatorMergeService().createPlanWithYamlHandoff(
+        serviceInfo(planCreationClient), dependencies(), new HashMap<>(), yamlHandoff);
+
+    assertThat(response).isEqualTo(created);
+    ArgumentCaptor<PlanCreationBlobRequest> requestCaptor = ArgumentCaptor.forClass(PlanCreationBlobRequest.class);
+    verify(planCreationClient, times(2)).createPlan(requestCaptor.capture());
+    List<PlanCreationBlobRequest> requests = requestCaptor.getAllValues();
+    assertThat(requests.get(0).getDeps().getYaml()).isEmpty();
+    assertThat(requests.get(0).getDeps().getYamlHash()).isEqualTo(YAML_HASH);
+    assertThat(requests.get(1).getDeps().getYaml()).isEqualTo(YAML);
+    assertThat(yamlHandoff.isShipped("cd")).isFalse();
+  }
+
+  @Test
+  @Owner(developers = NAMAN)
+  @Category(UnitTests.class)
+  public void testPlanCreationErrorByHashIsReturnedAsIs() {
+    PlanCreationServiceBlockingStub planCreationClient = mock(PlanCreationServiceBlockingStub.class);
+    PlanCreationResponse failed =
+        PlanCreationResponse.newBuilder()
+            .setErrorResponse(ErrorResponse.newBuilder().addMessages("Invalid stage type").build())
+            .build();
+    when(planCreationClient.createPlan(any())).thenReturn(failed);
+    PlanCreatorMergeService.YamlHandoff yamlHandoff = shippedYamlHandoff();
+
+    PlanCreationResponse response = newPlanCreatorMergeService().createPlanWithYamlHandoff(
+        serviceInfo(planCreationClient), dependencies(), new HashMap<>(), yamlHandoff);
+
+    assertThat(response).isEqualTo(failed);
+    verify(planCreationClient, times(1)).createPlan(any());
+    assertThat(yamlHandoff.isShipped("cd")).isTrue();
+  }
+
+  @Test
+  @Owner(developers = NAMAN)
+  @Category(UnitTests.class)
+  public void testYamlKeptInlineForServicesWhichDontCacheIt() {
+    PlanCreationServiceBlockingStub planCreationClient = mock(PlanCreationServiceBlockingStub.class);
+    when(planCreationClient.createPlan(any())).thenReturn(blobResponse(""));
+    PlanCreatorMergeService.YamlHandoff yamlHandoff = new PlanCreatorMergeService.YamlHandoff();
+    yamlHandoff.setYaml(YAML);
+
+    newPlanCreatorMergeService().createPlanWithYamlHandoff(
+        serviceInfo(planCreationClient), dependencies(), new HashMap<>(), yamlHandoff);
+    assertThat(yamlHandoff.isShipped("cd")).isFalse();
+
+    when(planCreationClient.createPlan(any())).thenReturn(blobResponse(YAML_HASH));
+    newPlanCreatorMergeService().createPlanWithYamlHandoff(
+        serviceInfo(planCreationClient), dependencies(), new HashMap<>(), yamlHandoff);
+    assertThat(yamlHandoff.isShipped("cd")).isTrue();
+  }
+
+  private PlanCreatorMergeService newPlanCreatorMergeService() {
+    return new PlanCreatorMergeService(
+        null, null, null, null, Executors.newSingleThreadExecutor(), 20, pmsFeatureFlagService);
+  }
+
+  private PlanCreatorMergeService.YamlHandoff shippedYamlHandoff() {
+    PlanCreatorMergeService.YamlHandoff yamlHandoff = new PlanCreatorMergeService.YamlHandoff();
+    yamlHandoff.setYaml(YAML);
+    yamlHandoff.markShipped("cd", YAML_HASH);
+    assertThat(yamlHandoff.isShipped("cd")).isTrue();
+    return yamlHandoff;
+  }
+
+  private Map.Entry<String, PlanCreatorServiceInfo> serviceInfo(PlanCreationServiceBlockingStub planCreationClient) {
+    return new AbstractMap.SimpleEntry<>("cd", new PlanCreatorServiceInfo(new HashMap<>(), planCreationClient));
+  }
+
+  private Dependencies dependencies() {
+    return Dependencies.newBuilder().setYaml(YAML).putDependencies("uuid", "pipeline").build();
+  }
+
+  private PlanCreationResponse blobResponse(String cachedYamlHash) {
+    return PlanCreationResponse.newBuilder()
+        .setBlobResponse(
+            PlanCreationBlobResponse.newBuilder().setStartingNodeId("uuid").setCachedYamlHash(cachedYamlHash).build())
+        .build();
+  }
+
   private class NoOpPmsFeatureFlagService implements PmsFeatureFlagService {
     @Override
     public boolean isEnabled(String accountId, FeatureName featureName) {